@@ -96,13 +96,32 @@ public class Classpath {
      * @return a stream of matching elements
      */
     public Stream<Matcher> find(final Pattern pattern) {
-        return getComponentRoots().stream().flatMap(this::scan).filter(path -> {
-            if (customizations != null && path.startsWith("customizations")) {
-                String config = Sirius.getCustomizationName(path);
-                return customizations.contains(config);
-            }
-            return true;
-        }).map(pattern::matcher).filter(Matcher::matches);
+        return getComponentRoots().stream().flatMap(componentRoot -> find(componentRoot, pattern));
+    }
+
+    /**
+     * Scans the given component root for files which relative path match the given pattern
+     *
+     * @param componentRoot the component root to scan (as provided by {@link #getComponentRoots()})
+     * @param pattern       the pattern for the relative path used to filter files
+     * @return a stream of matching elements
+     */
+    public Stream<Matcher> find(URL componentRoot, final Pattern pattern) {
+        return scan(componentRoot).filter(this::isVisible).map(pattern::matcher).filter(Matcher::matches);
+    }
+
+    /**
+     * Determines if the given resource is visible, based on the active customizations.
+     *
+     * @param relativePath the path of the resource relative to its component root
+     * @return <tt>true</tt> if the resource is visible, <tt>false</tt> if it belongs to an inactive customization
+     */
+    public boolean isVisible(String relativePath) {
+        if (customizations != null && relativePath.startsWith("customizations")) {
+            String config = Sirius.getCustomizationName(relativePath);
+            return customizations.contains(config);
+        }
+        return true;
     }
 
     /*
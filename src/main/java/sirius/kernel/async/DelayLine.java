@@ -8,45 +8,56 @@
 
 package sirius.kernel.async;
 
+import sirius.kernel.Startable;
+import sirius.kernel.Stoppable;
 import sirius.kernel.di.std.Part;
 import sirius.kernel.di.std.Register;
 import sirius.kernel.health.Counter;
+import sirius.kernel.health.Exceptions;
+import sirius.kernel.health.Log;
 import sirius.kernel.health.metrics.Metric;
 import sirius.kernel.health.metrics.MetricProvider;
 import sirius.kernel.health.metrics.MetricsCollector;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.time.Duration;
+import java.util.concurrent.DelayQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
- * Permits to delay the execution of a task by a certain amount of seconds.
+ * Permits to delay the execution of a task by a certain amount of time.
  * <p>
- * Provides a background queue, which is checked about every 500ms. All tasks,
- * which delay is expired will be invoked in the given executor.
+ * The waiting tasks are kept in a hierarchical {@link TimingWheel} with a resolution of one millisecond. Therefore,
+ * queueing and cancelling a task takes constant time, independently of the number of waiting tasks or their delays.
+ * A background thread sleeps until the next tasks are due and then invokes them in their executor.
  * <p>
  * Note that this should not be used with large delays, but rather for short durations (e.g. less than 60 seconds,
  * although this depends heavily on the use case, as there is no inherent limit other than tasks won't survive a
  * system restart).
  */
-@Register(classes = {DelayLine.class, BackgroundLoop.class, MetricProvider.class})
-public class DelayLine extends BackgroundLoop implements MetricProvider {
+@Register(classes = {DelayLine.class, Startable.class, Stoppable.class, MetricProvider.class})
+public class DelayLine implements Startable, Stoppable, MetricProvider {
 
-    private static class WaitingTask implements Runnable {
-        long timeout;
-        String executor;
-        Runnable task;
+    private static final long TICK_MILLIS = 1;
+    private static final int WHEEL_SIZE = 64;
+    private static final long MAX_IDLE_WAIT_MILLIS = 1000;
 
-        @Override
-        public void run() {
-            task.run();
-        }
-    }
+    private final DelayQueue<TimingWheel.Bucket> expiredBuckets = new DelayQueue<>();
+    private final TimingWheel wheel = new TimingWheel(TICK_MILLIS, WHEEL_SIZE, TimingWheel.now(), expiredBuckets);
 
-    private final List<WaitingTask> waitingTasks = new ArrayList<>();
+    /**
+     * Guards the wheel so that tasks can be added concurrently (read lock) while the clock is only advanced
+     * exclusively (write lock).
+     */
+    private final ReadWriteLock wheelLock = new ReentrantReadWriteLock();
+
+    private final AtomicLong waitingTasks = new AtomicLong();
     private final Counter backgroundTasks = new Counter();
+    private volatile boolean running;
+    private Thread timerThread;
 
     @Part
     private Tasks tasks;
@@ -61,15 +72,38 @@ public class DelayLine extends BackgroundLoop implements MetricProvider {
      *                       system load.
      * @param task           the task to execute. Note that the {@link CallContext} isn't transferred to the task being
      *                       invoked. Use {@link #forkDelayed(String, long, Runnable)} if you need the context.
+     * @return a handle which can be used to cancel the task
      */
-    public void callDelayed(@Nonnull String executor, long delayInSeconds, @Nonnull Runnable task) {
-        synchronized (waitingTasks) {
-            WaitingTask waitingTask = new WaitingTask();
-            waitingTask.executor = executor;
-            waitingTask.timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(delayInSeconds);
-            waitingTask.task = task;
-            waitingTasks.add(waitingTask);
+    public DelayedTask callDelayed(@Nonnull String executor, long delayInSeconds, @Nonnull Runnable task) {
+        return callDelayed(executor, Duration.ofSeconds(delayInSeconds), task);
+    }
+
+    /**
+     * Queues the given task to be called after the given delay.
+     *
+     * @param executor the executor to execute the task in. Use {@link Tasks#DEFAULT} is no other appropriate pool
+     *                 is available.
+     * @param delay    the delay to wait. Note that the delay can be a bit longer, depending on the system load.
+     * @param task     the task to execute. Note that the {@link CallContext} isn't transferred to the task being
+     *                 invoked. Use {@link #forkDelayed(String, Duration, Runnable)} if you need the context.
+     * @return a handle which can be used to cancel the task
+     */
+    public DelayedTask callDelayed(@Nonnull String executor, @Nonnull Duration delay, @Nonnull Runnable task) {
+        DelayedTask delayedTask = new CountedTask(executor, task, TimingWheel.now() + Math.max(0, delay.toMillis()));
+        waitingTasks.incrementAndGet();
+
+        wheelLock.readLock().lock();
+        try {
+            if (wheel.add(delayedTask)) {
+                return delayedTask;
+            }
+        } finally {
+            wheelLock.readLock().unlock();
         }
+
+        // The task is already due...
+        execute(delayedTask);
+        return delayedTask;
     }
 
     /**
@@ -85,10 +119,28 @@ public class DelayLine extends BackgroundLoop implements MetricProvider {
      * @param delayInSeconds the number to wait in seconds. Note that the delay can be a bit longer, depending on the
      *                       system load.
      * @param task           the task to execute
+     * @return a handle which can be used to cancel the task
+     */
+    public DelayedTask forkDelayed(@Nonnull String executor, long delayInSeconds, @Nonnull Runnable task) {
+        return forkDelayed(executor, Duration.ofSeconds(delayInSeconds), task);
+    }
+
+    /**
+     * Queues the given task to be called after the given delay.
+     * <p>
+     * In contrast to {@link #callDelayed(String, Duration, Runnable)}, this will preserve the {@link CallContext}
+     * when invoking the <tt>task</tt>.
+     * </p>
+     *
+     * @param executor the executor to execute the task in. Use {@link Tasks#DEFAULT} is no other appropriate pool
+     *                 is available.
+     * @param delay    the delay to wait. Note that the delay can be a bit longer, depending on the system load.
+     * @param task     the task to execute
+     * @return a handle which can be used to cancel the task
      */
-    public void forkDelayed(@Nonnull String executor, long delayInSeconds, @Nonnull Runnable task) {
+    public DelayedTask forkDelayed(@Nonnull String executor, @Nonnull Duration delay, @Nonnull Runnable task) {
         CallContext currentContext = CallContext.getCurrent();
-        callDelayed(executor, delayInSeconds, () -> {
+        return callDelayed(executor, delay, () -> {
             CallContext backup = CallContext.getCurrent();
             try {
                 CallContext.setCurrent(currentContext);
@@ -99,36 +151,90 @@ public class DelayLine extends BackgroundLoop implements MetricProvider {
         });
     }
 
-    @Nonnull
-    @Override
-    public String getName() {
-        return "delay-line";
+    /**
+     * Keeps track of the number of waiting tasks, as cancelled tasks might remain in the wheel until their bucket
+     * expires.
+     */
+    private class CountedTask extends DelayedTask {
+
+        CountedTask(String executor, Runnable task, long expiration) {
+            super(executor, task, expiration);
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!super.cancel()) {
+                return false;
+            }
+
+            waitingTasks.decrementAndGet();
+            return true;
+        }
     }
 
     @Override
-    public double maxCallFrequency() {
-        return 2;
+    public void started() {
+        running = true;
+        timerThread = Thread.ofPlatform().name("delay-line").daemon().start(this::timerLoop);
     }
 
-    @Override
-    protected String doWork() throws Exception {
-        long now = System.currentTimeMillis();
-        int numScheduled = 0;
-        synchronized (waitingTasks) {
-            Iterator<WaitingTask> iter = waitingTasks.iterator();
-            while (iter.hasNext()) {
-                WaitingTask next = iter.next();
-                if (next.timeout > now) {
-                    return numScheduled > 0 ? "Re-Scheduled Tasks: " + numScheduled : null;
+    private void timerLoop() {
+        while (running) {
+            try {
+                TimingWheel.Bucket bucket = expiredBuckets.poll(MAX_IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                if (bucket != null) {
+                    advance(bucket);
                 }
+            } catch (InterruptedException exception) {
+                Exceptions.ignore(exception);
+            } catch (Exception exception) {
+                Exceptions.handle(Log.BACKGROUND, exception);
+            }
+        }
+    }
 
-                iter.remove();
-                tasks.executor(next.executor).start(next);
-                numScheduled++;
+    private void advance(TimingWheel.Bucket expiredBucket) {
+        wheelLock.writeLock().lock();
+        try {
+            TimingWheel.Bucket bucket = expiredBucket;
+            while (bucket != null) {
+                wheel.advanceClock(bucket.getExpiration());
+                // Tasks of finer buckets are due and will be executed, tasks of overflow wheels cascade down...
+                bucket.flush(this::reinsertOrExecute);
+                bucket = expiredBuckets.poll();
             }
+        } finally {
+            wheelLock.writeLock().unlock();
         }
+    }
 
-        return null;
+    private void reinsertOrExecute(DelayedTask task) {
+        if (!wheel.add(task)) {
+            execute(task);
+        }
+    }
+
+    private void execute(DelayedTask task) {
+        if (!task.markStarted()) {
+            return;
+        }
+
+        waitingTasks.decrementAndGet();
+        backgroundTasks.inc();
+        tasks.executor(task.getExecutor()).start(task);
+    }
+
+    @Override
+    public void stopped() {
+        running = false;
+        if (timerThread != null) {
+            timerThread.interrupt();
+        }
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
     }
 
     @Override
@@ -141,10 +247,10 @@ public class DelayLine extends BackgroundLoop implements MetricProvider {
                                          Metric.UNIT_PER_MIN);
         }
 
-        long length;
-        synchronized (waitingTasks) {
-            length = waitingTasks.size();
-        }
-        collector.metric("kernel_delay_line_length", "delay-line-length", "Delay-Line Length", length, null);
+        collector.metric("kernel_delay_line_length",
+                         "delay-line-length",
+                         "Delay-Line Length",
+                         waitingTasks.get(),
+                         null);
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.async;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents a task which has been queued in the {@link DelayLine}.
+ * <p>
+ * This can be used to cancel the task as long as it hasn't been started yet.
+ */
+public class DelayedTask implements Runnable {
+
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_STARTED = 2;
+
+    private final String executor;
+    private final Runnable task;
+    private final long expiration;
+    private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+
+    /**
+     * Contains the bucket of the timing wheel in which this task is currently stored.
+     * <p>
+     * Along with the <tt>previous</tt> and <tt>next</tt> pointers, this is guarded by the lock of the bucket.
+     */
+    volatile TimingWheel.Bucket bucket;
+    DelayedTask previous;
+    DelayedTask next;
+
+    DelayedTask(String executor, Runnable task, long expiration) {
+        this.executor = executor;
+        this.task = task;
+        this.expiration = expiration;
+    }
+
+    /**
+     * Creates the sentinel of the task list of a bucket.
+     */
+    DelayedTask() {
+        this(null, null, -1);
+        this.previous = this;
+        this.next = this;
+    }
+
+    /**
+     * Cancels the task unless it has already been started.
+     *
+     * @return <tt>true</tt> if the task was cancelled, <tt>false</tt> if it has already been started or cancelled
+     */
+    public boolean cancel() {
+        if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+            return false;
+        }
+
+        removeFromBucket();
+        return true;
+    }
+
+    /**
+     * Determines if the task is still waiting to be executed.
+     *
+     * @return <tt>true</tt> if the task is neither cancelled nor started yet, <tt>false</tt> otherwise
+     */
+    public boolean isPending() {
+        return state.get() == STATE_PENDING;
+    }
+
+    /**
+     * Determines if the task has been cancelled.
+     *
+     * @return <tt>true</tt> if the task has been cancelled, <tt>false</tt> otherwise
+     */
+    public boolean isCancelled() {
+        return state.get() == STATE_CANCELLED;
+    }
+
+    /**
+     * Marks the task as started.
+     *
+     * @return <tt>true</tt> if the task may be executed, <tt>false</tt> if it has been cancelled in the meantime
+     */
+    boolean markStarted() {
+        return state.compareAndSet(STATE_PENDING, STATE_STARTED);
+    }
+
+    void removeFromBucket() {
+        TimingWheel.Bucket currentBucket = bucket;
+        while (currentBucket != null) {
+            currentBucket.remove(this);
+            currentBucket = bucket;
+        }
+    }
+
+    String getExecutor() {
+        return executor;
+    }
+
+    long getExpiration() {
+        return expiration;
+    }
+
+    @Override
+    public void run() {
+        task.run();
+    }
+}
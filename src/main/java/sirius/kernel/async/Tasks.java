@@ -17,8 +17,13 @@ import sirius.kernel.commons.Tuple;
 import sirius.kernel.di.PartCollection;
 import sirius.kernel.di.std.Parts;
 import sirius.kernel.di.std.Register;
+import sirius.kernel.health.Average;
+import sirius.kernel.health.Counter;
 import sirius.kernel.health.Exceptions;
 import sirius.kernel.health.Log;
+import sirius.kernel.health.metrics.Metric;
+import sirius.kernel.health.metrics.MetricProvider;
+import sirius.kernel.health.metrics.MetricsCollector;
 import sirius.kernel.settings.Extension;
 
 import javax.annotation.Nonnull;
@@ -30,9 +35,10 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -56,8 +62,8 @@ import java.util.function.Supplier;
  * main interaction model when dealing with async and non-blocking execution.
  */
 @ParametersAreNonnullByDefault
-@Register(classes = {Tasks.class, Startable.class, Stoppable.class, Killable.class})
-public class Tasks implements Startable, Stoppable, Killable {
+@Register(classes = {Tasks.class, Startable.class, Stoppable.class, Killable.class, MetricProvider.class})
+public class Tasks implements Startable, Stoppable, Killable, MetricProvider {
 
     /**
      * Contains the name of the default executor.
@@ -80,9 +86,22 @@ public class Tasks implements Startable, Stoppable, Killable {
     private static PartCollection<BackgroundLoop> backgroundLoops;
 
     private final Map<Object, Long> scheduleTable = new ConcurrentHashMap<>();
-    private final List<ExecutionBuilder.TaskWrapper> schedulerQueue = new ArrayList<>();
+
+    /**
+     * Contains the deferred task per synchronizer, so that further tasks for the same synchronizer can be dropped
+     * without inspecting the scheduler queue.
+     */
+    private final Map<Object, ExecutionBuilder.TaskWrapper> pendingTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Contains all deferred tasks ordered by <tt>waitUntil</tt>. This is guarded by the <tt>schedulerLock</tt>.
+     */
+    private final PriorityQueue<ExecutionBuilder.TaskWrapper> schedulerQueue =
+            new PriorityQueue<>(Comparator.comparingLong(wrapper -> wrapper.waitUntil));
     private final Lock schedulerLock = new ReentrantLock();
     private final Condition workAvailable = schedulerLock.newCondition();
+    private final Average schedulingLatency = new Average();
+    private final Counter scheduledTasks = new Counter();
 
     /**
      * Determines the duration we wait for an executor to shut down normally
@@ -177,120 +196,142 @@ public class Tasks implements Startable, Stoppable, Killable {
         });
     }
 
-    private synchronized void schedule(ExecutionBuilder.TaskWrapper wrapper) {
+    private void schedule(ExecutionBuilder.TaskWrapper wrapper) {
         // As tasks often create a loop by calling itself (e.g. BackgroundLoop), we drop
         // scheduled tasks if the async framework is no longer running, as the tasks would be rejected and
         // dropped anyway...
         if (!running) {
             return;
         }
-        Long lastInvocation = scheduleTable.get(wrapper.synchronizer);
-        if (lastInvocation == null || (System.currentTimeMillis() - lastInvocation) > wrapper.intervalMinLength) {
+
+        long lastInvocation = claimExecution(wrapper);
+        if (lastInvocation < 0) {
             executeNow(wrapper);
-        } else {
-            if (dropIfAlreadyScheduled(wrapper)) {
-                if (LOG.isFINE()) {
-                    LOG.FINE(
-                            "Dropping a scheduled task (%s), as for its synchronizer (%s) another task is already scheduled",
-                            wrapper.runnable,
-                            wrapper.synchronizer);
-                }
-                return;
+            return;
+        }
+
+        if (pendingTasks.putIfAbsent(wrapper.synchronizer, wrapper) != null) {
+            wrapper.drop();
+            if (LOG.isFINE()) {
+                LOG.FINE("Dropping a scheduled task (%s), as for its synchronizer (%s) another task is already scheduled",
+                         wrapper.runnable,
+                         wrapper.synchronizer);
             }
-            wrapper.waitUntil = lastInvocation + wrapper.intervalMinLength;
-            addToSchedulerQueue(wrapper);
-            wakeSchedulerLoop();
+            return;
         }
+
+        wrapper.waitUntil = lastInvocation + wrapper.intervalMinLength;
+        addToSchedulerQueue(wrapper);
     }
 
-    private void addToSchedulerQueue(ExecutionBuilder.TaskWrapper wrapper) {
-        // The scheduler queue is sorted by waitUntil -> add at correct position
-        synchronized (schedulerQueue) {
-            for (int index = 0; index < schedulerQueue.size(); index++) {
-                if (schedulerQueue.get(index).waitUntil > wrapper.waitUntil) {
-                    schedulerQueue.add(index, wrapper);
-                    return;
-                }
+    /**
+     * Determines if the given task may be executed right away and records the invocation if so.
+     * <p>
+     * The check and the update are performed atomically per synchronizer, so that concurrent tasks for the same
+     * synchronizer cannot both be executed, while tasks for other synchronizers don't have to wait.
+     *
+     * @param wrapper the task to check
+     * @return <tt>-1</tt> if the task may be executed now, or the timestamp of the last invocation otherwise
+     */
+    private long claimExecution(ExecutionBuilder.TaskWrapper wrapper) {
+        long now = System.currentTimeMillis();
+        long[] lastInvocation = {-1};
+        scheduleTable.compute(wrapper.synchronizer, (synchronizer, previousInvocation) -> {
+            if (previousInvocation == null || now - previousInvocation > wrapper.intervalMinLength) {
+                return now;
             }
-            schedulerQueue.add(wrapper);
-        }
+
+            lastInvocation[0] = previousInvocation;
+            return previousInvocation;
+        });
+
+        return lastInvocation[0];
     }
 
-    private boolean dropIfAlreadyScheduled(ExecutionBuilder.TaskWrapper wrapper) {
-        synchronized (schedulerQueue) {
-            for (ExecutionBuilder.TaskWrapper other : schedulerQueue) {
-                if (wrapper.synchronizer.equals(other.synchronizer)) {
-                    wrapper.drop();
-                    return true;
-                }
+    private void addToSchedulerQueue(ExecutionBuilder.TaskWrapper wrapper) {
+        schedulerLock.lock();
+        try {
+            schedulerQueue.add(wrapper);
+            scheduledTasks.inc();
+            // Only wake the scheduler if it has to wait for a shorter time than before...
+            if (schedulerQueue.peek() == wrapper) {
+                workAvailable.signalAll();
             }
+        } finally {
+            schedulerLock.unlock();
         }
-        return false;
     }
 
     private void schedulerLoop() {
         while (running) {
             try {
                 executeWaitingTasks();
-                idle();
             } catch (Exception t) {
                 Exceptions.handle(LOG, t);
             }
         }
     }
 
-    private void executeWaitingTasks() {
-        synchronized (schedulerQueue) {
-            Iterator<ExecutionBuilder.TaskWrapper> iter = schedulerQueue.iterator();
-            long now = System.currentTimeMillis();
-            while (iter.hasNext()) {
-                ExecutionBuilder.TaskWrapper wrapper = iter.next();
-                if (wrapper.waitUntil <= now) {
-                    executeNow(wrapper);
-                    iter.remove();
-                } else {
-                    // The scheduler queue is sorted by "waitUntil" -> as soon as we discover the
-                    // first task which can not run yet, we can abort...
-                    return;
-                }
-            }
-        }
-    }
-
     @SuppressWarnings({"squid:S2274", "squid:S899"})
     @Explain("We neither need a loop nor the result here.")
-    private void idle() {
+    private void executeWaitingTasks() {
+        List<ExecutionBuilder.TaskWrapper> dueTasks = new ArrayList<>();
+        schedulerLock.lock();
         try {
-            schedulerLock.lock();
-            try {
-                long waitTime = computeWaitTime();
-                if (waitTime < 0) {
-                    // No work available -> wait for something to do...
-                    workAvailable.await();
-                } else if (waitTime > 0) {
-                    // No task can be executed in the next millisecond. Sleep for
-                    // "waitTime" (or more work) until the next check for executable work...
-                    workAvailable.await(waitTime, TimeUnit.MILLISECONDS);
-                }
-            } finally {
-                schedulerLock.unlock();
+            long waitTime = computeWaitTime();
+            if (waitTime < 0) {
+                // No work available -> wait for something to do...
+                workAvailable.await();
+                return;
+            } else if (waitTime > 0) {
+                // No task can be executed in the next millisecond. Sleep for
+                // "waitTime" (or more work) until the next check for executable work...
+                workAvailable.await(waitTime, TimeUnit.MILLISECONDS);
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+            while (!schedulerQueue.isEmpty() && schedulerQueue.peek().waitUntil <= now) {
+                dueTasks.add(schedulerQueue.poll());
             }
         } catch (InterruptedException exception) {
             Thread.currentThread().interrupt();
             Exceptions.ignore(exception);
+        } finally {
+            schedulerLock.unlock();
+        }
+
+        // The tasks are submitted outside of the lock, as executors might run them in this thread when saturated...
+        for (ExecutionBuilder.TaskWrapper wrapper : dueTasks) {
+            executeScheduled(wrapper);
         }
     }
 
-    private long computeWaitTime() {
-        synchronized (schedulerQueue) {
-            if (schedulerQueue.isEmpty()) {
-                // No task is waiting -> wait forever...
-                return -1;
-            }
+    private void executeScheduled(ExecutionBuilder.TaskWrapper wrapper) {
+        long now = System.currentTimeMillis();
+        schedulingLatency.addValue(Math.max(0, now - wrapper.waitUntil));
 
-            long now = System.currentTimeMillis();
-            return Math.max(0, schedulerQueue.getFirst().waitUntil - now);
+        // We record the invocation before releasing the synchronizer, so that a task which is scheduled
+        // concurrently is deferred instead of being executed right away...
+        scheduleTable.put(wrapper.synchronizer, now);
+        pendingTasks.remove(wrapper.synchronizer, wrapper);
+        executeNow(wrapper);
+    }
+
+    /**
+     * Computes the time to wait for the next task. Must be called while holding the <tt>schedulerLock</tt>.
+     *
+     * @return the number of milliseconds to wait or <tt>-1</tt> if no task is waiting at all
+     */
+    private long computeWaitTime() {
+        ExecutionBuilder.TaskWrapper nextTask = schedulerQueue.peek();
+        if (nextTask == null) {
+            // No task is waiting -> wait forever...
+            return -1;
         }
+
+        long now = System.currentTimeMillis();
+        return Math.max(0, nextTask.waitUntil - now);
     }
 
     private void startScheduler() {
@@ -368,15 +409,55 @@ public class Tasks implements Startable, Stoppable, Killable {
      * @return a list of all scheduled tasks
      */
     public List<Tuple<String, LocalDateTime>> getScheduledTasks() {
-        synchronized (schedulerQueue) {
-            List<Tuple<String, LocalDateTime>> result = new ArrayList<>();
-            for (ExecutionBuilder.TaskWrapper wrapper : schedulerQueue) {
-                result.add(Tuple.create(wrapper.category + " / " + wrapper.synchronizer.getClass().getName(),
-                                        LocalDateTime.ofInstant(Instant.ofEpochMilli(wrapper.waitUntil),
-                                                                ZoneId.systemDefault())));
-            }
-            return result;
+        List<ExecutionBuilder.TaskWrapper> waitingTasks;
+        schedulerLock.lock();
+        try {
+            waitingTasks = new ArrayList<>(schedulerQueue);
+        } finally {
+            schedulerLock.unlock();
         }
+
+        waitingTasks.sort(Comparator.comparingLong(wrapper -> wrapper.waitUntil));
+        List<Tuple<String, LocalDateTime>> result = new ArrayList<>();
+        for (ExecutionBuilder.TaskWrapper wrapper : waitingTasks) {
+            result.add(Tuple.create(wrapper.category + " / " + wrapper.synchronizer.getClass().getName(),
+                                    LocalDateTime.ofInstant(Instant.ofEpochMilli(wrapper.waitUntil),
+                                                            ZoneId.systemDefault())));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of tasks which are currently deferred by the scheduler.
+     *
+     * @return the number of waiting tasks
+     */
+    public int getNumScheduledTasks() {
+        schedulerLock.lock();
+        try {
+            return schedulerQueue.size();
+        } finally {
+            schedulerLock.unlock();
+        }
+    }
+
+    @Override
+    public void gather(MetricsCollector collector) {
+        collector.differentialMetric("kernel_scheduled_tasks",
+                                     "scheduled-tasks",
+                                     "Scheduled Tasks",
+                                     scheduledTasks.getCount(),
+                                     Metric.UNIT_PER_MIN);
+        collector.metric("kernel_scheduler_length",
+                         "scheduler-length",
+                         "Scheduler Queue Length",
+                         getNumScheduledTasks(),
+                         null);
+        collector.metric("kernel_scheduler_latency",
+                         "scheduler-latency",
+                         "Scheduler Latency",
+                         schedulingLatency.getAndClear(),
+                         Metric.UNIT_MS);
     }
 
     @Override
@@ -0,0 +1,198 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Provides a hierarchical timing wheel as used by the {@link DelayLine}.
+ * <p>
+ * A wheel consists of a fixed number of buckets, each covering one tick. A task is put into the bucket which covers
+ * its expiration time, which is a constant-time operation. Tasks which expire beyond the range of the wheel are
+ * handed to an overflow wheel, whose ticks span the whole range of this wheel. Once the bucket of an overflow wheel
+ * expires, its tasks are re-inserted and thereby cascade down into the finer wheels.
+ * <p>
+ * Only buckets which contain tasks are put into the shared {@link DelayQueue}. Therefore, the thread which advances
+ * the wheel can sleep until the next bucket actually expires, instead of ticking through empty buckets.
+ * <p>
+ * All times are given in milliseconds as determined by {@link #now()}.
+ */
+class TimingWheel {
+
+    /**
+     * Contains the tasks which expire within the same tick.
+     * <p>
+     * The tasks are kept in a doubly linked list so that they can be removed in constant time when being cancelled.
+     */
+    static class Bucket implements Delayed {
+
+        private final DelayedTask root = new DelayedTask();
+        private final AtomicLong expiration = new AtomicLong(-1);
+
+        synchronized void add(DelayedTask task) {
+            task.bucket = this;
+            task.next = root;
+            task.previous = root.previous;
+            root.previous.next = task;
+            root.previous = task;
+        }
+
+        synchronized void remove(DelayedTask task) {
+            if (task.bucket != this) {
+                return;
+            }
+
+            task.next.previous = task.previous;
+            task.previous.next = task.next;
+            task.next = null;
+            task.previous = null;
+            task.bucket = null;
+        }
+
+        /**
+         * Removes all tasks and hands them to the given consumer.
+         * <p>
+         * The consumer is invoked outside of the lock of this bucket, as it will most probably insert the tasks into
+         * other buckets.
+         *
+         * @param consumer the consumer which either re-inserts or executes the tasks
+         */
+        void flush(Consumer<DelayedTask> consumer) {
+            List<DelayedTask> tasks = new ArrayList<>();
+            synchronized (this) {
+                DelayedTask task = root.next;
+                while (task != root) {
+                    DelayedTask next = task.next;
+                    remove(task);
+                    tasks.add(task);
+                    task = next;
+                }
+                expiration.set(-1);
+            }
+
+            tasks.forEach(consumer);
+        }
+
+        /**
+         * Updates the expiration time of the bucket.
+         *
+         * @param expiration the new expiration time
+         * @return <tt>true</tt> if the expiration changed, which implies that the bucket has to be (re-)enqueued
+         */
+        boolean setExpiration(long expiration) {
+            return this.expiration.getAndSet(expiration) != expiration;
+        }
+
+        long getExpiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - now(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((Bucket) other).getExpiration());
+        }
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long interval;
+    private final Bucket[] buckets;
+    private final DelayQueue<Bucket> queue;
+    private volatile long currentTime;
+    private volatile TimingWheel overflowWheel;
+
+    TimingWheel(long tickMillis, int wheelSize, long startTime, DelayQueue<Bucket> queue) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.interval = tickMillis * wheelSize;
+        this.queue = queue;
+        this.currentTime = startTime - (startTime % tickMillis);
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Returns the current time in milliseconds as used by all wheels.
+     * <p>
+     * This uses a monotonic clock so that adjusting the system time doesn't affect pending tasks.
+     *
+     * @return the current time in milliseconds
+     */
+    static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * Inserts the given task into this wheel or one of its overflow wheels.
+     *
+     * @param task the task to insert
+     * @return <tt>true</tt> if the task was inserted, <tt>false</tt> if it is either cancelled or already expired
+     */
+    boolean add(DelayedTask task) {
+        long expiration = task.getExpiration();
+        if (!task.isPending() || expiration < currentTime + tickMillis) {
+            return false;
+        }
+
+        if (expiration < currentTime + interval) {
+            long virtualId = expiration / tickMillis;
+            Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+            bucket.add(task);
+            if (bucket.setExpiration(virtualId * tickMillis)) {
+                queue.offer(bucket);
+            }
+
+            return true;
+        }
+
+        return getOverflowWheel().add(task);
+    }
+
+    private TimingWheel getOverflowWheel() {
+        TimingWheel result = overflowWheel;
+        if (result == null) {
+            synchronized (this) {
+                if (overflowWheel == null) {
+                    overflowWheel = new TimingWheel(interval, wheelSize, currentTime, queue);
+                }
+                result = overflowWheel;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Moves the current time of this wheel and all of its overflow wheels forward.
+     *
+     * @param time the time of the bucket which just expired
+     */
+    void advanceClock(long time) {
+        if (time >= currentTime + tickMillis) {
+            currentTime = time - (time % tickMillis);
+            TimingWheel overflow = overflowWheel;
+            if (overflow != null) {
+                overflow.advanceClock(currentTime);
+            }
+        }
+    }
+}
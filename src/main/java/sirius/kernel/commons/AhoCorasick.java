@@ -0,0 +1,430 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Finds all keys of a trie within a text in a single pass.
+ * <p>
+ * Using a {@link BaseTrie.ContainmentIterator} to search for keys in a text requires to restart the search at each
+ * position of the text (or to accept that matches which start within a failed partial match are missed). This
+ * automaton (as described by Aho and Corasick) extends the trie by "failure links", which point from each node to
+ * the node representing the longest suffix of its path which is also a prefix of a key. Therefore, each character of
+ * the text is inspected exactly once, no matter how many keys are searched for.
+ * <p>
+ * A matcher is created via {@link #of(Trie)} or {@link #of(CodePointTrie)} and can then be shared by any number of
+ * threads, as it is immutable. Note that the positions of a {@link Match} are always given in characters (not in code
+ * points), so that they can be used with {@link String#substring(int, int)} and the like.
+ * <p>
+ * An example:
+ * {@snippet :
+ * Trie<String> trie = Trie.create();
+ * trie.put("he", "he");
+ * trie.put("she", "she");
+ * trie.put("hers", "hers");
+ *
+ * AhoCorasick<String> matcher = AhoCorasick.of(trie);
+ * // Yields "she" (1-4), "he" (2-4) and "hers" (2-6)
+ * matcher.findAll("ushers");
+ * // Yields only "she" (1-4) as the other matches overlap with it
+ * matcher.findLeftmostLongest("ushers");
+ * }
+ *
+ * @param <V> the type of values managed by the underlying trie
+ */
+public class AhoCorasick<V> {
+
+    /**
+     * Represents a key of the trie found within a text.
+     *
+     * @param start the position (in characters) of the first character of the match
+     * @param end   the position (in characters) after the last character of the match
+     * @param value the value associated with the matched key
+     * @param <V>   the type of the value
+     */
+    public record Match<V>(int start, int end, V value) {
+    }
+
+    /**
+     * Marks the absence of a node, e.g. if no suffix of a node has a value.
+     */
+    private static final int NO_NODE = -1;
+
+    /**
+     * Contains the number of characters read from a {@link Reader} at once.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    private final CompactTrie<V> trie;
+
+    /**
+     * Determines if the trie uses code points (like {@link CodePointTrie}) or characters (like {@link Trie}) as keys.
+     */
+    private final boolean codePoints;
+
+    /**
+     * Contains the failure link for each node, which points to the node representing the longest proper suffix of
+     * its path.
+     */
+    private final int[] failures;
+
+    /**
+     * Contains for each node the next node along its failure links which has a value, or {@link #NO_NODE}.
+     */
+    private final int[] outputs;
+
+    /**
+     * Contains the length (in characters) of the path leading to each node.
+     */
+    private final int[] lengths;
+
+    /**
+     * Creates a new matcher for the given trie.
+     *
+     * @param trie       the trie containing all keys to search for
+     * @param codePoints <tt>true</tt> if the keys of the trie are code points, <tt>false</tt> if they are characters
+     */
+    AhoCorasick(CompactTrie<V> trie, boolean codePoints) {
+        this.trie = trie;
+        this.codePoints = codePoints;
+
+        int numberOfNodes = trie.getNumberOfNodes();
+        this.failures = new int[numberOfNodes];
+        this.outputs = new int[numberOfNodes];
+        this.lengths = new int[numberOfNodes];
+        outputs[CompactTrie.ROOT] = NO_NODE;
+
+        // As the nodes are numbered breadth-first, all nodes closer to the root have already been processed...
+        for (int node = 1; node < numberOfNodes; node++) {
+            int parent = trie.getParent(node);
+            int key = trie.getKey(node);
+            lengths[node] = lengths[parent] + (codePoints ? Character.charCount(key) : 1);
+            failures[node] = parent == CompactTrie.ROOT ? CompactTrie.ROOT : next(failures[parent], key);
+            int failure = failures[node];
+            outputs[node] = trie.getValue(failure) != null ? failure : outputs[failure];
+        }
+    }
+
+    /**
+     * Creates a matcher which finds all keys of the given character based trie.
+     * <p>
+     * Note that changes made to the trie afterwards are not visible to the matcher.
+     *
+     * @param trie the trie containing all keys to search for
+     * @param <V>  the type of values managed by the trie
+     * @return a new matcher for the given trie
+     */
+    public static <V> AhoCorasick<V> of(@Nonnull Trie<V> trie) {
+        return new AhoCorasick<>(trie.freeze(), false);
+    }
+
+    /**
+     * Creates a matcher which finds all keys of the given code point based trie.
+     * <p>
+     * Note that changes made to the trie afterwards are not visible to the matcher.
+     *
+     * @param trie the trie containing all keys to search for
+     * @param <V>  the type of values managed by the trie
+     * @return a new matcher for the given trie
+     */
+    public static <V> AhoCorasick<V> of(@Nonnull CodePointTrie<V> trie) {
+        return new AhoCorasick<>(trie.freeze(), true);
+    }
+
+    /**
+     * Performs a transition, following the failure links until a node is found which can be continued.
+     *
+     * @param node the node to start from
+     * @param key  the key of the transition to follow
+     * @return the node representing the longest suffix of the current path (extended by the key) which is a prefix
+     * of a key in the trie
+     */
+    private int next(int node, int key) {
+        int current = node;
+        while (true) {
+            int next = trie.findContinuation(current, key);
+            if (next >= 0) {
+                return next;
+            }
+            if (current == CompactTrie.ROOT) {
+                return CompactTrie.ROOT;
+            }
+            current = failures[current];
+        }
+    }
+
+    /**
+     * Returns the node representing the longest key which ends at the given node.
+     *
+     * @param node the node to check
+     * @return the node itself if it has a value, the next node with a value along the failure links or
+     * {@link #NO_NODE} if no key ends here
+     */
+    private int firstOutput(int node) {
+        return trie.getValue(node) != null ? node : outputs[node];
+    }
+
+    /**
+     * Feeds the characters of a text into the automaton and reports the current node after each step.
+     */
+    private abstract class Scanner {
+
+        protected int node = CompactTrie.ROOT;
+        protected int position;
+        protected boolean done;
+        private char highSurrogate;
+
+        protected void accept(char character) {
+            if (!codePoints) {
+                process(character, 1);
+                return;
+            }
+
+            if (highSurrogate != 0) {
+                char high = highSurrogate;
+                highSurrogate = 0;
+                if (Character.isLowSurrogate(character)) {
+                    process(Character.toCodePoint(high, character), 2);
+                    return;
+                }
+                process(high, 1);
+            }
+
+            if (Character.isHighSurrogate(character)) {
+                highSurrogate = character;
+            } else {
+                process(character, 1);
+            }
+        }
+
+        private void process(int key, int size) {
+            node = next(node, key);
+            position += size;
+            handleNode();
+        }
+
+        protected void finish() {
+            if (highSurrogate != 0) {
+                char high = highSurrogate;
+                highSurrogate = 0;
+                process(high, 1);
+            }
+        }
+
+        /**
+         * Invoked after each transition with the updated {@link #node} and {@link #position}.
+         */
+        protected abstract void handleNode();
+    }
+
+    /**
+     * Reports all matches, including overlapping ones.
+     */
+    private class AllMatchesScanner extends Scanner {
+
+        private final Consumer<Match<V>> consumer;
+
+        AllMatchesScanner(Consumer<Match<V>> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void handleNode() {
+            for (int match = firstOutput(node); match != NO_NODE; match = outputs[match]) {
+                consumer.accept(new Match<>(position - lengths[match], position, trie.getValue(match)));
+            }
+        }
+    }
+
+    /**
+     * Reports the leftmost-longest, non overlapping matches.
+     * <p>
+     * Matches are kept as candidates until no match which starts at the same or an earlier position can show up
+     * anymore. This is the case, once the current path of the automaton starts behind the candidate.
+     */
+    private class LeftmostLongestScanner extends Scanner {
+
+        private final Consumer<Match<V>> consumer;
+        private final List<Match<V>> candidates = new ArrayList<>();
+        private int lastEnd;
+
+        LeftmostLongestScanner(Consumer<Match<V>> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void handleNode() {
+            for (int match = firstOutput(node); match != NO_NODE; match = outputs[match]) {
+                int start = position - lengths[match];
+                if (start >= lastEnd) {
+                    candidates.add(new Match<>(start, position, trie.getValue(match)));
+                }
+            }
+
+            reportCandidatesBefore(position - lengths[node]);
+        }
+
+        private void reportCandidatesBefore(int pathStart) {
+            while (!candidates.isEmpty()) {
+                Match<V> best = candidates.getFirst();
+                for (Match<V> candidate : candidates) {
+                    if (candidate.start() < best.start()
+                        || (candidate.start() == best.start() && candidate.end() > best.end())) {
+                        best = candidate;
+                    }
+                }
+                if (best.start() >= pathStart) {
+                    return;
+                }
+
+                consumer.accept(best);
+                lastEnd = best.end();
+                candidates.removeIf(candidate -> candidate.start() < lastEnd);
+            }
+        }
+
+        @Override
+        protected void finish() {
+            super.finish();
+            reportCandidatesBefore(Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Only determines if there is a match at all.
+     */
+    private class AnyMatchScanner extends Scanner {
+
+        @Override
+        protected void handleNode() {
+            if (firstOutput(node) != NO_NODE) {
+                done = true;
+            }
+        }
+    }
+
+    private void scan(CharSequence text, Scanner scanner) {
+        int length = text.length();
+        for (int index = 0; index < length && !scanner.done; index++) {
+            scanner.accept(text.charAt(index));
+        }
+        scanner.finish();
+    }
+
+    private void scan(Reader reader, Scanner scanner) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        int read = reader.read(buffer);
+        while (read >= 0 && !scanner.done) {
+            for (int index = 0; index < read && !scanner.done; index++) {
+                scanner.accept(buffer[index]);
+            }
+            read = reader.read(buffer);
+        }
+        scanner.finish();
+    }
+
+    /**
+     * Reports all occurrences of all keys within the given text, including overlapping ones.
+     * <p>
+     * The matches are reported ordered by their end position. Matches which end at the same position are reported
+     * longest first.
+     *
+     * @param text     the text to search in
+     * @param consumer the consumer to be supplied with all matches
+     */
+    public void findAll(@Nonnull CharSequence text, @Nonnull Consumer<Match<V>> consumer) {
+        scan(text, new AllMatchesScanner(consumer));
+    }
+
+    /**
+     * Returns all occurrences of all keys within the given text, including overlapping ones.
+     *
+     * @param text the text to search in
+     * @return all matches as reported by {@link #findAll(CharSequence, Consumer)}
+     */
+    public List<Match<V>> findAll(@Nonnull CharSequence text) {
+        List<Match<V>> result = new ArrayList<>();
+        findAll(text, result::add);
+        return result;
+    }
+
+    /**
+     * Reports all occurrences of all keys within the text provided by the given reader, including overlapping ones.
+     * <p>
+     * The reader is consumed in chunks and is not closed by this method.
+     *
+     * @param reader   the reader providing the text to search in
+     * @param consumer the consumer to be supplied with all matches
+     * @throws IOException in case of an error while reading from the reader
+     */
+    public void findAll(@Nonnull Reader reader, @Nonnull Consumer<Match<V>> consumer) throws IOException {
+        scan(reader, new AllMatchesScanner(consumer));
+    }
+
+    /**
+     * Reports the leftmost-longest, non overlapping occurrences of the keys within the given text.
+     * <p>
+     * Among overlapping matches, the one which starts first is reported. If several matches start at the same
+     * position, the longest one wins. This is what a user would consider as "the words found in the text".
+     *
+     * @param text     the text to search in
+     * @param consumer the consumer to be supplied with the matches in the order of their occurrence
+     */
+    public void findLeftmostLongest(@Nonnull CharSequence text, @Nonnull Consumer<Match<V>> consumer) {
+        scan(text, new LeftmostLongestScanner(consumer));
+    }
+
+    /**
+     * Returns the leftmost-longest, non overlapping occurrences of the keys within the given text.
+     *
+     * @param text the text to search in
+     * @return all matches as reported by {@link #findLeftmostLongest(CharSequence, Consumer)}
+     */
+    public List<Match<V>> findLeftmostLongest(@Nonnull CharSequence text) {
+        List<Match<V>> result = new ArrayList<>();
+        findLeftmostLongest(text, result::add);
+        return result;
+    }
+
+    /**
+     * Reports the leftmost-longest, non overlapping occurrences of the keys within the text provided by the given
+     * reader.
+     * <p>
+     * The reader is consumed in chunks and is not closed by this method.
+     *
+     * @param reader   the reader providing the text to search in
+     * @param consumer the consumer to be supplied with the matches in the order of their occurrence
+     * @throws IOException in case of an error while reading from the reader
+     * @see #findLeftmostLongest(CharSequence, Consumer)
+     */
+    public void findLeftmostLongest(@Nonnull Reader reader, @Nonnull Consumer<Match<V>> consumer)
+            throws IOException {
+        scan(reader, new LeftmostLongestScanner(consumer));
+    }
+
+    /**
+     * Determines if at least one key occurs in the given text.
+     * <p>
+     * The scan stops as soon as the first match has been found.
+     *
+     * @param text the text to search in
+     * @return <tt>true</tt> if the text contains at least one of the keys, <tt>false</tt> otherwise
+     */
+    public boolean containsMatch(@Nonnull CharSequence text) {
+        AnyMatchScanner scanner = new AnyMatchScanner();
+        scan(text, scanner);
+        return scanner.done;
+    }
+}
@@ -21,8 +21,11 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
@@ -37,6 +40,12 @@ import java.util.function.Supplier;
 /// numerical operations. Also, the scale of each value is fixed to 5 decimal places after the comma, since this is
 /// enough for most business applications and rounds away any rounding errors introduced by doubles.
 ///
+/// As most amounts are way smaller than the range of a <tt>long</tt>, values with the default scale are kept as
+/// _compact_ value (scaled by 10^[#SCALE]) instead. Additions, multiplications, divisions and comparisons of compact
+/// values are performed using plain <tt>long</tt> arithmetic and yield the exact same results as their
+/// <tt>BigDecimal</tt> counterparts. If an operation would overflow or requires a higher precision, the computation
+/// falls back to <tt>BigDecimal</tt>. The <tt>BigDecimal</tt> of a compact value is only created on demand.
+///
 /// A textual representation can be created by calling one of the <tt>toString</tt> methods or by supplying
 /// a [NumberFormat].
 ///
@@ -75,14 +84,56 @@ public class Amount extends Number implements Comparable<Amount> {
     private static final String[] METRICS = {"f", "n", "u", "m", "", "K", "M", "G"};
     private static final int NEUTRAL_METRIC = 4;
 
-    private final BigDecimal value;
+    private static final long SCALE_FACTOR = 100_000L;
+    private static final long MAX_COMPACT_INTEGER = Long.MAX_VALUE / SCALE_FACTOR;
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    /// Limits the fast path of [#divideBy(Amount)], as <tt>DECIMAL128</tt> rounds the quotient to 34 digits before
+    /// it is rounded to [#SCALE]. The quotient of two compact values has at most 19 digits before the fifth decimal
+    /// place, so that we fall back to <tt>BigDecimal</tt> if the remainder is within 10^-15 of the rounding
+    /// boundary, where this double rounding might make a difference.
+    private static final long DIVISION_PRECISION_LIMIT = 1_000_000_000_000_000L;
+
+    /// Contains the value as <tt>BigDecimal</tt>. For compact values, this is created lazily by [#getAmount()].
+    /// As this is always computed to the same (immutable) value, no synchronization is required.
+    private BigDecimal value;
+
+    /// Contains the value scaled by 10^[#SCALE] if <tt>compact</tt> is <tt>true</tt>. This never contains
+    /// <tt>Long.MIN_VALUE</tt>, so that it can always be negated safely.
+    private final long compactValue;
+    private final boolean compact;
     private final boolean rounded;
 
     private Amount(BigDecimal value, boolean rounded) {
         this.value = value;
+        this.compactValue = 0;
+        this.compact = false;
         this.rounded = rounded;
     }
 
+    private Amount(BigDecimal value, long compactValue) {
+        this.value = value;
+        this.compactValue = compactValue;
+        this.compact = true;
+        this.rounded = false;
+    }
+
+    private static Amount ofCompact(long compactValue) {
+        return new Amount(null, compactValue);
+    }
+
+    private static boolean isCompactRange(long value) {
+        return value != Long.MIN_VALUE;
+    }
+
+    /// Determines if the given integer can be scaled by [#SCALE_FACTOR] without overflowing.
+    ///
+    /// Note that this cannot be checked via <tt>Math.abs</tt>, as the absolute value of <tt>Long.MIN_VALUE</tt>
+    /// is still negative.
+    private static boolean isCompactInteger(long value) {
+        return value >= -MAX_COMPACT_INTEGER && value <= MAX_COMPACT_INTEGER;
+    }
+
     /// Converts the given string into a number. If the string is empty, <tt>NOTHING</tt> is returned.
     /// If the string is malformed an exception will be thrown.
     ///
@@ -157,7 +208,13 @@ public class Amount extends Number implements Comparable<Amount> {
         if (amount == null) {
             return NOTHING;
         }
-        return new Amount(amount.setScale(SCALE, RoundingMode.HALF_UP), false);
+        BigDecimal scaledAmount = amount.setScale(SCALE, RoundingMode.HALF_UP);
+        BigInteger unscaledAmount = scaledAmount.unscaledValue();
+        if (unscaledAmount.bitLength() < Long.SIZE && isCompactRange(unscaledAmount.longValue())) {
+            return new Amount(scaledAmount, unscaledAmount.longValue());
+        }
+
+        return new Amount(scaledAmount, false);
     }
 
     /// Converts the given value into a number.
@@ -182,7 +239,7 @@ public class Amount extends Number implements Comparable<Amount> {
     /// @return an <tt>Amount</tt> representing the given input
     @Nonnull
     public static Amount of(int amount) {
-        return of(new BigDecimal(amount));
+        return ofCompact(amount * SCALE_FACTOR);
     }
 
     /// Converts the given value into a number.
@@ -191,6 +248,9 @@ public class Amount extends Number implements Comparable<Amount> {
     /// @return an <tt>Amount</tt> representing the given input
     @Nonnull
     public static Amount of(long amount) {
+        if (isCompactInteger(amount)) {
+            return ofCompact(amount * SCALE_FACTOR);
+        }
         return of(new BigDecimal(amount));
     }
 
@@ -215,7 +275,7 @@ public class Amount extends Number implements Comparable<Amount> {
         if (amount == null) {
             return NOTHING;
         }
-        return of(new BigDecimal(amount));
+        return of(amount.intValue());
     }
 
     /// Converts the given value into a number.
@@ -227,7 +287,7 @@ public class Amount extends Number implements Comparable<Amount> {
         if (amount == null) {
             return NOTHING;
         }
-        return of(new BigDecimal(amount));
+        return of(amount.longValue());
     }
 
     /// Converts the given value into a number.
@@ -248,6 +308,9 @@ public class Amount extends Number implements Comparable<Amount> {
     /// @return the internally used <tt>BigDecimal</tt>
     @Nullable
     public BigDecimal getAmount() {
+        if (value == null && compact) {
+            value = BigDecimal.valueOf(compactValue, SCALE);
+        }
         return value;
     }
 
@@ -257,7 +320,7 @@ public class Amount extends Number implements Comparable<Amount> {
     /// @return the amount with trailing zeros stripped of the decimal part
     @Nullable
     public BigDecimal fetchAmountWithoutTrailingZeros() {
-        return Optional.ofNullable(value)
+        return Optional.ofNullable(getAmount())
                        .map(BigDecimal::stripTrailingZeros)
                        .map(bigDecimal -> bigDecimal.scale() < 0 ?
                                           bigDecimal.setScale(0, RoundingMode.UNNECESSARY) :
@@ -276,7 +339,7 @@ public class Amount extends Number implements Comparable<Amount> {
     /// @return the internally used <tt>BigDecimal</tt> with rounding applied
     @Nullable
     @JsonValue
-    private BigDecimal getRoundedAmount() {
+    BigDecimal getRoundedAmount() {
         if (rounded) {
             return getAmount();
         } else {
@@ -315,39 +378,49 @@ public class Amount extends Number implements Comparable<Amount> {
     @Override
     public int intValue() {
         throwExceptionIfEmpty();
+        if (compact) {
+            return (int) (compactValue / SCALE_FACTOR);
+        }
         return value.intValue();
     }
 
     @Override
     public long longValue() {
         throwExceptionIfEmpty();
+        if (compact) {
+            return compactValue / SCALE_FACTOR;
+        }
         return value.longValue();
     }
 
     @Override
     public float floatValue() {
         throwExceptionIfEmpty();
-        return value.floatValue();
+        return getAmount().floatValue();
     }
 
     @Override
     public double doubleValue() {
         throwExceptionIfEmpty();
-        return value.doubleValue();
+        // Both operands are exactly representable, therefore the division yields the correctly rounded result...
+        if (compact && Math.abs(compactValue) <= MAX_EXACT_DOUBLE) {
+            return compactValue / (double) SCALE_FACTOR;
+        }
+        return getAmount().doubleValue();
     }
 
     /// Checks if this contains no value.
     ///
     /// @return <tt>true</tt> if the internal value is null, <tt>false</tt> otherwise
     public boolean isEmpty() {
-        return value == null;
+        return value == null && !compact;
     }
 
     /// Checks if this actual number contains a value or not
     ///
     /// @return <tt>true</tt> if the internal value is a number, <tt>false</tt> otherwise
     public boolean isFilled() {
-        return value != null;
+        return !isEmpty();
     }
 
     /// If this actual number if empty, the given value will be returned. Otherwise, this will be returned.
@@ -441,7 +514,14 @@ public class Amount extends Number implements Comparable<Amount> {
         if (isEmpty()) {
             return NOTHING;
         }
-        return Amount.of(value.add(other.value));
+        if (compact && other.compact) {
+            long sum = compactValue + other.compactValue;
+            // Overflow iff both operands have the same sign, which differs from the sign of the result...
+            if (((compactValue ^ sum) & (other.compactValue ^ sum)) >= 0 && isCompactRange(sum)) {
+                return ofCompact(sum);
+            }
+        }
+        return Amount.of(getAmount().add(other.getAmount()));
     }
 
     /// Subtracts the given number from <tt>this</tt>, if <tt>other</tt> is not empty. Otherwise <tt>this</tt> will be
@@ -459,7 +539,15 @@ public class Amount extends Number implements Comparable<Amount> {
         if (isEmpty()) {
             return NOTHING;
         }
-        return Amount.of(value.subtract(other.value));
+        if (compact && other.compact) {
+            long difference = compactValue - other.compactValue;
+            // Overflow iff the operands have different signs and the sign of the result differs from this...
+            if (((compactValue ^ other.compactValue) & (compactValue ^ difference)) >= 0
+                && isCompactRange(difference)) {
+                return ofCompact(difference);
+            }
+        }
+        return Amount.of(getAmount().subtract(other.getAmount()));
     }
 
     /// Multiplies the given number with <tt>this</tt>. If either of both is empty, <tt>NOTHING</tt> will be returned.
@@ -473,7 +561,15 @@ public class Amount extends Number implements Comparable<Amount> {
         if (other.isEmpty() || isEmpty()) {
             return NOTHING;
         }
-        return Amount.of(value.multiply(other.value));
+        if (compact && other.compact) {
+            long high = Math.multiplyHigh(compactValue, other.compactValue);
+            long product = compactValue * other.compactValue;
+            // The product fits into a long iff the high word only contains the sign extension of the low word...
+            if (high == (product >> 63) && isCompactRange(product)) {
+                return ofCompact(roundHalfUp(product / SCALE_FACTOR, product % SCALE_FACTOR, SCALE_FACTOR));
+            }
+        }
+        return Amount.of(getAmount().multiply(other.getAmount()));
     }
 
     /// Divides <tt>this</tt> by the given number. If either of both is empty, or the given number is zero,
@@ -488,7 +584,48 @@ public class Amount extends Number implements Comparable<Amount> {
         if (other == null || other.isZeroOrNull() || isEmpty()) {
             return NOTHING;
         }
-        return Amount.of(value.divide(other.value, MathContext.DECIMAL128));
+        if (compact && other.compact && isCompactInteger(compactValue)) {
+            Amount quotient = divideCompact(compactValue * SCALE_FACTOR, other.compactValue);
+            if (quotient != null) {
+                return quotient;
+            }
+        }
+        return Amount.of(getAmount().divide(other.getAmount(), MathContext.DECIMAL128));
+    }
+
+    /// Divides the given scaled dividend by the given divisor and rounds the result like [#divideBy(Amount)].
+    ///
+    /// @param dividend the dividend, scaled by 10^(2 * [#SCALE])
+    /// @param divisor  the divisor, scaled by 10^[#SCALE]
+    /// @return the quotient or <tt>null</tt> if it is too close to the rounding boundary to be computed exactly
+    @Nullable
+    private static Amount divideCompact(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return ofCompact(quotient);
+        }
+
+        long absoluteRemainder = Math.abs(remainder);
+        long absoluteDivisor = Math.abs(divisor);
+        // This is |divisor| - 2 * |remainder|, computed without overflowing...
+        long distanceToHalf = absoluteDivisor - absoluteRemainder - absoluteRemainder;
+        if (Math.abs(distanceToHalf) <= absoluteDivisor / DIVISION_PRECISION_LIMIT) {
+            return null;
+        }
+
+        return ofCompact(roundHalfUp(quotient, remainder, divisor));
+    }
+
+    /// Rounds the given truncated quotient based on its remainder using [RoundingMode#HALF_UP].
+    private static long roundHalfUp(long quotient, long remainder, long divisor) {
+        long absoluteRemainder = Math.abs(remainder);
+        if (absoluteRemainder < Math.abs(divisor) - absoluteRemainder) {
+            return quotient;
+        }
+
+        // Round away from zero, the sign of the quotient is determined by the signs of remainder and divisor...
+        return (remainder < 0) == (divisor < 0) ? quotient + 1 : quotient - 1;
     }
 
     /// Returns the ratio in percent from <tt>this</tt> to <tt>other</tt>.
@@ -519,6 +656,9 @@ public class Amount extends Number implements Comparable<Amount> {
     ///
     /// @return <tt>true</tt> if this value is filled and equal to 0.00, <tt>false</tt> otherwise.
     public boolean isZero() {
+        if (compact) {
+            return compactValue == 0;
+        }
         return value != null && value.compareTo(BigDecimal.ZERO) == 0;
     }
 
@@ -526,6 +666,9 @@ public class Amount extends Number implements Comparable<Amount> {
     ///
     /// @return <tt>true</tt> if this value is filled and not equal to 0.00, <tt>false</tt> otherwise.
     public boolean isNonZero() {
+        if (compact) {
+            return compactValue != 0;
+        }
         return value != null && value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -533,6 +676,9 @@ public class Amount extends Number implements Comparable<Amount> {
     ///
     /// @return <tt>true</tt> if this value is filled and greater than 0.00, <tt>false</tt> otherwise.
     public boolean isPositive() {
+        if (compact) {
+            return compactValue > 0;
+        }
         return value != null && value.compareTo(BigDecimal.ZERO) > 0;
     }
 
@@ -540,6 +686,9 @@ public class Amount extends Number implements Comparable<Amount> {
     ///
     /// @return <tt>true</tt> if this value is filled and less than 0.00, <tt>false</tt> otherwise.
     public boolean isNegative() {
+        if (compact) {
+            return compactValue < 0;
+        }
         return value != null && value.compareTo(BigDecimal.ZERO) < 0;
     }
 
@@ -547,6 +696,9 @@ public class Amount extends Number implements Comparable<Amount> {
     ///
     /// @return <tt>true</tt> if this value is empty, or equal to 0.00, <tt>false</tt> otherwise.
     public boolean isZeroOrNull() {
+        if (compact) {
+            return compactValue == 0;
+        }
         return value == null || value.compareTo(BigDecimal.ZERO) == 0;
     }
 
@@ -588,13 +740,16 @@ public class Amount extends Number implements Comparable<Amount> {
         if (o == this) {
             return 0;
         }
-        if (o.value == null) {
+        if (o.isEmpty()) {
             return 1;
         }
-        if (value == null) {
+        if (isEmpty()) {
             return -1;
         }
-        return value.compareTo(o.value);
+        if (compact && o.compact) {
+            return Long.compare(compactValue, o.compactValue);
+        }
+        return getAmount().compareTo(o.getAmount());
     }
 
     /// Determines if this amount is greater than the given one.
@@ -647,11 +802,11 @@ public class Amount extends Number implements Comparable<Amount> {
         }
 
         Amount otherAmount = (Amount) o;
-        if (this.value == null || otherAmount.value == null) {
-            return (this.value == null) == (otherAmount.value == null);
+        if (this.isEmpty() || otherAmount.isEmpty()) {
+            return this.isEmpty() == otherAmount.isEmpty();
         }
 
-        return this.value.compareTo(otherAmount.value) == 0;
+        return compareTo(otherAmount) == 0;
     }
 
     @Override
@@ -680,7 +835,7 @@ public class Amount extends Number implements Comparable<Amount> {
             return this;
         }
 
-        return this.value.compareTo(other.value) < 0 ? this : other;
+        return compareTo(other) < 0 ? this : other;
     }
 
     /// Compares this amount against the given amount and returns the one with the higher value.
@@ -703,7 +858,7 @@ public class Amount extends Number implements Comparable<Amount> {
             return this;
         }
 
-        return this.value.compareTo(other.value) > 0 ? this : other;
+        return compareTo(other) > 0 ? this : other;
     }
 
     /// Negates <tt>this</tt> amount and returns the new amount.
@@ -724,7 +879,7 @@ public class Amount extends Number implements Comparable<Amount> {
             return Amount.NOTHING;
         }
 
-        return Amount.of(value.remainder(other.value));
+        return Amount.of(getAmount().remainder(other.getAmount()));
     }
 
     @Override
@@ -753,7 +908,7 @@ public class Amount extends Number implements Comparable<Amount> {
     ///
     /// @return a string representation of this number as roman numeral or "" for values &lt;= 0 and &gt;= 4000.
     public String toRomanNumeralString() {
-        return RomanNumeral.toRoman(value.intValue());
+        return RomanNumeral.toRoman(intValue());
     }
 
     /// Formats the represented value by rounding to zero decimal places. The rounding mode is obtained from
@@ -797,7 +952,7 @@ public class Amount extends Number implements Comparable<Amount> {
             return NOTHING;
         }
 
-        return Amount.ofRounded(value.setScale(scale, roundingMode));
+        return Amount.ofRounded(getAmount().setScale(scale, roundingMode));
     }
 
     private Value convertToString(NumberFormat format, boolean smartRound) {
@@ -811,7 +966,7 @@ public class Amount extends Number implements Comparable<Amount> {
         df.setDecimalFormatSymbols(format.getDecimalFormatSymbols());
         df.setGroupingUsed(format.isUseGrouping());
 
-        return Value.of(df.format(value)).append(" ", format.getSuffix());
+        return Value.of(df.format(getAmount())).append(" ", format.getSuffix());
     }
 
     /// Converts the number into a string according to the given <tt>format</tt>. The returned [Value] provides
@@ -865,7 +1020,7 @@ public class Amount extends Number implements Comparable<Amount> {
             return "";
         }
         int metric = NEUTRAL_METRIC;
-        double doubleValue = this.value.doubleValue();
+        double doubleValue = doubleValue();
         while (Math.abs(doubleValue) >= 990d && metric < METRICS.length - 1) {
             doubleValue /= 1000d;
             metric += 1;
@@ -907,24 +1062,51 @@ public class Amount extends Number implements Comparable<Amount> {
 
         if (rounded) {
             return getAmount().toString();
+        } else if (compact) {
+            return toCompactMachineString();
         } else {
             return round(2, RoundingMode.HALF_UP).getAmount().toString();
         }
     }
 
+    /// Formats a compact value just like <tt>BigDecimal.toString()</tt> would format it after rounding it to two
+    /// decimal places. As the scale is positive and there is at least one integer digit, this never uses the
+    /// scientific notation.
+    private String toCompactMachineString() {
+        long cents = roundHalfUp(compactValue / 1000, compactValue % 1000, 1000);
+        long absoluteCents = Math.abs(cents);
+        StringBuilder result = new StringBuilder(24);
+        if (cents < 0) {
+            result.append('-');
+        }
+        result.append(absoluteCents / 100).append('.');
+        long fraction = absoluteCents % 100;
+        if (fraction < 10) {
+            result.append('0');
+        }
+        return result.append(fraction).toString();
+    }
+
     /// Returns the number of decimal digits (ignoring decimal places after the decimal separator).
     ///
     /// @return the number of digits required to represent this number. Returns 0 if the value is empty.
     public long getDigits() {
-        if (value == null) {
+        if (isEmpty()) {
             return 0;
         }
-        return Math.round(Math.floor(Math.log10(value.doubleValue()) + 1));
+        return Math.round(Math.floor(Math.log10(doubleValue()) + 1));
     }
 
     private void throwExceptionIfEmpty() {
-        if (value == null) {
+        if (isEmpty()) {
             throw new IllegalStateException("The value is empty.");
         }
     }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // Ensure that the BigDecimal is present so that the serialized form remains readable by older versions...
+        getAmount();
+        out.defaultWriteObject();
+    }
 }
@@ -47,6 +47,9 @@ public class BOMReader extends Reader {
             c = delegate.read();
         }
         bomSkipped = true;
+        if (c < 0) {
+            return -1;
+        }
         if (c == 0) {
             return 0;
         }
@@ -54,7 +57,9 @@ public class BOMReader extends Reader {
         if (len == 1) {
             return 1;
         }
-        return 1 + delegate.read(cbuf, off, len - 1);
+
+        // If the input ends after the first character, we must still report this character as read...
+        return 1 + Math.max(0, delegate.read(cbuf, off, len - 1));
     }
 
     @Override
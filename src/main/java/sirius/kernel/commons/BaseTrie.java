@@ -16,6 +16,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -398,6 +399,31 @@ public abstract class BaseTrie<V> {
         return Collections.unmodifiableSet(result);
     }
 
+    /**
+     * Creates a read-only copy of this trie which uses a compact memory layout.
+     * <p>
+     * This should be used once all keys have been added, especially for large tries which are navigated often (e.g.
+     * dictionaries which are created once on startup). Note that changes which are made to this trie after the call
+     * are not visible in the returned copy.
+     *
+     * @return a compact copy of this trie
+     */
+    public CompactTrie<V> freeze() {
+        return new CompactTrie<>(root, splitter());
+    }
+
+    /**
+     * Returns a function which splits a string into the "bits" just like {@link #stream(CharSequence)}.
+     * <p>
+     * Implementations should return a function which doesn't reference the trie itself, so that the trie can be
+     * garbage collected once it has been {@link #freeze() frozen}.
+     *
+     * @return a function which splits a string into the keys of the trie
+     */
+    protected Function<CharSequence, IntStream> splitter() {
+        return this::stream;
+    }
+
     /**
      * Streams the given string into a sequence of "bits" that make up the keys of the trie. The nature of these bits
      * depends on the implementation.
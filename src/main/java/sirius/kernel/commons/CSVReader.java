@@ -13,8 +13,10 @@ import sirius.kernel.async.TaskContext;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.io.Reader;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.Consumer;
 
 /**
@@ -38,9 +40,18 @@ import java.util.function.Consumer;
  * <p>
  * Note that this class checks the {@link TaskContext} during execution. Therefore if the underlying task is canceled,
  * the parser will stop after the current row has been processed.
+ * <p>
+ * The input is read in large blocks and plain runs of characters are copied in bulk into a row buffer which is
+ * re-used for all rows. Each emitted row only keeps a compact copy of its characters and creates the strings
+ * for its columns once they are accessed. Therefore, columns which are never read by the consumer never cause
+ * a string to be allocated.
  */
 public class CSVReader {
 
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final int INITIAL_ROW_BUFFER_SIZE = 1024;
+    private static final int INITIAL_NUMBER_OF_FIELDS = 32;
+
     private final Reader input;
     private char separator = ';';
     private char quotation = '"';
@@ -50,11 +61,29 @@ public class CSVReader {
     private int buffer;
     private Limit limit = Limit.UNLIMITED;
 
+    /**
+     * Contains the block of characters which has most recently been read from the input.
+     */
+    private char[] block;
+    private int blockPosition;
+    private int blockLength;
+    private boolean endOfInput;
+
+    /**
+     * Contains the characters of all columns of the current row, which are delimited by {@link #fieldEnds}.
+     * <p>
+     * Both arrays are re-used for all rows and only grow if a row exceeds their current capacity.
+     */
+    private char[] rowBuffer = new char[INITIAL_ROW_BUFFER_SIZE];
+    private int rowLength;
+    private int[] fieldEnds = new int[INITIAL_NUMBER_OF_FIELDS];
+    private int numberOfFields;
+
     /**
      * Creates a new reader which processes the given input.
      * <p>
-     * Note that the given input is consumed character by character so using a {@link java.io.BufferedReader}
-     * might be a good idea as most devices rather exchange larger blocks of data (e.g. 8kb).
+     * Note that the given input is consumed in large blocks, therefore there is no need to wrap it into a
+     * {@link java.io.BufferedReader}.
      * <p>
      * If {@link #execute(Consumer)} is invoked, the given input will be closed once all data has been parsed or if and
      * IO error occurs.
@@ -145,6 +174,7 @@ public class CSVReader {
     public void execute(Consumer<Values> consumer) throws IOException {
         try {
             this.consumer = consumer;
+            this.block = new char[BLOCK_SIZE];
             TaskContext tc = TaskContext.get();
             read();
             while (tc.isActive() && !isEOF() && limit.shouldContinue()) {
@@ -169,10 +199,35 @@ public class CSVReader {
     }
 
     /**
-     * Fills the internal buffer by reading from the stream.
+     * Fills the internal buffer with the next character of the current block or reads the next block if necessary.
      */
     private void read() throws IOException {
-        buffer = input.read();
+        if (blockPosition < blockLength) {
+            buffer = block[blockPosition++];
+        } else {
+            readBlock();
+        }
+    }
+
+    private void readBlock() throws IOException {
+        blockPosition = 0;
+        blockLength = 0;
+        buffer = -1;
+        if (endOfInput) {
+            return;
+        }
+
+        int length = input.read(block, 0, block.length);
+        while (length == 0) {
+            length = input.read(block, 0, block.length);
+        }
+        if (length < 0) {
+            endOfInput = true;
+            return;
+        }
+
+        blockLength = length;
+        buffer = block[blockPosition++];
     }
 
     /**
@@ -180,45 +235,46 @@ public class CSVReader {
      * input as quoted columns may contain line breaks.
      */
     private void readRow() throws IOException {
-        List<String> row = new ArrayList<>();
+        rowLength = 0;
+        numberOfFields = 0;
         while (!isEOF() && !isAtNewline()) {
-            row.add(readField());
+            readField();
             if (buffer == separator) {
                 read();
             }
         }
 
         if (limit.nextRow()) {
-            consumer.accept(Values.of(row));
+            consumer.accept(Values.of(new Row(Arrays.copyOf(rowBuffer, rowLength),
+                                              Arrays.copyOf(fieldEnds, numberOfFields))));
         }
     }
 
     /**
-     * Reads a single column.
+     * Reads a single column into the row buffer.
      */
-    private String readField() throws IOException {
-        StringBuilder result = new StringBuilder();
+    private void readField() throws IOException {
+        int fieldStart = rowLength;
         boolean inQuote = false;
-        skipLeadingWhitespaces(result);
+        skipLeadingWhitespaces();
 
         if (buffer == quotation) {
             inQuote = true;
             read();
             if (ignoreWhitespaces) {
-                result = new StringBuilder();
+                rowLength = fieldStart;
             }
         }
 
-        readFieldValue(result, inQuote);
+        readFieldValue(inQuote);
         skipTrailingWhitespaces(inQuote);
-
-        return result.toString();
+        completeField();
     }
 
-    private void skipLeadingWhitespaces(StringBuilder result) throws IOException {
+    private void skipLeadingWhitespaces() throws IOException {
         if (ignoreWhitespaces) {
             while (buffer == ' ' || buffer == '\t') {
-                result.append((char) buffer);
+                append((char) buffer);
                 read();
             }
         }
@@ -232,20 +288,70 @@ public class CSVReader {
         }
     }
 
-    private void readFieldValue(StringBuilder result, boolean inQuote) throws IOException {
+    private void readFieldValue(boolean inQuote) throws IOException {
         while (shouldContinueField(inQuote)) {
             if (buffer == escape) {
                 read();
                 if (!isEOF()) {
-                    result.append((char) buffer);
+                    append((char) buffer);
                 }
             } else {
-                result.append((char) buffer);
+                append((char) buffer);
+                appendPlainCharacters(inQuote);
             }
             read();
         }
     }
 
+    /**
+     * Copies all subsequent characters of the current block which cannot end the field or start an escape sequence.
+     * <p>
+     * These characters would be appended one by one anyway, so we can skip the state machine for them and copy
+     * them in bulk.
+     */
+    private void appendPlainCharacters(boolean inQuote) {
+        int end = blockPosition;
+        if (inQuote) {
+            while (end < blockLength && block[end] != quotation && block[end] != escape) {
+                end++;
+            }
+        } else {
+            while (end < blockLength && isPlainCharacter(block[end])) {
+                end++;
+            }
+        }
+
+        int length = end - blockPosition;
+        if (length > 0) {
+            ensureRowCapacity(length);
+            System.arraycopy(block, blockPosition, rowBuffer, rowLength, length);
+            rowLength += length;
+            blockPosition = end;
+        }
+    }
+
+    private boolean isPlainCharacter(char ch) {
+        return ch != separator && ch != '\n' && ch != '\r' && ch != escape;
+    }
+
+    private void append(char ch) {
+        ensureRowCapacity(1);
+        rowBuffer[rowLength++] = ch;
+    }
+
+    private void ensureRowCapacity(int additionalCharacters) {
+        if (rowLength + additionalCharacters > rowBuffer.length) {
+            rowBuffer = Arrays.copyOf(rowBuffer, Math.max(rowBuffer.length * 2, rowLength + additionalCharacters));
+        }
+    }
+
+    private void completeField() {
+        if (numberOfFields == fieldEnds.length) {
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldEnds.length * 2);
+        }
+        fieldEnds[numberOfFields++] = rowLength;
+    }
+
     /**
      * Determines if the current buffer value should be added to the field (column) content.
      */
@@ -278,4 +384,41 @@ public class CSVReader {
     public boolean isEOF() {
         return buffer == -1;
     }
+
+    /**
+     * Represents a parsed row which is handed to the consumer wrapped as {@link Values}.
+     * <p>
+     * All columns share a single character array and a string is only created (and then cached) once a column
+     * is accessed. Rows are read-only, as permitted by {@link Values#asList()}.
+     */
+    private static class Row extends AbstractList<String> implements RandomAccess {
+
+        private final char[] data;
+        private final int[] fieldEnds;
+        private final String[] fields;
+
+        Row(char[] data, int[] fieldEnds) {
+            this.data = data;
+            this.fieldEnds = fieldEnds;
+            this.fields = new String[fieldEnds.length];
+        }
+
+        @Override
+        public String get(int index) {
+            Objects.checkIndex(index, fieldEnds.length);
+            String field = fields[index];
+            if (field == null) {
+                int start = index == 0 ? 0 : fieldEnds[index - 1];
+                field = start == fieldEnds[index] ? "" : new String(data, start, fieldEnds[index] - start);
+                fields[index] = field;
+            }
+
+            return field;
+        }
+
+        @Override
+        public int size() {
+            return fieldEnds.length;
+        }
+    }
 }
@@ -12,7 +12,12 @@ import sirius.kernel.nls.NLS;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -25,22 +30,42 @@ import java.util.List;
  * quotation character is specified (set to <tt>\0</tt>), the escape character is used if possible. If quoting or
  * escaping is required but disabled (using <tt>\0</tt> for their respective value), an exception will be thrown as no
  * valid output can be generated.
+ * <p>
+ * Each row is encoded into a buffer which is re-used for all rows and then handed to the underlying writer at once.
+ * Numbers (<tt>Integer</tt>, <tt>Long</tt>, {@link Amount} and <tt>BigDecimal</tt>) are formatted straight into this
+ * buffer, without creating a string for them.
  */
 public class CSVWriter implements Closeable {
 
+    private static final int INITIAL_ROW_BUFFER_SIZE = 1024;
+
+    /**
+     * Contains the largest scale of a decimal number which is written without creating a string first.
+     */
+    private static final int MAX_DIRECT_SCALE = 18;
+
+    /**
+     * Contains the smallest exponent for which {@link BigDecimal#toString()} doesn't use the scientific notation.
+     */
+    private static final int MIN_PLAIN_EXPONENT = -6;
+
     private String lineSeparator = "\n";
     private final Writer writer;
     private boolean firstLine = true;
     private char separator = ';';
-    private String separatorString = String.valueOf(separator);
     private char quotation = '"';
-    private String quotationString = String.valueOf(quotation);
     private boolean isQuotationEmpty = false;
     private boolean forceQuotation = false;
     private char escape = '\\';
     private boolean isEscapeEmpty = false;
     private boolean trim = true;
 
+    /**
+     * Contains the current row, which is re-used for all rows and only grows if a row exceeds its capacity.
+     */
+    private char[] rowBuffer = new char[INITIAL_ROW_BUFFER_SIZE];
+    private int rowLength;
+
     /**
      * Creates a new writer sending data to the given writer.
      * <p>
@@ -52,6 +77,19 @@ public class CSVWriter implements Closeable {
         this.writer = writer;
     }
 
+    /**
+     * Creates a new writer which encodes its data using the given charset and sends it to the given stream.
+     * <p>
+     * The stream is closed by calling {@link #close()}. Note that each row is encoded and handed to the stream at
+     * once, therefore it might be sensible to pass in a {@link java.io.BufferedOutputStream}.
+     *
+     * @param output  the target to write data to
+     * @param charset the charset used to encode the data
+     */
+    public CSVWriter(OutputStream output, Charset charset) {
+        this(new OutputStreamWriter(output, charset));
+    }
+
     /**
      * Emits a UNICODE byte order mark.
      * <p>
@@ -76,7 +114,6 @@ public class CSVWriter implements Closeable {
      */
     public CSVWriter withSeparator(char separator) {
         this.separator = separator;
-        this.separatorString = String.valueOf(separator);
         return this;
     }
 
@@ -91,7 +128,6 @@ public class CSVWriter implements Closeable {
      */
     public CSVWriter withQuotation(char quotation) {
         this.quotation = quotation;
-        this.quotationString = String.valueOf(quotation);
         this.isQuotationEmpty = quotation == '\0';
         return this;
     }
@@ -161,14 +197,15 @@ public class CSVWriter implements Closeable {
      */
     public CSVWriter writeList(List<Object> row) throws IOException {
         if (row != null) {
-            writeLineSeparator();
+            startRow();
             for (int i = 0; i < row.size(); i++) {
                 if (i > 0) {
-                    writer.write(separator);
+                    append(separator);
                 }
 
                 writeColumn(row.get(i));
             }
+            completeRow();
         }
         return this;
     }
@@ -181,108 +218,259 @@ public class CSVWriter implements Closeable {
      * @throws IOException in case of an IO error when writing to the underlying writer
      */
     public CSVWriter writeArray(Object... row) throws IOException {
-        writeLineSeparator();
+        startRow();
         for (int i = 0; i < row.length; i++) {
             if (i > 0) {
-                writer.write(separator);
+                append(separator);
             }
 
             writeColumn(row[i]);
         }
+        completeRow();
 
         return this;
     }
 
-    private void writeLineSeparator() throws IOException {
+    private void startRow() {
+        rowLength = 0;
         if (!firstLine) {
-            writer.write(lineSeparator);
-        } else {
-            firstLine = false;
+            append(lineSeparator, 0, lineSeparator.length());
         }
     }
 
+    /**
+     * Hands the encoded row to the underlying writer using a single call.
+     * <p>
+     * Note that if a column cannot be output, the row is discarded entirely, as it hasn't been written yet.
+     */
+    private void completeRow() throws IOException {
+        writer.write(rowBuffer, 0, rowLength);
+        firstLine = false;
+    }
+
     /**
      * Effectively outputs the given object as next column value.
      *
      * @param object the value to output
-     * @throws IOException in case of an IO error while writing
      */
-    private void writeColumn(Object object) throws IOException {
-        String stringValue = convertToString(object);
-
-        if (shouldQuote(stringValue)) {
-            writer.append(quotation);
-            writer.append(escapeValue(stringValue, true));
-            writer.append(quotation);
+    private void writeColumn(Object object) {
+        if (object instanceof Integer number) {
+            writeNumber(number, 0);
+        } else if (object instanceof Long number) {
+            writeNumber(number, 0);
+        } else if (object instanceof Amount amount && amount.isFilled()) {
+            writeDecimal(amount.getRoundedAmount(), true, amount);
+        } else if (object instanceof BigDecimal decimal) {
+            writeDecimal(decimal, false, decimal);
+        } else if (object instanceof String string) {
+            if (trim) {
+                writeString(string, trimmedStart(string), trimmedEnd(string));
+            } else {
+                writeString(string, 0, string.length());
+            }
         } else {
-            writer.append(escapeValue(stringValue, false));
+            String stringValue = NLS.toMachineString(object);
+            writeString(stringValue, 0, stringValue.length());
+        }
+    }
+
+    private int trimmedStart(String string) {
+        int start = 0;
+        while (start < string.length() && string.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimmedEnd(String string) {
+        int end = string.length();
+        while (end > 0 && string.charAt(end - 1) <= ' ') {
+            end--;
         }
+        return end;
     }
 
     /**
-     * Determines if the given value needs to be quoted.
+     * Outputs the given decimal number, which is written straight into the row buffer if possible.
      *
-     * @param stringValue the value to check
-     * @return <tt>true</tt> if the value should be output as a quoted string, <tt>false</tt> otherwise
+     * @param decimal           the number to output
+     * @param useStandardFormat <tt>true</tt> to mimic {@link BigDecimal#toString()}, <tt>false</tt> to mimic
+     *                          {@link BigDecimal#toPlainString()}
+     * @param originalValue     the value being output, which is used if the number cannot be written directly
      */
-    private boolean shouldQuote(String stringValue) {
-        if (isQuotationEmpty) {
-            return false;
+    private void writeDecimal(BigDecimal decimal, boolean useStandardFormat, Object originalValue) {
+        if (decimal.scale() < 0 || decimal.scale() > MAX_DIRECT_SCALE || decimal.unscaledValue().bitLength() > 62) {
+            writeFallback(originalValue);
+            return;
         }
-        if (forceQuotation) {
-            return true;
+
+        long unscaledValue = decimal.unscaledValue().longValue();
+        int adjustedExponent = numberOfDigits(Math.abs(unscaledValue)) - 1 - decimal.scale();
+        if (useStandardFormat && adjustedExponent < MIN_PLAIN_EXPONENT) {
+            writeFallback(originalValue);
+            return;
         }
-        return stringValue.contains(separatorString) || stringValue.contains(quotationString) || stringValue.contains(
-                "\n") || stringValue.contains("\r");
+
+        writeNumber(unscaledValue, decimal.scale());
     }
 
     /**
-     * Transforms the value into a string representation suitable for outputting in a CSV file.
+     * Outputs the given number without creating an intermediate string.
+     * <p>
+     * If the number happens to contain a character which requires quoting or escaping (e.g. if <tt>.</tt> is used
+     * as separator), we simply discard the output and take the regular path.
      *
-     * @param object the object to convert
-     * @return a machine-readable string representation
+     * @param unscaledValue the digits of the number to output
+     * @param scale         the number of digits after the decimal separator
      */
-    private String convertToString(Object object) {
-        if (object == null) {
-            return "";
+    private void writeNumber(long unscaledValue, int scale) {
+        if (unscaledValue == Long.MIN_VALUE) {
+            writeFallback(unscaledValue);
+            return;
         }
 
-        if (object instanceof String string) {
-            if (trim) {
-                return string.trim();
-            } else {
-                return string;
+        int columnStart = rowLength;
+        boolean quoted = forceQuotation && !isQuotationEmpty;
+        if (quoted) {
+            append(quotation);
+        }
+
+        int valueStart = rowLength;
+        appendNumber(unscaledValue, scale);
+        for (int i = valueStart; i < rowLength; i++) {
+            if (isSpecialCharacter(rowBuffer[i])) {
+                String stringValue = new String(rowBuffer, valueStart, rowLength - valueStart);
+                rowLength = columnStart;
+                writeString(stringValue, 0, stringValue.length());
+                return;
             }
         }
 
-        return NLS.toMachineString(object);
+        if (quoted) {
+            append(quotation);
+        }
+    }
+
+    private void appendNumber(long unscaledValue, int scale) {
+        long remainder = Math.abs(unscaledValue);
+        int integerDigits = Math.max(1, numberOfDigits(remainder) - scale);
+        int length = (unscaledValue < 0 ? 1 : 0) + integerDigits + (scale > 0 ? scale + 1 : 0);
+        ensureRowCapacity(length);
+
+        int index = rowLength + length - 1;
+        for (int i = 0; i < scale; i++) {
+            rowBuffer[index--] = (char) ('0' + remainder % 10);
+            remainder /= 10;
+        }
+        if (scale > 0) {
+            rowBuffer[index--] = '.';
+        }
+        for (int i = 0; i < integerDigits; i++) {
+            rowBuffer[index--] = (char) ('0' + remainder % 10);
+            remainder /= 10;
+        }
+        if (unscaledValue < 0) {
+            rowBuffer[index] = '-';
+        }
+
+        rowLength += length;
+    }
+
+    private static int numberOfDigits(long value) {
+        int digits = 1;
+        long limit = 10;
+        while (digits < 19 && value >= limit) {
+            digits++;
+            limit *= 10;
+        }
+        return digits;
+    }
+
+    private void writeFallback(Object value) {
+        String stringValue = NLS.toMachineString(value);
+        writeString(stringValue, 0, stringValue.length());
     }
 
     /**
-     * Escapes the given string if needed.
+     * Outputs the given range of the string, quoted and escaped as needed.
+     * <p>
+     * Runs of characters which need no special treatment are copied in bulk.
      *
-     * @param stringValue the string to escape
-     * @param shouldQuote a flag which determines if the resulting string will be quoted or not
-     * @return the properly escaped string
+     * @param stringValue the string to output
+     * @param start       the index of the first character to output
+     * @param end         the index after the last character to output
      */
-    private String escapeValue(String stringValue, boolean shouldQuote) {
-        StringBuilder effectiveValue = new StringBuilder();
-        for (int i = 0; i < stringValue.length(); i++) {
-            char currentChar = stringValue.charAt(i);
-            processCharacter(currentChar, effectiveValue, shouldQuote);
+    private void writeString(String stringValue, int start, int end) {
+        int firstSpecialCharacter = start;
+        while (firstSpecialCharacter < end && !isSpecialCharacter(stringValue.charAt(firstSpecialCharacter))) {
+            firstSpecialCharacter++;
+        }
+
+        boolean shouldQuote = shouldQuote(stringValue, firstSpecialCharacter, end);
+        if (shouldQuote) {
+            append(quotation);
+        }
+
+        append(stringValue, start, firstSpecialCharacter);
+        int index = firstSpecialCharacter;
+        while (index < end) {
+            processCharacter(stringValue.charAt(index), shouldQuote);
+            int runStart = ++index;
+            while (index < end && !isSpecialCharacter(stringValue.charAt(index))) {
+                index++;
+            }
+            append(stringValue, runStart, index);
+        }
+
+        if (shouldQuote) {
+            append(quotation);
         }
+    }
+
+    /**
+     * Determines if the given character might need to be quoted or escaped.
+     */
+    private boolean isSpecialCharacter(char currentChar) {
+        return currentChar == separator
+               || currentChar == quotation
+               || currentChar == escape
+               || currentChar == '\n'
+               || currentChar == '\r';
+    }
 
-        return effectiveValue.toString();
+    /**
+     * Determines if the given value needs to be quoted.
+     *
+     * @param stringValue the value to check
+     * @param start       the index of the first special character as determined by {@link #isSpecialCharacter(char)}
+     * @param end         the index after the last character to output
+     * @return <tt>true</tt> if the value should be output as a quoted string, <tt>false</tt> otherwise
+     */
+    private boolean shouldQuote(String stringValue, int start, int end) {
+        if (isQuotationEmpty) {
+            return false;
+        }
+        if (forceQuotation) {
+            return true;
+        }
+        for (int i = start; i < end; i++) {
+            char currentChar = stringValue.charAt(i);
+            if (currentChar == separator || currentChar == quotation || currentChar == '\n' || currentChar == '\r') {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private void processCharacter(char currentChar, StringBuilder effectiveValue, boolean shouldQuote) {
+    private void processCharacter(char currentChar, boolean shouldQuote) {
         if (currentChar == escape) {
-            effectiveValue.append(escape).append(currentChar);
+            append(escape);
+            append(currentChar);
             return;
         }
 
         if (isQuotationEmpty) {
-            processCharacterWithoutQuotation(currentChar, effectiveValue);
+            processCharacterWithoutQuotation(currentChar);
             return;
         }
 
@@ -291,13 +479,13 @@ public class CSVWriter implements Closeable {
                 throw new IllegalArgumentException(
                         "Cannot output a quotation character within a quoted string without an escape character.");
             } else {
-                effectiveValue.append(escape);
+                append(escape);
             }
         }
-        effectiveValue.append(currentChar);
+        append(currentChar);
     }
 
-    private void processCharacterWithoutQuotation(char currentChar, StringBuilder effectiveValue) {
+    private void processCharacterWithoutQuotation(char currentChar) {
         if (currentChar == separator) {
             if (isEscapeEmpty) {
                 throw new IllegalArgumentException(Strings.apply(
@@ -305,13 +493,33 @@ public class CSVWriter implements Closeable {
                         + "without an escape or quotation character.",
                         separator));
             } else {
-                effectiveValue.append(escape).append(currentChar);
+                append(escape);
+                append(currentChar);
             }
         } else if (currentChar == '\r' || currentChar == '\n') {
             throw new IllegalArgumentException(
                     "Cannot output a column which contains a line break without an quotation character.");
         } else {
-            effectiveValue.append(currentChar);
+            append(currentChar);
+        }
+    }
+
+    private void append(char currentChar) {
+        ensureRowCapacity(1);
+        rowBuffer[rowLength++] = currentChar;
+    }
+
+    private void append(String string, int start, int end) {
+        if (end > start) {
+            ensureRowCapacity(end - start);
+            string.getChars(start, end, rowBuffer, rowLength);
+            rowLength += end - start;
+        }
+    }
+
+    private void ensureRowCapacity(int additionalCharacters) {
+        if (rowLength + additionalCharacters > rowBuffer.length) {
+            rowBuffer = Arrays.copyOf(rowBuffer, Math.max(rowBuffer.length * 2, rowLength + additionalCharacters));
         }
     }
 
@@ -0,0 +1,638 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Compiles a chain of cleanup operations into as few passes over the input as possible.
+ * <p>
+ * Applying a chain of {@link StringCleanup} operations via {@link Strings#cleanup(String, UnaryOperator[])} creates
+ * a new string for each operation (and most of them run a regular expression). A pipeline instead combines all
+ * consecutive character based operations (like removing control characters, reducing whitespace, lowercasing or
+ * reducing characters) into a single pass over the code points of the input. Other operations (like
+ * {@link StringCleanup#removeXml(String)} or custom functions) are added via {@link Builder#then(UnaryOperator)}
+ * and are applied in between as usual.
+ * <p>
+ * A pipeline always yields the same result as the equivalent chain of {@link StringCleanup} operations:
+ * <pre>{@code
+ * CleanupPipeline pipeline = CleanupPipeline.builder()
+ *                                           .removeControlCharacters()
+ *                                           .reduceWhitespace()
+ *                                           .removePunctuation()
+ *                                           .lowercase()
+ *                                           .reduceCharacters()
+ *                                           .build();
+ * String term = pipeline.apply(input);
+ * }</pre>
+ * Pipelines are immutable and can therefore be stored in constants and be used by many threads in parallel.
+ */
+public class CleanupPipeline implements UnaryOperator<String> {
+
+    /**
+     * Enumerates the operations which can be performed on a per-character basis.
+     */
+    private enum Step {
+        REMOVE_CONTROL_CHARACTERS, REPLACE_CONTROL_CHARACTERS, REMOVE_PUNCTUATION, REPLACE_PUNCTUATION,
+        REMOVE_NON_ALPHA_NUMERIC, REPLACE_NON_ALPHA_NUMERIC, REMOVE_NON_LETTER, REPLACE_NON_LETTER, REMOVE_NON_DIGIT,
+        REPLACE_NON_DIGIT, REMOVE_WHITESPACE, REDUCE_WHITESPACE, TRIM, LOWERCASE, REDUCE_CHARACTERS;
+
+        /**
+         * Returns the regular cleanup operation which is being replaced by this step.
+         *
+         * @return the equivalent operation of {@link StringCleanup}
+         */
+        UnaryOperator<String> toOperator() {
+            return switch (this) {
+                case REMOVE_CONTROL_CHARACTERS -> StringCleanup::removeControlCharacters;
+                case REPLACE_CONTROL_CHARACTERS -> StringCleanup::replaceControlCharacters;
+                case REMOVE_PUNCTUATION -> StringCleanup::removePunctuation;
+                case REPLACE_PUNCTUATION -> StringCleanup::replacePunctuation;
+                case REMOVE_NON_ALPHA_NUMERIC -> StringCleanup::removeNonAlphaNumeric;
+                case REPLACE_NON_ALPHA_NUMERIC -> StringCleanup::replaceNonAlphaNumeric;
+                case REMOVE_NON_LETTER -> StringCleanup::removeNonLetter;
+                case REPLACE_NON_LETTER -> StringCleanup::replaceNonLetter;
+                case REMOVE_NON_DIGIT -> StringCleanup::removeNonDigit;
+                case REPLACE_NON_DIGIT -> StringCleanup::replaceNonDigit;
+                case REMOVE_WHITESPACE -> StringCleanup::removeWhitespace;
+                case REDUCE_WHITESPACE -> StringCleanup::reduceWhitespace;
+                case TRIM -> StringCleanup::trim;
+                case LOWERCASE -> StringCleanup::lowercase;
+                case REDUCE_CHARACTERS -> StringCleanup::reduceCharacters;
+            };
+        }
+    }
+
+    /**
+     * Contains the languages for which {@link String#toLowerCase()} applies locale specific rules.
+     */
+    private static final Set<String> LANGUAGES_WITH_SPECIAL_CASING = Set.of("tr", "az", "lt");
+
+    private static final int CAPITAL_SIGMA = 0x03A3;
+    private static final int CAPITAL_I_WITH_DOT_ABOVE = 0x0130;
+
+    /**
+     * Contains either a {@link FusedStage} or a plain cleanup operation for each stage of the pipeline.
+     */
+    private final List<UnaryOperator<String>> stages;
+
+    private CleanupPipeline(List<UnaryOperator<String>> stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Creates a builder to set up a new pipeline.
+     *
+     * @return a new builder
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Applies the pipeline on the given string.
+     * <p>
+     * Just like {@link Strings#cleanup(String, UnaryOperator[])}, empty or <tt>null</tt> inputs will always result
+     * in an empty string.
+     *
+     * @param input the string to clean up
+     * @return the cleaned up string
+     */
+    @Nonnull
+    @Override
+    public String apply(@Nullable String input) {
+        if (Strings.isEmpty(input)) {
+            return "";
+        }
+
+        String value = input;
+        for (UnaryOperator<String> stage : stages) {
+            value = stage.apply(value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Collects the operations of a {@link CleanupPipeline}.
+     * <p>
+     * Each method behaves exactly like its counterpart in {@link StringCleanup}. The operations are applied in the
+     * order in which they were added.
+     */
+    public static class Builder {
+
+        private final List<UnaryOperator<String>> stages = new ArrayList<>();
+        private final List<Step> pendingSteps = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        private Builder add(Step step) {
+            pendingSteps.add(step);
+            return this;
+        }
+
+        /**
+         * Removes all control characters.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#removeControlCharacters(String)
+         */
+        public Builder removeControlCharacters() {
+            return add(Step.REMOVE_CONTROL_CHARACTERS);
+        }
+
+        /**
+         * Replaces all control characters with a whitespace character.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#replaceControlCharacters(String)
+         */
+        public Builder replaceControlCharacters() {
+            return add(Step.REPLACE_CONTROL_CHARACTERS);
+        }
+
+        /**
+         * Removes all punctuation characters.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#removePunctuation(String)
+         */
+        public Builder removePunctuation() {
+            return add(Step.REMOVE_PUNCTUATION);
+        }
+
+        /**
+         * Replaces all punctuation characters with a whitespace character.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#replacePunctuation(String)
+         */
+        public Builder replacePunctuation() {
+            return add(Step.REPLACE_PUNCTUATION);
+        }
+
+        /**
+         * Removes all characters which are neither letters nor digits.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#removeNonAlphaNumeric(String)
+         */
+        public Builder removeNonAlphaNumeric() {
+            return add(Step.REMOVE_NON_ALPHA_NUMERIC);
+        }
+
+        /**
+         * Replaces all characters which are neither letters nor digits with a whitespace character.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#replaceNonAlphaNumeric(String)
+         */
+        public Builder replaceNonAlphaNumeric() {
+            return add(Step.REPLACE_NON_ALPHA_NUMERIC);
+        }
+
+        /**
+         * Removes all characters which aren't letters.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#removeNonLetter(String)
+         */
+        public Builder removeNonLetter() {
+            return add(Step.REMOVE_NON_LETTER);
+        }
+
+        /**
+         * Replaces all characters which aren't letters with a whitespace character.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#replaceNonLetter(String)
+         */
+        public Builder replaceNonLetter() {
+            return add(Step.REPLACE_NON_LETTER);
+        }
+
+        /**
+         * Removes all characters which aren't digits.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#removeNonDigit(String)
+         */
+        public Builder removeNonDigit() {
+            return add(Step.REMOVE_NON_DIGIT);
+        }
+
+        /**
+         * Replaces all characters which aren't digits with a whitespace character.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#replaceNonDigit(String)
+         */
+        public Builder replaceNonDigit() {
+            return add(Step.REPLACE_NON_DIGIT);
+        }
+
+        /**
+         * Removes all whitespace characters.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#removeWhitespace(String)
+         */
+        public Builder removeWhitespace() {
+            return add(Step.REMOVE_WHITESPACE);
+        }
+
+        /**
+         * Replaces multiple whitespace characters with a single whitespace character.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#reduceWhitespace(String)
+         */
+        public Builder reduceWhitespace() {
+            return add(Step.REDUCE_WHITESPACE);
+        }
+
+        /**
+         * Trims the string.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#trim(String)
+         */
+        public Builder trim() {
+            return add(Step.TRIM);
+        }
+
+        /**
+         * Converts the string to lowercase.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#lowercase(String)
+         */
+        public Builder lowercase() {
+            return add(Step.LOWERCASE);
+        }
+
+        /**
+         * Removes all umlauts and other decorated latin characters.
+         *
+         * @return the builder itself for fluent method calls
+         * @see StringCleanup#reduceCharacters(String)
+         */
+        public Builder reduceCharacters() {
+            return add(Step.REDUCE_CHARACTERS);
+        }
+
+        /**
+         * Applies the given operation which cannot be performed character by character.
+         * <p>
+         * This can be used for operations like {@link StringCleanup#removeXml(String)} or any custom function.
+         *
+         * @param operation the operation to apply
+         * @return the builder itself for fluent method calls
+         */
+        public Builder then(@Nonnull UnaryOperator<String> operation) {
+            flushPendingSteps();
+            stages.add(operation);
+            return this;
+        }
+
+        private void flushPendingSteps() {
+            if (!pendingSteps.isEmpty()) {
+                stages.add(new FusedStage(pendingSteps.toArray(Step[]::new)));
+                pendingSteps.clear();
+            }
+        }
+
+        /**
+         * Creates the pipeline containing all operations added so far.
+         *
+         * @return the newly created pipeline
+         */
+        @Nonnull
+        public CleanupPipeline build() {
+            flushPendingSteps();
+            return new CleanupPipeline(List.copyOf(stages));
+        }
+    }
+
+    /**
+     * Performs a list of character based steps in a single pass.
+     * <p>
+     * Each code point is passed through all steps, where a step may drop it, replace it or expand it into several
+     * code points, which are then passed on to the subsequent steps. Steps which depend on their context (reducing
+     * whitespace and trimming) keep their state in a {@link Run}. For all other steps, the combined result for each
+     * Latin-1 character is computed up front, so that the common case only requires a single table lookup.
+     * <p>
+     * Lowercasing <tt>Σ</tt> or <tt>İ</tt> depends on the surrounding characters (or yields several characters),
+     * therefore an input containing one of those (or lowercasing using a locale with special casing rules) falls
+     * back to the sequential application of the equivalent {@link StringCleanup} operations. The same applies to
+     * inputs containing unpaired surrogates, which are quite rare anyway.
+     */
+    private static class FusedStage implements UnaryOperator<String> {
+
+        private static final int LATIN1_LIMIT = 256;
+        private static final int DROPPED = -1;
+
+        private final Step[] steps;
+        private final boolean lowercases;
+
+        /**
+         * Contains the index of the next context dependent step (or the number of steps) for each step.
+         */
+        private final int[] groupEnds;
+
+        /**
+         * Contains the combined result of all steps up to the next context dependent step for each Latin-1
+         * character. This is <tt>null</tt> for context dependent steps.
+         */
+        private final String[][] latin1Results;
+
+        FusedStage(Step[] steps) {
+            this.steps = steps;
+            this.lowercases = List.of(steps).contains(Step.LOWERCASE);
+            this.groupEnds = new int[steps.length];
+            this.latin1Results = new String[steps.length][];
+
+            int groupEnd = steps.length;
+            for (int index = steps.length - 1; index >= 0; index--) {
+                if (isContextDependent(steps[index])) {
+                    groupEnd = index;
+                } else {
+                    groupEnds[index] = groupEnd;
+                    latin1Results[index] = computeLatin1Results(index, groupEnd);
+                }
+            }
+        }
+
+        private static boolean isContextDependent(Step step) {
+            return step == Step.REDUCE_WHITESPACE || step == Step.TRIM;
+        }
+
+        private String[] computeLatin1Results(int firstStep, int groupEnd) {
+            String[] results = new String[LATIN1_LIMIT];
+            StringBuilder result = new StringBuilder();
+            for (int character = 0; character < LATIN1_LIMIT; character++) {
+                result.setLength(0);
+                applyIndependentSteps(character, firstStep, groupEnd, result);
+                results[character] = result.toString();
+            }
+
+            return results;
+        }
+
+        private void applyIndependentSteps(int codePoint, int firstStep, int groupEnd, StringBuilder output) {
+            int current = codePoint;
+            for (int index = firstStep; index < groupEnd; index++) {
+                if (steps[index] == Step.REDUCE_CHARACTERS) {
+                    String replacement = StringCleanup.reduceCharacter(current);
+                    if (replacement != null) {
+                        for (int i = 0; i < replacement.length(); i++) {
+                            applyIndependentSteps(replacement.charAt(i), index + 1, groupEnd, output);
+                        }
+                        return;
+                    }
+                } else {
+                    current = map(steps[index], current);
+                    if (current == DROPPED) {
+                        return;
+                    }
+                }
+            }
+
+            output.appendCodePoint(current);
+        }
+
+        /**
+         * Applies a step which neither depends on the context nor expands the code point.
+         *
+         * @param step      the step to apply
+         * @param codePoint the code point to transform
+         * @return the resulting code point or {@link #DROPPED} if it is removed
+         */
+        private static int map(Step step, int codePoint) {
+            return switch (step) {
+                case REMOVE_CONTROL_CHARACTERS -> isControlCharacter(codePoint) ? DROPPED : codePoint;
+                case REPLACE_CONTROL_CHARACTERS -> isControlCharacter(codePoint) ? ' ' : codePoint;
+                case REMOVE_PUNCTUATION -> isPunctuation(codePoint) ? DROPPED : codePoint;
+                case REPLACE_PUNCTUATION -> isPunctuation(codePoint) ? ' ' : codePoint;
+                case REMOVE_NON_ALPHA_NUMERIC -> isAlphaNumeric(codePoint) ? codePoint : DROPPED;
+                case REPLACE_NON_ALPHA_NUMERIC -> isAlphaNumeric(codePoint) ? codePoint : ' ';
+                case REMOVE_NON_LETTER -> Character.isLetter(codePoint) ? codePoint : DROPPED;
+                case REPLACE_NON_LETTER -> Character.isLetter(codePoint) ? codePoint : ' ';
+                case REMOVE_NON_DIGIT -> isDigit(codePoint) ? codePoint : DROPPED;
+                case REPLACE_NON_DIGIT -> isDigit(codePoint) ? codePoint : ' ';
+                case REMOVE_WHITESPACE -> isWhitespace(codePoint) ? DROPPED : codePoint;
+                case LOWERCASE -> Character.toLowerCase(codePoint);
+                default -> throw new IllegalArgumentException(step.name());
+            };
+        }
+
+        @Override
+        public String apply(String input) {
+            if (lowercases && LANGUAGES_WITH_SPECIAL_CASING.contains(Locale.getDefault().getLanguage())) {
+                return applySequentially(input);
+            }
+
+            Run run = new Run(input.length());
+            int index = 0;
+            while (index < input.length() && !run.aborted) {
+                int codePoint = input.codePointAt(index);
+                if (codePoint <= Character.MAX_VALUE && Character.isSurrogate((char) codePoint)) {
+                    // Unpaired surrogates might be joined into a pair by removing the characters in between...
+                    return applySequentially(input);
+                }
+                run.emit(codePoint, 0);
+                index += Character.charCount(codePoint);
+            }
+
+            if (run.aborted) {
+                return applySequentially(input);
+            }
+
+            return new String(run.output, 0, run.outputLength);
+        }
+
+        private String applySequentially(String input) {
+            String value = input;
+            for (Step step : steps) {
+                value = step.toOperator().apply(value);
+            }
+
+            return value;
+        }
+
+        /**
+         * Contains the state of a single invocation of the stage.
+         */
+        private class Run {
+
+            private char[] output;
+            private int outputLength;
+            private final boolean[] inWhitespace = new boolean[steps.length];
+            private final boolean[] nonWhitespaceSeen = new boolean[steps.length];
+            private final StringBuilder[] pendingWhitespace = new StringBuilder[steps.length];
+            private boolean aborted;
+
+            Run(int expectedLength) {
+                this.output = new char[expectedLength];
+            }
+
+            /**
+             * Passes the given code point through all steps, starting at the given one.
+             *
+             * @param codePoint the code point to process
+             * @param firstStep the index of the first step to apply
+             */
+            void emit(int codePoint, int firstStep) {
+                int current = codePoint;
+                int index = firstStep;
+                while (index < steps.length) {
+                    Step step = steps[index];
+                    if (step == Step.REDUCE_WHITESPACE) {
+                        if (isWhitespace(current)) {
+                            if (inWhitespace[index]) {
+                                return;
+                            }
+                            inWhitespace[index] = true;
+                            current = ' ';
+                        } else {
+                            inWhitespace[index] = false;
+                        }
+                        index++;
+                    } else if (step == Step.TRIM) {
+                        if (current <= ' ') {
+                            // Leading whitespace is dropped, inner whitespace is held back until we know that
+                            // it isn't trailing whitespace...
+                            if (nonWhitespaceSeen[index]) {
+                                pendingWhitespace(index).append((char) current);
+                            }
+                            return;
+                        }
+                        nonWhitespaceSeen[index] = true;
+                        emitPendingWhitespace(index);
+                        index++;
+                    } else if (current < LATIN1_LIMIT) {
+                        String result = latin1Results[index][current];
+                        if (result.length() != 1) {
+                            emitAll(result, groupEnds[index]);
+                            return;
+                        }
+                        current = result.charAt(0);
+                        index = groupEnds[index];
+                    } else if (step == Step.REDUCE_CHARACTERS) {
+                        String replacement = StringCleanup.reduceCharacter(current);
+                        if (replacement != null) {
+                            emitAll(replacement, index + 1);
+                            return;
+                        }
+                        index++;
+                    } else {
+                        if (step == Step.LOWERCASE
+                            && (current == CAPITAL_SIGMA || current == CAPITAL_I_WITH_DOT_ABOVE)) {
+                            aborted = true;
+                            return;
+                        }
+                        current = map(step, current);
+                        if (current == DROPPED) {
+                            return;
+                        }
+                        index++;
+                    }
+                }
+
+                append(current);
+            }
+
+            private void append(int codePoint) {
+                if (outputLength + 2 > output.length) {
+                    output = Arrays.copyOf(output, output.length * 2 + 2);
+                }
+                outputLength += Character.toChars(codePoint, output, outputLength);
+            }
+
+            private void emitAll(CharSequence characters, int firstStep) {
+                for (int i = 0; i < characters.length(); i++) {
+                    emit(characters.charAt(i), firstStep);
+                }
+            }
+
+            private StringBuilder pendingWhitespace(int step) {
+                if (pendingWhitespace[step] == null) {
+                    pendingWhitespace[step] = new StringBuilder();
+                }
+
+                return pendingWhitespace[step];
+            }
+
+            private void emitPendingWhitespace(int step) {
+                StringBuilder pending = pendingWhitespace[step];
+                if (pending != null && !pending.isEmpty()) {
+                    emitAll(pending, step + 1);
+                    pending.setLength(0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines if the given code point matches <tt>\p{Cntrl}</tt>.
+     */
+    private static boolean isControlCharacter(int codePoint) {
+        return codePoint < 0x20 || codePoint == 0x7F;
+    }
+
+    /**
+     * Determines if the given code point matches <tt>\p{Punct}</tt>, which only contains ASCII characters.
+     */
+    private static boolean isPunctuation(int codePoint) {
+        return (codePoint >= '!' && codePoint <= '/')
+               || (codePoint >= ':' && codePoint <= '@')
+               || (codePoint >= '[' && codePoint <= '`')
+               || (codePoint >= '{' && codePoint <= '~');
+    }
+
+    /**
+     * Determines if the given code point matches <tt>[\p{L}\d]</tt>.
+     */
+    private static boolean isAlphaNumeric(int codePoint) {
+        return isDigit(codePoint) || Character.isLetter(codePoint);
+    }
+
+    /**
+     * Determines if the given code point matches <tt>\d</tt>, which only contains ASCII digits.
+     */
+    private static boolean isDigit(int codePoint) {
+        return codePoint >= '0' && codePoint <= '9';
+    }
+
+    /**
+     * Determines if the given code point matches <tt>[\s\p{Z}]</tt>.
+     */
+    private static boolean isWhitespace(int codePoint) {
+        if (codePoint == ' ' || (codePoint >= '\t' && codePoint <= '\r')) {
+            return true;
+        }
+        if (codePoint < 0x80) {
+            return false;
+        }
+
+        int type = Character.getType(codePoint);
+        return type == Character.SPACE_SEPARATOR
+               || type == Character.LINE_SEPARATOR
+               || type == Character.PARAGRAPH_SEPARATOR;
+    }
+}
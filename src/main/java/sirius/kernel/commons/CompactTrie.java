@@ -0,0 +1,429 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Provides a read-only and memory efficient copy of a {@link BaseTrie}.
+ * <p>
+ * A compact trie is created by {@link BaseTrie#freeze()} once all keys have been added. Instead of a graph of node
+ * objects with boxed keys, it stores the whole trie in a few flat arrays. All transitions of a node are placed next
+ * to each other in a sorted <tt>int[]</tt>, so that navigating through the trie performs a search on primitive
+ * values without any allocations.
+ * <p>
+ * The nodes are numbered in breadth-first order. As each node (except the root) is reached by exactly one
+ * transition, the transition with the index <tt>t</tt> always leads to the node <tt>t + 1</tt>, so that no array of
+ * targets is required.
+ *
+ * @param <V> the type of values managed by the trie
+ */
+public class CompactTrie<V> {
+
+    /**
+     * Contains the index of the root node.
+     */
+    static final int ROOT = 0;
+
+    /**
+     * Contains the number of transitions up to which a linear scan is faster than a binary search.
+     */
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+    /**
+     * Contains the index of the first transition for each node. The transitions of node <tt>n</tt> are stored in the
+     * range from <tt>offsets[n]</tt> (inclusive) to <tt>offsets[n + 1]</tt> (exclusive).
+     */
+    private final int[] offsets;
+
+    /**
+     * Contains the keys of all transitions, sorted ascending per node.
+     */
+    private final int[] keys;
+
+    /**
+     * Contains the parent of each node to support backtracking.
+     */
+    private final int[] parents;
+
+    /**
+     * Contains the value associated with each node.
+     */
+    private final Object[] values;
+
+    /**
+     * Splits a key into the "bits" used as transitions, just like {@link BaseTrie#stream(CharSequence)} does.
+     */
+    private final Function<CharSequence, IntStream> splitter;
+
+    /**
+     * Creates a compact copy of the trie with the given root.
+     *
+     * @param root     the root of the trie to copy
+     * @param splitter the function which splits keys into transitions
+     */
+    CompactTrie(BaseTrie<V>.Node root, Function<CharSequence, IntStream> splitter) {
+        List<BaseTrie<V>.Node> nodes = new ArrayList<>();
+        nodes.add(root);
+        for (int index = 0; index < nodes.size(); index++) {
+            nodes.addAll(nodes.get(index).continuations);
+        }
+
+        this.splitter = splitter;
+        this.offsets = new int[nodes.size() + 1];
+        this.keys = new int[nodes.size() - 1];
+        this.parents = new int[nodes.size()];
+        this.values = new Object[nodes.size()];
+
+        int transition = 0;
+        for (int index = 0; index < nodes.size(); index++) {
+            BaseTrie<V>.Node node = nodes.get(index);
+            offsets[index] = transition;
+            values[index] = node.value;
+            for (Integer key : node.keys) {
+                keys[transition] = key;
+                parents[transition + 1] = index;
+                transition++;
+            }
+        }
+        offsets[nodes.size()] = transition;
+    }
+
+    private CompactTrie(int[] offsets,
+                        int[] keys,
+                        int[] parents,
+                        Object[] values,
+                        Function<CharSequence, IntStream> splitter) {
+        this.offsets = offsets;
+        this.keys = keys;
+        this.parents = parents;
+        this.values = values;
+        this.splitter = splitter;
+    }
+
+    /**
+     * Creates a compact trie which associates the given value with all given keys.
+     * <p>
+     * In contrast to {@link BaseTrie#freeze()}, this doesn't require to build a mutable trie first, which is quite
+     * expensive for large sets of keys. Instead, the keys are sorted so that each node corresponds to a range of keys
+     * sharing the same prefix. These ranges are then split up breadth-first.
+     *
+     * @param keys     the keys to put into the trie, already split into transitions. Empty keys are not permitted.
+     * @param value    the value to associate with each key
+     * @param splitter the function which splits keys into transitions, like {@link BaseTrie#splitter()}
+     * @param <V>      the type of values managed by the trie
+     * @return a compact trie containing the given keys
+     */
+    static <V> CompactTrie<V> ofKeys(List<int[]> keys, V value, Function<CharSequence, IntStream> splitter) {
+        int[][] sortedKeys = keys.toArray(int[][]::new);
+        Arrays.sort(sortedKeys, Arrays::compare);
+
+        // Each node (except the root) requires at least one transition of a key...
+        int maxNumberOfNodes = 1 + keys.stream().mapToInt(key -> key.length).sum();
+        int[] offsets = new int[maxNumberOfNodes + 1];
+        int[] transitions = new int[maxNumberOfNodes - 1];
+        int[] parents = new int[maxNumberOfNodes];
+        Object[] values = new Object[maxNumberOfNodes];
+
+        // Contains the range of keys and the length of the common prefix represented by each node...
+        int[] rangeStarts = new int[maxNumberOfNodes];
+        int[] rangeEnds = new int[maxNumberOfNodes];
+        int[] depths = new int[maxNumberOfNodes];
+        rangeEnds[ROOT] = sortedKeys.length;
+
+        int numberOfNodes = 1;
+        for (int node = 0; node < numberOfNodes; node++) {
+            offsets[node] = numberOfNodes - 1;
+            int index = rangeStarts[node];
+            int depth = depths[node];
+
+            // A key which ends at this node is a prefix of all other keys in the range and therefore sorted first...
+            while (index < rangeEnds[node] && sortedKeys[index].length == depth) {
+                values[node] = value;
+                index++;
+            }
+
+            while (index < rangeEnds[node]) {
+                int key = sortedKeys[index][depth];
+                int groupEnd = index + 1;
+                while (groupEnd < rangeEnds[node] && sortedKeys[groupEnd][depth] == key) {
+                    groupEnd++;
+                }
+
+                transitions[numberOfNodes - 1] = key;
+                parents[numberOfNodes] = node;
+                rangeStarts[numberOfNodes] = index;
+                rangeEnds[numberOfNodes] = groupEnd;
+                depths[numberOfNodes] = depth + 1;
+                numberOfNodes++;
+                index = groupEnd;
+            }
+        }
+        offsets[numberOfNodes] = numberOfNodes - 1;
+
+        return new CompactTrie<>(Arrays.copyOf(offsets, numberOfNodes + 1),
+                                 Arrays.copyOf(transitions, numberOfNodes - 1),
+                                 Arrays.copyOf(parents, numberOfNodes),
+                                 Arrays.copyOf(values, numberOfNodes),
+                                 splitter);
+    }
+
+    /**
+     * Determines the node reached by following the given transition.
+     *
+     * @param node the node to start from
+     * @param key  the key of the transition to follow
+     * @return the node reached by the transition or <tt>-1</tt> if there is no such transition
+     */
+    int findContinuation(int node, int key) {
+        int from = offsets[node];
+        int to = offsets[node + 1];
+        if (to - from <= LINEAR_SEARCH_THRESHOLD) {
+            for (int index = from; index < to; index++) {
+                if (keys[index] == key) {
+                    return index + 1;
+                }
+                if (keys[index] > key) {
+                    return -1;
+                }
+            }
+
+            return -1;
+        }
+
+        int index = Arrays.binarySearch(keys, from, to, key);
+        return index < 0 ? -1 : index + 1;
+    }
+
+    /**
+     * Returns the value associated with the given node.
+     *
+     * @param node the node to fetch the value for
+     * @return the value associated with the node or <tt>null</tt> if there is none
+     */
+    @SuppressWarnings("unchecked")
+    V getValue(int node) {
+        return (V) values[node];
+    }
+
+    /**
+     * Returns the number of nodes in the trie.
+     *
+     * @return the number of nodes, including the root node
+     */
+    int getNumberOfNodes() {
+        return values.length;
+    }
+
+    /**
+     * Returns the parent of the given node.
+     *
+     * @param node the node to fetch the parent for
+     * @return the parent of the node or the {@link #ROOT} itself, if the root node is given
+     */
+    int getParent(int node) {
+        return parents[node];
+    }
+
+    /**
+     * Returns the key of the transition which leads to the given node.
+     *
+     * @param node the node (other than the root) to fetch the key for
+     * @return the key of the transition which leads from the parent to the given node
+     */
+    int getKey(int node) {
+        return keys[node - 1];
+    }
+
+    /**
+     * Walks along the given key.
+     *
+     * @param key the key to follow
+     * @return the node reached by the key or <tt>-1</tt> if the key leaves the trie
+     */
+    private int findNode(CharSequence key) {
+        int[] node = {ROOT};
+        splitter.apply(key).allMatch(transition -> {
+            node[0] = findContinuation(node[0], transition);
+            return node[0] >= 0;
+        });
+
+        return node[0];
+    }
+
+    /**
+     * Internal implementation of the ContainmentIterator which only keeps the index of the current node.
+     */
+    private class CompactContainmentIterator implements BaseTrie.ContainmentIterator<V> {
+
+        private int current = ROOT;
+
+        @Override
+        public boolean canContinue(int c) {
+            return findContinuation(current, c) >= 0;
+        }
+
+        @Override
+        public boolean doContinue(int c) {
+            int next = findContinuation(current, c);
+            if (next < 0) {
+                return false;
+            }
+            current = next;
+            return true;
+        }
+
+        @Override
+        public V getValue() {
+            return CompactTrie.this.getValue(current);
+        }
+
+        @Override
+        public void setValue(V value) {
+            throw new UnsupportedOperationException("A compact trie cannot be modified.");
+        }
+
+        @Override
+        public boolean isCompleted() {
+            return values[current] != null;
+        }
+
+        @Override
+        public boolean canGoBack() {
+            return current != ROOT;
+        }
+
+        @Override
+        public void goBack() {
+            current = parents[current];
+        }
+
+        @Override
+        public Set<Integer> getPossibilities() {
+            Set<Integer> result = new TreeSet<>();
+            for (int index = offsets[current]; index < offsets[current + 1]; index++) {
+                result.add(keys[index]);
+            }
+            return result;
+        }
+
+        @Override
+        public void reset() {
+            current = ROOT;
+        }
+
+        @Override
+        public boolean resetWith(int c) {
+            current = ROOT;
+            return doContinue(c);
+        }
+    }
+
+    /**
+     * Generates a new iterator for the underlying trie.
+     * <p>
+     * Note that {@link BaseTrie.ContainmentIterator#setValue(Object)} isn't supported, as a compact trie is
+     * read-only.
+     *
+     * @return a new iterator to navigate through the underlying trie
+     */
+    public BaseTrie.ContainmentIterator<V> iterator() {
+        return new CompactContainmentIterator();
+    }
+
+    /**
+     * Determines if the given key is contained in the trie.
+     *
+     * @param key the key to check for.
+     * @return <tt>true</tt> if a value is associated with the path represented by the given key,
+     * <tt>false</tt> otherwise
+     */
+    public boolean containsKey(@Nonnull CharSequence key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the value associated with the given key.
+     *
+     * @param key the path to navigate through
+     * @return the value associated with the path defined by the given key or <tt>null</tt> if no value is present
+     */
+    public V get(@Nonnull CharSequence key) {
+        if (Strings.isEmpty(key)) {
+            throw new IllegalArgumentException("key");
+        }
+
+        int node = findNode(key);
+        return node < 0 ? null : getValue(node);
+    }
+
+    /**
+     * Retrieves all keys that are stored in this trie.
+     *
+     * @return an {@link Collections#unmodifiableSet(Set) unmodifiable set} of all keys that are stored in this trie
+     */
+    public Set<String> keySet() {
+        return getAllKeysBeginningWith("");
+    }
+
+    /**
+     * Retrieves the number of keys that are stored in this trie.
+     *
+     * @return the number of keys which are associated with a value
+     */
+    public int size() {
+        return (int) Arrays.stream(values).filter(Objects::nonNull).count();
+    }
+
+    /**
+     * Performs a prefix search within this trie's {@link #keySet() key set}
+     *
+     * @param prefix to search for
+     * @return an {@link Collections#unmodifiableSet(Set) unmodifiable set} holding all keys that are beginning with
+     * the given <tt>prefix</tt> (may include <tt>prefix</tt> itself)
+     */
+    public Set<String> getAllKeysBeginningWith(CharSequence prefix) {
+        if (Strings.isEmpty(prefix)) {
+            prefix = "";
+        }
+
+        int node = findNode(prefix);
+        if (node < 0) {
+            return Collections.emptySet();
+        }
+
+        Set<String> result = new HashSet<>();
+        collectKeys(node, new StringBuilder(prefix), result);
+        return Collections.unmodifiableSet(result);
+    }
+
+    private void collectKeys(int node, StringBuilder path, Set<String> result) {
+        if (values[node] != null) {
+            result.add(path.toString());
+        }
+
+        int length = path.length();
+        for (int index = offsets[node]; index < offsets[node + 1]; index++) {
+            // For character based tries, each key is a single char, which appendCodePoint also handles properly...
+            path.appendCodePoint(keys[index]);
+            collectKeys(index + 1, path, result);
+            path.setLength(length);
+        }
+    }
+}
@@ -8,5065 +8,127 @@
 
 package sirius.kernel.commons;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
 /**
  * Provides helper methods to work with emojis.
  */
 public class Emojis {
 
-    protected static final CodePointTrie<Boolean> emojiTrie = CodePointTrie.create();
+    private static final Pattern PATTERN_WHITESPACE = Pattern.compile("\\s");
+
+    /**
+     * Contains the name of the resource (relative to this class) which lists all known emojis, one per line.
+     * <p>
+     * The list is maintained by using the output of a Python generator script. It can be found at
+     * https://github.com/scireum/scireum-scripts/blob/main/sirius/list_emojis_for_insertion_into_kernel.py
+     * Emojis should be updated about once per year.
+     */
+    private static final String EMOJIS_RESOURCE = "emojis.txt";
+
+    /**
+     * Holds the tables required to detect emojis.
+     * <p>
+     * These are only loaded once an emoji is actually checked for, so that merely referencing this class (or calling
+     * a method which can decide without the tables) doesn't cost any startup time or heap.
+     */
+    private static class EmojiTables {
+
+        /**
+         * Contains the initial buffer size for the code points of a single emoji, which is grown for longer emojis.
+         */
+        private static final int INITIAL_EMOJI_LENGTH = 32;
+
+        private static final CompactTrie<Boolean> emojiTrie;
+        private static final AhoCorasick<Boolean> emojiMatcher;
+
+        /**
+         * Contains a bit set of characters which indicate that a string might contain an emoji.
+         * <p>
+         * For each emoji, its character with the highest value is put into this set. A string which doesn't contain
+         * any of these characters therefore cannot contain an emoji. As most emojis are placed in the supplementary
+         * planes, this set mainly consists of surrogates and a few symbols, so that it rejects most texts right away.
+         */
+        private static final long[] indicatorCharacters = new long[(Character.MAX_VALUE + 1) / Long.SIZE];
+
+        static {
+            String data = loadEmojis();
+            List<int[]> emojis = new ArrayList<>();
+            int[] emoji = new int[INITIAL_EMOJI_LENGTH];
+            int length = 0;
+            char indicator = 0;
+            for (int index = 0; index < data.length(); index++) {
+                char character = data.charAt(index);
+                if (length == emoji.length) {
+                    emoji = Arrays.copyOf(emoji, emoji.length * 2);
+                }
+                if (character == '\n') {
+                    addEmoji(emojis, emoji, length, indicator);
+                    length = 0;
+                    indicator = 0;
+                } else if (Character.isHighSurrogate(character)
+                           && index + 1 < data.length()
+                           && Character.isLowSurrogate(data.charAt(index + 1))) {
+                    emoji[length++] = Character.toCodePoint(character, data.charAt(++index));
+                    indicator = (char) Math.max(indicator, data.charAt(index));
+                } else if (character != '\r') {
+                    emoji[length++] = character;
+                    indicator = (char) Math.max(indicator, character);
+                }
+            }
+            addEmoji(emojis, emoji, length, indicator);
+
+            emojiTrie = CompactTrie.ofKeys(emojis, Boolean.TRUE, CharSequence::codePoints);
+            emojiMatcher = new AhoCorasick<>(emojiTrie, true);
+        }
 
-    static {
-        // The following list is maintained by pasting the output of a Python generator script. It can be found at
-        // https://github.com/scireum/scireum-scripts/blob/main/sirius/list_emojis_for_insertion_into_kernel.py
-        // Emojis should be updated about once per year.
+        private static String loadEmojis() {
+            try (InputStream stream = Emojis.class.getResourceAsStream(EMOJIS_RESOURCE)) {
+                if (stream == null) {
+                    throw new IllegalStateException("Cannot find the list of emojis: " + EMOJIS_RESOURCE);
+                }
+                return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException exception) {
+                throw new IllegalStateException("Cannot load the list of emojis: " + EMOJIS_RESOURCE, exception);
+            }
+        }
 
-        emojiTrie.put("😀", Boolean.TRUE);
-        emojiTrie.put("😃", Boolean.TRUE);
-        emojiTrie.put("😄", Boolean.TRUE);
-        emojiTrie.put("😁", Boolean.TRUE);
-        emojiTrie.put("😆", Boolean.TRUE);
-        emojiTrie.put("😅", Boolean.TRUE);
-        emojiTrie.put("🤣", Boolean.TRUE);
-        emojiTrie.put("😂", Boolean.TRUE);
-        emojiTrie.put("🙂", Boolean.TRUE);
-        emojiTrie.put("🙃", Boolean.TRUE);
-        emojiTrie.put("🫠", Boolean.TRUE);
-        emojiTrie.put("😉", Boolean.TRUE);
-        emojiTrie.put("😊", Boolean.TRUE);
-        emojiTrie.put("😇", Boolean.TRUE);
-        emojiTrie.put("🥰", Boolean.TRUE);
-        emojiTrie.put("😍", Boolean.TRUE);
-        emojiTrie.put("🤩", Boolean.TRUE);
-        emojiTrie.put("😘", Boolean.TRUE);
-        emojiTrie.put("😗", Boolean.TRUE);
-        emojiTrie.put("☺️", Boolean.TRUE);
-        emojiTrie.put("☺", Boolean.TRUE);
-        emojiTrie.put("😚", Boolean.TRUE);
-        emojiTrie.put("😙", Boolean.TRUE);
-        emojiTrie.put("🥲", Boolean.TRUE);
-        emojiTrie.put("😋", Boolean.TRUE);
-        emojiTrie.put("😛", Boolean.TRUE);
-        emojiTrie.put("😜", Boolean.TRUE);
-        emojiTrie.put("🤪", Boolean.TRUE);
-        emojiTrie.put("😝", Boolean.TRUE);
-        emojiTrie.put("🤑", Boolean.TRUE);
-        emojiTrie.put("🤗", Boolean.TRUE);
-        emojiTrie.put("🤭", Boolean.TRUE);
-        emojiTrie.put("🫢", Boolean.TRUE);
-        emojiTrie.put("🫣", Boolean.TRUE);
-        emojiTrie.put("🤫", Boolean.TRUE);
-        emojiTrie.put("🤔", Boolean.TRUE);
-        emojiTrie.put("🫡", Boolean.TRUE);
-        emojiTrie.put("🤐", Boolean.TRUE);
-        emojiTrie.put("🤨", Boolean.TRUE);
-        emojiTrie.put("😐", Boolean.TRUE);
-        emojiTrie.put("😑", Boolean.TRUE);
-        emojiTrie.put("😶", Boolean.TRUE);
-        emojiTrie.put("🫥", Boolean.TRUE);
-        emojiTrie.put("😶‍🌫️", Boolean.TRUE);
-        emojiTrie.put("😶‍🌫", Boolean.TRUE);
-        emojiTrie.put("😏", Boolean.TRUE);
-        emojiTrie.put("😒", Boolean.TRUE);
-        emojiTrie.put("🙄", Boolean.TRUE);
-        emojiTrie.put("😬", Boolean.TRUE);
-        emojiTrie.put("😮‍💨", Boolean.TRUE);
-        emojiTrie.put("🤥", Boolean.TRUE);
-        emojiTrie.put("🫨", Boolean.TRUE);
-        emojiTrie.put("🙂‍↔️", Boolean.TRUE);
-        emojiTrie.put("🙂‍↔", Boolean.TRUE);
-        emojiTrie.put("🙂‍↕️", Boolean.TRUE);
-        emojiTrie.put("🙂‍↕", Boolean.TRUE);
-        emojiTrie.put("😌", Boolean.TRUE);
-        emojiTrie.put("😔", Boolean.TRUE);
-        emojiTrie.put("😪", Boolean.TRUE);
-        emojiTrie.put("🤤", Boolean.TRUE);
-        emojiTrie.put("😴", Boolean.TRUE);
-        emojiTrie.put("🫩", Boolean.TRUE);
-        emojiTrie.put("😷", Boolean.TRUE);
-        emojiTrie.put("🤒", Boolean.TRUE);
-        emojiTrie.put("🤕", Boolean.TRUE);
-        emojiTrie.put("🤢", Boolean.TRUE);
-        emojiTrie.put("🤮", Boolean.TRUE);
-        emojiTrie.put("🤧", Boolean.TRUE);
-        emojiTrie.put("🥵", Boolean.TRUE);
-        emojiTrie.put("🥶", Boolean.TRUE);
-        emojiTrie.put("🥴", Boolean.TRUE);
-        emojiTrie.put("😵", Boolean.TRUE);
-        emojiTrie.put("😵‍💫", Boolean.TRUE);
-        emojiTrie.put("🤯", Boolean.TRUE);
-        emojiTrie.put("🤠", Boolean.TRUE);
-        emojiTrie.put("🥳", Boolean.TRUE);
-        emojiTrie.put("🥸", Boolean.TRUE);
-        emojiTrie.put("😎", Boolean.TRUE);
-        emojiTrie.put("🤓", Boolean.TRUE);
-        emojiTrie.put("🧐", Boolean.TRUE);
-        emojiTrie.put("😕", Boolean.TRUE);
-        emojiTrie.put("🫤", Boolean.TRUE);
-        emojiTrie.put("😟", Boolean.TRUE);
-        emojiTrie.put("🙁", Boolean.TRUE);
-        emojiTrie.put("☹️", Boolean.TRUE);
-        emojiTrie.put("☹", Boolean.TRUE);
-        emojiTrie.put("😮", Boolean.TRUE);
-        emojiTrie.put("😯", Boolean.TRUE);
-        emojiTrie.put("😲", Boolean.TRUE);
-        emojiTrie.put("😳", Boolean.TRUE);
-        emojiTrie.put("🥺", Boolean.TRUE);
-        emojiTrie.put("🥹", Boolean.TRUE);
-        emojiTrie.put("😦", Boolean.TRUE);
-        emojiTrie.put("😧", Boolean.TRUE);
-        emojiTrie.put("😨", Boolean.TRUE);
-        emojiTrie.put("😰", Boolean.TRUE);
-        emojiTrie.put("😥", Boolean.TRUE);
-        emojiTrie.put("😢", Boolean.TRUE);
-        emojiTrie.put("😭", Boolean.TRUE);
-        emojiTrie.put("😱", Boolean.TRUE);
-        emojiTrie.put("😖", Boolean.TRUE);
-        emojiTrie.put("😣", Boolean.TRUE);
-        emojiTrie.put("😞", Boolean.TRUE);
-        emojiTrie.put("😓", Boolean.TRUE);
-        emojiTrie.put("😩", Boolean.TRUE);
-        emojiTrie.put("😫", Boolean.TRUE);
-        emojiTrie.put("🥱", Boolean.TRUE);
-        emojiTrie.put("😤", Boolean.TRUE);
-        emojiTrie.put("😡", Boolean.TRUE);
-        emojiTrie.put("😠", Boolean.TRUE);
-        emojiTrie.put("🤬", Boolean.TRUE);
-        emojiTrie.put("😈", Boolean.TRUE);
-        emojiTrie.put("👿", Boolean.TRUE);
-        emojiTrie.put("💀", Boolean.TRUE);
-        emojiTrie.put("☠️", Boolean.TRUE);
-        emojiTrie.put("☠", Boolean.TRUE);
-        emojiTrie.put("💩", Boolean.TRUE);
-        emojiTrie.put("🤡", Boolean.TRUE);
-        emojiTrie.put("👹", Boolean.TRUE);
-        emojiTrie.put("👺", Boolean.TRUE);
-        emojiTrie.put("👻", Boolean.TRUE);
-        emojiTrie.put("👽", Boolean.TRUE);
-        emojiTrie.put("👾", Boolean.TRUE);
-        emojiTrie.put("🤖", Boolean.TRUE);
-        emojiTrie.put("😺", Boolean.TRUE);
-        emojiTrie.put("😸", Boolean.TRUE);
-        emojiTrie.put("😹", Boolean.TRUE);
-        emojiTrie.put("😻", Boolean.TRUE);
-        emojiTrie.put("😼", Boolean.TRUE);
-        emojiTrie.put("😽", Boolean.TRUE);
-        emojiTrie.put("🙀", Boolean.TRUE);
-        emojiTrie.put("😿", Boolean.TRUE);
-        emojiTrie.put("😾", Boolean.TRUE);
-        emojiTrie.put("🙈", Boolean.TRUE);
-        emojiTrie.put("🙉", Boolean.TRUE);
-        emojiTrie.put("🙊", Boolean.TRUE);
-        emojiTrie.put("💌", Boolean.TRUE);
-        emojiTrie.put("💘", Boolean.TRUE);
-        emojiTrie.put("💝", Boolean.TRUE);
-        emojiTrie.put("💖", Boolean.TRUE);
-        emojiTrie.put("💗", Boolean.TRUE);
-        emojiTrie.put("💓", Boolean.TRUE);
-        emojiTrie.put("💞", Boolean.TRUE);
-        emojiTrie.put("💕", Boolean.TRUE);
-        emojiTrie.put("💟", Boolean.TRUE);
-        emojiTrie.put("❣️", Boolean.TRUE);
-        emojiTrie.put("❣", Boolean.TRUE);
-        emojiTrie.put("💔", Boolean.TRUE);
-        emojiTrie.put("❤️‍🔥", Boolean.TRUE);
-        emojiTrie.put("❤‍🔥", Boolean.TRUE);
-        emojiTrie.put("❤️‍🩹", Boolean.TRUE);
-        emojiTrie.put("❤‍🩹", Boolean.TRUE);
-        emojiTrie.put("❤️", Boolean.TRUE);
-        emojiTrie.put("❤", Boolean.TRUE);
-        emojiTrie.put("🩷", Boolean.TRUE);
-        emojiTrie.put("🧡", Boolean.TRUE);
-        emojiTrie.put("💛", Boolean.TRUE);
-        emojiTrie.put("💚", Boolean.TRUE);
-        emojiTrie.put("💙", Boolean.TRUE);
-        emojiTrie.put("🩵", Boolean.TRUE);
-        emojiTrie.put("💜", Boolean.TRUE);
-        emojiTrie.put("🤎", Boolean.TRUE);
-        emojiTrie.put("🖤", Boolean.TRUE);
-        emojiTrie.put("🩶", Boolean.TRUE);
-        emojiTrie.put("🤍", Boolean.TRUE);
-        emojiTrie.put("💋", Boolean.TRUE);
-        emojiTrie.put("💯", Boolean.TRUE);
-        emojiTrie.put("💢", Boolean.TRUE);
-        emojiTrie.put("💥", Boolean.TRUE);
-        emojiTrie.put("💫", Boolean.TRUE);
-        emojiTrie.put("💦", Boolean.TRUE);
-        emojiTrie.put("💨", Boolean.TRUE);
-        emojiTrie.put("🕳️", Boolean.TRUE);
-        emojiTrie.put("🕳", Boolean.TRUE);
-        emojiTrie.put("💬", Boolean.TRUE);
-        emojiTrie.put("👁️‍🗨️", Boolean.TRUE);
-        emojiTrie.put("👁‍🗨️", Boolean.TRUE);
-        emojiTrie.put("👁️‍🗨", Boolean.TRUE);
-        emojiTrie.put("👁‍🗨", Boolean.TRUE);
-        emojiTrie.put("🗨️", Boolean.TRUE);
-        emojiTrie.put("🗨", Boolean.TRUE);
-        emojiTrie.put("🗯️", Boolean.TRUE);
-        emojiTrie.put("🗯", Boolean.TRUE);
-        emojiTrie.put("💭", Boolean.TRUE);
-        emojiTrie.put("💤", Boolean.TRUE);
-        emojiTrie.put("👋", Boolean.TRUE);
-        emojiTrie.put("👋🏻", Boolean.TRUE);
-        emojiTrie.put("👋🏼", Boolean.TRUE);
-        emojiTrie.put("👋🏽", Boolean.TRUE);
-        emojiTrie.put("👋🏾", Boolean.TRUE);
-        emojiTrie.put("👋🏿", Boolean.TRUE);
-        emojiTrie.put("🤚", Boolean.TRUE);
-        emojiTrie.put("🤚🏻", Boolean.TRUE);
-        emojiTrie.put("🤚🏼", Boolean.TRUE);
-        emojiTrie.put("🤚🏽", Boolean.TRUE);
-        emojiTrie.put("🤚🏾", Boolean.TRUE);
-        emojiTrie.put("🤚🏿", Boolean.TRUE);
-        emojiTrie.put("🖐️", Boolean.TRUE);
-        emojiTrie.put("🖐", Boolean.TRUE);
-        emojiTrie.put("🖐🏻", Boolean.TRUE);
-        emojiTrie.put("🖐🏼", Boolean.TRUE);
-        emojiTrie.put("🖐🏽", Boolean.TRUE);
-        emojiTrie.put("🖐🏾", Boolean.TRUE);
-        emojiTrie.put("🖐🏿", Boolean.TRUE);
-        emojiTrie.put("✋", Boolean.TRUE);
-        emojiTrie.put("✋🏻", Boolean.TRUE);
-        emojiTrie.put("✋🏼", Boolean.TRUE);
-        emojiTrie.put("✋🏽", Boolean.TRUE);
-        emojiTrie.put("✋🏾", Boolean.TRUE);
-        emojiTrie.put("✋🏿", Boolean.TRUE);
-        emojiTrie.put("🖖", Boolean.TRUE);
-        emojiTrie.put("🖖🏻", Boolean.TRUE);
-        emojiTrie.put("🖖🏼", Boolean.TRUE);
-        emojiTrie.put("🖖🏽", Boolean.TRUE);
-        emojiTrie.put("🖖🏾", Boolean.TRUE);
-        emojiTrie.put("🖖🏿", Boolean.TRUE);
-        emojiTrie.put("🫱", Boolean.TRUE);
-        emojiTrie.put("🫱🏻", Boolean.TRUE);
-        emojiTrie.put("🫱🏼", Boolean.TRUE);
-        emojiTrie.put("🫱🏽", Boolean.TRUE);
-        emojiTrie.put("🫱🏾", Boolean.TRUE);
-        emojiTrie.put("🫱🏿", Boolean.TRUE);
-        emojiTrie.put("🫲", Boolean.TRUE);
-        emojiTrie.put("🫲🏻", Boolean.TRUE);
-        emojiTrie.put("🫲🏼", Boolean.TRUE);
-        emojiTrie.put("🫲🏽", Boolean.TRUE);
-        emojiTrie.put("🫲🏾", Boolean.TRUE);
-        emojiTrie.put("🫲🏿", Boolean.TRUE);
-        emojiTrie.put("🫳", Boolean.TRUE);
-        emojiTrie.put("🫳🏻", Boolean.TRUE);
-        emojiTrie.put("🫳🏼", Boolean.TRUE);
-        emojiTrie.put("🫳🏽", Boolean.TRUE);
-        emojiTrie.put("🫳🏾", Boolean.TRUE);
-        emojiTrie.put("🫳🏿", Boolean.TRUE);
-        emojiTrie.put("🫴", Boolean.TRUE);
-        emojiTrie.put("🫴🏻", Boolean.TRUE);
-        emojiTrie.put("🫴🏼", Boolean.TRUE);
-        emojiTrie.put("🫴🏽", Boolean.TRUE);
-        emojiTrie.put("🫴🏾", Boolean.TRUE);
-        emojiTrie.put("🫴🏿", Boolean.TRUE);
-        emojiTrie.put("🫷", Boolean.TRUE);
-        emojiTrie.put("🫷🏻", Boolean.TRUE);
-        emojiTrie.put("🫷🏼", Boolean.TRUE);
-        emojiTrie.put("🫷🏽", Boolean.TRUE);
-        emojiTrie.put("🫷🏾", Boolean.TRUE);
-        emojiTrie.put("🫷🏿", Boolean.TRUE);
-        emojiTrie.put("🫸", Boolean.TRUE);
-        emojiTrie.put("🫸🏻", Boolean.TRUE);
-        emojiTrie.put("🫸🏼", Boolean.TRUE);
-        emojiTrie.put("🫸🏽", Boolean.TRUE);
-        emojiTrie.put("🫸🏾", Boolean.TRUE);
-        emojiTrie.put("🫸🏿", Boolean.TRUE);
-        emojiTrie.put("👌", Boolean.TRUE);
-        emojiTrie.put("👌🏻", Boolean.TRUE);
-        emojiTrie.put("👌🏼", Boolean.TRUE);
-        emojiTrie.put("👌🏽", Boolean.TRUE);
-        emojiTrie.put("👌🏾", Boolean.TRUE);
-        emojiTrie.put("👌🏿", Boolean.TRUE);
-        emojiTrie.put("🤌", Boolean.TRUE);
-        emojiTrie.put("🤌🏻", Boolean.TRUE);
-        emojiTrie.put("🤌🏼", Boolean.TRUE);
-        emojiTrie.put("🤌🏽", Boolean.TRUE);
-        emojiTrie.put("🤌🏾", Boolean.TRUE);
-        emojiTrie.put("🤌🏿", Boolean.TRUE);
-        emojiTrie.put("🤏", Boolean.TRUE);
-        emojiTrie.put("🤏🏻", Boolean.TRUE);
-        emojiTrie.put("🤏🏼", Boolean.TRUE);
-        emojiTrie.put("🤏🏽", Boolean.TRUE);
-        emojiTrie.put("🤏🏾", Boolean.TRUE);
-        emojiTrie.put("🤏🏿", Boolean.TRUE);
-        emojiTrie.put("✌️", Boolean.TRUE);
-        emojiTrie.put("✌", Boolean.TRUE);
-        emojiTrie.put("✌🏻", Boolean.TRUE);
-        emojiTrie.put("✌🏼", Boolean.TRUE);
-        emojiTrie.put("✌🏽", Boolean.TRUE);
-        emojiTrie.put("✌🏾", Boolean.TRUE);
-        emojiTrie.put("✌🏿", Boolean.TRUE);
-        emojiTrie.put("🤞", Boolean.TRUE);
-        emojiTrie.put("🤞🏻", Boolean.TRUE);
-        emojiTrie.put("🤞🏼", Boolean.TRUE);
-        emojiTrie.put("🤞🏽", Boolean.TRUE);
-        emojiTrie.put("🤞🏾", Boolean.TRUE);
-        emojiTrie.put("🤞🏿", Boolean.TRUE);
-        emojiTrie.put("🫰", Boolean.TRUE);
-        emojiTrie.put("🫰🏻", Boolean.TRUE);
-        emojiTrie.put("🫰🏼", Boolean.TRUE);
-        emojiTrie.put("🫰🏽", Boolean.TRUE);
-        emojiTrie.put("🫰🏾", Boolean.TRUE);
-        emojiTrie.put("🫰🏿", Boolean.TRUE);
-        emojiTrie.put("🤟", Boolean.TRUE);
-        emojiTrie.put("🤟🏻", Boolean.TRUE);
-        emojiTrie.put("🤟🏼", Boolean.TRUE);
-        emojiTrie.put("🤟🏽", Boolean.TRUE);
-        emojiTrie.put("🤟🏾", Boolean.TRUE);
-        emojiTrie.put("🤟🏿", Boolean.TRUE);
-        emojiTrie.put("🤘", Boolean.TRUE);
-        emojiTrie.put("🤘🏻", Boolean.TRUE);
-        emojiTrie.put("🤘🏼", Boolean.TRUE);
-        emojiTrie.put("🤘🏽", Boolean.TRUE);
-        emojiTrie.put("🤘🏾", Boolean.TRUE);
-        emojiTrie.put("🤘🏿", Boolean.TRUE);
-        emojiTrie.put("🤙", Boolean.TRUE);
-        emojiTrie.put("🤙🏻", Boolean.TRUE);
-        emojiTrie.put("🤙🏼", Boolean.TRUE);
-        emojiTrie.put("🤙🏽", Boolean.TRUE);
-        emojiTrie.put("🤙🏾", Boolean.TRUE);
-        emojiTrie.put("🤙🏿", Boolean.TRUE);
-        emojiTrie.put("👈", Boolean.TRUE);
-        emojiTrie.put("👈🏻", Boolean.TRUE);
-        emojiTrie.put("👈🏼", Boolean.TRUE);
-        emojiTrie.put("👈🏽", Boolean.TRUE);
-        emojiTrie.put("👈🏾", Boolean.TRUE);
-        emojiTrie.put("👈🏿", Boolean.TRUE);
-        emojiTrie.put("👉", Boolean.TRUE);
-        emojiTrie.put("👉🏻", Boolean.TRUE);
-        emojiTrie.put("👉🏼", Boolean.TRUE);
-        emojiTrie.put("👉🏽", Boolean.TRUE);
-        emojiTrie.put("👉🏾", Boolean.TRUE);
-        emojiTrie.put("👉🏿", Boolean.TRUE);
-        emojiTrie.put("👆", Boolean.TRUE);
-        emojiTrie.put("👆🏻", Boolean.TRUE);
-        emojiTrie.put("👆🏼", Boolean.TRUE);
-        emojiTrie.put("👆🏽", Boolean.TRUE);
-        emojiTrie.put("👆🏾", Boolean.TRUE);
-        emojiTrie.put("👆🏿", Boolean.TRUE);
-        emojiTrie.put("🖕", Boolean.TRUE);
-        emojiTrie.put("🖕🏻", Boolean.TRUE);
-        emojiTrie.put("🖕🏼", Boolean.TRUE);
-        emojiTrie.put("🖕🏽", Boolean.TRUE);
-        emojiTrie.put("🖕🏾", Boolean.TRUE);
-        emojiTrie.put("🖕🏿", Boolean.TRUE);
-        emojiTrie.put("👇", Boolean.TRUE);
-        emojiTrie.put("👇🏻", Boolean.TRUE);
-        emojiTrie.put("👇🏼", Boolean.TRUE);
-        emojiTrie.put("👇🏽", Boolean.TRUE);
-        emojiTrie.put("👇🏾", Boolean.TRUE);
-        emojiTrie.put("👇🏿", Boolean.TRUE);
-        emojiTrie.put("☝️", Boolean.TRUE);
-        emojiTrie.put("☝", Boolean.TRUE);
-        emojiTrie.put("☝🏻", Boolean.TRUE);
-        emojiTrie.put("☝🏼", Boolean.TRUE);
-        emojiTrie.put("☝🏽", Boolean.TRUE);
-        emojiTrie.put("☝🏾", Boolean.TRUE);
-        emojiTrie.put("☝🏿", Boolean.TRUE);
-        emojiTrie.put("🫵", Boolean.TRUE);
-        emojiTrie.put("🫵🏻", Boolean.TRUE);
-        emojiTrie.put("🫵🏼", Boolean.TRUE);
-        emojiTrie.put("🫵🏽", Boolean.TRUE);
-        emojiTrie.put("🫵🏾", Boolean.TRUE);
-        emojiTrie.put("🫵🏿", Boolean.TRUE);
-        emojiTrie.put("👍", Boolean.TRUE);
-        emojiTrie.put("👍🏻", Boolean.TRUE);
-        emojiTrie.put("👍🏼", Boolean.TRUE);
-        emojiTrie.put("👍🏽", Boolean.TRUE);
-        emojiTrie.put("👍🏾", Boolean.TRUE);
-        emojiTrie.put("👍🏿", Boolean.TRUE);
-        emojiTrie.put("👎", Boolean.TRUE);
-        emojiTrie.put("👎🏻", Boolean.TRUE);
-        emojiTrie.put("👎🏼", Boolean.TRUE);
-        emojiTrie.put("👎🏽", Boolean.TRUE);
-        emojiTrie.put("👎🏾", Boolean.TRUE);
-        emojiTrie.put("👎🏿", Boolean.TRUE);
-        emojiTrie.put("✊", Boolean.TRUE);
-        emojiTrie.put("✊🏻", Boolean.TRUE);
-        emojiTrie.put("✊🏼", Boolean.TRUE);
-        emojiTrie.put("✊🏽", Boolean.TRUE);
-        emojiTrie.put("✊🏾", Boolean.TRUE);
-        emojiTrie.put("✊🏿", Boolean.TRUE);
-        emojiTrie.put("👊", Boolean.TRUE);
-        emojiTrie.put("👊🏻", Boolean.TRUE);
-        emojiTrie.put("👊🏼", Boolean.TRUE);
-        emojiTrie.put("👊🏽", Boolean.TRUE);
-        emojiTrie.put("👊🏾", Boolean.TRUE);
-        emojiTrie.put("👊🏿", Boolean.TRUE);
-        emojiTrie.put("🤛", Boolean.TRUE);
-        emojiTrie.put("🤛🏻", Boolean.TRUE);
-        emojiTrie.put("🤛🏼", Boolean.TRUE);
-        emojiTrie.put("🤛🏽", Boolean.TRUE);
-        emojiTrie.put("🤛🏾", Boolean.TRUE);
-        emojiTrie.put("🤛🏿", Boolean.TRUE);
-        emojiTrie.put("🤜", Boolean.TRUE);
-        emojiTrie.put("🤜🏻", Boolean.TRUE);
-        emojiTrie.put("🤜🏼", Boolean.TRUE);
-        emojiTrie.put("🤜🏽", Boolean.TRUE);
-        emojiTrie.put("🤜🏾", Boolean.TRUE);
-        emojiTrie.put("🤜🏿", Boolean.TRUE);
-        emojiTrie.put("👏", Boolean.TRUE);
-        emojiTrie.put("👏🏻", Boolean.TRUE);
-        emojiTrie.put("👏🏼", Boolean.TRUE);
-        emojiTrie.put("👏🏽", Boolean.TRUE);
-        emojiTrie.put("👏🏾", Boolean.TRUE);
-        emojiTrie.put("👏🏿", Boolean.TRUE);
-        emojiTrie.put("🙌", Boolean.TRUE);
-        emojiTrie.put("🙌🏻", Boolean.TRUE);
-        emojiTrie.put("🙌🏼", Boolean.TRUE);
-        emojiTrie.put("🙌🏽", Boolean.TRUE);
-        emojiTrie.put("🙌🏾", Boolean.TRUE);
-        emojiTrie.put("🙌🏿", Boolean.TRUE);
-        emojiTrie.put("🫶", Boolean.TRUE);
-        emojiTrie.put("🫶🏻", Boolean.TRUE);
-        emojiTrie.put("🫶🏼", Boolean.TRUE);
-        emojiTrie.put("🫶🏽", Boolean.TRUE);
-        emojiTrie.put("🫶🏾", Boolean.TRUE);
-        emojiTrie.put("🫶🏿", Boolean.TRUE);
-        emojiTrie.put("👐", Boolean.TRUE);
-        emojiTrie.put("👐🏻", Boolean.TRUE);
-        emojiTrie.put("👐🏼", Boolean.TRUE);
-        emojiTrie.put("👐🏽", Boolean.TRUE);
-        emojiTrie.put("👐🏾", Boolean.TRUE);
-        emojiTrie.put("👐🏿", Boolean.TRUE);
-        emojiTrie.put("🤲", Boolean.TRUE);
-        emojiTrie.put("🤲🏻", Boolean.TRUE);
-        emojiTrie.put("🤲🏼", Boolean.TRUE);
-        emojiTrie.put("🤲🏽", Boolean.TRUE);
-        emojiTrie.put("🤲🏾", Boolean.TRUE);
-        emojiTrie.put("🤲🏿", Boolean.TRUE);
-        emojiTrie.put("🤝", Boolean.TRUE);
-        emojiTrie.put("🤝🏻", Boolean.TRUE);
-        emojiTrie.put("🤝🏼", Boolean.TRUE);
-        emojiTrie.put("🤝🏽", Boolean.TRUE);
-        emojiTrie.put("🤝🏾", Boolean.TRUE);
-        emojiTrie.put("🤝🏿", Boolean.TRUE);
-        emojiTrie.put("🫱🏻‍🫲🏼", Boolean.TRUE);
-        emojiTrie.put("🫱🏻‍🫲🏽", Boolean.TRUE);
-        emojiTrie.put("🫱🏻‍🫲🏾", Boolean.TRUE);
-        emojiTrie.put("🫱🏻‍🫲🏿", Boolean.TRUE);
-        emojiTrie.put("🫱🏼‍🫲🏻", Boolean.TRUE);
-        emojiTrie.put("🫱🏼‍🫲🏽", Boolean.TRUE);
-        emojiTrie.put("🫱🏼‍🫲🏾", Boolean.TRUE);
-        emojiTrie.put("🫱🏼‍🫲🏿", Boolean.TRUE);
-        emojiTrie.put("🫱🏽‍🫲🏻", Boolean.TRUE);
-        emojiTrie.put("🫱🏽‍🫲🏼", Boolean.TRUE);
-        emojiTrie.put("🫱🏽‍🫲🏾", Boolean.TRUE);
-        emojiTrie.put("🫱🏽‍🫲🏿", Boolean.TRUE);
-        emojiTrie.put("🫱🏾‍🫲🏻", Boolean.TRUE);
-        emojiTrie.put("🫱🏾‍🫲🏼", Boolean.TRUE);
-        emojiTrie.put("🫱🏾‍🫲🏽", Boolean.TRUE);
-        emojiTrie.put("🫱🏾‍🫲🏿", Boolean.TRUE);
-        emojiTrie.put("🫱🏿‍🫲🏻", Boolean.TRUE);
-        emojiTrie.put("🫱🏿‍🫲🏼", Boolean.TRUE);
-        emojiTrie.put("🫱🏿‍🫲🏽", Boolean.TRUE);
-        emojiTrie.put("🫱🏿‍🫲🏾", Boolean.TRUE);
-        emojiTrie.put("🙏", Boolean.TRUE);
-        emojiTrie.put("🙏🏻", Boolean.TRUE);
-        emojiTrie.put("🙏🏼", Boolean.TRUE);
-        emojiTrie.put("🙏🏽", Boolean.TRUE);
-        emojiTrie.put("🙏🏾", Boolean.TRUE);
-        emojiTrie.put("🙏🏿", Boolean.TRUE);
-        emojiTrie.put("✍️", Boolean.TRUE);
-        emojiTrie.put("✍", Boolean.TRUE);
-        emojiTrie.put("✍🏻", Boolean.TRUE);
-        emojiTrie.put("✍🏼", Boolean.TRUE);
-        emojiTrie.put("✍🏽", Boolean.TRUE);
-        emojiTrie.put("✍🏾", Boolean.TRUE);
-        emojiTrie.put("✍🏿", Boolean.TRUE);
-        emojiTrie.put("💅", Boolean.TRUE);
-        emojiTrie.put("💅🏻", Boolean.TRUE);
-        emojiTrie.put("💅🏼", Boolean.TRUE);
-        emojiTrie.put("💅🏽", Boolean.TRUE);
-        emojiTrie.put("💅🏾", Boolean.TRUE);
-        emojiTrie.put("💅🏿", Boolean.TRUE);
-        emojiTrie.put("🤳", Boolean.TRUE);
-        emojiTrie.put("🤳🏻", Boolean.TRUE);
-        emojiTrie.put("🤳🏼", Boolean.TRUE);
-        emojiTrie.put("🤳🏽", Boolean.TRUE);
-        emojiTrie.put("🤳🏾", Boolean.TRUE);
-        emojiTrie.put("🤳🏿", Boolean.TRUE);
-        emojiTrie.put("💪", Boolean.TRUE);
-        emojiTrie.put("💪🏻", Boolean.TRUE);
-        emojiTrie.put("💪🏼", Boolean.TRUE);
-        emojiTrie.put("💪🏽", Boolean.TRUE);
-        emojiTrie.put("💪🏾", Boolean.TRUE);
-        emojiTrie.put("💪🏿", Boolean.TRUE);
-        emojiTrie.put("🦾", Boolean.TRUE);
-        emojiTrie.put("🦿", Boolean.TRUE);
-        emojiTrie.put("🦵", Boolean.TRUE);
-        emojiTrie.put("🦵🏻", Boolean.TRUE);
-        emojiTrie.put("🦵🏼", Boolean.TRUE);
-        emojiTrie.put("🦵🏽", Boolean.TRUE);
-        emojiTrie.put("🦵🏾", Boolean.TRUE);
-        emojiTrie.put("🦵🏿", Boolean.TRUE);
-        emojiTrie.put("🦶", Boolean.TRUE);
-        emojiTrie.put("🦶🏻", Boolean.TRUE);
-        emojiTrie.put("🦶🏼", Boolean.TRUE);
-        emojiTrie.put("🦶🏽", Boolean.TRUE);
-        emojiTrie.put("🦶🏾", Boolean.TRUE);
-        emojiTrie.put("🦶🏿", Boolean.TRUE);
-        emojiTrie.put("👂", Boolean.TRUE);
-        emojiTrie.put("👂🏻", Boolean.TRUE);
-        emojiTrie.put("👂🏼", Boolean.TRUE);
-        emojiTrie.put("👂🏽", Boolean.TRUE);
-        emojiTrie.put("👂🏾", Boolean.TRUE);
-        emojiTrie.put("👂🏿", Boolean.TRUE);
-        emojiTrie.put("🦻", Boolean.TRUE);
-        emojiTrie.put("🦻🏻", Boolean.TRUE);
-        emojiTrie.put("🦻🏼", Boolean.TRUE);
-        emojiTrie.put("🦻🏽", Boolean.TRUE);
-        emojiTrie.put("🦻🏾", Boolean.TRUE);
-        emojiTrie.put("🦻🏿", Boolean.TRUE);
-        emojiTrie.put("👃", Boolean.TRUE);
-        emojiTrie.put("👃🏻", Boolean.TRUE);
-        emojiTrie.put("👃🏼", Boolean.TRUE);
-        emojiTrie.put("👃🏽", Boolean.TRUE);
-        emojiTrie.put("👃🏾", Boolean.TRUE);
-        emojiTrie.put("👃🏿", Boolean.TRUE);
-        emojiTrie.put("🧠", Boolean.TRUE);
-        emojiTrie.put("🫀", Boolean.TRUE);
-        emojiTrie.put("🫁", Boolean.TRUE);
-        emojiTrie.put("🦷", Boolean.TRUE);
-        emojiTrie.put("🦴", Boolean.TRUE);
-        emojiTrie.put("👀", Boolean.TRUE);
-        emojiTrie.put("👁️", Boolean.TRUE);
-        emojiTrie.put("👁", Boolean.TRUE);
-        emojiTrie.put("👅", Boolean.TRUE);
-        emojiTrie.put("👄", Boolean.TRUE);
-        emojiTrie.put("🫦", Boolean.TRUE);
-        emojiTrie.put("👶", Boolean.TRUE);
-        emojiTrie.put("👶🏻", Boolean.TRUE);
-        emojiTrie.put("👶🏼", Boolean.TRUE);
-        emojiTrie.put("👶🏽", Boolean.TRUE);
-        emojiTrie.put("👶🏾", Boolean.TRUE);
-        emojiTrie.put("👶🏿", Boolean.TRUE);
-        emojiTrie.put("🧒", Boolean.TRUE);
-        emojiTrie.put("🧒🏻", Boolean.TRUE);
-        emojiTrie.put("🧒🏼", Boolean.TRUE);
-        emojiTrie.put("🧒🏽", Boolean.TRUE);
-        emojiTrie.put("🧒🏾", Boolean.TRUE);
-        emojiTrie.put("🧒🏿", Boolean.TRUE);
-        emojiTrie.put("👦", Boolean.TRUE);
-        emojiTrie.put("👦🏻", Boolean.TRUE);
-        emojiTrie.put("👦🏼", Boolean.TRUE);
-        emojiTrie.put("👦🏽", Boolean.TRUE);
-        emojiTrie.put("👦🏾", Boolean.TRUE);
-        emojiTrie.put("👦🏿", Boolean.TRUE);
-        emojiTrie.put("👧", Boolean.TRUE);
-        emojiTrie.put("👧🏻", Boolean.TRUE);
-        emojiTrie.put("👧🏼", Boolean.TRUE);
-        emojiTrie.put("👧🏽", Boolean.TRUE);
-        emojiTrie.put("👧🏾", Boolean.TRUE);
-        emojiTrie.put("👧🏿", Boolean.TRUE);
-        emojiTrie.put("🧑", Boolean.TRUE);
-        emojiTrie.put("🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏿", Boolean.TRUE);
-        emojiTrie.put("👱", Boolean.TRUE);
-        emojiTrie.put("👱🏻", Boolean.TRUE);
-        emojiTrie.put("👱🏼", Boolean.TRUE);
-        emojiTrie.put("👱🏽", Boolean.TRUE);
-        emojiTrie.put("👱🏾", Boolean.TRUE);
-        emojiTrie.put("👱🏿", Boolean.TRUE);
-        emojiTrie.put("👨", Boolean.TRUE);
-        emojiTrie.put("👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏿", Boolean.TRUE);
-        emojiTrie.put("🧔", Boolean.TRUE);
-        emojiTrie.put("🧔🏻", Boolean.TRUE);
-        emojiTrie.put("🧔🏼", Boolean.TRUE);
-        emojiTrie.put("🧔🏽", Boolean.TRUE);
-        emojiTrie.put("🧔🏾", Boolean.TRUE);
-        emojiTrie.put("🧔🏿", Boolean.TRUE);
-        emojiTrie.put("🧔‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧔‍♂", Boolean.TRUE);
-        emojiTrie.put("🧔🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧔🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧔🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧔🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧔🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧔🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧔🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧔🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧔🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧔🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧔‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧔‍♀", Boolean.TRUE);
-        emojiTrie.put("🧔🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧔🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧔🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧔🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧔🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧔🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧔🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧔🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧔🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧔🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("👨‍🦰", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦰", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦰", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦰", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦰", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦰", Boolean.TRUE);
-        emojiTrie.put("👨‍🦱", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦱", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦱", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦱", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦱", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦱", Boolean.TRUE);
-        emojiTrie.put("👨‍🦳", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦳", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦳", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦳", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦳", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦳", Boolean.TRUE);
-        emojiTrie.put("👨‍🦲", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦲", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦲", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦲", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦲", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦲", Boolean.TRUE);
-        emojiTrie.put("👩", Boolean.TRUE);
-        emojiTrie.put("👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩‍🦰", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦰", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦰", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦰", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦰", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦰", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦰", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦰", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦰", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦰", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦰", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦰", Boolean.TRUE);
-        emojiTrie.put("👩‍🦱", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦱", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦱", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦱", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦱", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦱", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦱", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦱", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦱", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦱", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦱", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦱", Boolean.TRUE);
-        emojiTrie.put("👩‍🦳", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦳", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦳", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦳", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦳", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦳", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦳", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦳", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦳", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦳", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦳", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦳", Boolean.TRUE);
-        emojiTrie.put("👩‍🦲", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦲", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦲", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦲", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦲", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦲", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦲", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦲", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦲", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦲", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦲", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦲", Boolean.TRUE);
-        emojiTrie.put("👱‍♀️", Boolean.TRUE);
-        emojiTrie.put("👱‍♀", Boolean.TRUE);
-        emojiTrie.put("👱🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("👱🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("👱🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("👱🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("👱🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("👱🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("👱🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("👱🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("👱🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("👱🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("👱‍♂️", Boolean.TRUE);
-        emojiTrie.put("👱‍♂", Boolean.TRUE);
-        emojiTrie.put("👱🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("👱🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("👱🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("👱🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("👱🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("👱🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("👱🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("👱🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("👱🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("👱🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧓", Boolean.TRUE);
-        emojiTrie.put("🧓🏻", Boolean.TRUE);
-        emojiTrie.put("🧓🏼", Boolean.TRUE);
-        emojiTrie.put("🧓🏽", Boolean.TRUE);
-        emojiTrie.put("🧓🏾", Boolean.TRUE);
-        emojiTrie.put("🧓🏿", Boolean.TRUE);
-        emojiTrie.put("👴", Boolean.TRUE);
-        emojiTrie.put("👴🏻", Boolean.TRUE);
-        emojiTrie.put("👴🏼", Boolean.TRUE);
-        emojiTrie.put("👴🏽", Boolean.TRUE);
-        emojiTrie.put("👴🏾", Boolean.TRUE);
-        emojiTrie.put("👴🏿", Boolean.TRUE);
-        emojiTrie.put("👵", Boolean.TRUE);
-        emojiTrie.put("👵🏻", Boolean.TRUE);
-        emojiTrie.put("👵🏼", Boolean.TRUE);
-        emojiTrie.put("👵🏽", Boolean.TRUE);
-        emojiTrie.put("👵🏾", Boolean.TRUE);
-        emojiTrie.put("👵🏿", Boolean.TRUE);
-        emojiTrie.put("🙍", Boolean.TRUE);
-        emojiTrie.put("🙍🏻", Boolean.TRUE);
-        emojiTrie.put("🙍🏼", Boolean.TRUE);
-        emojiTrie.put("🙍🏽", Boolean.TRUE);
-        emojiTrie.put("🙍🏾", Boolean.TRUE);
-        emojiTrie.put("🙍🏿", Boolean.TRUE);
-        emojiTrie.put("🙍‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙍‍♂", Boolean.TRUE);
-        emojiTrie.put("🙍🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙍🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🙍🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙍🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🙍🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙍🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🙍🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙍🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🙍🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙍🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🙍‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙍‍♀", Boolean.TRUE);
-        emojiTrie.put("🙍🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙍🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🙍🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙍🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🙍🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙍🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🙍🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙍🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🙍🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙍🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🙎", Boolean.TRUE);
-        emojiTrie.put("🙎🏻", Boolean.TRUE);
-        emojiTrie.put("🙎🏼", Boolean.TRUE);
-        emojiTrie.put("🙎🏽", Boolean.TRUE);
-        emojiTrie.put("🙎🏾", Boolean.TRUE);
-        emojiTrie.put("🙎🏿", Boolean.TRUE);
-        emojiTrie.put("🙎‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙎‍♂", Boolean.TRUE);
-        emojiTrie.put("🙎🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙎🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🙎🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙎🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🙎🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙎🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🙎🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙎🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🙎🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙎🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🙎‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙎‍♀", Boolean.TRUE);
-        emojiTrie.put("🙎🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙎🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🙎🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙎🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🙎🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙎🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🙎🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙎🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🙎🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙎🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🙅", Boolean.TRUE);
-        emojiTrie.put("🙅🏻", Boolean.TRUE);
-        emojiTrie.put("🙅🏼", Boolean.TRUE);
-        emojiTrie.put("🙅🏽", Boolean.TRUE);
-        emojiTrie.put("🙅🏾", Boolean.TRUE);
-        emojiTrie.put("🙅🏿", Boolean.TRUE);
-        emojiTrie.put("🙅‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙅‍♂", Boolean.TRUE);
-        emojiTrie.put("🙅🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙅🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🙅🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙅🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🙅🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙅🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🙅🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙅🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🙅🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙅🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🙅‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙅‍♀", Boolean.TRUE);
-        emojiTrie.put("🙅🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙅🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🙅🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙅🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🙅🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙅🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🙅🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙅🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🙅🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙅🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🙆", Boolean.TRUE);
-        emojiTrie.put("🙆🏻", Boolean.TRUE);
-        emojiTrie.put("🙆🏼", Boolean.TRUE);
-        emojiTrie.put("🙆🏽", Boolean.TRUE);
-        emojiTrie.put("🙆🏾", Boolean.TRUE);
-        emojiTrie.put("🙆🏿", Boolean.TRUE);
-        emojiTrie.put("🙆‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙆‍♂", Boolean.TRUE);
-        emojiTrie.put("🙆🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙆🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🙆🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙆🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🙆🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙆🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🙆🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙆🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🙆🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙆🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🙆‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙆‍♀", Boolean.TRUE);
-        emojiTrie.put("🙆🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙆🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🙆🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙆🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🙆🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙆🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🙆🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙆🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🙆🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙆🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("💁", Boolean.TRUE);
-        emojiTrie.put("💁🏻", Boolean.TRUE);
-        emojiTrie.put("💁🏼", Boolean.TRUE);
-        emojiTrie.put("💁🏽", Boolean.TRUE);
-        emojiTrie.put("💁🏾", Boolean.TRUE);
-        emojiTrie.put("💁🏿", Boolean.TRUE);
-        emojiTrie.put("💁‍♂️", Boolean.TRUE);
-        emojiTrie.put("💁‍♂", Boolean.TRUE);
-        emojiTrie.put("💁🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("💁🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("💁🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("💁🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("💁🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("💁🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("💁🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("💁🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("💁🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("💁🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("💁‍♀️", Boolean.TRUE);
-        emojiTrie.put("💁‍♀", Boolean.TRUE);
-        emojiTrie.put("💁🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("💁🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("💁🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("💁🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("💁🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("💁🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("💁🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("💁🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("💁🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("💁🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🙋", Boolean.TRUE);
-        emojiTrie.put("🙋🏻", Boolean.TRUE);
-        emojiTrie.put("🙋🏼", Boolean.TRUE);
-        emojiTrie.put("🙋🏽", Boolean.TRUE);
-        emojiTrie.put("🙋🏾", Boolean.TRUE);
-        emojiTrie.put("🙋🏿", Boolean.TRUE);
-        emojiTrie.put("🙋‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙋‍♂", Boolean.TRUE);
-        emojiTrie.put("🙋🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙋🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🙋🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙋🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🙋🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙋🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🙋🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙋🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🙋🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙋🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🙋‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙋‍♀", Boolean.TRUE);
-        emojiTrie.put("🙋🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙋🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🙋🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙋🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🙋🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙋🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🙋🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙋🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🙋🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙋🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧏", Boolean.TRUE);
-        emojiTrie.put("🧏🏻", Boolean.TRUE);
-        emojiTrie.put("🧏🏼", Boolean.TRUE);
-        emojiTrie.put("🧏🏽", Boolean.TRUE);
-        emojiTrie.put("🧏🏾", Boolean.TRUE);
-        emojiTrie.put("🧏🏿", Boolean.TRUE);
-        emojiTrie.put("🧏‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧏‍♂", Boolean.TRUE);
-        emojiTrie.put("🧏🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧏🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧏🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧏🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧏🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧏🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧏🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧏🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧏🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧏🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧏‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧏‍♀", Boolean.TRUE);
-        emojiTrie.put("🧏🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧏🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧏🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧏🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧏🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧏🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧏🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧏🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧏🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧏🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🙇", Boolean.TRUE);
-        emojiTrie.put("🙇🏻", Boolean.TRUE);
-        emojiTrie.put("🙇🏼", Boolean.TRUE);
-        emojiTrie.put("🙇🏽", Boolean.TRUE);
-        emojiTrie.put("🙇🏾", Boolean.TRUE);
-        emojiTrie.put("🙇🏿", Boolean.TRUE);
-        emojiTrie.put("🙇‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙇‍♂", Boolean.TRUE);
-        emojiTrie.put("🙇🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙇🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🙇🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙇🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🙇🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙇🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🙇🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙇🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🙇🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🙇🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🙇‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙇‍♀", Boolean.TRUE);
-        emojiTrie.put("🙇🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙇🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🙇🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙇🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🙇🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙇🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🙇🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙇🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🙇🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🙇🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🤦", Boolean.TRUE);
-        emojiTrie.put("🤦🏻", Boolean.TRUE);
-        emojiTrie.put("🤦🏼", Boolean.TRUE);
-        emojiTrie.put("🤦🏽", Boolean.TRUE);
-        emojiTrie.put("🤦🏾", Boolean.TRUE);
-        emojiTrie.put("🤦🏿", Boolean.TRUE);
-        emojiTrie.put("🤦‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤦‍♂", Boolean.TRUE);
-        emojiTrie.put("🤦🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤦🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🤦🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤦🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🤦🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤦🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🤦🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤦🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🤦🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤦🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🤦‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤦‍♀", Boolean.TRUE);
-        emojiTrie.put("🤦🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤦🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🤦🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤦🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🤦🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤦🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🤦🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤦🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🤦🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤦🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🤷", Boolean.TRUE);
-        emojiTrie.put("🤷🏻", Boolean.TRUE);
-        emojiTrie.put("🤷🏼", Boolean.TRUE);
-        emojiTrie.put("🤷🏽", Boolean.TRUE);
-        emojiTrie.put("🤷🏾", Boolean.TRUE);
-        emojiTrie.put("🤷🏿", Boolean.TRUE);
-        emojiTrie.put("🤷‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤷‍♂", Boolean.TRUE);
-        emojiTrie.put("🤷🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤷🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🤷🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤷🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🤷🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤷🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🤷🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤷🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🤷🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤷🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🤷‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤷‍♀", Boolean.TRUE);
-        emojiTrie.put("🤷🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤷🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🤷🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤷🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🤷🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤷🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🤷🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤷🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🤷🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤷🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧑‍⚕️", Boolean.TRUE);
-        emojiTrie.put("🧑‍⚕", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍⚕️", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍⚕", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍⚕️", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍⚕", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍⚕️", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍⚕", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍⚕️", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍⚕", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍⚕️", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍⚕", Boolean.TRUE);
-        emojiTrie.put("👨‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👨‍⚕", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍⚕", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍⚕", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍⚕", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍⚕", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍⚕", Boolean.TRUE);
-        emojiTrie.put("👩‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👩‍⚕", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍⚕", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍⚕", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍⚕", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍⚕", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍⚕️", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍⚕", Boolean.TRUE);
-        emojiTrie.put("🧑‍🎓", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🎓", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🎓", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🎓", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🎓", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🎓", Boolean.TRUE);
-        emojiTrie.put("👨‍🎓", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🎓", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🎓", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🎓", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🎓", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🎓", Boolean.TRUE);
-        emojiTrie.put("👩‍🎓", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🎓", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🎓", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🎓", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🎓", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🎓", Boolean.TRUE);
-        emojiTrie.put("🧑‍🏫", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🏫", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🏫", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🏫", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🏫", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🏫", Boolean.TRUE);
-        emojiTrie.put("👨‍🏫", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🏫", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🏫", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🏫", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🏫", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🏫", Boolean.TRUE);
-        emojiTrie.put("👩‍🏫", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🏫", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🏫", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🏫", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🏫", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🏫", Boolean.TRUE);
-        emojiTrie.put("🧑‍⚖️", Boolean.TRUE);
-        emojiTrie.put("🧑‍⚖", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍⚖️", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍⚖", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍⚖️", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍⚖", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍⚖️", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍⚖", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍⚖️", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍⚖", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍⚖️", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍⚖", Boolean.TRUE);
-        emojiTrie.put("👨‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👨‍⚖", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍⚖", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍⚖", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍⚖", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍⚖", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍⚖", Boolean.TRUE);
-        emojiTrie.put("👩‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👩‍⚖", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍⚖", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍⚖", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍⚖", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍⚖", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍⚖️", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍⚖", Boolean.TRUE);
-        emojiTrie.put("🧑‍🌾", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🌾", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🌾", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🌾", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🌾", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🌾", Boolean.TRUE);
-        emojiTrie.put("👨‍🌾", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🌾", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🌾", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🌾", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🌾", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🌾", Boolean.TRUE);
-        emojiTrie.put("👩‍🌾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🌾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🌾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🌾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🌾", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🌾", Boolean.TRUE);
-        emojiTrie.put("🧑‍🍳", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🍳", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🍳", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🍳", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🍳", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🍳", Boolean.TRUE);
-        emojiTrie.put("👨‍🍳", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🍳", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🍳", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🍳", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🍳", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🍳", Boolean.TRUE);
-        emojiTrie.put("👩‍🍳", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🍳", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🍳", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🍳", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🍳", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🍳", Boolean.TRUE);
-        emojiTrie.put("🧑‍🔧", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🔧", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🔧", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🔧", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🔧", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🔧", Boolean.TRUE);
-        emojiTrie.put("👨‍🔧", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🔧", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🔧", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🔧", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🔧", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🔧", Boolean.TRUE);
-        emojiTrie.put("👩‍🔧", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🔧", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🔧", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🔧", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🔧", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🔧", Boolean.TRUE);
-        emojiTrie.put("🧑‍🏭", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🏭", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🏭", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🏭", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🏭", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🏭", Boolean.TRUE);
-        emojiTrie.put("👨‍🏭", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🏭", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🏭", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🏭", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🏭", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🏭", Boolean.TRUE);
-        emojiTrie.put("👩‍🏭", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🏭", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🏭", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🏭", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🏭", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🏭", Boolean.TRUE);
-        emojiTrie.put("🧑‍💼", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍💼", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍💼", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍💼", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍💼", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍💼", Boolean.TRUE);
-        emojiTrie.put("👨‍💼", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍💼", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍💼", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍💼", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍💼", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍💼", Boolean.TRUE);
-        emojiTrie.put("👩‍💼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍💼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍💼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍💼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍💼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍💼", Boolean.TRUE);
-        emojiTrie.put("🧑‍🔬", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🔬", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🔬", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🔬", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🔬", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🔬", Boolean.TRUE);
-        emojiTrie.put("👨‍🔬", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🔬", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🔬", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🔬", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🔬", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🔬", Boolean.TRUE);
-        emojiTrie.put("👩‍🔬", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🔬", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🔬", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🔬", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🔬", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🔬", Boolean.TRUE);
-        emojiTrie.put("🧑‍💻", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍💻", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍💻", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍💻", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍💻", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍💻", Boolean.TRUE);
-        emojiTrie.put("👨‍💻", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍💻", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍💻", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍💻", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍💻", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍💻", Boolean.TRUE);
-        emojiTrie.put("👩‍💻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍💻", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍💻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍💻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍💻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍💻", Boolean.TRUE);
-        emojiTrie.put("🧑‍🎤", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🎤", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🎤", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🎤", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🎤", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🎤", Boolean.TRUE);
-        emojiTrie.put("👨‍🎤", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🎤", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🎤", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🎤", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🎤", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🎤", Boolean.TRUE);
-        emojiTrie.put("👩‍🎤", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🎤", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🎤", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🎤", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🎤", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🎤", Boolean.TRUE);
-        emojiTrie.put("🧑‍🎨", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🎨", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🎨", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🎨", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🎨", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🎨", Boolean.TRUE);
-        emojiTrie.put("👨‍🎨", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🎨", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🎨", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🎨", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🎨", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🎨", Boolean.TRUE);
-        emojiTrie.put("👩‍🎨", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🎨", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🎨", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🎨", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🎨", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🎨", Boolean.TRUE);
-        emojiTrie.put("🧑‍✈️", Boolean.TRUE);
-        emojiTrie.put("🧑‍✈", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍✈️", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍✈", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍✈️", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍✈", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍✈️", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍✈", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍✈️", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍✈", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍✈️", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍✈", Boolean.TRUE);
-        emojiTrie.put("👨‍✈️", Boolean.TRUE);
-        emojiTrie.put("👨‍✈", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍✈️", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍✈", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍✈️", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍✈", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍✈️", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍✈", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍✈️", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍✈", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍✈️", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍✈", Boolean.TRUE);
-        emojiTrie.put("👩‍✈️", Boolean.TRUE);
-        emojiTrie.put("👩‍✈", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍✈️", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍✈", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍✈️", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍✈", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍✈️", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍✈", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍✈️", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍✈", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍✈️", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍✈", Boolean.TRUE);
-        emojiTrie.put("🧑‍🚀", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🚀", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🚀", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🚀", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🚀", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🚀", Boolean.TRUE);
-        emojiTrie.put("👨‍🚀", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🚀", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🚀", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🚀", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🚀", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🚀", Boolean.TRUE);
-        emojiTrie.put("👩‍🚀", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🚀", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🚀", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🚀", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🚀", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🚀", Boolean.TRUE);
-        emojiTrie.put("🧑‍🚒", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🚒", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🚒", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🚒", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🚒", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🚒", Boolean.TRUE);
-        emojiTrie.put("👨‍🚒", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🚒", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🚒", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🚒", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🚒", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🚒", Boolean.TRUE);
-        emojiTrie.put("👩‍🚒", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🚒", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🚒", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🚒", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🚒", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🚒", Boolean.TRUE);
-        emojiTrie.put("👮", Boolean.TRUE);
-        emojiTrie.put("👮🏻", Boolean.TRUE);
-        emojiTrie.put("👮🏼", Boolean.TRUE);
-        emojiTrie.put("👮🏽", Boolean.TRUE);
-        emojiTrie.put("👮🏾", Boolean.TRUE);
-        emojiTrie.put("👮🏿", Boolean.TRUE);
-        emojiTrie.put("👮‍♂️", Boolean.TRUE);
-        emojiTrie.put("👮‍♂", Boolean.TRUE);
-        emojiTrie.put("👮🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("👮🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("👮🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("👮🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("👮🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("👮🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("👮🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("👮🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("👮🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("👮🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("👮‍♀️", Boolean.TRUE);
-        emojiTrie.put("👮‍♀", Boolean.TRUE);
-        emojiTrie.put("👮🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("👮🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("👮🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("👮🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("👮🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("👮🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("👮🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("👮🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("👮🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("👮🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🕵️", Boolean.TRUE);
-        emojiTrie.put("🕵", Boolean.TRUE);
-        emojiTrie.put("🕵🏻", Boolean.TRUE);
-        emojiTrie.put("🕵🏼", Boolean.TRUE);
-        emojiTrie.put("🕵🏽", Boolean.TRUE);
-        emojiTrie.put("🕵🏾", Boolean.TRUE);
-        emojiTrie.put("🕵🏿", Boolean.TRUE);
-        emojiTrie.put("🕵️‍♂️", Boolean.TRUE);
-        emojiTrie.put("🕵‍♂️", Boolean.TRUE);
-        emojiTrie.put("🕵️‍♂", Boolean.TRUE);
-        emojiTrie.put("🕵‍♂", Boolean.TRUE);
-        emojiTrie.put("🕵🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🕵🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🕵🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🕵🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🕵🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🕵🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🕵🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🕵🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🕵🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🕵🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🕵️‍♀️", Boolean.TRUE);
-        emojiTrie.put("🕵‍♀️", Boolean.TRUE);
-        emojiTrie.put("🕵️‍♀", Boolean.TRUE);
-        emojiTrie.put("🕵‍♀", Boolean.TRUE);
-        emojiTrie.put("🕵🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🕵🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🕵🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🕵🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🕵🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🕵🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🕵🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🕵🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🕵🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🕵🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("💂", Boolean.TRUE);
-        emojiTrie.put("💂🏻", Boolean.TRUE);
-        emojiTrie.put("💂🏼", Boolean.TRUE);
-        emojiTrie.put("💂🏽", Boolean.TRUE);
-        emojiTrie.put("💂🏾", Boolean.TRUE);
-        emojiTrie.put("💂🏿", Boolean.TRUE);
-        emojiTrie.put("💂‍♂️", Boolean.TRUE);
-        emojiTrie.put("💂‍♂", Boolean.TRUE);
-        emojiTrie.put("💂🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("💂🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("💂🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("💂🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("💂🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("💂🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("💂🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("💂🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("💂🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("💂🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("💂‍♀️", Boolean.TRUE);
-        emojiTrie.put("💂‍♀", Boolean.TRUE);
-        emojiTrie.put("💂🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("💂🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("💂🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("💂🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("💂🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("💂🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("💂🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("💂🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("💂🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("💂🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🥷", Boolean.TRUE);
-        emojiTrie.put("🥷🏻", Boolean.TRUE);
-        emojiTrie.put("🥷🏼", Boolean.TRUE);
-        emojiTrie.put("🥷🏽", Boolean.TRUE);
-        emojiTrie.put("🥷🏾", Boolean.TRUE);
-        emojiTrie.put("🥷🏿", Boolean.TRUE);
-        emojiTrie.put("👷", Boolean.TRUE);
-        emojiTrie.put("👷🏻", Boolean.TRUE);
-        emojiTrie.put("👷🏼", Boolean.TRUE);
-        emojiTrie.put("👷🏽", Boolean.TRUE);
-        emojiTrie.put("👷🏾", Boolean.TRUE);
-        emojiTrie.put("👷🏿", Boolean.TRUE);
-        emojiTrie.put("👷‍♂️", Boolean.TRUE);
-        emojiTrie.put("👷‍♂", Boolean.TRUE);
-        emojiTrie.put("👷🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("👷🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("👷🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("👷🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("👷🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("👷🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("👷🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("👷🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("👷🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("👷🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("👷‍♀️", Boolean.TRUE);
-        emojiTrie.put("👷‍♀", Boolean.TRUE);
-        emojiTrie.put("👷🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("👷🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("👷🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("👷🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("👷🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("👷🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("👷🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("👷🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("👷🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("👷🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🫅", Boolean.TRUE);
-        emojiTrie.put("🫅🏻", Boolean.TRUE);
-        emojiTrie.put("🫅🏼", Boolean.TRUE);
-        emojiTrie.put("🫅🏽", Boolean.TRUE);
-        emojiTrie.put("🫅🏾", Boolean.TRUE);
-        emojiTrie.put("🫅🏿", Boolean.TRUE);
-        emojiTrie.put("🤴", Boolean.TRUE);
-        emojiTrie.put("🤴🏻", Boolean.TRUE);
-        emojiTrie.put("🤴🏼", Boolean.TRUE);
-        emojiTrie.put("🤴🏽", Boolean.TRUE);
-        emojiTrie.put("🤴🏾", Boolean.TRUE);
-        emojiTrie.put("🤴🏿", Boolean.TRUE);
-        emojiTrie.put("👸", Boolean.TRUE);
-        emojiTrie.put("👸🏻", Boolean.TRUE);
-        emojiTrie.put("👸🏼", Boolean.TRUE);
-        emojiTrie.put("👸🏽", Boolean.TRUE);
-        emojiTrie.put("👸🏾", Boolean.TRUE);
-        emojiTrie.put("👸🏿", Boolean.TRUE);
-        emojiTrie.put("👳", Boolean.TRUE);
-        emojiTrie.put("👳🏻", Boolean.TRUE);
-        emojiTrie.put("👳🏼", Boolean.TRUE);
-        emojiTrie.put("👳🏽", Boolean.TRUE);
-        emojiTrie.put("👳🏾", Boolean.TRUE);
-        emojiTrie.put("👳🏿", Boolean.TRUE);
-        emojiTrie.put("👳‍♂️", Boolean.TRUE);
-        emojiTrie.put("👳‍♂", Boolean.TRUE);
-        emojiTrie.put("👳🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("👳🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("👳🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("👳🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("👳🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("👳🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("👳🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("👳🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("👳🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("👳🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("👳‍♀️", Boolean.TRUE);
-        emojiTrie.put("👳‍♀", Boolean.TRUE);
-        emojiTrie.put("👳🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("👳🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("👳🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("👳🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("👳🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("👳🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("👳🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("👳🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("👳🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("👳🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("👲", Boolean.TRUE);
-        emojiTrie.put("👲🏻", Boolean.TRUE);
-        emojiTrie.put("👲🏼", Boolean.TRUE);
-        emojiTrie.put("👲🏽", Boolean.TRUE);
-        emojiTrie.put("👲🏾", Boolean.TRUE);
-        emojiTrie.put("👲🏿", Boolean.TRUE);
-        emojiTrie.put("🧕", Boolean.TRUE);
-        emojiTrie.put("🧕🏻", Boolean.TRUE);
-        emojiTrie.put("🧕🏼", Boolean.TRUE);
-        emojiTrie.put("🧕🏽", Boolean.TRUE);
-        emojiTrie.put("🧕🏾", Boolean.TRUE);
-        emojiTrie.put("🧕🏿", Boolean.TRUE);
-        emojiTrie.put("🤵", Boolean.TRUE);
-        emojiTrie.put("🤵🏻", Boolean.TRUE);
-        emojiTrie.put("🤵🏼", Boolean.TRUE);
-        emojiTrie.put("🤵🏽", Boolean.TRUE);
-        emojiTrie.put("🤵🏾", Boolean.TRUE);
-        emojiTrie.put("🤵🏿", Boolean.TRUE);
-        emojiTrie.put("🤵‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤵‍♂", Boolean.TRUE);
-        emojiTrie.put("🤵🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤵🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🤵🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤵🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🤵🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤵🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🤵🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤵🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🤵🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤵🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🤵‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤵‍♀", Boolean.TRUE);
-        emojiTrie.put("🤵🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤵🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🤵🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤵🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🤵🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤵🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🤵🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤵🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🤵🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤵🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("👰", Boolean.TRUE);
-        emojiTrie.put("👰🏻", Boolean.TRUE);
-        emojiTrie.put("👰🏼", Boolean.TRUE);
-        emojiTrie.put("👰🏽", Boolean.TRUE);
-        emojiTrie.put("👰🏾", Boolean.TRUE);
-        emojiTrie.put("👰🏿", Boolean.TRUE);
-        emojiTrie.put("👰‍♂️", Boolean.TRUE);
-        emojiTrie.put("👰‍♂", Boolean.TRUE);
-        emojiTrie.put("👰🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("👰🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("👰🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("👰🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("👰🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("👰🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("👰🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("👰🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("👰🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("👰🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("👰‍♀️", Boolean.TRUE);
-        emojiTrie.put("👰‍♀", Boolean.TRUE);
-        emojiTrie.put("👰🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("👰🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("👰🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("👰🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("👰🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("👰🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("👰🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("👰🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("👰🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("👰🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🤰", Boolean.TRUE);
-        emojiTrie.put("🤰🏻", Boolean.TRUE);
-        emojiTrie.put("🤰🏼", Boolean.TRUE);
-        emojiTrie.put("🤰🏽", Boolean.TRUE);
-        emojiTrie.put("🤰🏾", Boolean.TRUE);
-        emojiTrie.put("🤰🏿", Boolean.TRUE);
-        emojiTrie.put("🫃", Boolean.TRUE);
-        emojiTrie.put("🫃🏻", Boolean.TRUE);
-        emojiTrie.put("🫃🏼", Boolean.TRUE);
-        emojiTrie.put("🫃🏽", Boolean.TRUE);
-        emojiTrie.put("🫃🏾", Boolean.TRUE);
-        emojiTrie.put("🫃🏿", Boolean.TRUE);
-        emojiTrie.put("🫄", Boolean.TRUE);
-        emojiTrie.put("🫄🏻", Boolean.TRUE);
-        emojiTrie.put("🫄🏼", Boolean.TRUE);
-        emojiTrie.put("🫄🏽", Boolean.TRUE);
-        emojiTrie.put("🫄🏾", Boolean.TRUE);
-        emojiTrie.put("🫄🏿", Boolean.TRUE);
-        emojiTrie.put("🤱", Boolean.TRUE);
-        emojiTrie.put("🤱🏻", Boolean.TRUE);
-        emojiTrie.put("🤱🏼", Boolean.TRUE);
-        emojiTrie.put("🤱🏽", Boolean.TRUE);
-        emojiTrie.put("🤱🏾", Boolean.TRUE);
-        emojiTrie.put("🤱🏿", Boolean.TRUE);
-        emojiTrie.put("👩‍🍼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🍼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🍼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🍼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🍼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🍼", Boolean.TRUE);
-        emojiTrie.put("👨‍🍼", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🍼", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🍼", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🍼", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🍼", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🍼", Boolean.TRUE);
-        emojiTrie.put("🧑‍🍼", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🍼", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🍼", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🍼", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🍼", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🍼", Boolean.TRUE);
-        emojiTrie.put("👼", Boolean.TRUE);
-        emojiTrie.put("👼🏻", Boolean.TRUE);
-        emojiTrie.put("👼🏼", Boolean.TRUE);
-        emojiTrie.put("👼🏽", Boolean.TRUE);
-        emojiTrie.put("👼🏾", Boolean.TRUE);
-        emojiTrie.put("👼🏿", Boolean.TRUE);
-        emojiTrie.put("🎅", Boolean.TRUE);
-        emojiTrie.put("🎅🏻", Boolean.TRUE);
-        emojiTrie.put("🎅🏼", Boolean.TRUE);
-        emojiTrie.put("🎅🏽", Boolean.TRUE);
-        emojiTrie.put("🎅🏾", Boolean.TRUE);
-        emojiTrie.put("🎅🏿", Boolean.TRUE);
-        emojiTrie.put("🤶", Boolean.TRUE);
-        emojiTrie.put("🤶🏻", Boolean.TRUE);
-        emojiTrie.put("🤶🏼", Boolean.TRUE);
-        emojiTrie.put("🤶🏽", Boolean.TRUE);
-        emojiTrie.put("🤶🏾", Boolean.TRUE);
-        emojiTrie.put("🤶🏿", Boolean.TRUE);
-        emojiTrie.put("🧑‍🎄", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🎄", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🎄", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🎄", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🎄", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🎄", Boolean.TRUE);
-        emojiTrie.put("🦸", Boolean.TRUE);
-        emojiTrie.put("🦸🏻", Boolean.TRUE);
-        emojiTrie.put("🦸🏼", Boolean.TRUE);
-        emojiTrie.put("🦸🏽", Boolean.TRUE);
-        emojiTrie.put("🦸🏾", Boolean.TRUE);
-        emojiTrie.put("🦸🏿", Boolean.TRUE);
-        emojiTrie.put("🦸‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦸‍♂", Boolean.TRUE);
-        emojiTrie.put("🦸🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦸🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🦸🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦸🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🦸🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦸🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🦸🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦸🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🦸🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦸🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🦸‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦸‍♀", Boolean.TRUE);
-        emojiTrie.put("🦸🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦸🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🦸🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦸🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🦸🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦸🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🦸🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦸🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🦸🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦸🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🦹", Boolean.TRUE);
-        emojiTrie.put("🦹🏻", Boolean.TRUE);
-        emojiTrie.put("🦹🏼", Boolean.TRUE);
-        emojiTrie.put("🦹🏽", Boolean.TRUE);
-        emojiTrie.put("🦹🏾", Boolean.TRUE);
-        emojiTrie.put("🦹🏿", Boolean.TRUE);
-        emojiTrie.put("🦹‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦹‍♂", Boolean.TRUE);
-        emojiTrie.put("🦹🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦹🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🦹🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦹🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🦹🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦹🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🦹🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦹🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🦹🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🦹🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🦹‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦹‍♀", Boolean.TRUE);
-        emojiTrie.put("🦹🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦹🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🦹🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦹🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🦹🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦹🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🦹🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦹🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🦹🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🦹🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧙", Boolean.TRUE);
-        emojiTrie.put("🧙🏻", Boolean.TRUE);
-        emojiTrie.put("🧙🏼", Boolean.TRUE);
-        emojiTrie.put("🧙🏽", Boolean.TRUE);
-        emojiTrie.put("🧙🏾", Boolean.TRUE);
-        emojiTrie.put("🧙🏿", Boolean.TRUE);
-        emojiTrie.put("🧙‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧙‍♂", Boolean.TRUE);
-        emojiTrie.put("🧙🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧙🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧙🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧙🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧙🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧙🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧙🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧙🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧙🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧙🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧙‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧙‍♀", Boolean.TRUE);
-        emojiTrie.put("🧙🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧙🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧙🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧙🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧙🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧙🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧙🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧙🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧙🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧙🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧚", Boolean.TRUE);
-        emojiTrie.put("🧚🏻", Boolean.TRUE);
-        emojiTrie.put("🧚🏼", Boolean.TRUE);
-        emojiTrie.put("🧚🏽", Boolean.TRUE);
-        emojiTrie.put("🧚🏾", Boolean.TRUE);
-        emojiTrie.put("🧚🏿", Boolean.TRUE);
-        emojiTrie.put("🧚‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧚‍♂", Boolean.TRUE);
-        emojiTrie.put("🧚🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧚🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧚🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧚🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧚🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧚🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧚🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧚🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧚🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧚🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧚‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧚‍♀", Boolean.TRUE);
-        emojiTrie.put("🧚🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧚🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧚🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧚🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧚🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧚🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧚🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧚🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧚🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧚🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧛", Boolean.TRUE);
-        emojiTrie.put("🧛🏻", Boolean.TRUE);
-        emojiTrie.put("🧛🏼", Boolean.TRUE);
-        emojiTrie.put("🧛🏽", Boolean.TRUE);
-        emojiTrie.put("🧛🏾", Boolean.TRUE);
-        emojiTrie.put("🧛🏿", Boolean.TRUE);
-        emojiTrie.put("🧛‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧛‍♂", Boolean.TRUE);
-        emojiTrie.put("🧛🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧛🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧛🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧛🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧛🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧛🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧛🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧛🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧛🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧛🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧛‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧛‍♀", Boolean.TRUE);
-        emojiTrie.put("🧛🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧛🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧛🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧛🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧛🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧛🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧛🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧛🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧛🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧛🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧜", Boolean.TRUE);
-        emojiTrie.put("🧜🏻", Boolean.TRUE);
-        emojiTrie.put("🧜🏼", Boolean.TRUE);
-        emojiTrie.put("🧜🏽", Boolean.TRUE);
-        emojiTrie.put("🧜🏾", Boolean.TRUE);
-        emojiTrie.put("🧜🏿", Boolean.TRUE);
-        emojiTrie.put("🧜‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧜‍♂", Boolean.TRUE);
-        emojiTrie.put("🧜🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧜🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧜🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧜🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧜🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧜🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧜🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧜🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧜🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧜🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧜‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧜‍♀", Boolean.TRUE);
-        emojiTrie.put("🧜🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧜🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧜🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧜🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧜🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧜🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧜🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧜🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧜🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧜🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧝", Boolean.TRUE);
-        emojiTrie.put("🧝🏻", Boolean.TRUE);
-        emojiTrie.put("🧝🏼", Boolean.TRUE);
-        emojiTrie.put("🧝🏽", Boolean.TRUE);
-        emojiTrie.put("🧝🏾", Boolean.TRUE);
-        emojiTrie.put("🧝🏿", Boolean.TRUE);
-        emojiTrie.put("🧝‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧝‍♂", Boolean.TRUE);
-        emojiTrie.put("🧝🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧝🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧝🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧝🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧝🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧝🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧝🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧝🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧝🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧝🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧝‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧝‍♀", Boolean.TRUE);
-        emojiTrie.put("🧝🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧝🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧝🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧝🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧝🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧝🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧝🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧝🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧝🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧝🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧞", Boolean.TRUE);
-        emojiTrie.put("🧞‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧞‍♂", Boolean.TRUE);
-        emojiTrie.put("🧞‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧞‍♀", Boolean.TRUE);
-        emojiTrie.put("🧟", Boolean.TRUE);
-        emojiTrie.put("🧟‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧟‍♂", Boolean.TRUE);
-        emojiTrie.put("🧟‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧟‍♀", Boolean.TRUE);
-        emojiTrie.put("🧌", Boolean.TRUE);
-        emojiTrie.put("💆", Boolean.TRUE);
-        emojiTrie.put("💆🏻", Boolean.TRUE);
-        emojiTrie.put("💆🏼", Boolean.TRUE);
-        emojiTrie.put("💆🏽", Boolean.TRUE);
-        emojiTrie.put("💆🏾", Boolean.TRUE);
-        emojiTrie.put("💆🏿", Boolean.TRUE);
-        emojiTrie.put("💆‍♂️", Boolean.TRUE);
-        emojiTrie.put("💆‍♂", Boolean.TRUE);
-        emojiTrie.put("💆🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("💆🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("💆🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("💆🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("💆🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("💆🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("💆🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("💆🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("💆🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("💆🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("💆‍♀️", Boolean.TRUE);
-        emojiTrie.put("💆‍♀", Boolean.TRUE);
-        emojiTrie.put("💆🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("💆🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("💆🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("💆🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("💆🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("💆🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("💆🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("💆🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("💆🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("💆🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("💇", Boolean.TRUE);
-        emojiTrie.put("💇🏻", Boolean.TRUE);
-        emojiTrie.put("💇🏼", Boolean.TRUE);
-        emojiTrie.put("💇🏽", Boolean.TRUE);
-        emojiTrie.put("💇🏾", Boolean.TRUE);
-        emojiTrie.put("💇🏿", Boolean.TRUE);
-        emojiTrie.put("💇‍♂️", Boolean.TRUE);
-        emojiTrie.put("💇‍♂", Boolean.TRUE);
-        emojiTrie.put("💇🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("💇🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("💇🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("💇🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("💇🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("💇🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("💇🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("💇🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("💇🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("💇🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("💇‍♀️", Boolean.TRUE);
-        emojiTrie.put("💇‍♀", Boolean.TRUE);
-        emojiTrie.put("💇🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("💇🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("💇🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("💇🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("💇🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("💇🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("💇🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("💇🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("💇🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("💇🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🚶", Boolean.TRUE);
-        emojiTrie.put("🚶🏻", Boolean.TRUE);
-        emojiTrie.put("🚶🏼", Boolean.TRUE);
-        emojiTrie.put("🚶🏽", Boolean.TRUE);
-        emojiTrie.put("🚶🏾", Boolean.TRUE);
-        emojiTrie.put("🚶🏿", Boolean.TRUE);
-        emojiTrie.put("🚶‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚶‍♂", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🚶‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚶‍♀", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🚶‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏻‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏼‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏽‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏾‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🚶🏿‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🧍", Boolean.TRUE);
-        emojiTrie.put("🧍🏻", Boolean.TRUE);
-        emojiTrie.put("🧍🏼", Boolean.TRUE);
-        emojiTrie.put("🧍🏽", Boolean.TRUE);
-        emojiTrie.put("🧍🏾", Boolean.TRUE);
-        emojiTrie.put("🧍🏿", Boolean.TRUE);
-        emojiTrie.put("🧍‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧍‍♂", Boolean.TRUE);
-        emojiTrie.put("🧍🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧍🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧍🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧍🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧍🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧍🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧍🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧍🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧍🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧍🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧍‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧍‍♀", Boolean.TRUE);
-        emojiTrie.put("🧍🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧍🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧍🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧍🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧍🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧍🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧍🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧍🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧍🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧍🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧎", Boolean.TRUE);
-        emojiTrie.put("🧎🏻", Boolean.TRUE);
-        emojiTrie.put("🧎🏼", Boolean.TRUE);
-        emojiTrie.put("🧎🏽", Boolean.TRUE);
-        emojiTrie.put("🧎🏾", Boolean.TRUE);
-        emojiTrie.put("🧎🏿", Boolean.TRUE);
-        emojiTrie.put("🧎‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧎‍♂", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧎‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧎‍♀", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧎‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏻‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏼‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏽‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏾‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🧎🏿‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦯", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦯", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦯", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦯", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦯", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦯", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👨‍🦯", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦯", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦯", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦯", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦯", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦯", Boolean.TRUE);
-        emojiTrie.put("👨‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👩‍🦯", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦯", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦯", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦯", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦯", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦯", Boolean.TRUE);
-        emojiTrie.put("👩‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦯‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦯‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦼", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦼", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦼", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦼", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦼", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦼", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👨‍🦼", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦼", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦼", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦼", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦼", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦼", Boolean.TRUE);
-        emojiTrie.put("👨‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👩‍🦼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦼", Boolean.TRUE);
-        emojiTrie.put("👩‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦼‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦼‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦽", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦽", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦽", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦽", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦽", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦽", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👨‍🦽", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦽", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦽", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦽", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦽", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦽", Boolean.TRUE);
-        emojiTrie.put("👨‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👩‍🦽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦽", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦽", Boolean.TRUE);
-        emojiTrie.put("👩‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦽‍➡️", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🦽‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃", Boolean.TRUE);
-        emojiTrie.put("🏃🏻", Boolean.TRUE);
-        emojiTrie.put("🏃🏼", Boolean.TRUE);
-        emojiTrie.put("🏃🏽", Boolean.TRUE);
-        emojiTrie.put("🏃🏾", Boolean.TRUE);
-        emojiTrie.put("🏃🏿", Boolean.TRUE);
-        emojiTrie.put("🏃‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏃‍♂", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🏃‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏃‍♀", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🏃‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♀️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♀‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♀️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♀‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏻‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏼‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏽‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏾‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♂️‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♂‍➡️", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♂️‍➡", Boolean.TRUE);
-        emojiTrie.put("🏃🏿‍♂‍➡", Boolean.TRUE);
-        emojiTrie.put("💃", Boolean.TRUE);
-        emojiTrie.put("💃🏻", Boolean.TRUE);
-        emojiTrie.put("💃🏼", Boolean.TRUE);
-        emojiTrie.put("💃🏽", Boolean.TRUE);
-        emojiTrie.put("💃🏾", Boolean.TRUE);
-        emojiTrie.put("💃🏿", Boolean.TRUE);
-        emojiTrie.put("🕺", Boolean.TRUE);
-        emojiTrie.put("🕺🏻", Boolean.TRUE);
-        emojiTrie.put("🕺🏼", Boolean.TRUE);
-        emojiTrie.put("🕺🏽", Boolean.TRUE);
-        emojiTrie.put("🕺🏾", Boolean.TRUE);
-        emojiTrie.put("🕺🏿", Boolean.TRUE);
-        emojiTrie.put("🕴️", Boolean.TRUE);
-        emojiTrie.put("🕴", Boolean.TRUE);
-        emojiTrie.put("🕴🏻", Boolean.TRUE);
-        emojiTrie.put("🕴🏼", Boolean.TRUE);
-        emojiTrie.put("🕴🏽", Boolean.TRUE);
-        emojiTrie.put("🕴🏾", Boolean.TRUE);
-        emojiTrie.put("🕴🏿", Boolean.TRUE);
-        emojiTrie.put("👯", Boolean.TRUE);
-        emojiTrie.put("👯‍♂️", Boolean.TRUE);
-        emojiTrie.put("👯‍♂", Boolean.TRUE);
-        emojiTrie.put("👯‍♀️", Boolean.TRUE);
-        emojiTrie.put("👯‍♀", Boolean.TRUE);
-        emojiTrie.put("🧖", Boolean.TRUE);
-        emojiTrie.put("🧖🏻", Boolean.TRUE);
-        emojiTrie.put("🧖🏼", Boolean.TRUE);
-        emojiTrie.put("🧖🏽", Boolean.TRUE);
-        emojiTrie.put("🧖🏾", Boolean.TRUE);
-        emojiTrie.put("🧖🏿", Boolean.TRUE);
-        emojiTrie.put("🧖‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧖‍♂", Boolean.TRUE);
-        emojiTrie.put("🧖🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧖🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧖🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧖🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧖🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧖🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧖🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧖🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧖🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧖🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧖‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧖‍♀", Boolean.TRUE);
-        emojiTrie.put("🧖🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧖🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧖🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧖🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧖🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧖🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧖🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧖🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧖🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧖🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧗", Boolean.TRUE);
-        emojiTrie.put("🧗🏻", Boolean.TRUE);
-        emojiTrie.put("🧗🏼", Boolean.TRUE);
-        emojiTrie.put("🧗🏽", Boolean.TRUE);
-        emojiTrie.put("🧗🏾", Boolean.TRUE);
-        emojiTrie.put("🧗🏿", Boolean.TRUE);
-        emojiTrie.put("🧗‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧗‍♂", Boolean.TRUE);
-        emojiTrie.put("🧗🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧗🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧗🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧗🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧗🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧗🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧗🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧗🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧗🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧗🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧗‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧗‍♀", Boolean.TRUE);
-        emojiTrie.put("🧗🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧗🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧗🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧗🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧗🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧗🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧗🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧗🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧗🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧗🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🤺", Boolean.TRUE);
-        emojiTrie.put("🏇", Boolean.TRUE);
-        emojiTrie.put("🏇🏻", Boolean.TRUE);
-        emojiTrie.put("🏇🏼", Boolean.TRUE);
-        emojiTrie.put("🏇🏽", Boolean.TRUE);
-        emojiTrie.put("🏇🏾", Boolean.TRUE);
-        emojiTrie.put("🏇🏿", Boolean.TRUE);
-        emojiTrie.put("⛷️", Boolean.TRUE);
-        emojiTrie.put("⛷", Boolean.TRUE);
-        emojiTrie.put("🏂", Boolean.TRUE);
-        emojiTrie.put("🏂🏻", Boolean.TRUE);
-        emojiTrie.put("🏂🏼", Boolean.TRUE);
-        emojiTrie.put("🏂🏽", Boolean.TRUE);
-        emojiTrie.put("🏂🏾", Boolean.TRUE);
-        emojiTrie.put("🏂🏿", Boolean.TRUE);
-        emojiTrie.put("🏌️", Boolean.TRUE);
-        emojiTrie.put("🏌", Boolean.TRUE);
-        emojiTrie.put("🏌🏻", Boolean.TRUE);
-        emojiTrie.put("🏌🏼", Boolean.TRUE);
-        emojiTrie.put("🏌🏽", Boolean.TRUE);
-        emojiTrie.put("🏌🏾", Boolean.TRUE);
-        emojiTrie.put("🏌🏿", Boolean.TRUE);
-        emojiTrie.put("🏌️‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏌‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏌️‍♂", Boolean.TRUE);
-        emojiTrie.put("🏌‍♂", Boolean.TRUE);
-        emojiTrie.put("🏌🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏌🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🏌🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏌🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🏌🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏌🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🏌🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏌🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🏌🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏌🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🏌️‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏌‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏌️‍♀", Boolean.TRUE);
-        emojiTrie.put("🏌‍♀", Boolean.TRUE);
-        emojiTrie.put("🏌🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏌🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🏌🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏌🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🏌🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏌🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🏌🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏌🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🏌🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏌🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🏄", Boolean.TRUE);
-        emojiTrie.put("🏄🏻", Boolean.TRUE);
-        emojiTrie.put("🏄🏼", Boolean.TRUE);
-        emojiTrie.put("🏄🏽", Boolean.TRUE);
-        emojiTrie.put("🏄🏾", Boolean.TRUE);
-        emojiTrie.put("🏄🏿", Boolean.TRUE);
-        emojiTrie.put("🏄‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏄‍♂", Boolean.TRUE);
-        emojiTrie.put("🏄🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏄🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🏄🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏄🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🏄🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏄🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🏄🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏄🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🏄🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏄🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🏄‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏄‍♀", Boolean.TRUE);
-        emojiTrie.put("🏄🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏄🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🏄🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏄🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🏄🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏄🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🏄🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏄🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🏄🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏄🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🚣", Boolean.TRUE);
-        emojiTrie.put("🚣🏻", Boolean.TRUE);
-        emojiTrie.put("🚣🏼", Boolean.TRUE);
-        emojiTrie.put("🚣🏽", Boolean.TRUE);
-        emojiTrie.put("🚣🏾", Boolean.TRUE);
-        emojiTrie.put("🚣🏿", Boolean.TRUE);
-        emojiTrie.put("🚣‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚣‍♂", Boolean.TRUE);
-        emojiTrie.put("🚣🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚣🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🚣🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚣🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🚣🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚣🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🚣🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚣🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🚣🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚣🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🚣‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚣‍♀", Boolean.TRUE);
-        emojiTrie.put("🚣🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚣🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🚣🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚣🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🚣🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚣🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🚣🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚣🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🚣🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚣🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🏊", Boolean.TRUE);
-        emojiTrie.put("🏊🏻", Boolean.TRUE);
-        emojiTrie.put("🏊🏼", Boolean.TRUE);
-        emojiTrie.put("🏊🏽", Boolean.TRUE);
-        emojiTrie.put("🏊🏾", Boolean.TRUE);
-        emojiTrie.put("🏊🏿", Boolean.TRUE);
-        emojiTrie.put("🏊‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏊‍♂", Boolean.TRUE);
-        emojiTrie.put("🏊🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏊🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🏊🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏊🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🏊🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏊🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🏊🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏊🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🏊🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏊🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🏊‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏊‍♀", Boolean.TRUE);
-        emojiTrie.put("🏊🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏊🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🏊🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏊🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🏊🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏊🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🏊🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏊🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🏊🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏊🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("⛹️", Boolean.TRUE);
-        emojiTrie.put("⛹", Boolean.TRUE);
-        emojiTrie.put("⛹🏻", Boolean.TRUE);
-        emojiTrie.put("⛹🏼", Boolean.TRUE);
-        emojiTrie.put("⛹🏽", Boolean.TRUE);
-        emojiTrie.put("⛹🏾", Boolean.TRUE);
-        emojiTrie.put("⛹🏿", Boolean.TRUE);
-        emojiTrie.put("⛹️‍♂️", Boolean.TRUE);
-        emojiTrie.put("⛹‍♂️", Boolean.TRUE);
-        emojiTrie.put("⛹️‍♂", Boolean.TRUE);
-        emojiTrie.put("⛹‍♂", Boolean.TRUE);
-        emojiTrie.put("⛹🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("⛹🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("⛹🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("⛹🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("⛹🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("⛹🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("⛹🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("⛹🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("⛹🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("⛹🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("⛹️‍♀️", Boolean.TRUE);
-        emojiTrie.put("⛹‍♀️", Boolean.TRUE);
-        emojiTrie.put("⛹️‍♀", Boolean.TRUE);
-        emojiTrie.put("⛹‍♀", Boolean.TRUE);
-        emojiTrie.put("⛹🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("⛹🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("⛹🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("⛹🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("⛹🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("⛹🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("⛹🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("⛹🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("⛹🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("⛹🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🏋️", Boolean.TRUE);
-        emojiTrie.put("🏋", Boolean.TRUE);
-        emojiTrie.put("🏋🏻", Boolean.TRUE);
-        emojiTrie.put("🏋🏼", Boolean.TRUE);
-        emojiTrie.put("🏋🏽", Boolean.TRUE);
-        emojiTrie.put("🏋🏾", Boolean.TRUE);
-        emojiTrie.put("🏋🏿", Boolean.TRUE);
-        emojiTrie.put("🏋️‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏋‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏋️‍♂", Boolean.TRUE);
-        emojiTrie.put("🏋‍♂", Boolean.TRUE);
-        emojiTrie.put("🏋🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏋🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🏋🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏋🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🏋🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏋🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🏋🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏋🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🏋🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🏋🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🏋️‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏋‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏋️‍♀", Boolean.TRUE);
-        emojiTrie.put("🏋‍♀", Boolean.TRUE);
-        emojiTrie.put("🏋🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏋🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🏋🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏋🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🏋🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏋🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🏋🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏋🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🏋🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🏋🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🚴", Boolean.TRUE);
-        emojiTrie.put("🚴🏻", Boolean.TRUE);
-        emojiTrie.put("🚴🏼", Boolean.TRUE);
-        emojiTrie.put("🚴🏽", Boolean.TRUE);
-        emojiTrie.put("🚴🏾", Boolean.TRUE);
-        emojiTrie.put("🚴🏿", Boolean.TRUE);
-        emojiTrie.put("🚴‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚴‍♂", Boolean.TRUE);
-        emojiTrie.put("🚴🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚴🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🚴🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚴🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🚴🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚴🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🚴🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚴🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🚴🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚴🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🚴‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚴‍♀", Boolean.TRUE);
-        emojiTrie.put("🚴🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚴🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🚴🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚴🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🚴🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚴🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🚴🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚴🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🚴🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚴🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🚵", Boolean.TRUE);
-        emojiTrie.put("🚵🏻", Boolean.TRUE);
-        emojiTrie.put("🚵🏼", Boolean.TRUE);
-        emojiTrie.put("🚵🏽", Boolean.TRUE);
-        emojiTrie.put("🚵🏾", Boolean.TRUE);
-        emojiTrie.put("🚵🏿", Boolean.TRUE);
-        emojiTrie.put("🚵‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚵‍♂", Boolean.TRUE);
-        emojiTrie.put("🚵🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚵🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🚵🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚵🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🚵🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚵🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🚵🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚵🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🚵🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🚵🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🚵‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚵‍♀", Boolean.TRUE);
-        emojiTrie.put("🚵🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚵🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🚵🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚵🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🚵🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚵🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🚵🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚵🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🚵🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🚵🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🤸", Boolean.TRUE);
-        emojiTrie.put("🤸🏻", Boolean.TRUE);
-        emojiTrie.put("🤸🏼", Boolean.TRUE);
-        emojiTrie.put("🤸🏽", Boolean.TRUE);
-        emojiTrie.put("🤸🏾", Boolean.TRUE);
-        emojiTrie.put("🤸🏿", Boolean.TRUE);
-        emojiTrie.put("🤸‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤸‍♂", Boolean.TRUE);
-        emojiTrie.put("🤸🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤸🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🤸🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤸🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🤸🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤸🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🤸🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤸🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🤸🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤸🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🤸‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤸‍♀", Boolean.TRUE);
-        emojiTrie.put("🤸🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤸🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🤸🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤸🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🤸🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤸🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🤸🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤸🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🤸🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤸🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🤼", Boolean.TRUE);
-        emojiTrie.put("🤼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤼‍♂", Boolean.TRUE);
-        emojiTrie.put("🤼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤼‍♀", Boolean.TRUE);
-        emojiTrie.put("🤽", Boolean.TRUE);
-        emojiTrie.put("🤽🏻", Boolean.TRUE);
-        emojiTrie.put("🤽🏼", Boolean.TRUE);
-        emojiTrie.put("🤽🏽", Boolean.TRUE);
-        emojiTrie.put("🤽🏾", Boolean.TRUE);
-        emojiTrie.put("🤽🏿", Boolean.TRUE);
-        emojiTrie.put("🤽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤽‍♂", Boolean.TRUE);
-        emojiTrie.put("🤽🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤽🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🤽🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤽🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🤽🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤽🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🤽🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤽🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🤽🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤽🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🤽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤽‍♀", Boolean.TRUE);
-        emojiTrie.put("🤽🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤽🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🤽🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤽🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🤽🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤽🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🤽🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤽🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🤽🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤽🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🤾", Boolean.TRUE);
-        emojiTrie.put("🤾🏻", Boolean.TRUE);
-        emojiTrie.put("🤾🏼", Boolean.TRUE);
-        emojiTrie.put("🤾🏽", Boolean.TRUE);
-        emojiTrie.put("🤾🏾", Boolean.TRUE);
-        emojiTrie.put("🤾🏿", Boolean.TRUE);
-        emojiTrie.put("🤾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤾‍♂", Boolean.TRUE);
-        emojiTrie.put("🤾🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤾🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🤾🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤾🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🤾🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤾🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🤾🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤾🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🤾🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤾🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🤾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤾‍♀", Boolean.TRUE);
-        emojiTrie.put("🤾🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤾🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🤾🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤾🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🤾🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤾🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🤾🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤾🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🤾🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤾🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🤹", Boolean.TRUE);
-        emojiTrie.put("🤹🏻", Boolean.TRUE);
-        emojiTrie.put("🤹🏼", Boolean.TRUE);
-        emojiTrie.put("🤹🏽", Boolean.TRUE);
-        emojiTrie.put("🤹🏾", Boolean.TRUE);
-        emojiTrie.put("🤹🏿", Boolean.TRUE);
-        emojiTrie.put("🤹‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤹‍♂", Boolean.TRUE);
-        emojiTrie.put("🤹🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤹🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🤹🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤹🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🤹🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤹🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🤹🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤹🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🤹🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🤹🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🤹‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤹‍♀", Boolean.TRUE);
-        emojiTrie.put("🤹🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤹🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🤹🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤹🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🤹🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤹🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🤹🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤹🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🤹🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🤹🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🧘", Boolean.TRUE);
-        emojiTrie.put("🧘🏻", Boolean.TRUE);
-        emojiTrie.put("🧘🏼", Boolean.TRUE);
-        emojiTrie.put("🧘🏽", Boolean.TRUE);
-        emojiTrie.put("🧘🏾", Boolean.TRUE);
-        emojiTrie.put("🧘🏿", Boolean.TRUE);
-        emojiTrie.put("🧘‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧘‍♂", Boolean.TRUE);
-        emojiTrie.put("🧘🏻‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧘🏻‍♂", Boolean.TRUE);
-        emojiTrie.put("🧘🏼‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧘🏼‍♂", Boolean.TRUE);
-        emojiTrie.put("🧘🏽‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧘🏽‍♂", Boolean.TRUE);
-        emojiTrie.put("🧘🏾‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧘🏾‍♂", Boolean.TRUE);
-        emojiTrie.put("🧘🏿‍♂️", Boolean.TRUE);
-        emojiTrie.put("🧘🏿‍♂", Boolean.TRUE);
-        emojiTrie.put("🧘‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧘‍♀", Boolean.TRUE);
-        emojiTrie.put("🧘🏻‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧘🏻‍♀", Boolean.TRUE);
-        emojiTrie.put("🧘🏼‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧘🏼‍♀", Boolean.TRUE);
-        emojiTrie.put("🧘🏽‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧘🏽‍♀", Boolean.TRUE);
-        emojiTrie.put("🧘🏾‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧘🏾‍♀", Boolean.TRUE);
-        emojiTrie.put("🧘🏿‍♀️", Boolean.TRUE);
-        emojiTrie.put("🧘🏿‍♀", Boolean.TRUE);
-        emojiTrie.put("🛀", Boolean.TRUE);
-        emojiTrie.put("🛀🏻", Boolean.TRUE);
-        emojiTrie.put("🛀🏼", Boolean.TRUE);
-        emojiTrie.put("🛀🏽", Boolean.TRUE);
-        emojiTrie.put("🛀🏾", Boolean.TRUE);
-        emojiTrie.put("🛀🏿", Boolean.TRUE);
-        emojiTrie.put("🛌", Boolean.TRUE);
-        emojiTrie.put("🛌🏻", Boolean.TRUE);
-        emojiTrie.put("🛌🏼", Boolean.TRUE);
-        emojiTrie.put("🛌🏽", Boolean.TRUE);
-        emojiTrie.put("🛌🏾", Boolean.TRUE);
-        emojiTrie.put("🛌🏿", Boolean.TRUE);
-        emojiTrie.put("🧑‍🤝‍🧑", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🤝‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🤝‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🤝‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🤝‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍🤝‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🤝‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🤝‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🤝‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🤝‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍🤝‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🤝‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🤝‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🤝‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🤝‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍🤝‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🤝‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🤝‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🤝‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🤝‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍🤝‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🤝‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🤝‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🤝‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🤝‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍🤝‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("👭", Boolean.TRUE);
-        emojiTrie.put("👭🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🤝‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🤝‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🤝‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🤝‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🤝‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👭🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🤝‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🤝‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🤝‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🤝‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🤝‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👭🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🤝‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🤝‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🤝‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🤝‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🤝‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👭🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🤝‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🤝‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🤝‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🤝‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🤝‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👭🏿", Boolean.TRUE);
-        emojiTrie.put("👫", Boolean.TRUE);
-        emojiTrie.put("👫🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🤝‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🤝‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🤝‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍🤝‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🤝‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👫🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🤝‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🤝‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍🤝‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🤝‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🤝‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👫🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🤝‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍🤝‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🤝‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🤝‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🤝‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👫🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍🤝‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🤝‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🤝‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🤝‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍🤝‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👫🏿", Boolean.TRUE);
-        emojiTrie.put("👬", Boolean.TRUE);
-        emojiTrie.put("👬🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🤝‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🤝‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🤝‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍🤝‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🤝‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👬🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🤝‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🤝‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍🤝‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🤝‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🤝‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👬🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🤝‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍🤝‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🤝‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🤝‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🤝‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👬🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍🤝‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🤝‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🤝‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🤝‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍🤝‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👬🏿", Boolean.TRUE);
-        emojiTrie.put("💏", Boolean.TRUE);
-        emojiTrie.put("💏🏻", Boolean.TRUE);
-        emojiTrie.put("💏🏼", Boolean.TRUE);
-        emojiTrie.put("💏🏽", Boolean.TRUE);
-        emojiTrie.put("💏🏾", Boolean.TRUE);
-        emojiTrie.put("💏🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤️‍💋‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤‍💋‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤️‍💋‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤‍💋‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤️‍💋‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤‍💋‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤️‍💋‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤‍💋‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤️‍💋‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤‍💋‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤️‍💋‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤‍💋‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤️‍💋‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤‍💋‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤️‍💋‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤‍💋‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤️‍💋‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤‍💋‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤️‍💋‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤‍💋‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤️‍💋‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤‍💋‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤️‍💋‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤‍💋‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤️‍💋‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤‍💋‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤️‍💋‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤‍💋‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤️‍💋‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤‍💋‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤️‍💋‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤‍💋‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤️‍💋‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤‍💋‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤️‍💋‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤‍💋‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤️‍💋‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤‍💋‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤️‍💋‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤‍💋‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("👩‍❤️‍💋‍👨", Boolean.TRUE);
-        emojiTrie.put("👩‍❤‍💋‍👨", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨‍❤️‍💋‍👨", Boolean.TRUE);
-        emojiTrie.put("👨‍❤‍💋‍👨", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤️‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤️‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤️‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤️‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤️‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤️‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤️‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤️‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤️‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤️‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤️‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤️‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤️‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤️‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤️‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤️‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤️‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤️‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤️‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤️‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤️‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤‍💋‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤️‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤‍💋‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤️‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤‍💋‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤️‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤‍💋‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤️‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤‍💋‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩‍❤️‍💋‍👩", Boolean.TRUE);
-        emojiTrie.put("👩‍❤‍💋‍👩", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍💋‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍💋‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍💋‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍💋‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍💋‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍💋‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍💋‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍💋‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍💋‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍💋‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍💋‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍💋‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍💋‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍💋‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍💋‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍💋‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍💋‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍💋‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍💋‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍💋‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍💋‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍💋‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍💋‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍💋‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍💋‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍💋‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍💋‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍💋‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍💋‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍💋‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍💋‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍💋‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍💋‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍💋‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍💋‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍💋‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍💋‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍💋‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍💋‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍💋‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍💋‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍💋‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍💋‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍💋‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍💋‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍💋‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍💋‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍💋‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍💋‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍💋‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("💑", Boolean.TRUE);
-        emojiTrie.put("💑🏻", Boolean.TRUE);
-        emojiTrie.put("💑🏼", Boolean.TRUE);
-        emojiTrie.put("💑🏽", Boolean.TRUE);
-        emojiTrie.put("💑🏾", Boolean.TRUE);
-        emojiTrie.put("💑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤️‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤️‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤️‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤️‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏻‍❤‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤️‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤️‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤️‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤️‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏼‍❤‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤️‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤️‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤️‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤️‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏽‍❤‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤️‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤️‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤️‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤️‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏾‍❤‍🧑🏿", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤️‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤‍🧑🏻", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤️‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤‍🧑🏼", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤️‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤‍🧑🏽", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤️‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("🧑🏿‍❤‍🧑🏾", Boolean.TRUE);
-        emojiTrie.put("👩‍❤️‍👨", Boolean.TRUE);
-        emojiTrie.put("👩‍❤‍👨", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨‍❤️‍👨", Boolean.TRUE);
-        emojiTrie.put("👨‍❤‍👨", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤️‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤️‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤️‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤️‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤️‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏻‍❤‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤️‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤️‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤️‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤️‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤️‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏼‍❤‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤️‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤️‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤️‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤️‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤️‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏽‍❤‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤️‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤️‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤️‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤️‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤️‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏾‍❤‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤️‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤‍👨🏻", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤️‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤‍👨🏼", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤️‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤‍👨🏽", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤️‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤‍👨🏾", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤️‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👨🏿‍❤‍👨🏿", Boolean.TRUE);
-        emojiTrie.put("👩‍❤️‍👩", Boolean.TRUE);
-        emojiTrie.put("👩‍❤‍👩", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤️‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏻‍❤‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤️‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏼‍❤‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤️‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏽‍❤‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤️‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏾‍❤‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍👩🏻", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍👩🏼", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍👩🏽", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍👩🏾", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤️‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👩🏿‍❤‍👩🏿", Boolean.TRUE);
-        emojiTrie.put("👨‍👩‍👦", Boolean.TRUE);
-        emojiTrie.put("👨‍👩‍👧", Boolean.TRUE);
-        emojiTrie.put("👨‍👩‍👧‍👦", Boolean.TRUE);
-        emojiTrie.put("👨‍👩‍👦‍👦", Boolean.TRUE);
-        emojiTrie.put("👨‍👩‍👧‍👧", Boolean.TRUE);
-        emojiTrie.put("👨‍👨‍👦", Boolean.TRUE);
-        emojiTrie.put("👨‍👨‍👧", Boolean.TRUE);
-        emojiTrie.put("👨‍👨‍👧‍👦", Boolean.TRUE);
-        emojiTrie.put("👨‍👨‍👦‍👦", Boolean.TRUE);
-        emojiTrie.put("👨‍👨‍👧‍👧", Boolean.TRUE);
-        emojiTrie.put("👩‍👩‍👦", Boolean.TRUE);
-        emojiTrie.put("👩‍👩‍👧", Boolean.TRUE);
-        emojiTrie.put("👩‍👩‍👧‍👦", Boolean.TRUE);
-        emojiTrie.put("👩‍👩‍👦‍👦", Boolean.TRUE);
-        emojiTrie.put("👩‍👩‍👧‍👧", Boolean.TRUE);
-        emojiTrie.put("👨‍👦", Boolean.TRUE);
-        emojiTrie.put("👨‍👦‍👦", Boolean.TRUE);
-        emojiTrie.put("👨‍👧", Boolean.TRUE);
-        emojiTrie.put("👨‍👧‍👦", Boolean.TRUE);
-        emojiTrie.put("👨‍👧‍👧", Boolean.TRUE);
-        emojiTrie.put("👩‍👦", Boolean.TRUE);
-        emojiTrie.put("👩‍👦‍👦", Boolean.TRUE);
-        emojiTrie.put("👩‍👧", Boolean.TRUE);
-        emojiTrie.put("👩‍👧‍👦", Boolean.TRUE);
-        emojiTrie.put("👩‍👧‍👧", Boolean.TRUE);
-        emojiTrie.put("🗣️", Boolean.TRUE);
-        emojiTrie.put("🗣", Boolean.TRUE);
-        emojiTrie.put("👤", Boolean.TRUE);
-        emojiTrie.put("👥", Boolean.TRUE);
-        emojiTrie.put("🫂", Boolean.TRUE);
-        emojiTrie.put("👪", Boolean.TRUE);
-        emojiTrie.put("🧑‍🧑‍🧒", Boolean.TRUE);
-        emojiTrie.put("🧑‍🧑‍🧒‍🧒", Boolean.TRUE);
-        emojiTrie.put("🧑‍🧒", Boolean.TRUE);
-        emojiTrie.put("🧑‍🧒‍🧒", Boolean.TRUE);
-        emojiTrie.put("👣", Boolean.TRUE);
-        emojiTrie.put("🫆", Boolean.TRUE);
-        emojiTrie.put("🏻", Boolean.TRUE);
-        emojiTrie.put("🏼", Boolean.TRUE);
-        emojiTrie.put("🏽", Boolean.TRUE);
-        emojiTrie.put("🏾", Boolean.TRUE);
-        emojiTrie.put("🏿", Boolean.TRUE);
-        emojiTrie.put("🦰", Boolean.TRUE);
-        emojiTrie.put("🦱", Boolean.TRUE);
-        emojiTrie.put("🦳", Boolean.TRUE);
-        emojiTrie.put("🦲", Boolean.TRUE);
-        emojiTrie.put("🐵", Boolean.TRUE);
-        emojiTrie.put("🐒", Boolean.TRUE);
-        emojiTrie.put("🦍", Boolean.TRUE);
-        emojiTrie.put("🦧", Boolean.TRUE);
-        emojiTrie.put("🐶", Boolean.TRUE);
-        emojiTrie.put("🐕", Boolean.TRUE);
-        emojiTrie.put("🦮", Boolean.TRUE);
-        emojiTrie.put("🐕‍🦺", Boolean.TRUE);
-        emojiTrie.put("🐩", Boolean.TRUE);
-        emojiTrie.put("🐺", Boolean.TRUE);
-        emojiTrie.put("🦊", Boolean.TRUE);
-        emojiTrie.put("🦝", Boolean.TRUE);
-        emojiTrie.put("🐱", Boolean.TRUE);
-        emojiTrie.put("🐈", Boolean.TRUE);
-        emojiTrie.put("🐈‍⬛", Boolean.TRUE);
-        emojiTrie.put("🦁", Boolean.TRUE);
-        emojiTrie.put("🐯", Boolean.TRUE);
-        emojiTrie.put("🐅", Boolean.TRUE);
-        emojiTrie.put("🐆", Boolean.TRUE);
-        emojiTrie.put("🐴", Boolean.TRUE);
-        emojiTrie.put("🫎", Boolean.TRUE);
-        emojiTrie.put("🫏", Boolean.TRUE);
-        emojiTrie.put("🐎", Boolean.TRUE);
-        emojiTrie.put("🦄", Boolean.TRUE);
-        emojiTrie.put("🦓", Boolean.TRUE);
-        emojiTrie.put("🦌", Boolean.TRUE);
-        emojiTrie.put("🦬", Boolean.TRUE);
-        emojiTrie.put("🐮", Boolean.TRUE);
-        emojiTrie.put("🐂", Boolean.TRUE);
-        emojiTrie.put("🐃", Boolean.TRUE);
-        emojiTrie.put("🐄", Boolean.TRUE);
-        emojiTrie.put("🐷", Boolean.TRUE);
-        emojiTrie.put("🐖", Boolean.TRUE);
-        emojiTrie.put("🐗", Boolean.TRUE);
-        emojiTrie.put("🐽", Boolean.TRUE);
-        emojiTrie.put("🐏", Boolean.TRUE);
-        emojiTrie.put("🐑", Boolean.TRUE);
-        emojiTrie.put("🐐", Boolean.TRUE);
-        emojiTrie.put("🐪", Boolean.TRUE);
-        emojiTrie.put("🐫", Boolean.TRUE);
-        emojiTrie.put("🦙", Boolean.TRUE);
-        emojiTrie.put("🦒", Boolean.TRUE);
-        emojiTrie.put("🐘", Boolean.TRUE);
-        emojiTrie.put("🦣", Boolean.TRUE);
-        emojiTrie.put("🦏", Boolean.TRUE);
-        emojiTrie.put("🦛", Boolean.TRUE);
-        emojiTrie.put("🐭", Boolean.TRUE);
-        emojiTrie.put("🐁", Boolean.TRUE);
-        emojiTrie.put("🐀", Boolean.TRUE);
-        emojiTrie.put("🐹", Boolean.TRUE);
-        emojiTrie.put("🐰", Boolean.TRUE);
-        emojiTrie.put("🐇", Boolean.TRUE);
-        emojiTrie.put("🐿️", Boolean.TRUE);
-        emojiTrie.put("🐿", Boolean.TRUE);
-        emojiTrie.put("🦫", Boolean.TRUE);
-        emojiTrie.put("🦔", Boolean.TRUE);
-        emojiTrie.put("🦇", Boolean.TRUE);
-        emojiTrie.put("🐻", Boolean.TRUE);
-        emojiTrie.put("🐻‍❄️", Boolean.TRUE);
-        emojiTrie.put("🐻‍❄", Boolean.TRUE);
-        emojiTrie.put("🐨", Boolean.TRUE);
-        emojiTrie.put("🐼", Boolean.TRUE);
-        emojiTrie.put("🦥", Boolean.TRUE);
-        emojiTrie.put("🦦", Boolean.TRUE);
-        emojiTrie.put("🦨", Boolean.TRUE);
-        emojiTrie.put("🦘", Boolean.TRUE);
-        emojiTrie.put("🦡", Boolean.TRUE);
-        emojiTrie.put("🐾", Boolean.TRUE);
-        emojiTrie.put("🦃", Boolean.TRUE);
-        emojiTrie.put("🐔", Boolean.TRUE);
-        emojiTrie.put("🐓", Boolean.TRUE);
-        emojiTrie.put("🐣", Boolean.TRUE);
-        emojiTrie.put("🐤", Boolean.TRUE);
-        emojiTrie.put("🐥", Boolean.TRUE);
-        emojiTrie.put("🐦", Boolean.TRUE);
-        emojiTrie.put("🐧", Boolean.TRUE);
-        emojiTrie.put("🕊️", Boolean.TRUE);
-        emojiTrie.put("🕊", Boolean.TRUE);
-        emojiTrie.put("🦅", Boolean.TRUE);
-        emojiTrie.put("🦆", Boolean.TRUE);
-        emojiTrie.put("🦢", Boolean.TRUE);
-        emojiTrie.put("🦉", Boolean.TRUE);
-        emojiTrie.put("🦤", Boolean.TRUE);
-        emojiTrie.put("🪶", Boolean.TRUE);
-        emojiTrie.put("🦩", Boolean.TRUE);
-        emojiTrie.put("🦚", Boolean.TRUE);
-        emojiTrie.put("🦜", Boolean.TRUE);
-        emojiTrie.put("🪽", Boolean.TRUE);
-        emojiTrie.put("🐦‍⬛", Boolean.TRUE);
-        emojiTrie.put("🪿", Boolean.TRUE);
-        emojiTrie.put("🐦‍🔥", Boolean.TRUE);
-        emojiTrie.put("🐸", Boolean.TRUE);
-        emojiTrie.put("🐊", Boolean.TRUE);
-        emojiTrie.put("🐢", Boolean.TRUE);
-        emojiTrie.put("🦎", Boolean.TRUE);
-        emojiTrie.put("🐍", Boolean.TRUE);
-        emojiTrie.put("🐲", Boolean.TRUE);
-        emojiTrie.put("🐉", Boolean.TRUE);
-        emojiTrie.put("🦕", Boolean.TRUE);
-        emojiTrie.put("🦖", Boolean.TRUE);
-        emojiTrie.put("🐳", Boolean.TRUE);
-        emojiTrie.put("🐋", Boolean.TRUE);
-        emojiTrie.put("🐬", Boolean.TRUE);
-        emojiTrie.put("🦭", Boolean.TRUE);
-        emojiTrie.put("🐟", Boolean.TRUE);
-        emojiTrie.put("🐠", Boolean.TRUE);
-        emojiTrie.put("🐡", Boolean.TRUE);
-        emojiTrie.put("🦈", Boolean.TRUE);
-        emojiTrie.put("🐙", Boolean.TRUE);
-        emojiTrie.put("🐚", Boolean.TRUE);
-        emojiTrie.put("🪸", Boolean.TRUE);
-        emojiTrie.put("🪼", Boolean.TRUE);
-        emojiTrie.put("🦀", Boolean.TRUE);
-        emojiTrie.put("🦞", Boolean.TRUE);
-        emojiTrie.put("🦐", Boolean.TRUE);
-        emojiTrie.put("🦑", Boolean.TRUE);
-        emojiTrie.put("🦪", Boolean.TRUE);
-        emojiTrie.put("🐌", Boolean.TRUE);
-        emojiTrie.put("🦋", Boolean.TRUE);
-        emojiTrie.put("🐛", Boolean.TRUE);
-        emojiTrie.put("🐜", Boolean.TRUE);
-        emojiTrie.put("🐝", Boolean.TRUE);
-        emojiTrie.put("🪲", Boolean.TRUE);
-        emojiTrie.put("🐞", Boolean.TRUE);
-        emojiTrie.put("🦗", Boolean.TRUE);
-        emojiTrie.put("🪳", Boolean.TRUE);
-        emojiTrie.put("🕷️", Boolean.TRUE);
-        emojiTrie.put("🕷", Boolean.TRUE);
-        emojiTrie.put("🕸️", Boolean.TRUE);
-        emojiTrie.put("🕸", Boolean.TRUE);
-        emojiTrie.put("🦂", Boolean.TRUE);
-        emojiTrie.put("🦟", Boolean.TRUE);
-        emojiTrie.put("🪰", Boolean.TRUE);
-        emojiTrie.put("🪱", Boolean.TRUE);
-        emojiTrie.put("🦠", Boolean.TRUE);
-        emojiTrie.put("💐", Boolean.TRUE);
-        emojiTrie.put("🌸", Boolean.TRUE);
-        emojiTrie.put("💮", Boolean.TRUE);
-        emojiTrie.put("🪷", Boolean.TRUE);
-        emojiTrie.put("🏵️", Boolean.TRUE);
-        emojiTrie.put("🏵", Boolean.TRUE);
-        emojiTrie.put("🌹", Boolean.TRUE);
-        emojiTrie.put("🥀", Boolean.TRUE);
-        emojiTrie.put("🌺", Boolean.TRUE);
-        emojiTrie.put("🌻", Boolean.TRUE);
-        emojiTrie.put("🌼", Boolean.TRUE);
-        emojiTrie.put("🌷", Boolean.TRUE);
-        emojiTrie.put("🪻", Boolean.TRUE);
-        emojiTrie.put("🌱", Boolean.TRUE);
-        emojiTrie.put("🪴", Boolean.TRUE);
-        emojiTrie.put("🌲", Boolean.TRUE);
-        emojiTrie.put("🌳", Boolean.TRUE);
-        emojiTrie.put("🌴", Boolean.TRUE);
-        emojiTrie.put("🌵", Boolean.TRUE);
-        emojiTrie.put("🌾", Boolean.TRUE);
-        emojiTrie.put("🌿", Boolean.TRUE);
-        emojiTrie.put("☘️", Boolean.TRUE);
-        emojiTrie.put("☘", Boolean.TRUE);
-        emojiTrie.put("🍀", Boolean.TRUE);
-        emojiTrie.put("🍁", Boolean.TRUE);
-        emojiTrie.put("🍂", Boolean.TRUE);
-        emojiTrie.put("🍃", Boolean.TRUE);
-        emojiTrie.put("🪹", Boolean.TRUE);
-        emojiTrie.put("🪺", Boolean.TRUE);
-        emojiTrie.put("🍄", Boolean.TRUE);
-        emojiTrie.put("🪾", Boolean.TRUE);
-        emojiTrie.put("🍇", Boolean.TRUE);
-        emojiTrie.put("🍈", Boolean.TRUE);
-        emojiTrie.put("🍉", Boolean.TRUE);
-        emojiTrie.put("🍊", Boolean.TRUE);
-        emojiTrie.put("🍋", Boolean.TRUE);
-        emojiTrie.put("🍋‍🟩", Boolean.TRUE);
-        emojiTrie.put("🍌", Boolean.TRUE);
-        emojiTrie.put("🍍", Boolean.TRUE);
-        emojiTrie.put("🥭", Boolean.TRUE);
-        emojiTrie.put("🍎", Boolean.TRUE);
-        emojiTrie.put("🍏", Boolean.TRUE);
-        emojiTrie.put("🍐", Boolean.TRUE);
-        emojiTrie.put("🍑", Boolean.TRUE);
-        emojiTrie.put("🍒", Boolean.TRUE);
-        emojiTrie.put("🍓", Boolean.TRUE);
-        emojiTrie.put("🫐", Boolean.TRUE);
-        emojiTrie.put("🥝", Boolean.TRUE);
-        emojiTrie.put("🍅", Boolean.TRUE);
-        emojiTrie.put("🫒", Boolean.TRUE);
-        emojiTrie.put("🥥", Boolean.TRUE);
-        emojiTrie.put("🥑", Boolean.TRUE);
-        emojiTrie.put("🍆", Boolean.TRUE);
-        emojiTrie.put("🥔", Boolean.TRUE);
-        emojiTrie.put("🥕", Boolean.TRUE);
-        emojiTrie.put("🌽", Boolean.TRUE);
-        emojiTrie.put("🌶️", Boolean.TRUE);
-        emojiTrie.put("🌶", Boolean.TRUE);
-        emojiTrie.put("🫑", Boolean.TRUE);
-        emojiTrie.put("🥒", Boolean.TRUE);
-        emojiTrie.put("🥬", Boolean.TRUE);
-        emojiTrie.put("🥦", Boolean.TRUE);
-        emojiTrie.put("🧄", Boolean.TRUE);
-        emojiTrie.put("🧅", Boolean.TRUE);
-        emojiTrie.put("🥜", Boolean.TRUE);
-        emojiTrie.put("🫘", Boolean.TRUE);
-        emojiTrie.put("🌰", Boolean.TRUE);
-        emojiTrie.put("🫚", Boolean.TRUE);
-        emojiTrie.put("🫛", Boolean.TRUE);
-        emojiTrie.put("🍄‍🟫", Boolean.TRUE);
-        emojiTrie.put("🫜", Boolean.TRUE);
-        emojiTrie.put("🍞", Boolean.TRUE);
-        emojiTrie.put("🥐", Boolean.TRUE);
-        emojiTrie.put("🥖", Boolean.TRUE);
-        emojiTrie.put("🫓", Boolean.TRUE);
-        emojiTrie.put("🥨", Boolean.TRUE);
-        emojiTrie.put("🥯", Boolean.TRUE);
-        emojiTrie.put("🥞", Boolean.TRUE);
-        emojiTrie.put("🧇", Boolean.TRUE);
-        emojiTrie.put("🧀", Boolean.TRUE);
-        emojiTrie.put("🍖", Boolean.TRUE);
-        emojiTrie.put("🍗", Boolean.TRUE);
-        emojiTrie.put("🥩", Boolean.TRUE);
-        emojiTrie.put("🥓", Boolean.TRUE);
-        emojiTrie.put("🍔", Boolean.TRUE);
-        emojiTrie.put("🍟", Boolean.TRUE);
-        emojiTrie.put("🍕", Boolean.TRUE);
-        emojiTrie.put("🌭", Boolean.TRUE);
-        emojiTrie.put("🥪", Boolean.TRUE);
-        emojiTrie.put("🌮", Boolean.TRUE);
-        emojiTrie.put("🌯", Boolean.TRUE);
-        emojiTrie.put("🫔", Boolean.TRUE);
-        emojiTrie.put("🥙", Boolean.TRUE);
-        emojiTrie.put("🧆", Boolean.TRUE);
-        emojiTrie.put("🥚", Boolean.TRUE);
-        emojiTrie.put("🍳", Boolean.TRUE);
-        emojiTrie.put("🥘", Boolean.TRUE);
-        emojiTrie.put("🍲", Boolean.TRUE);
-        emojiTrie.put("🫕", Boolean.TRUE);
-        emojiTrie.put("🥣", Boolean.TRUE);
-        emojiTrie.put("🥗", Boolean.TRUE);
-        emojiTrie.put("🍿", Boolean.TRUE);
-        emojiTrie.put("🧈", Boolean.TRUE);
-        emojiTrie.put("🧂", Boolean.TRUE);
-        emojiTrie.put("🥫", Boolean.TRUE);
-        emojiTrie.put("🍱", Boolean.TRUE);
-        emojiTrie.put("🍘", Boolean.TRUE);
-        emojiTrie.put("🍙", Boolean.TRUE);
-        emojiTrie.put("🍚", Boolean.TRUE);
-        emojiTrie.put("🍛", Boolean.TRUE);
-        emojiTrie.put("🍜", Boolean.TRUE);
-        emojiTrie.put("🍝", Boolean.TRUE);
-        emojiTrie.put("🍠", Boolean.TRUE);
-        emojiTrie.put("🍢", Boolean.TRUE);
-        emojiTrie.put("🍣", Boolean.TRUE);
-        emojiTrie.put("🍤", Boolean.TRUE);
-        emojiTrie.put("🍥", Boolean.TRUE);
-        emojiTrie.put("🥮", Boolean.TRUE);
-        emojiTrie.put("🍡", Boolean.TRUE);
-        emojiTrie.put("🥟", Boolean.TRUE);
-        emojiTrie.put("🥠", Boolean.TRUE);
-        emojiTrie.put("🥡", Boolean.TRUE);
-        emojiTrie.put("🍦", Boolean.TRUE);
-        emojiTrie.put("🍧", Boolean.TRUE);
-        emojiTrie.put("🍨", Boolean.TRUE);
-        emojiTrie.put("🍩", Boolean.TRUE);
-        emojiTrie.put("🍪", Boolean.TRUE);
-        emojiTrie.put("🎂", Boolean.TRUE);
-        emojiTrie.put("🍰", Boolean.TRUE);
-        emojiTrie.put("🧁", Boolean.TRUE);
-        emojiTrie.put("🥧", Boolean.TRUE);
-        emojiTrie.put("🍫", Boolean.TRUE);
-        emojiTrie.put("🍬", Boolean.TRUE);
-        emojiTrie.put("🍭", Boolean.TRUE);
-        emojiTrie.put("🍮", Boolean.TRUE);
-        emojiTrie.put("🍯", Boolean.TRUE);
-        emojiTrie.put("🍼", Boolean.TRUE);
-        emojiTrie.put("🥛", Boolean.TRUE);
-        emojiTrie.put("☕", Boolean.TRUE);
-        emojiTrie.put("🫖", Boolean.TRUE);
-        emojiTrie.put("🍵", Boolean.TRUE);
-        emojiTrie.put("🍶", Boolean.TRUE);
-        emojiTrie.put("🍾", Boolean.TRUE);
-        emojiTrie.put("🍷", Boolean.TRUE);
-        emojiTrie.put("🍸", Boolean.TRUE);
-        emojiTrie.put("🍹", Boolean.TRUE);
-        emojiTrie.put("🍺", Boolean.TRUE);
-        emojiTrie.put("🍻", Boolean.TRUE);
-        emojiTrie.put("🥂", Boolean.TRUE);
-        emojiTrie.put("🥃", Boolean.TRUE);
-        emojiTrie.put("🫗", Boolean.TRUE);
-        emojiTrie.put("🥤", Boolean.TRUE);
-        emojiTrie.put("🧋", Boolean.TRUE);
-        emojiTrie.put("🧃", Boolean.TRUE);
-        emojiTrie.put("🧉", Boolean.TRUE);
-        emojiTrie.put("🧊", Boolean.TRUE);
-        emojiTrie.put("🥢", Boolean.TRUE);
-        emojiTrie.put("🍽️", Boolean.TRUE);
-        emojiTrie.put("🍽", Boolean.TRUE);
-        emojiTrie.put("🍴", Boolean.TRUE);
-        emojiTrie.put("🥄", Boolean.TRUE);
-        emojiTrie.put("🔪", Boolean.TRUE);
-        emojiTrie.put("🫙", Boolean.TRUE);
-        emojiTrie.put("🏺", Boolean.TRUE);
-        emojiTrie.put("🌍", Boolean.TRUE);
-        emojiTrie.put("🌎", Boolean.TRUE);
-        emojiTrie.put("🌏", Boolean.TRUE);
-        emojiTrie.put("🌐", Boolean.TRUE);
-        emojiTrie.put("🗺️", Boolean.TRUE);
-        emojiTrie.put("🗺", Boolean.TRUE);
-        emojiTrie.put("🗾", Boolean.TRUE);
-        emojiTrie.put("🧭", Boolean.TRUE);
-        emojiTrie.put("🏔️", Boolean.TRUE);
-        emojiTrie.put("🏔", Boolean.TRUE);
-        emojiTrie.put("⛰️", Boolean.TRUE);
-        emojiTrie.put("⛰", Boolean.TRUE);
-        emojiTrie.put("🌋", Boolean.TRUE);
-        emojiTrie.put("🗻", Boolean.TRUE);
-        emojiTrie.put("🏕️", Boolean.TRUE);
-        emojiTrie.put("🏕", Boolean.TRUE);
-        emojiTrie.put("🏖️", Boolean.TRUE);
-        emojiTrie.put("🏖", Boolean.TRUE);
-        emojiTrie.put("🏜️", Boolean.TRUE);
-        emojiTrie.put("🏜", Boolean.TRUE);
-        emojiTrie.put("🏝️", Boolean.TRUE);
-        emojiTrie.put("🏝", Boolean.TRUE);
-        emojiTrie.put("🏞️", Boolean.TRUE);
-        emojiTrie.put("🏞", Boolean.TRUE);
-        emojiTrie.put("🏟️", Boolean.TRUE);
-        emojiTrie.put("🏟", Boolean.TRUE);
-        emojiTrie.put("🏛️", Boolean.TRUE);
-        emojiTrie.put("🏛", Boolean.TRUE);
-        emojiTrie.put("🏗️", Boolean.TRUE);
-        emojiTrie.put("🏗", Boolean.TRUE);
-        emojiTrie.put("🧱", Boolean.TRUE);
-        emojiTrie.put("🪨", Boolean.TRUE);
-        emojiTrie.put("🪵", Boolean.TRUE);
-        emojiTrie.put("🛖", Boolean.TRUE);
-        emojiTrie.put("🏘️", Boolean.TRUE);
-        emojiTrie.put("🏘", Boolean.TRUE);
-        emojiTrie.put("🏚️", Boolean.TRUE);
-        emojiTrie.put("🏚", Boolean.TRUE);
-        emojiTrie.put("🏠", Boolean.TRUE);
-        emojiTrie.put("🏡", Boolean.TRUE);
-        emojiTrie.put("🏢", Boolean.TRUE);
-        emojiTrie.put("🏣", Boolean.TRUE);
-        emojiTrie.put("🏤", Boolean.TRUE);
-        emojiTrie.put("🏥", Boolean.TRUE);
-        emojiTrie.put("🏦", Boolean.TRUE);
-        emojiTrie.put("🏨", Boolean.TRUE);
-        emojiTrie.put("🏩", Boolean.TRUE);
-        emojiTrie.put("🏪", Boolean.TRUE);
-        emojiTrie.put("🏫", Boolean.TRUE);
-        emojiTrie.put("🏬", Boolean.TRUE);
-        emojiTrie.put("🏭", Boolean.TRUE);
-        emojiTrie.put("🏯", Boolean.TRUE);
-        emojiTrie.put("🏰", Boolean.TRUE);
-        emojiTrie.put("💒", Boolean.TRUE);
-        emojiTrie.put("🗼", Boolean.TRUE);
-        emojiTrie.put("🗽", Boolean.TRUE);
-        emojiTrie.put("⛪", Boolean.TRUE);
-        emojiTrie.put("🕌", Boolean.TRUE);
-        emojiTrie.put("🛕", Boolean.TRUE);
-        emojiTrie.put("🕍", Boolean.TRUE);
-        emojiTrie.put("⛩️", Boolean.TRUE);
-        emojiTrie.put("⛩", Boolean.TRUE);
-        emojiTrie.put("🕋", Boolean.TRUE);
-        emojiTrie.put("⛲", Boolean.TRUE);
-        emojiTrie.put("⛺", Boolean.TRUE);
-        emojiTrie.put("🌁", Boolean.TRUE);
-        emojiTrie.put("🌃", Boolean.TRUE);
-        emojiTrie.put("🏙️", Boolean.TRUE);
-        emojiTrie.put("🏙", Boolean.TRUE);
-        emojiTrie.put("🌄", Boolean.TRUE);
-        emojiTrie.put("🌅", Boolean.TRUE);
-        emojiTrie.put("🌆", Boolean.TRUE);
-        emojiTrie.put("🌇", Boolean.TRUE);
-        emojiTrie.put("🌉", Boolean.TRUE);
-        emojiTrie.put("♨️", Boolean.TRUE);
-        emojiTrie.put("♨", Boolean.TRUE);
-        emojiTrie.put("🎠", Boolean.TRUE);
-        emojiTrie.put("🛝", Boolean.TRUE);
-        emojiTrie.put("🎡", Boolean.TRUE);
-        emojiTrie.put("🎢", Boolean.TRUE);
-        emojiTrie.put("💈", Boolean.TRUE);
-        emojiTrie.put("🎪", Boolean.TRUE);
-        emojiTrie.put("🚂", Boolean.TRUE);
-        emojiTrie.put("🚃", Boolean.TRUE);
-        emojiTrie.put("🚄", Boolean.TRUE);
-        emojiTrie.put("🚅", Boolean.TRUE);
-        emojiTrie.put("🚆", Boolean.TRUE);
-        emojiTrie.put("🚇", Boolean.TRUE);
-        emojiTrie.put("🚈", Boolean.TRUE);
-        emojiTrie.put("🚉", Boolean.TRUE);
-        emojiTrie.put("🚊", Boolean.TRUE);
-        emojiTrie.put("🚝", Boolean.TRUE);
-        emojiTrie.put("🚞", Boolean.TRUE);
-        emojiTrie.put("🚋", Boolean.TRUE);
-        emojiTrie.put("🚌", Boolean.TRUE);
-        emojiTrie.put("🚍", Boolean.TRUE);
-        emojiTrie.put("🚎", Boolean.TRUE);
-        emojiTrie.put("🚐", Boolean.TRUE);
-        emojiTrie.put("🚑", Boolean.TRUE);
-        emojiTrie.put("🚒", Boolean.TRUE);
-        emojiTrie.put("🚓", Boolean.TRUE);
-        emojiTrie.put("🚔", Boolean.TRUE);
-        emojiTrie.put("🚕", Boolean.TRUE);
-        emojiTrie.put("🚖", Boolean.TRUE);
-        emojiTrie.put("🚗", Boolean.TRUE);
-        emojiTrie.put("🚘", Boolean.TRUE);
-        emojiTrie.put("🚙", Boolean.TRUE);
-        emojiTrie.put("🛻", Boolean.TRUE);
-        emojiTrie.put("🚚", Boolean.TRUE);
-        emojiTrie.put("🚛", Boolean.TRUE);
-        emojiTrie.put("🚜", Boolean.TRUE);
-        emojiTrie.put("🏎️", Boolean.TRUE);
-        emojiTrie.put("🏎", Boolean.TRUE);
-        emojiTrie.put("🏍️", Boolean.TRUE);
-        emojiTrie.put("🏍", Boolean.TRUE);
-        emojiTrie.put("🛵", Boolean.TRUE);
-        emojiTrie.put("🦽", Boolean.TRUE);
-        emojiTrie.put("🦼", Boolean.TRUE);
-        emojiTrie.put("🛺", Boolean.TRUE);
-        emojiTrie.put("🚲", Boolean.TRUE);
-        emojiTrie.put("🛴", Boolean.TRUE);
-        emojiTrie.put("🛹", Boolean.TRUE);
-        emojiTrie.put("🛼", Boolean.TRUE);
-        emojiTrie.put("🚏", Boolean.TRUE);
-        emojiTrie.put("🛣️", Boolean.TRUE);
-        emojiTrie.put("🛣", Boolean.TRUE);
-        emojiTrie.put("🛤️", Boolean.TRUE);
-        emojiTrie.put("🛤", Boolean.TRUE);
-        emojiTrie.put("🛢️", Boolean.TRUE);
-        emojiTrie.put("🛢", Boolean.TRUE);
-        emojiTrie.put("⛽", Boolean.TRUE);
-        emojiTrie.put("🛞", Boolean.TRUE);
-        emojiTrie.put("🚨", Boolean.TRUE);
-        emojiTrie.put("🚥", Boolean.TRUE);
-        emojiTrie.put("🚦", Boolean.TRUE);
-        emojiTrie.put("🛑", Boolean.TRUE);
-        emojiTrie.put("🚧", Boolean.TRUE);
-        emojiTrie.put("⚓", Boolean.TRUE);
-        emojiTrie.put("🛟", Boolean.TRUE);
-        emojiTrie.put("⛵", Boolean.TRUE);
-        emojiTrie.put("🛶", Boolean.TRUE);
-        emojiTrie.put("🚤", Boolean.TRUE);
-        emojiTrie.put("🛳️", Boolean.TRUE);
-        emojiTrie.put("🛳", Boolean.TRUE);
-        emojiTrie.put("⛴️", Boolean.TRUE);
-        emojiTrie.put("⛴", Boolean.TRUE);
-        emojiTrie.put("🛥️", Boolean.TRUE);
-        emojiTrie.put("🛥", Boolean.TRUE);
-        emojiTrie.put("🚢", Boolean.TRUE);
-        emojiTrie.put("✈️", Boolean.TRUE);
-        emojiTrie.put("✈", Boolean.TRUE);
-        emojiTrie.put("🛩️", Boolean.TRUE);
-        emojiTrie.put("🛩", Boolean.TRUE);
-        emojiTrie.put("🛫", Boolean.TRUE);
-        emojiTrie.put("🛬", Boolean.TRUE);
-        emojiTrie.put("🪂", Boolean.TRUE);
-        emojiTrie.put("💺", Boolean.TRUE);
-        emojiTrie.put("🚁", Boolean.TRUE);
-        emojiTrie.put("🚟", Boolean.TRUE);
-        emojiTrie.put("🚠", Boolean.TRUE);
-        emojiTrie.put("🚡", Boolean.TRUE);
-        emojiTrie.put("🛰️", Boolean.TRUE);
-        emojiTrie.put("🛰", Boolean.TRUE);
-        emojiTrie.put("🚀", Boolean.TRUE);
-        emojiTrie.put("🛸", Boolean.TRUE);
-        emojiTrie.put("🛎️", Boolean.TRUE);
-        emojiTrie.put("🛎", Boolean.TRUE);
-        emojiTrie.put("🧳", Boolean.TRUE);
-        emojiTrie.put("⌛", Boolean.TRUE);
-        emojiTrie.put("⏳", Boolean.TRUE);
-        emojiTrie.put("⌚", Boolean.TRUE);
-        emojiTrie.put("⏰", Boolean.TRUE);
-        emojiTrie.put("⏱️", Boolean.TRUE);
-        emojiTrie.put("⏱", Boolean.TRUE);
-        emojiTrie.put("⏲️", Boolean.TRUE);
-        emojiTrie.put("⏲", Boolean.TRUE);
-        emojiTrie.put("🕰️", Boolean.TRUE);
-        emojiTrie.put("🕰", Boolean.TRUE);
-        emojiTrie.put("🕛", Boolean.TRUE);
-        emojiTrie.put("🕧", Boolean.TRUE);
-        emojiTrie.put("🕐", Boolean.TRUE);
-        emojiTrie.put("🕜", Boolean.TRUE);
-        emojiTrie.put("🕑", Boolean.TRUE);
-        emojiTrie.put("🕝", Boolean.TRUE);
-        emojiTrie.put("🕒", Boolean.TRUE);
-        emojiTrie.put("🕞", Boolean.TRUE);
-        emojiTrie.put("🕓", Boolean.TRUE);
-        emojiTrie.put("🕟", Boolean.TRUE);
-        emojiTrie.put("🕔", Boolean.TRUE);
-        emojiTrie.put("🕠", Boolean.TRUE);
-        emojiTrie.put("🕕", Boolean.TRUE);
-        emojiTrie.put("🕡", Boolean.TRUE);
-        emojiTrie.put("🕖", Boolean.TRUE);
-        emojiTrie.put("🕢", Boolean.TRUE);
-        emojiTrie.put("🕗", Boolean.TRUE);
-        emojiTrie.put("🕣", Boolean.TRUE);
-        emojiTrie.put("🕘", Boolean.TRUE);
-        emojiTrie.put("🕤", Boolean.TRUE);
-        emojiTrie.put("🕙", Boolean.TRUE);
-        emojiTrie.put("🕥", Boolean.TRUE);
-        emojiTrie.put("🕚", Boolean.TRUE);
-        emojiTrie.put("🕦", Boolean.TRUE);
-        emojiTrie.put("🌑", Boolean.TRUE);
-        emojiTrie.put("🌒", Boolean.TRUE);
-        emojiTrie.put("🌓", Boolean.TRUE);
-        emojiTrie.put("🌔", Boolean.TRUE);
-        emojiTrie.put("🌕", Boolean.TRUE);
-        emojiTrie.put("🌖", Boolean.TRUE);
-        emojiTrie.put("🌗", Boolean.TRUE);
-        emojiTrie.put("🌘", Boolean.TRUE);
-        emojiTrie.put("🌙", Boolean.TRUE);
-        emojiTrie.put("🌚", Boolean.TRUE);
-        emojiTrie.put("🌛", Boolean.TRUE);
-        emojiTrie.put("🌜", Boolean.TRUE);
-        emojiTrie.put("🌡️", Boolean.TRUE);
-        emojiTrie.put("🌡", Boolean.TRUE);
-        emojiTrie.put("☀️", Boolean.TRUE);
-        emojiTrie.put("☀", Boolean.TRUE);
-        emojiTrie.put("🌝", Boolean.TRUE);
-        emojiTrie.put("🌞", Boolean.TRUE);
-        emojiTrie.put("🪐", Boolean.TRUE);
-        emojiTrie.put("⭐", Boolean.TRUE);
-        emojiTrie.put("🌟", Boolean.TRUE);
-        emojiTrie.put("🌠", Boolean.TRUE);
-        emojiTrie.put("🌌", Boolean.TRUE);
-        emojiTrie.put("☁️", Boolean.TRUE);
-        emojiTrie.put("☁", Boolean.TRUE);
-        emojiTrie.put("⛅", Boolean.TRUE);
-        emojiTrie.put("⛈️", Boolean.TRUE);
-        emojiTrie.put("⛈", Boolean.TRUE);
-        emojiTrie.put("🌤️", Boolean.TRUE);
-        emojiTrie.put("🌤", Boolean.TRUE);
-        emojiTrie.put("🌥️", Boolean.TRUE);
-        emojiTrie.put("🌥", Boolean.TRUE);
-        emojiTrie.put("🌦️", Boolean.TRUE);
-        emojiTrie.put("🌦", Boolean.TRUE);
-        emojiTrie.put("🌧️", Boolean.TRUE);
-        emojiTrie.put("🌧", Boolean.TRUE);
-        emojiTrie.put("🌨️", Boolean.TRUE);
-        emojiTrie.put("🌨", Boolean.TRUE);
-        emojiTrie.put("🌩️", Boolean.TRUE);
-        emojiTrie.put("🌩", Boolean.TRUE);
-        emojiTrie.put("🌪️", Boolean.TRUE);
-        emojiTrie.put("🌪", Boolean.TRUE);
-        emojiTrie.put("🌫️", Boolean.TRUE);
-        emojiTrie.put("🌫", Boolean.TRUE);
-        emojiTrie.put("🌬️", Boolean.TRUE);
-        emojiTrie.put("🌬", Boolean.TRUE);
-        emojiTrie.put("🌀", Boolean.TRUE);
-        emojiTrie.put("🌈", Boolean.TRUE);
-        emojiTrie.put("🌂", Boolean.TRUE);
-        emojiTrie.put("☂️", Boolean.TRUE);
-        emojiTrie.put("☂", Boolean.TRUE);
-        emojiTrie.put("☔", Boolean.TRUE);
-        emojiTrie.put("⛱️", Boolean.TRUE);
-        emojiTrie.put("⛱", Boolean.TRUE);
-        emojiTrie.put("⚡", Boolean.TRUE);
-        emojiTrie.put("❄️", Boolean.TRUE);
-        emojiTrie.put("❄", Boolean.TRUE);
-        emojiTrie.put("☃️", Boolean.TRUE);
-        emojiTrie.put("☃", Boolean.TRUE);
-        emojiTrie.put("⛄", Boolean.TRUE);
-        emojiTrie.put("☄️", Boolean.TRUE);
-        emojiTrie.put("☄", Boolean.TRUE);
-        emojiTrie.put("🔥", Boolean.TRUE);
-        emojiTrie.put("💧", Boolean.TRUE);
-        emojiTrie.put("🌊", Boolean.TRUE);
-        emojiTrie.put("🎃", Boolean.TRUE);
-        emojiTrie.put("🎄", Boolean.TRUE);
-        emojiTrie.put("🎆", Boolean.TRUE);
-        emojiTrie.put("🎇", Boolean.TRUE);
-        emojiTrie.put("🧨", Boolean.TRUE);
-        emojiTrie.put("✨", Boolean.TRUE);
-        emojiTrie.put("🎈", Boolean.TRUE);
-        emojiTrie.put("🎉", Boolean.TRUE);
-        emojiTrie.put("🎊", Boolean.TRUE);
-        emojiTrie.put("🎋", Boolean.TRUE);
-        emojiTrie.put("🎍", Boolean.TRUE);
-        emojiTrie.put("🎎", Boolean.TRUE);
-        emojiTrie.put("🎏", Boolean.TRUE);
-        emojiTrie.put("🎐", Boolean.TRUE);
-        emojiTrie.put("🎑", Boolean.TRUE);
-        emojiTrie.put("🧧", Boolean.TRUE);
-        emojiTrie.put("🎀", Boolean.TRUE);
-        emojiTrie.put("🎁", Boolean.TRUE);
-        emojiTrie.put("🎗️", Boolean.TRUE);
-        emojiTrie.put("🎗", Boolean.TRUE);
-        emojiTrie.put("🎟️", Boolean.TRUE);
-        emojiTrie.put("🎟", Boolean.TRUE);
-        emojiTrie.put("🎫", Boolean.TRUE);
-        emojiTrie.put("🎖️", Boolean.TRUE);
-        emojiTrie.put("🎖", Boolean.TRUE);
-        emojiTrie.put("🏆", Boolean.TRUE);
-        emojiTrie.put("🏅", Boolean.TRUE);
-        emojiTrie.put("🥇", Boolean.TRUE);
-        emojiTrie.put("🥈", Boolean.TRUE);
-        emojiTrie.put("🥉", Boolean.TRUE);
-        emojiTrie.put("⚽", Boolean.TRUE);
-        emojiTrie.put("⚾", Boolean.TRUE);
-        emojiTrie.put("🥎", Boolean.TRUE);
-        emojiTrie.put("🏀", Boolean.TRUE);
-        emojiTrie.put("🏐", Boolean.TRUE);
-        emojiTrie.put("🏈", Boolean.TRUE);
-        emojiTrie.put("🏉", Boolean.TRUE);
-        emojiTrie.put("🎾", Boolean.TRUE);
-        emojiTrie.put("🥏", Boolean.TRUE);
-        emojiTrie.put("🎳", Boolean.TRUE);
-        emojiTrie.put("🏏", Boolean.TRUE);
-        emojiTrie.put("🏑", Boolean.TRUE);
-        emojiTrie.put("🏒", Boolean.TRUE);
-        emojiTrie.put("🥍", Boolean.TRUE);
-        emojiTrie.put("🏓", Boolean.TRUE);
-        emojiTrie.put("🏸", Boolean.TRUE);
-        emojiTrie.put("🥊", Boolean.TRUE);
-        emojiTrie.put("🥋", Boolean.TRUE);
-        emojiTrie.put("🥅", Boolean.TRUE);
-        emojiTrie.put("⛳", Boolean.TRUE);
-        emojiTrie.put("⛸️", Boolean.TRUE);
-        emojiTrie.put("⛸", Boolean.TRUE);
-        emojiTrie.put("🎣", Boolean.TRUE);
-        emojiTrie.put("🤿", Boolean.TRUE);
-        emojiTrie.put("🎽", Boolean.TRUE);
-        emojiTrie.put("🎿", Boolean.TRUE);
-        emojiTrie.put("🛷", Boolean.TRUE);
-        emojiTrie.put("🥌", Boolean.TRUE);
-        emojiTrie.put("🎯", Boolean.TRUE);
-        emojiTrie.put("🪀", Boolean.TRUE);
-        emojiTrie.put("🪁", Boolean.TRUE);
-        emojiTrie.put("🔫", Boolean.TRUE);
-        emojiTrie.put("🎱", Boolean.TRUE);
-        emojiTrie.put("🔮", Boolean.TRUE);
-        emojiTrie.put("🪄", Boolean.TRUE);
-        emojiTrie.put("🎮", Boolean.TRUE);
-        emojiTrie.put("🕹️", Boolean.TRUE);
-        emojiTrie.put("🕹", Boolean.TRUE);
-        emojiTrie.put("🎰", Boolean.TRUE);
-        emojiTrie.put("🎲", Boolean.TRUE);
-        emojiTrie.put("🧩", Boolean.TRUE);
-        emojiTrie.put("🧸", Boolean.TRUE);
-        emojiTrie.put("🪅", Boolean.TRUE);
-        emojiTrie.put("🪩", Boolean.TRUE);
-        emojiTrie.put("🪆", Boolean.TRUE);
-        emojiTrie.put("♠️", Boolean.TRUE);
-        emojiTrie.put("♠", Boolean.TRUE);
-        emojiTrie.put("♥️", Boolean.TRUE);
-        emojiTrie.put("♥", Boolean.TRUE);
-        emojiTrie.put("♦️", Boolean.TRUE);
-        emojiTrie.put("♦", Boolean.TRUE);
-        emojiTrie.put("♣️", Boolean.TRUE);
-        emojiTrie.put("♣", Boolean.TRUE);
-        emojiTrie.put("♟️", Boolean.TRUE);
-        emojiTrie.put("♟", Boolean.TRUE);
-        emojiTrie.put("🃏", Boolean.TRUE);
-        emojiTrie.put("🀄", Boolean.TRUE);
-        emojiTrie.put("🎴", Boolean.TRUE);
-        emojiTrie.put("🎭", Boolean.TRUE);
-        emojiTrie.put("🖼️", Boolean.TRUE);
-        emojiTrie.put("🖼", Boolean.TRUE);
-        emojiTrie.put("🎨", Boolean.TRUE);
-        emojiTrie.put("🧵", Boolean.TRUE);
-        emojiTrie.put("🪡", Boolean.TRUE);
-        emojiTrie.put("🧶", Boolean.TRUE);
-        emojiTrie.put("🪢", Boolean.TRUE);
-        emojiTrie.put("👓", Boolean.TRUE);
-        emojiTrie.put("🕶️", Boolean.TRUE);
-        emojiTrie.put("🕶", Boolean.TRUE);
-        emojiTrie.put("🥽", Boolean.TRUE);
-        emojiTrie.put("🥼", Boolean.TRUE);
-        emojiTrie.put("🦺", Boolean.TRUE);
-        emojiTrie.put("👔", Boolean.TRUE);
-        emojiTrie.put("👕", Boolean.TRUE);
-        emojiTrie.put("👖", Boolean.TRUE);
-        emojiTrie.put("🧣", Boolean.TRUE);
-        emojiTrie.put("🧤", Boolean.TRUE);
-        emojiTrie.put("🧥", Boolean.TRUE);
-        emojiTrie.put("🧦", Boolean.TRUE);
-        emojiTrie.put("👗", Boolean.TRUE);
-        emojiTrie.put("👘", Boolean.TRUE);
-        emojiTrie.put("🥻", Boolean.TRUE);
-        emojiTrie.put("🩱", Boolean.TRUE);
-        emojiTrie.put("🩲", Boolean.TRUE);
-        emojiTrie.put("🩳", Boolean.TRUE);
-        emojiTrie.put("👙", Boolean.TRUE);
-        emojiTrie.put("👚", Boolean.TRUE);
-        emojiTrie.put("🪭", Boolean.TRUE);
-        emojiTrie.put("👛", Boolean.TRUE);
-        emojiTrie.put("👜", Boolean.TRUE);
-        emojiTrie.put("👝", Boolean.TRUE);
-        emojiTrie.put("🛍️", Boolean.TRUE);
-        emojiTrie.put("🛍", Boolean.TRUE);
-        emojiTrie.put("🎒", Boolean.TRUE);
-        emojiTrie.put("🩴", Boolean.TRUE);
-        emojiTrie.put("👞", Boolean.TRUE);
-        emojiTrie.put("👟", Boolean.TRUE);
-        emojiTrie.put("🥾", Boolean.TRUE);
-        emojiTrie.put("🥿", Boolean.TRUE);
-        emojiTrie.put("👠", Boolean.TRUE);
-        emojiTrie.put("👡", Boolean.TRUE);
-        emojiTrie.put("🩰", Boolean.TRUE);
-        emojiTrie.put("👢", Boolean.TRUE);
-        emojiTrie.put("🪮", Boolean.TRUE);
-        emojiTrie.put("👑", Boolean.TRUE);
-        emojiTrie.put("👒", Boolean.TRUE);
-        emojiTrie.put("🎩", Boolean.TRUE);
-        emojiTrie.put("🎓", Boolean.TRUE);
-        emojiTrie.put("🧢", Boolean.TRUE);
-        emojiTrie.put("🪖", Boolean.TRUE);
-        emojiTrie.put("⛑️", Boolean.TRUE);
-        emojiTrie.put("⛑", Boolean.TRUE);
-        emojiTrie.put("📿", Boolean.TRUE);
-        emojiTrie.put("💄", Boolean.TRUE);
-        emojiTrie.put("💍", Boolean.TRUE);
-        emojiTrie.put("💎", Boolean.TRUE);
-        emojiTrie.put("🔇", Boolean.TRUE);
-        emojiTrie.put("🔈", Boolean.TRUE);
-        emojiTrie.put("🔉", Boolean.TRUE);
-        emojiTrie.put("🔊", Boolean.TRUE);
-        emojiTrie.put("📢", Boolean.TRUE);
-        emojiTrie.put("📣", Boolean.TRUE);
-        emojiTrie.put("📯", Boolean.TRUE);
-        emojiTrie.put("🔔", Boolean.TRUE);
-        emojiTrie.put("🔕", Boolean.TRUE);
-        emojiTrie.put("🎼", Boolean.TRUE);
-        emojiTrie.put("🎵", Boolean.TRUE);
-        emojiTrie.put("🎶", Boolean.TRUE);
-        emojiTrie.put("🎙️", Boolean.TRUE);
-        emojiTrie.put("🎙", Boolean.TRUE);
-        emojiTrie.put("🎚️", Boolean.TRUE);
-        emojiTrie.put("🎚", Boolean.TRUE);
-        emojiTrie.put("🎛️", Boolean.TRUE);
-        emojiTrie.put("🎛", Boolean.TRUE);
-        emojiTrie.put("🎤", Boolean.TRUE);
-        emojiTrie.put("🎧", Boolean.TRUE);
-        emojiTrie.put("📻", Boolean.TRUE);
-        emojiTrie.put("🎷", Boolean.TRUE);
-        emojiTrie.put("🪗", Boolean.TRUE);
-        emojiTrie.put("🎸", Boolean.TRUE);
-        emojiTrie.put("🎹", Boolean.TRUE);
-        emojiTrie.put("🎺", Boolean.TRUE);
-        emojiTrie.put("🎻", Boolean.TRUE);
-        emojiTrie.put("🪕", Boolean.TRUE);
-        emojiTrie.put("🥁", Boolean.TRUE);
-        emojiTrie.put("🪘", Boolean.TRUE);
-        emojiTrie.put("🪇", Boolean.TRUE);
-        emojiTrie.put("🪈", Boolean.TRUE);
-        emojiTrie.put("🪉", Boolean.TRUE);
-        emojiTrie.put("📱", Boolean.TRUE);
-        emojiTrie.put("📲", Boolean.TRUE);
-        emojiTrie.put("☎️", Boolean.TRUE);
-        emojiTrie.put("☎", Boolean.TRUE);
-        emojiTrie.put("📞", Boolean.TRUE);
-        emojiTrie.put("📟", Boolean.TRUE);
-        emojiTrie.put("📠", Boolean.TRUE);
-        emojiTrie.put("🔋", Boolean.TRUE);
-        emojiTrie.put("🪫", Boolean.TRUE);
-        emojiTrie.put("🔌", Boolean.TRUE);
-        emojiTrie.put("💻", Boolean.TRUE);
-        emojiTrie.put("🖥️", Boolean.TRUE);
-        emojiTrie.put("🖥", Boolean.TRUE);
-        emojiTrie.put("🖨️", Boolean.TRUE);
-        emojiTrie.put("🖨", Boolean.TRUE);
-        emojiTrie.put("⌨️", Boolean.TRUE);
-        emojiTrie.put("⌨", Boolean.TRUE);
-        emojiTrie.put("🖱️", Boolean.TRUE);
-        emojiTrie.put("🖱", Boolean.TRUE);
-        emojiTrie.put("🖲️", Boolean.TRUE);
-        emojiTrie.put("🖲", Boolean.TRUE);
-        emojiTrie.put("💽", Boolean.TRUE);
-        emojiTrie.put("💾", Boolean.TRUE);
-        emojiTrie.put("💿", Boolean.TRUE);
-        emojiTrie.put("📀", Boolean.TRUE);
-        emojiTrie.put("🧮", Boolean.TRUE);
-        emojiTrie.put("🎥", Boolean.TRUE);
-        emojiTrie.put("🎞️", Boolean.TRUE);
-        emojiTrie.put("🎞", Boolean.TRUE);
-        emojiTrie.put("📽️", Boolean.TRUE);
-        emojiTrie.put("📽", Boolean.TRUE);
-        emojiTrie.put("🎬", Boolean.TRUE);
-        emojiTrie.put("📺", Boolean.TRUE);
-        emojiTrie.put("📷", Boolean.TRUE);
-        emojiTrie.put("📸", Boolean.TRUE);
-        emojiTrie.put("📹", Boolean.TRUE);
-        emojiTrie.put("📼", Boolean.TRUE);
-        emojiTrie.put("🔍", Boolean.TRUE);
-        emojiTrie.put("🔎", Boolean.TRUE);
-        emojiTrie.put("🕯️", Boolean.TRUE);
-        emojiTrie.put("🕯", Boolean.TRUE);
-        emojiTrie.put("💡", Boolean.TRUE);
-        emojiTrie.put("🔦", Boolean.TRUE);
-        emojiTrie.put("🏮", Boolean.TRUE);
-        emojiTrie.put("🪔", Boolean.TRUE);
-        emojiTrie.put("📔", Boolean.TRUE);
-        emojiTrie.put("📕", Boolean.TRUE);
-        emojiTrie.put("📖", Boolean.TRUE);
-        emojiTrie.put("📗", Boolean.TRUE);
-        emojiTrie.put("📘", Boolean.TRUE);
-        emojiTrie.put("📙", Boolean.TRUE);
-        emojiTrie.put("📚", Boolean.TRUE);
-        emojiTrie.put("📓", Boolean.TRUE);
-        emojiTrie.put("📒", Boolean.TRUE);
-        emojiTrie.put("📃", Boolean.TRUE);
-        emojiTrie.put("📜", Boolean.TRUE);
-        emojiTrie.put("📄", Boolean.TRUE);
-        emojiTrie.put("📰", Boolean.TRUE);
-        emojiTrie.put("🗞️", Boolean.TRUE);
-        emojiTrie.put("🗞", Boolean.TRUE);
-        emojiTrie.put("📑", Boolean.TRUE);
-        emojiTrie.put("🔖", Boolean.TRUE);
-        emojiTrie.put("🏷️", Boolean.TRUE);
-        emojiTrie.put("🏷", Boolean.TRUE);
-        emojiTrie.put("💰", Boolean.TRUE);
-        emojiTrie.put("🪙", Boolean.TRUE);
-        emojiTrie.put("💴", Boolean.TRUE);
-        emojiTrie.put("💵", Boolean.TRUE);
-        emojiTrie.put("💶", Boolean.TRUE);
-        emojiTrie.put("💷", Boolean.TRUE);
-        emojiTrie.put("💸", Boolean.TRUE);
-        emojiTrie.put("💳", Boolean.TRUE);
-        emojiTrie.put("🧾", Boolean.TRUE);
-        emojiTrie.put("💹", Boolean.TRUE);
-        emojiTrie.put("✉️", Boolean.TRUE);
-        emojiTrie.put("✉", Boolean.TRUE);
-        emojiTrie.put("📧", Boolean.TRUE);
-        emojiTrie.put("📨", Boolean.TRUE);
-        emojiTrie.put("📩", Boolean.TRUE);
-        emojiTrie.put("📤", Boolean.TRUE);
-        emojiTrie.put("📥", Boolean.TRUE);
-        emojiTrie.put("📦", Boolean.TRUE);
-        emojiTrie.put("📫", Boolean.TRUE);
-        emojiTrie.put("📪", Boolean.TRUE);
-        emojiTrie.put("📬", Boolean.TRUE);
-        emojiTrie.put("📭", Boolean.TRUE);
-        emojiTrie.put("📮", Boolean.TRUE);
-        emojiTrie.put("🗳️", Boolean.TRUE);
-        emojiTrie.put("🗳", Boolean.TRUE);
-        emojiTrie.put("✏️", Boolean.TRUE);
-        emojiTrie.put("✏", Boolean.TRUE);
-        emojiTrie.put("✒️", Boolean.TRUE);
-        emojiTrie.put("✒", Boolean.TRUE);
-        emojiTrie.put("🖋️", Boolean.TRUE);
-        emojiTrie.put("🖋", Boolean.TRUE);
-        emojiTrie.put("🖊️", Boolean.TRUE);
-        emojiTrie.put("🖊", Boolean.TRUE);
-        emojiTrie.put("🖌️", Boolean.TRUE);
-        emojiTrie.put("🖌", Boolean.TRUE);
-        emojiTrie.put("🖍️", Boolean.TRUE);
-        emojiTrie.put("🖍", Boolean.TRUE);
-        emojiTrie.put("📝", Boolean.TRUE);
-        emojiTrie.put("💼", Boolean.TRUE);
-        emojiTrie.put("📁", Boolean.TRUE);
-        emojiTrie.put("📂", Boolean.TRUE);
-        emojiTrie.put("🗂️", Boolean.TRUE);
-        emojiTrie.put("🗂", Boolean.TRUE);
-        emojiTrie.put("📅", Boolean.TRUE);
-        emojiTrie.put("📆", Boolean.TRUE);
-        emojiTrie.put("🗒️", Boolean.TRUE);
-        emojiTrie.put("🗒", Boolean.TRUE);
-        emojiTrie.put("🗓️", Boolean.TRUE);
-        emojiTrie.put("🗓", Boolean.TRUE);
-        emojiTrie.put("📇", Boolean.TRUE);
-        emojiTrie.put("📈", Boolean.TRUE);
-        emojiTrie.put("📉", Boolean.TRUE);
-        emojiTrie.put("📊", Boolean.TRUE);
-        emojiTrie.put("📋", Boolean.TRUE);
-        emojiTrie.put("📌", Boolean.TRUE);
-        emojiTrie.put("📍", Boolean.TRUE);
-        emojiTrie.put("📎", Boolean.TRUE);
-        emojiTrie.put("🖇️", Boolean.TRUE);
-        emojiTrie.put("🖇", Boolean.TRUE);
-        emojiTrie.put("📏", Boolean.TRUE);
-        emojiTrie.put("📐", Boolean.TRUE);
-        emojiTrie.put("✂️", Boolean.TRUE);
-        emojiTrie.put("✂", Boolean.TRUE);
-        emojiTrie.put("🗃️", Boolean.TRUE);
-        emojiTrie.put("🗃", Boolean.TRUE);
-        emojiTrie.put("🗄️", Boolean.TRUE);
-        emojiTrie.put("🗄", Boolean.TRUE);
-        emojiTrie.put("🗑️", Boolean.TRUE);
-        emojiTrie.put("🗑", Boolean.TRUE);
-        emojiTrie.put("🔒", Boolean.TRUE);
-        emojiTrie.put("🔓", Boolean.TRUE);
-        emojiTrie.put("🔏", Boolean.TRUE);
-        emojiTrie.put("🔐", Boolean.TRUE);
-        emojiTrie.put("🔑", Boolean.TRUE);
-        emojiTrie.put("🗝️", Boolean.TRUE);
-        emojiTrie.put("🗝", Boolean.TRUE);
-        emojiTrie.put("🔨", Boolean.TRUE);
-        emojiTrie.put("🪓", Boolean.TRUE);
-        emojiTrie.put("⛏️", Boolean.TRUE);
-        emojiTrie.put("⛏", Boolean.TRUE);
-        emojiTrie.put("⚒️", Boolean.TRUE);
-        emojiTrie.put("⚒", Boolean.TRUE);
-        emojiTrie.put("🛠️", Boolean.TRUE);
-        emojiTrie.put("🛠", Boolean.TRUE);
-        emojiTrie.put("🗡️", Boolean.TRUE);
-        emojiTrie.put("🗡", Boolean.TRUE);
-        emojiTrie.put("⚔️", Boolean.TRUE);
-        emojiTrie.put("⚔", Boolean.TRUE);
-        emojiTrie.put("💣", Boolean.TRUE);
-        emojiTrie.put("🪃", Boolean.TRUE);
-        emojiTrie.put("🏹", Boolean.TRUE);
-        emojiTrie.put("🛡️", Boolean.TRUE);
-        emojiTrie.put("🛡", Boolean.TRUE);
-        emojiTrie.put("🪚", Boolean.TRUE);
-        emojiTrie.put("🔧", Boolean.TRUE);
-        emojiTrie.put("🪛", Boolean.TRUE);
-        emojiTrie.put("🔩", Boolean.TRUE);
-        emojiTrie.put("⚙️", Boolean.TRUE);
-        emojiTrie.put("⚙", Boolean.TRUE);
-        emojiTrie.put("🗜️", Boolean.TRUE);
-        emojiTrie.put("🗜", Boolean.TRUE);
-        emojiTrie.put("⚖️", Boolean.TRUE);
-        emojiTrie.put("⚖", Boolean.TRUE);
-        emojiTrie.put("🦯", Boolean.TRUE);
-        emojiTrie.put("🔗", Boolean.TRUE);
-        emojiTrie.put("⛓️‍💥", Boolean.TRUE);
-        emojiTrie.put("⛓‍💥", Boolean.TRUE);
-        emojiTrie.put("⛓️", Boolean.TRUE);
-        emojiTrie.put("⛓", Boolean.TRUE);
-        emojiTrie.put("🪝", Boolean.TRUE);
-        emojiTrie.put("🧰", Boolean.TRUE);
-        emojiTrie.put("🧲", Boolean.TRUE);
-        emojiTrie.put("🪜", Boolean.TRUE);
-        emojiTrie.put("🪏", Boolean.TRUE);
-        emojiTrie.put("⚗️", Boolean.TRUE);
-        emojiTrie.put("⚗", Boolean.TRUE);
-        emojiTrie.put("🧪", Boolean.TRUE);
-        emojiTrie.put("🧫", Boolean.TRUE);
-        emojiTrie.put("🧬", Boolean.TRUE);
-        emojiTrie.put("🔬", Boolean.TRUE);
-        emojiTrie.put("🔭", Boolean.TRUE);
-        emojiTrie.put("📡", Boolean.TRUE);
-        emojiTrie.put("💉", Boolean.TRUE);
-        emojiTrie.put("🩸", Boolean.TRUE);
-        emojiTrie.put("💊", Boolean.TRUE);
-        emojiTrie.put("🩹", Boolean.TRUE);
-        emojiTrie.put("🩼", Boolean.TRUE);
-        emojiTrie.put("🩺", Boolean.TRUE);
-        emojiTrie.put("🩻", Boolean.TRUE);
-        emojiTrie.put("🚪", Boolean.TRUE);
-        emojiTrie.put("🛗", Boolean.TRUE);
-        emojiTrie.put("🪞", Boolean.TRUE);
-        emojiTrie.put("🪟", Boolean.TRUE);
-        emojiTrie.put("🛏️", Boolean.TRUE);
-        emojiTrie.put("🛏", Boolean.TRUE);
-        emojiTrie.put("🛋️", Boolean.TRUE);
-        emojiTrie.put("🛋", Boolean.TRUE);
-        emojiTrie.put("🪑", Boolean.TRUE);
-        emojiTrie.put("🚽", Boolean.TRUE);
-        emojiTrie.put("🪠", Boolean.TRUE);
-        emojiTrie.put("🚿", Boolean.TRUE);
-        emojiTrie.put("🛁", Boolean.TRUE);
-        emojiTrie.put("🪤", Boolean.TRUE);
-        emojiTrie.put("🪒", Boolean.TRUE);
-        emojiTrie.put("🧴", Boolean.TRUE);
-        emojiTrie.put("🧷", Boolean.TRUE);
-        emojiTrie.put("🧹", Boolean.TRUE);
-        emojiTrie.put("🧺", Boolean.TRUE);
-        emojiTrie.put("🧻", Boolean.TRUE);
-        emojiTrie.put("🪣", Boolean.TRUE);
-        emojiTrie.put("🧼", Boolean.TRUE);
-        emojiTrie.put("🫧", Boolean.TRUE);
-        emojiTrie.put("🪥", Boolean.TRUE);
-        emojiTrie.put("🧽", Boolean.TRUE);
-        emojiTrie.put("🧯", Boolean.TRUE);
-        emojiTrie.put("🛒", Boolean.TRUE);
-        emojiTrie.put("🚬", Boolean.TRUE);
-        emojiTrie.put("⚰️", Boolean.TRUE);
-        emojiTrie.put("⚰", Boolean.TRUE);
-        emojiTrie.put("🪦", Boolean.TRUE);
-        emojiTrie.put("⚱️", Boolean.TRUE);
-        emojiTrie.put("⚱", Boolean.TRUE);
-        emojiTrie.put("🧿", Boolean.TRUE);
-        emojiTrie.put("🪬", Boolean.TRUE);
-        emojiTrie.put("🗿", Boolean.TRUE);
-        emojiTrie.put("🪧", Boolean.TRUE);
-        emojiTrie.put("🪪", Boolean.TRUE);
-        emojiTrie.put("🏧", Boolean.TRUE);
-        emojiTrie.put("🚮", Boolean.TRUE);
-        emojiTrie.put("🚰", Boolean.TRUE);
-        emojiTrie.put("♿", Boolean.TRUE);
-        emojiTrie.put("🚹", Boolean.TRUE);
-        emojiTrie.put("🚺", Boolean.TRUE);
-        emojiTrie.put("🚻", Boolean.TRUE);
-        emojiTrie.put("🚼", Boolean.TRUE);
-        emojiTrie.put("🚾", Boolean.TRUE);
-        emojiTrie.put("🛂", Boolean.TRUE);
-        emojiTrie.put("🛃", Boolean.TRUE);
-        emojiTrie.put("🛄", Boolean.TRUE);
-        emojiTrie.put("🛅", Boolean.TRUE);
-        emojiTrie.put("⚠️", Boolean.TRUE);
-        emojiTrie.put("⚠", Boolean.TRUE);
-        emojiTrie.put("🚸", Boolean.TRUE);
-        emojiTrie.put("⛔", Boolean.TRUE);
-        emojiTrie.put("🚫", Boolean.TRUE);
-        emojiTrie.put("🚳", Boolean.TRUE);
-        emojiTrie.put("🚭", Boolean.TRUE);
-        emojiTrie.put("🚯", Boolean.TRUE);
-        emojiTrie.put("🚱", Boolean.TRUE);
-        emojiTrie.put("🚷", Boolean.TRUE);
-        emojiTrie.put("📵", Boolean.TRUE);
-        emojiTrie.put("🔞", Boolean.TRUE);
-        emojiTrie.put("☢️", Boolean.TRUE);
-        emojiTrie.put("☢", Boolean.TRUE);
-        emojiTrie.put("☣️", Boolean.TRUE);
-        emojiTrie.put("☣", Boolean.TRUE);
-        emojiTrie.put("⬆️", Boolean.TRUE);
-        emojiTrie.put("⬆", Boolean.TRUE);
-        emojiTrie.put("↗️", Boolean.TRUE);
-        emojiTrie.put("↗", Boolean.TRUE);
-        emojiTrie.put("➡️", Boolean.TRUE);
-        emojiTrie.put("➡", Boolean.TRUE);
-        emojiTrie.put("↘️", Boolean.TRUE);
-        emojiTrie.put("↘", Boolean.TRUE);
-        emojiTrie.put("⬇️", Boolean.TRUE);
-        emojiTrie.put("⬇", Boolean.TRUE);
-        emojiTrie.put("↙️", Boolean.TRUE);
-        emojiTrie.put("↙", Boolean.TRUE);
-        emojiTrie.put("⬅️", Boolean.TRUE);
-        emojiTrie.put("⬅", Boolean.TRUE);
-        emojiTrie.put("↖️", Boolean.TRUE);
-        emojiTrie.put("↖", Boolean.TRUE);
-        emojiTrie.put("↕️", Boolean.TRUE);
-        emojiTrie.put("↕", Boolean.TRUE);
-        emojiTrie.put("↔️", Boolean.TRUE);
-        emojiTrie.put("↔", Boolean.TRUE);
-        emojiTrie.put("↩️", Boolean.TRUE);
-        emojiTrie.put("↩", Boolean.TRUE);
-        emojiTrie.put("↪️", Boolean.TRUE);
-        emojiTrie.put("↪", Boolean.TRUE);
-        emojiTrie.put("⤴️", Boolean.TRUE);
-        emojiTrie.put("⤴", Boolean.TRUE);
-        emojiTrie.put("⤵️", Boolean.TRUE);
-        emojiTrie.put("⤵", Boolean.TRUE);
-        emojiTrie.put("🔃", Boolean.TRUE);
-        emojiTrie.put("🔄", Boolean.TRUE);
-        emojiTrie.put("🔙", Boolean.TRUE);
-        emojiTrie.put("🔚", Boolean.TRUE);
-        emojiTrie.put("🔛", Boolean.TRUE);
-        emojiTrie.put("🔜", Boolean.TRUE);
-        emojiTrie.put("🔝", Boolean.TRUE);
-        emojiTrie.put("🛐", Boolean.TRUE);
-        emojiTrie.put("⚛️", Boolean.TRUE);
-        emojiTrie.put("⚛", Boolean.TRUE);
-        emojiTrie.put("🕉️", Boolean.TRUE);
-        emojiTrie.put("🕉", Boolean.TRUE);
-        emojiTrie.put("✡️", Boolean.TRUE);
-        emojiTrie.put("✡", Boolean.TRUE);
-        emojiTrie.put("☸️", Boolean.TRUE);
-        emojiTrie.put("☸", Boolean.TRUE);
-        emojiTrie.put("☯️", Boolean.TRUE);
-        emojiTrie.put("☯", Boolean.TRUE);
-        emojiTrie.put("✝️", Boolean.TRUE);
-        emojiTrie.put("✝", Boolean.TRUE);
-        emojiTrie.put("☦️", Boolean.TRUE);
-        emojiTrie.put("☦", Boolean.TRUE);
-        emojiTrie.put("☪️", Boolean.TRUE);
-        emojiTrie.put("☪", Boolean.TRUE);
-        emojiTrie.put("☮️", Boolean.TRUE);
-        emojiTrie.put("☮", Boolean.TRUE);
-        emojiTrie.put("🕎", Boolean.TRUE);
-        emojiTrie.put("🔯", Boolean.TRUE);
-        emojiTrie.put("🪯", Boolean.TRUE);
-        emojiTrie.put("♈", Boolean.TRUE);
-        emojiTrie.put("♉", Boolean.TRUE);
-        emojiTrie.put("♊", Boolean.TRUE);
-        emojiTrie.put("♋", Boolean.TRUE);
-        emojiTrie.put("♌", Boolean.TRUE);
-        emojiTrie.put("♍", Boolean.TRUE);
-        emojiTrie.put("♎", Boolean.TRUE);
-        emojiTrie.put("♏", Boolean.TRUE);
-        emojiTrie.put("♐", Boolean.TRUE);
-        emojiTrie.put("♑", Boolean.TRUE);
-        emojiTrie.put("♒", Boolean.TRUE);
-        emojiTrie.put("♓", Boolean.TRUE);
-        emojiTrie.put("⛎", Boolean.TRUE);
-        emojiTrie.put("🔀", Boolean.TRUE);
-        emojiTrie.put("🔁", Boolean.TRUE);
-        emojiTrie.put("🔂", Boolean.TRUE);
-        emojiTrie.put("▶️", Boolean.TRUE);
-        emojiTrie.put("▶", Boolean.TRUE);
-        emojiTrie.put("⏩", Boolean.TRUE);
-        emojiTrie.put("⏭️", Boolean.TRUE);
-        emojiTrie.put("⏭", Boolean.TRUE);
-        emojiTrie.put("⏯️", Boolean.TRUE);
-        emojiTrie.put("⏯", Boolean.TRUE);
-        emojiTrie.put("◀️", Boolean.TRUE);
-        emojiTrie.put("◀", Boolean.TRUE);
-        emojiTrie.put("⏪", Boolean.TRUE);
-        emojiTrie.put("⏮️", Boolean.TRUE);
-        emojiTrie.put("⏮", Boolean.TRUE);
-        emojiTrie.put("🔼", Boolean.TRUE);
-        emojiTrie.put("⏫", Boolean.TRUE);
-        emojiTrie.put("🔽", Boolean.TRUE);
-        emojiTrie.put("⏬", Boolean.TRUE);
-        emojiTrie.put("⏸️", Boolean.TRUE);
-        emojiTrie.put("⏸", Boolean.TRUE);
-        emojiTrie.put("⏹️", Boolean.TRUE);
-        emojiTrie.put("⏹", Boolean.TRUE);
-        emojiTrie.put("⏺️", Boolean.TRUE);
-        emojiTrie.put("⏺", Boolean.TRUE);
-        emojiTrie.put("⏏️", Boolean.TRUE);
-        emojiTrie.put("⏏", Boolean.TRUE);
-        emojiTrie.put("🎦", Boolean.TRUE);
-        emojiTrie.put("🔅", Boolean.TRUE);
-        emojiTrie.put("🔆", Boolean.TRUE);
-        emojiTrie.put("📶", Boolean.TRUE);
-        emojiTrie.put("🛜", Boolean.TRUE);
-        emojiTrie.put("📳", Boolean.TRUE);
-        emojiTrie.put("📴", Boolean.TRUE);
-        emojiTrie.put("♀️", Boolean.TRUE);
-        emojiTrie.put("♀", Boolean.TRUE);
-        emojiTrie.put("♂️", Boolean.TRUE);
-        emojiTrie.put("♂", Boolean.TRUE);
-        emojiTrie.put("⚧️", Boolean.TRUE);
-        emojiTrie.put("⚧", Boolean.TRUE);
-        emojiTrie.put("✖️", Boolean.TRUE);
-        emojiTrie.put("✖", Boolean.TRUE);
-        emojiTrie.put("➕", Boolean.TRUE);
-        emojiTrie.put("➖", Boolean.TRUE);
-        emojiTrie.put("➗", Boolean.TRUE);
-        emojiTrie.put("🟰", Boolean.TRUE);
-        emojiTrie.put("♾️", Boolean.TRUE);
-        emojiTrie.put("♾", Boolean.TRUE);
-        emojiTrie.put("‼️", Boolean.TRUE);
-        emojiTrie.put("‼", Boolean.TRUE);
-        emojiTrie.put("⁉️", Boolean.TRUE);
-        emojiTrie.put("⁉", Boolean.TRUE);
-        emojiTrie.put("❓", Boolean.TRUE);
-        emojiTrie.put("❔", Boolean.TRUE);
-        emojiTrie.put("❕", Boolean.TRUE);
-        emojiTrie.put("❗", Boolean.TRUE);
-        emojiTrie.put("〰️", Boolean.TRUE);
-        emojiTrie.put("〰", Boolean.TRUE);
-        emojiTrie.put("💱", Boolean.TRUE);
-        emojiTrie.put("💲", Boolean.TRUE);
-        emojiTrie.put("⚕️", Boolean.TRUE);
-        emojiTrie.put("⚕", Boolean.TRUE);
-        emojiTrie.put("♻️", Boolean.TRUE);
-        emojiTrie.put("♻", Boolean.TRUE);
-        emojiTrie.put("⚜️", Boolean.TRUE);
-        emojiTrie.put("⚜", Boolean.TRUE);
-        emojiTrie.put("🔱", Boolean.TRUE);
-        emojiTrie.put("📛", Boolean.TRUE);
-        emojiTrie.put("🔰", Boolean.TRUE);
-        emojiTrie.put("⭕", Boolean.TRUE);
-        emojiTrie.put("✅", Boolean.TRUE);
-        emojiTrie.put("☑️", Boolean.TRUE);
-        emojiTrie.put("☑", Boolean.TRUE);
-        emojiTrie.put("✔️", Boolean.TRUE);
-        emojiTrie.put("✔", Boolean.TRUE);
-        emojiTrie.put("❌", Boolean.TRUE);
-        emojiTrie.put("❎", Boolean.TRUE);
-        emojiTrie.put("➰", Boolean.TRUE);
-        emojiTrie.put("➿", Boolean.TRUE);
-        emojiTrie.put("〽️", Boolean.TRUE);
-        emojiTrie.put("〽", Boolean.TRUE);
-        emojiTrie.put("✳️", Boolean.TRUE);
-        emojiTrie.put("✳", Boolean.TRUE);
-        emojiTrie.put("✴️", Boolean.TRUE);
-        emojiTrie.put("✴", Boolean.TRUE);
-        emojiTrie.put("❇️", Boolean.TRUE);
-        emojiTrie.put("❇", Boolean.TRUE);
-        emojiTrie.put("©️", Boolean.TRUE);
-        emojiTrie.put("©", Boolean.TRUE);
-        emojiTrie.put("®️", Boolean.TRUE);
-        emojiTrie.put("®", Boolean.TRUE);
-        emojiTrie.put("™️", Boolean.TRUE);
-        emojiTrie.put("™", Boolean.TRUE);
-        emojiTrie.put("🫟", Boolean.TRUE);
-        emojiTrie.put("#️⃣", Boolean.TRUE);
-        emojiTrie.put("#⃣", Boolean.TRUE);
-        emojiTrie.put("*️⃣", Boolean.TRUE);
-        emojiTrie.put("*⃣", Boolean.TRUE);
-        emojiTrie.put("0️⃣", Boolean.TRUE);
-        emojiTrie.put("0⃣", Boolean.TRUE);
-        emojiTrie.put("1️⃣", Boolean.TRUE);
-        emojiTrie.put("1⃣", Boolean.TRUE);
-        emojiTrie.put("2️⃣", Boolean.TRUE);
-        emojiTrie.put("2⃣", Boolean.TRUE);
-        emojiTrie.put("3️⃣", Boolean.TRUE);
-        emojiTrie.put("3⃣", Boolean.TRUE);
-        emojiTrie.put("4️⃣", Boolean.TRUE);
-        emojiTrie.put("4⃣", Boolean.TRUE);
-        emojiTrie.put("5️⃣", Boolean.TRUE);
-        emojiTrie.put("5⃣", Boolean.TRUE);
-        emojiTrie.put("6️⃣", Boolean.TRUE);
-        emojiTrie.put("6⃣", Boolean.TRUE);
-        emojiTrie.put("7️⃣", Boolean.TRUE);
-        emojiTrie.put("7⃣", Boolean.TRUE);
-        emojiTrie.put("8️⃣", Boolean.TRUE);
-        emojiTrie.put("8⃣", Boolean.TRUE);
-        emojiTrie.put("9️⃣", Boolean.TRUE);
-        emojiTrie.put("9⃣", Boolean.TRUE);
-        emojiTrie.put("🔟", Boolean.TRUE);
-        emojiTrie.put("🔠", Boolean.TRUE);
-        emojiTrie.put("🔡", Boolean.TRUE);
-        emojiTrie.put("🔢", Boolean.TRUE);
-        emojiTrie.put("🔣", Boolean.TRUE);
-        emojiTrie.put("🔤", Boolean.TRUE);
-        emojiTrie.put("🅰️", Boolean.TRUE);
-        emojiTrie.put("🅰", Boolean.TRUE);
-        emojiTrie.put("🆎", Boolean.TRUE);
-        emojiTrie.put("🅱️", Boolean.TRUE);
-        emojiTrie.put("🅱", Boolean.TRUE);
-        emojiTrie.put("🆑", Boolean.TRUE);
-        emojiTrie.put("🆒", Boolean.TRUE);
-        emojiTrie.put("🆓", Boolean.TRUE);
-        emojiTrie.put("ℹ️", Boolean.TRUE);
-        emojiTrie.put("ℹ", Boolean.TRUE);
-        emojiTrie.put("🆔", Boolean.TRUE);
-        emojiTrie.put("Ⓜ️", Boolean.TRUE);
-        emojiTrie.put("Ⓜ", Boolean.TRUE);
-        emojiTrie.put("🆕", Boolean.TRUE);
-        emojiTrie.put("🆖", Boolean.TRUE);
-        emojiTrie.put("🅾️", Boolean.TRUE);
-        emojiTrie.put("🅾", Boolean.TRUE);
-        emojiTrie.put("🆗", Boolean.TRUE);
-        emojiTrie.put("🅿️", Boolean.TRUE);
-        emojiTrie.put("🅿", Boolean.TRUE);
-        emojiTrie.put("🆘", Boolean.TRUE);
-        emojiTrie.put("🆙", Boolean.TRUE);
-        emojiTrie.put("🆚", Boolean.TRUE);
-        emojiTrie.put("🈁", Boolean.TRUE);
-        emojiTrie.put("🈂️", Boolean.TRUE);
-        emojiTrie.put("🈂", Boolean.TRUE);
-        emojiTrie.put("🈷️", Boolean.TRUE);
-        emojiTrie.put("🈷", Boolean.TRUE);
-        emojiTrie.put("🈶", Boolean.TRUE);
-        emojiTrie.put("🈯", Boolean.TRUE);
-        emojiTrie.put("🉐", Boolean.TRUE);
-        emojiTrie.put("🈹", Boolean.TRUE);
-        emojiTrie.put("🈚", Boolean.TRUE);
-        emojiTrie.put("🈲", Boolean.TRUE);
-        emojiTrie.put("🉑", Boolean.TRUE);
-        emojiTrie.put("🈸", Boolean.TRUE);
-        emojiTrie.put("🈴", Boolean.TRUE);
-        emojiTrie.put("🈳", Boolean.TRUE);
-        emojiTrie.put("㊗️", Boolean.TRUE);
-        emojiTrie.put("㊗", Boolean.TRUE);
-        emojiTrie.put("㊙️", Boolean.TRUE);
-        emojiTrie.put("㊙", Boolean.TRUE);
-        emojiTrie.put("🈺", Boolean.TRUE);
-        emojiTrie.put("🈵", Boolean.TRUE);
-        emojiTrie.put("🔴", Boolean.TRUE);
-        emojiTrie.put("🟠", Boolean.TRUE);
-        emojiTrie.put("🟡", Boolean.TRUE);
-        emojiTrie.put("🟢", Boolean.TRUE);
-        emojiTrie.put("🔵", Boolean.TRUE);
-        emojiTrie.put("🟣", Boolean.TRUE);
-        emojiTrie.put("🟤", Boolean.TRUE);
-        emojiTrie.put("⚫", Boolean.TRUE);
-        emojiTrie.put("⚪", Boolean.TRUE);
-        emojiTrie.put("🟥", Boolean.TRUE);
-        emojiTrie.put("🟧", Boolean.TRUE);
-        emojiTrie.put("🟨", Boolean.TRUE);
-        emojiTrie.put("🟩", Boolean.TRUE);
-        emojiTrie.put("🟦", Boolean.TRUE);
-        emojiTrie.put("🟪", Boolean.TRUE);
-        emojiTrie.put("🟫", Boolean.TRUE);
-        emojiTrie.put("⬛", Boolean.TRUE);
-        emojiTrie.put("⬜", Boolean.TRUE);
-        emojiTrie.put("◼️", Boolean.TRUE);
-        emojiTrie.put("◼", Boolean.TRUE);
-        emojiTrie.put("◻️", Boolean.TRUE);
-        emojiTrie.put("◻", Boolean.TRUE);
-        emojiTrie.put("◾", Boolean.TRUE);
-        emojiTrie.put("◽", Boolean.TRUE);
-        emojiTrie.put("▪️", Boolean.TRUE);
-        emojiTrie.put("▪", Boolean.TRUE);
-        emojiTrie.put("▫️", Boolean.TRUE);
-        emojiTrie.put("▫", Boolean.TRUE);
-        emojiTrie.put("🔶", Boolean.TRUE);
-        emojiTrie.put("🔷", Boolean.TRUE);
-        emojiTrie.put("🔸", Boolean.TRUE);
-        emojiTrie.put("🔹", Boolean.TRUE);
-        emojiTrie.put("🔺", Boolean.TRUE);
-        emojiTrie.put("🔻", Boolean.TRUE);
-        emojiTrie.put("💠", Boolean.TRUE);
-        emojiTrie.put("🔘", Boolean.TRUE);
-        emojiTrie.put("🔳", Boolean.TRUE);
-        emojiTrie.put("🔲", Boolean.TRUE);
-        emojiTrie.put("🏁", Boolean.TRUE);
-        emojiTrie.put("🚩", Boolean.TRUE);
-        emojiTrie.put("🎌", Boolean.TRUE);
-        emojiTrie.put("🏴", Boolean.TRUE);
-        emojiTrie.put("🏳️", Boolean.TRUE);
-        emojiTrie.put("🏳", Boolean.TRUE);
-        emojiTrie.put("🏳️‍🌈", Boolean.TRUE);
-        emojiTrie.put("🏳‍🌈", Boolean.TRUE);
-        emojiTrie.put("🏳️‍⚧️", Boolean.TRUE);
-        emojiTrie.put("🏳‍⚧️", Boolean.TRUE);
-        emojiTrie.put("🏳️‍⚧", Boolean.TRUE);
-        emojiTrie.put("🏳‍⚧", Boolean.TRUE);
-        emojiTrie.put("🏴‍☠️", Boolean.TRUE);
-        emojiTrie.put("🏴‍☠", Boolean.TRUE);
-        emojiTrie.put("🇦🇨", Boolean.TRUE);
-        emojiTrie.put("🇦🇩", Boolean.TRUE);
-        emojiTrie.put("🇦🇪", Boolean.TRUE);
-        emojiTrie.put("🇦🇫", Boolean.TRUE);
-        emojiTrie.put("🇦🇬", Boolean.TRUE);
-        emojiTrie.put("🇦🇮", Boolean.TRUE);
-        emojiTrie.put("🇦🇱", Boolean.TRUE);
-        emojiTrie.put("🇦🇲", Boolean.TRUE);
-        emojiTrie.put("🇦🇴", Boolean.TRUE);
-        emojiTrie.put("🇦🇶", Boolean.TRUE);
-        emojiTrie.put("🇦🇷", Boolean.TRUE);
-        emojiTrie.put("🇦🇸", Boolean.TRUE);
-        emojiTrie.put("🇦🇹", Boolean.TRUE);
-        emojiTrie.put("🇦🇺", Boolean.TRUE);
-        emojiTrie.put("🇦🇼", Boolean.TRUE);
-        emojiTrie.put("🇦🇽", Boolean.TRUE);
-        emojiTrie.put("🇦🇿", Boolean.TRUE);
-        emojiTrie.put("🇧🇦", Boolean.TRUE);
-        emojiTrie.put("🇧🇧", Boolean.TRUE);
-        emojiTrie.put("🇧🇩", Boolean.TRUE);
-        emojiTrie.put("🇧🇪", Boolean.TRUE);
-        emojiTrie.put("🇧🇫", Boolean.TRUE);
-        emojiTrie.put("🇧🇬", Boolean.TRUE);
-        emojiTrie.put("🇧🇭", Boolean.TRUE);
-        emojiTrie.put("🇧🇮", Boolean.TRUE);
-        emojiTrie.put("🇧🇯", Boolean.TRUE);
-        emojiTrie.put("🇧🇱", Boolean.TRUE);
-        emojiTrie.put("🇧🇲", Boolean.TRUE);
-        emojiTrie.put("🇧🇳", Boolean.TRUE);
-        emojiTrie.put("🇧🇴", Boolean.TRUE);
-        emojiTrie.put("🇧🇶", Boolean.TRUE);
-        emojiTrie.put("🇧🇷", Boolean.TRUE);
-        emojiTrie.put("🇧🇸", Boolean.TRUE);
-        emojiTrie.put("🇧🇹", Boolean.TRUE);
-        emojiTrie.put("🇧🇻", Boolean.TRUE);
-        emojiTrie.put("🇧🇼", Boolean.TRUE);
-        emojiTrie.put("🇧🇾", Boolean.TRUE);
-        emojiTrie.put("🇧🇿", Boolean.TRUE);
-        emojiTrie.put("🇨🇦", Boolean.TRUE);
-        emojiTrie.put("🇨🇨", Boolean.TRUE);
-        emojiTrie.put("🇨🇩", Boolean.TRUE);
-        emojiTrie.put("🇨🇫", Boolean.TRUE);
-        emojiTrie.put("🇨🇬", Boolean.TRUE);
-        emojiTrie.put("🇨🇭", Boolean.TRUE);
-        emojiTrie.put("🇨🇮", Boolean.TRUE);
-        emojiTrie.put("🇨🇰", Boolean.TRUE);
-        emojiTrie.put("🇨🇱", Boolean.TRUE);
-        emojiTrie.put("🇨🇲", Boolean.TRUE);
-        emojiTrie.put("🇨🇳", Boolean.TRUE);
-        emojiTrie.put("🇨🇴", Boolean.TRUE);
-        emojiTrie.put("🇨🇵", Boolean.TRUE);
-        emojiTrie.put("🇨🇶", Boolean.TRUE);
-        emojiTrie.put("🇨🇷", Boolean.TRUE);
-        emojiTrie.put("🇨🇺", Boolean.TRUE);
-        emojiTrie.put("🇨🇻", Boolean.TRUE);
-        emojiTrie.put("🇨🇼", Boolean.TRUE);
-        emojiTrie.put("🇨🇽", Boolean.TRUE);
-        emojiTrie.put("🇨🇾", Boolean.TRUE);
-        emojiTrie.put("🇨🇿", Boolean.TRUE);
-        emojiTrie.put("🇩🇪", Boolean.TRUE);
-        emojiTrie.put("🇩🇬", Boolean.TRUE);
-        emojiTrie.put("🇩🇯", Boolean.TRUE);
-        emojiTrie.put("🇩🇰", Boolean.TRUE);
-        emojiTrie.put("🇩🇲", Boolean.TRUE);
-        emojiTrie.put("🇩🇴", Boolean.TRUE);
-        emojiTrie.put("🇩🇿", Boolean.TRUE);
-        emojiTrie.put("🇪🇦", Boolean.TRUE);
-        emojiTrie.put("🇪🇨", Boolean.TRUE);
-        emojiTrie.put("🇪🇪", Boolean.TRUE);
-        emojiTrie.put("🇪🇬", Boolean.TRUE);
-        emojiTrie.put("🇪🇭", Boolean.TRUE);
-        emojiTrie.put("🇪🇷", Boolean.TRUE);
-        emojiTrie.put("🇪🇸", Boolean.TRUE);
-        emojiTrie.put("🇪🇹", Boolean.TRUE);
-        emojiTrie.put("🇪🇺", Boolean.TRUE);
-        emojiTrie.put("🇫🇮", Boolean.TRUE);
-        emojiTrie.put("🇫🇯", Boolean.TRUE);
-        emojiTrie.put("🇫🇰", Boolean.TRUE);
-        emojiTrie.put("🇫🇲", Boolean.TRUE);
-        emojiTrie.put("🇫🇴", Boolean.TRUE);
-        emojiTrie.put("🇫🇷", Boolean.TRUE);
-        emojiTrie.put("🇬🇦", Boolean.TRUE);
-        emojiTrie.put("🇬🇧", Boolean.TRUE);
-        emojiTrie.put("🇬🇩", Boolean.TRUE);
-        emojiTrie.put("🇬🇪", Boolean.TRUE);
-        emojiTrie.put("🇬🇫", Boolean.TRUE);
-        emojiTrie.put("🇬🇬", Boolean.TRUE);
-        emojiTrie.put("🇬🇭", Boolean.TRUE);
-        emojiTrie.put("🇬🇮", Boolean.TRUE);
-        emojiTrie.put("🇬🇱", Boolean.TRUE);
-        emojiTrie.put("🇬🇲", Boolean.TRUE);
-        emojiTrie.put("🇬🇳", Boolean.TRUE);
-        emojiTrie.put("🇬🇵", Boolean.TRUE);
-        emojiTrie.put("🇬🇶", Boolean.TRUE);
-        emojiTrie.put("🇬🇷", Boolean.TRUE);
-        emojiTrie.put("🇬🇸", Boolean.TRUE);
-        emojiTrie.put("🇬🇹", Boolean.TRUE);
-        emojiTrie.put("🇬🇺", Boolean.TRUE);
-        emojiTrie.put("🇬🇼", Boolean.TRUE);
-        emojiTrie.put("🇬🇾", Boolean.TRUE);
-        emojiTrie.put("🇭🇰", Boolean.TRUE);
-        emojiTrie.put("🇭🇲", Boolean.TRUE);
-        emojiTrie.put("🇭🇳", Boolean.TRUE);
-        emojiTrie.put("🇭🇷", Boolean.TRUE);
-        emojiTrie.put("🇭🇹", Boolean.TRUE);
-        emojiTrie.put("🇭🇺", Boolean.TRUE);
-        emojiTrie.put("🇮🇨", Boolean.TRUE);
-        emojiTrie.put("🇮🇩", Boolean.TRUE);
-        emojiTrie.put("🇮🇪", Boolean.TRUE);
-        emojiTrie.put("🇮🇱", Boolean.TRUE);
-        emojiTrie.put("🇮🇲", Boolean.TRUE);
-        emojiTrie.put("🇮🇳", Boolean.TRUE);
-        emojiTrie.put("🇮🇴", Boolean.TRUE);
-        emojiTrie.put("🇮🇶", Boolean.TRUE);
-        emojiTrie.put("🇮🇷", Boolean.TRUE);
-        emojiTrie.put("🇮🇸", Boolean.TRUE);
-        emojiTrie.put("🇮🇹", Boolean.TRUE);
-        emojiTrie.put("🇯🇪", Boolean.TRUE);
-        emojiTrie.put("🇯🇲", Boolean.TRUE);
-        emojiTrie.put("🇯🇴", Boolean.TRUE);
-        emojiTrie.put("🇯🇵", Boolean.TRUE);
-        emojiTrie.put("🇰🇪", Boolean.TRUE);
-        emojiTrie.put("🇰🇬", Boolean.TRUE);
-        emojiTrie.put("🇰🇭", Boolean.TRUE);
-        emojiTrie.put("🇰🇮", Boolean.TRUE);
-        emojiTrie.put("🇰🇲", Boolean.TRUE);
-        emojiTrie.put("🇰🇳", Boolean.TRUE);
-        emojiTrie.put("🇰🇵", Boolean.TRUE);
-        emojiTrie.put("🇰🇷", Boolean.TRUE);
-        emojiTrie.put("🇰🇼", Boolean.TRUE);
-        emojiTrie.put("🇰🇾", Boolean.TRUE);
-        emojiTrie.put("🇰🇿", Boolean.TRUE);
-        emojiTrie.put("🇱🇦", Boolean.TRUE);
-        emojiTrie.put("🇱🇧", Boolean.TRUE);
-        emojiTrie.put("🇱🇨", Boolean.TRUE);
-        emojiTrie.put("🇱🇮", Boolean.TRUE);
-        emojiTrie.put("🇱🇰", Boolean.TRUE);
-        emojiTrie.put("🇱🇷", Boolean.TRUE);
-        emojiTrie.put("🇱🇸", Boolean.TRUE);
-        emojiTrie.put("🇱🇹", Boolean.TRUE);
-        emojiTrie.put("🇱🇺", Boolean.TRUE);
-        emojiTrie.put("🇱🇻", Boolean.TRUE);
-        emojiTrie.put("🇱🇾", Boolean.TRUE);
-        emojiTrie.put("🇲🇦", Boolean.TRUE);
-        emojiTrie.put("🇲🇨", Boolean.TRUE);
-        emojiTrie.put("🇲🇩", Boolean.TRUE);
-        emojiTrie.put("🇲🇪", Boolean.TRUE);
-        emojiTrie.put("🇲🇫", Boolean.TRUE);
-        emojiTrie.put("🇲🇬", Boolean.TRUE);
-        emojiTrie.put("🇲🇭", Boolean.TRUE);
-        emojiTrie.put("🇲🇰", Boolean.TRUE);
-        emojiTrie.put("🇲🇱", Boolean.TRUE);
-        emojiTrie.put("🇲🇲", Boolean.TRUE);
-        emojiTrie.put("🇲🇳", Boolean.TRUE);
-        emojiTrie.put("🇲🇴", Boolean.TRUE);
-        emojiTrie.put("🇲🇵", Boolean.TRUE);
-        emojiTrie.put("🇲🇶", Boolean.TRUE);
-        emojiTrie.put("🇲🇷", Boolean.TRUE);
-        emojiTrie.put("🇲🇸", Boolean.TRUE);
-        emojiTrie.put("🇲🇹", Boolean.TRUE);
-        emojiTrie.put("🇲🇺", Boolean.TRUE);
-        emojiTrie.put("🇲🇻", Boolean.TRUE);
-        emojiTrie.put("🇲🇼", Boolean.TRUE);
-        emojiTrie.put("🇲🇽", Boolean.TRUE);
-        emojiTrie.put("🇲🇾", Boolean.TRUE);
-        emojiTrie.put("🇲🇿", Boolean.TRUE);
-        emojiTrie.put("🇳🇦", Boolean.TRUE);
-        emojiTrie.put("🇳🇨", Boolean.TRUE);
-        emojiTrie.put("🇳🇪", Boolean.TRUE);
-        emojiTrie.put("🇳🇫", Boolean.TRUE);
-        emojiTrie.put("🇳🇬", Boolean.TRUE);
-        emojiTrie.put("🇳🇮", Boolean.TRUE);
-        emojiTrie.put("🇳🇱", Boolean.TRUE);
-        emojiTrie.put("🇳🇴", Boolean.TRUE);
-        emojiTrie.put("🇳🇵", Boolean.TRUE);
-        emojiTrie.put("🇳🇷", Boolean.TRUE);
-        emojiTrie.put("🇳🇺", Boolean.TRUE);
-        emojiTrie.put("🇳🇿", Boolean.TRUE);
-        emojiTrie.put("🇴🇲", Boolean.TRUE);
-        emojiTrie.put("🇵🇦", Boolean.TRUE);
-        emojiTrie.put("🇵🇪", Boolean.TRUE);
-        emojiTrie.put("🇵🇫", Boolean.TRUE);
-        emojiTrie.put("🇵🇬", Boolean.TRUE);
-        emojiTrie.put("🇵🇭", Boolean.TRUE);
-        emojiTrie.put("🇵🇰", Boolean.TRUE);
-        emojiTrie.put("🇵🇱", Boolean.TRUE);
-        emojiTrie.put("🇵🇲", Boolean.TRUE);
-        emojiTrie.put("🇵🇳", Boolean.TRUE);
-        emojiTrie.put("🇵🇷", Boolean.TRUE);
-        emojiTrie.put("🇵🇸", Boolean.TRUE);
-        emojiTrie.put("🇵🇹", Boolean.TRUE);
-        emojiTrie.put("🇵🇼", Boolean.TRUE);
-        emojiTrie.put("🇵🇾", Boolean.TRUE);
-        emojiTrie.put("🇶🇦", Boolean.TRUE);
-        emojiTrie.put("🇷🇪", Boolean.TRUE);
-        emojiTrie.put("🇷🇴", Boolean.TRUE);
-        emojiTrie.put("🇷🇸", Boolean.TRUE);
-        emojiTrie.put("🇷🇺", Boolean.TRUE);
-        emojiTrie.put("🇷🇼", Boolean.TRUE);
-        emojiTrie.put("🇸🇦", Boolean.TRUE);
-        emojiTrie.put("🇸🇧", Boolean.TRUE);
-        emojiTrie.put("🇸🇨", Boolean.TRUE);
-        emojiTrie.put("🇸🇩", Boolean.TRUE);
-        emojiTrie.put("🇸🇪", Boolean.TRUE);
-        emojiTrie.put("🇸🇬", Boolean.TRUE);
-        emojiTrie.put("🇸🇭", Boolean.TRUE);
-        emojiTrie.put("🇸🇮", Boolean.TRUE);
-        emojiTrie.put("🇸🇯", Boolean.TRUE);
-        emojiTrie.put("🇸🇰", Boolean.TRUE);
-        emojiTrie.put("🇸🇱", Boolean.TRUE);
-        emojiTrie.put("🇸🇲", Boolean.TRUE);
-        emojiTrie.put("🇸🇳", Boolean.TRUE);
-        emojiTrie.put("🇸🇴", Boolean.TRUE);
-        emojiTrie.put("🇸🇷", Boolean.TRUE);
-        emojiTrie.put("🇸🇸", Boolean.TRUE);
-        emojiTrie.put("🇸🇹", Boolean.TRUE);
-        emojiTrie.put("🇸🇻", Boolean.TRUE);
-        emojiTrie.put("🇸🇽", Boolean.TRUE);
-        emojiTrie.put("🇸🇾", Boolean.TRUE);
-        emojiTrie.put("🇸🇿", Boolean.TRUE);
-        emojiTrie.put("🇹🇦", Boolean.TRUE);
-        emojiTrie.put("🇹🇨", Boolean.TRUE);
-        emojiTrie.put("🇹🇩", Boolean.TRUE);
-        emojiTrie.put("🇹🇫", Boolean.TRUE);
-        emojiTrie.put("🇹🇬", Boolean.TRUE);
-        emojiTrie.put("🇹🇭", Boolean.TRUE);
-        emojiTrie.put("🇹🇯", Boolean.TRUE);
-        emojiTrie.put("🇹🇰", Boolean.TRUE);
-        emojiTrie.put("🇹🇱", Boolean.TRUE);
-        emojiTrie.put("🇹🇲", Boolean.TRUE);
-        emojiTrie.put("🇹🇳", Boolean.TRUE);
-        emojiTrie.put("🇹🇴", Boolean.TRUE);
-        emojiTrie.put("🇹🇷", Boolean.TRUE);
-        emojiTrie.put("🇹🇹", Boolean.TRUE);
-        emojiTrie.put("🇹🇻", Boolean.TRUE);
-        emojiTrie.put("🇹🇼", Boolean.TRUE);
-        emojiTrie.put("🇹🇿", Boolean.TRUE);
-        emojiTrie.put("🇺🇦", Boolean.TRUE);
-        emojiTrie.put("🇺🇬", Boolean.TRUE);
-        emojiTrie.put("🇺🇲", Boolean.TRUE);
-        emojiTrie.put("🇺🇳", Boolean.TRUE);
-        emojiTrie.put("🇺🇸", Boolean.TRUE);
-        emojiTrie.put("🇺🇾", Boolean.TRUE);
-        emojiTrie.put("🇺🇿", Boolean.TRUE);
-        emojiTrie.put("🇻🇦", Boolean.TRUE);
-        emojiTrie.put("🇻🇨", Boolean.TRUE);
-        emojiTrie.put("🇻🇪", Boolean.TRUE);
-        emojiTrie.put("🇻🇬", Boolean.TRUE);
-        emojiTrie.put("🇻🇮", Boolean.TRUE);
-        emojiTrie.put("🇻🇳", Boolean.TRUE);
-        emojiTrie.put("🇻🇺", Boolean.TRUE);
-        emojiTrie.put("🇼🇫", Boolean.TRUE);
-        emojiTrie.put("🇼🇸", Boolean.TRUE);
-        emojiTrie.put("🇽🇰", Boolean.TRUE);
-        emojiTrie.put("🇾🇪", Boolean.TRUE);
-        emojiTrie.put("🇾🇹", Boolean.TRUE);
-        emojiTrie.put("🇿🇦", Boolean.TRUE);
-        emojiTrie.put("🇿🇲", Boolean.TRUE);
-        emojiTrie.put("🇿🇼", Boolean.TRUE);
-        emojiTrie.put("🏴󠁧󠁢󠁥󠁮󠁧󠁿", Boolean.TRUE);
-        emojiTrie.put("🏴󠁧󠁢󠁳󠁣󠁴󠁿", Boolean.TRUE);
-        emojiTrie.put("🏴󠁧󠁢󠁷󠁬󠁳󠁿", Boolean.TRUE);
+        private static void addEmoji(List<int[]> emojis, int[] emoji, int length, char indicator) {
+            if (length > 0) {
+                emojis.add(Arrays.copyOf(emoji, length));
+                indicatorCharacters[indicator / Long.SIZE] |= 1L << indicator;
+            }
+        }
     }
 
     private Emojis() {
     }
 
+    /**
+     * Quickly determines if the given string might contain an emoji, without looking at the trie.
+     *
+     * @param string the string to check
+     * @return <tt>true</tt> if the string contains at least one character which is part of an emoji,
+     * <tt>false</tt> if it surely doesn't contain any emoji
+     */
+    private static boolean mayContainEmoji(String string) {
+        long[] indicatorCharacters = EmojiTables.indicatorCharacters;
+        for (int index = 0; index < string.length(); index++) {
+            char character = string.charAt(index);
+            if ((indicatorCharacters[character / Long.SIZE] & (1L << character)) != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Checks whether the given {@code string} contains a single emoji.
      * <p>
@@ -5081,7 +143,7 @@ public class Emojis {
             return false;
         }
 
-        return emojiTrie.get(string) != null;
+        return EmojiTables.emojiTrie.get(string) != null;
     }
 
     /**
@@ -5095,19 +157,7 @@ public class Emojis {
             return false;
         }
 
-        Trie.ContainmentIterator<Boolean> iterator = emojiTrie.iterator();
-        int[] sequence = string.codePoints().toArray();
-
-        for (int index = 0; index < sequence.length; index++) {
-            if (!iterator.doContinue(sequence[index])) {
-                if (iterator.isCompleted()) {
-                    return true;
-                }
-                iterator.resetWith(sequence[index]);
-            }
-        }
-
-        return iterator.isCompleted();
+        return mayContainEmoji(string) && EmojiTables.emojiMatcher.containsMatch(string);
     }
 
     /**
@@ -5121,25 +171,19 @@ public class Emojis {
      * @see #onlyContainsEmojisWithWhitespace(String)
      */
     public static boolean onlyContainsEmojis(String string) {
-        if (Strings.isEmpty(string)) {
+        if (Strings.isEmpty(string) || !mayContainEmoji(string)) {
             return false;
         }
 
-        Trie.ContainmentIterator<Boolean> iterator = emojiTrie.iterator();
-        int[] sequence = string.codePoints().toArray();
-
-        for (int index = 0; index < sequence.length; index++) {
-            if (!iterator.doContinue(sequence[index])) {
-                if (!iterator.isCompleted()) {
-                    return false;
-                }
-                if (!iterator.resetWith(sequence[index])) {
-                    return false;
-                }
+        int position = 0;
+        for (AhoCorasick.Match<Boolean> match : EmojiTables.emojiMatcher.findLeftmostLongest(string)) {
+            if (match.start() != position) {
+                return false;
             }
+            position = match.end();
         }
 
-        return iterator.isCompleted();
+        return position == string.length();
     }
 
     /**
@@ -5152,7 +196,7 @@ public class Emojis {
      * @see #onlyContainsEmojis(String)
      */
     public static boolean onlyContainsEmojisWithWhitespace(String string) {
-        return onlyContainsEmojis(string.replaceAll("\\s", ""));
+        return onlyContainsEmojis(PATTERN_WHITESPACE.matcher(string).replaceAll(""));
     }
 
     /**
@@ -5162,23 +206,11 @@ public class Emojis {
      * @return the number of emojis contained in the string
      */
     public static int countEmojis(String string) {
-        Trie.ContainmentIterator<Boolean> iterator = emojiTrie.iterator();
-        int[] sequence = string.codePoints().toArray();
-
-        int count = 0;
-        for (int index = 0; index < sequence.length; index++) {
-            if (!iterator.doContinue(sequence[index])) {
-                if (iterator.isCompleted()) {
-                    count++;
-                }
-                iterator.resetWith(sequence[index]);
-            }
-        }
-        if (iterator.isCompleted()) {
-            count++;
+        if (!mayContainEmoji(string)) {
+            return 0;
         }
 
-        return count;
+        return EmojiTables.emojiMatcher.findLeftmostLongest(string).size();
     }
 
     /**
@@ -5188,15 +220,17 @@ public class Emojis {
      * @return the string without emojis
      */
     public static String removeEmojis(String string) {
-        StringBuilder builder = new StringBuilder();
-        Trie.ContainmentIterator<Boolean> iterator = emojiTrie.iterator();
-        int[] sequence = string.codePoints().toArray();
+        if (!mayContainEmoji(string)) {
+            return string;
+        }
 
-        for (int index = 0; index < sequence.length; index++) {
-            if (!iterator.doContinue(sequence[index]) && !iterator.resetWith(sequence[index])) {
-                builder.appendCodePoint(sequence[index]);
-            }
+        StringBuilder builder = new StringBuilder(string.length());
+        int position = 0;
+        for (AhoCorasick.Match<Boolean> match : EmojiTables.emojiMatcher.findLeftmostLongest(string)) {
+            builder.append(string, position, match.start());
+            position = match.end();
         }
+        builder.append(string, position, string.length());
 
         return builder.toString();
     }
@@ -21,12 +21,18 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serial;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * A robust wrapper around calls to external programs.
+ * <p>
+ * The <tt>exec</tt> methods cover the common cases. Use {@link #command(String)} to process the output while it
+ * arrives or to kill programs which take too long.
  */
 public class Exec {
 
@@ -36,58 +42,141 @@ public class Exec {
     public static final Log LOG = Log.get("exec");
     private static final String[] EMPTY_ARRAY = new String[0];
 
+    /**
+     * Contains the number of lines of output which are kept by default as transcript.
+     */
+    public static final int DEFAULT_MAX_RETAINED_LINES = 10_000;
+
+    private static final Duration DEFAULT_OPERATION_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration KILL_GRACE_PERIOD = Duration.ofSeconds(5);
+
     private Exec() {
     }
 
     /*
-     * Reads the given stream in a separate thread.
+     * Reads the output of a process in a virtual thread and retains its last lines.
+     *
+     * The retained lines are kept in a deque which only grows as far as needed, so that short-lived programs don't
+     * pay for the maximal transcript size. The deque is guarded by its own monitor, as the transcript might be
+     * built while the thread is still reading (e.g. if a killed process left a descendant holding the output open).
      */
     private static class StreamEater implements Runnable {
 
         private final InputStream stream;
-        private final StringBuilder logger;
-        private final ValueHolder<IOException> exHolder = new ValueHolder<>(null);
-        private final Semaphore completionSynchronizer;
+        private final Deque<String> lines = new ArrayDeque<>();
+        private final int maxRetainedLines;
+        private Consumer<String> lineConsumer;
+        private final Thread thread;
+        private long omittedLines;
+        private volatile IOException failure;
+        private String transcript;
 
-        StreamEater(InputStream stream, StringBuilder log, Semaphore completionSynchronizer)
-                throws InterruptedException {
+        StreamEater(InputStream stream, int maxRetainedLines, @Nullable Consumer<String> lineConsumer) {
             this.stream = stream;
-            this.logger = log;
-            this.completionSynchronizer = completionSynchronizer;
-            this.completionSynchronizer.acquire();
+            this.maxRetainedLines = maxRetainedLines;
+            this.lineConsumer = lineConsumer;
+            this.thread = Thread.ofVirtual().name(StreamEater.class.getSimpleName()).unstarted(this);
         }
 
         @Override
         public void run() {
             try (InputStreamReader isr = new InputStreamReader(stream); BufferedReader br = new BufferedReader(isr)) {
-                Thread.currentThread()
-                      .setName(StreamEater.class.getSimpleName() + "-" + Thread.currentThread().threadId());
                 String line = br.readLine();
                 while (line != null) {
-                    logger.append(line);
-                    logger.append("\n");
+                    retain(line);
+                    supply(line);
                     line = br.readLine();
                 }
             } catch (IOException exception) {
-                logger.append(NLS.toUserString(exception));
-                exHolder.set(exception);
-            } finally {
-                this.completionSynchronizer.release();
+                retain(NLS.toUserString(exception));
+                failure = exception;
+            }
+        }
+
+        private void retain(String line) {
+            synchronized (lines) {
+                if (lines.size() >= maxRetainedLines) {
+                    lines.pollFirst();
+                    omittedLines++;
+                }
+                lines.offerLast(line);
+            }
+        }
+
+        private void supply(String line) {
+            if (lineConsumer == null) {
+                return;
+            }
+            try {
+                lineConsumer.accept(line);
+            } catch (Exception exception) {
+                // We must keep on reading, as the process would otherwise block once its output buffer is full.
+                // However, we stop supplying the consumer, so that the log isn't flooded with the same error...
+                lineConsumer = null;
+                Exceptions.handle(LOG, exception);
             }
         }
 
         /**
-         * Creates a new stream eater logging to the given buffer for the given stream.
+         * Waits until the stream has been read completely.
          *
-         * @param stream                 the stream to read
-         * @param logger                 the target for all characters read
-         * @param completionSynchronizer a semaphore where a permit is acquired and released once all output hase been processed
-         * @return a new stream eater which is already running in a separate thread
+         * @param timeout the maximal time to wait or <tt>null</tt> to wait without a limit
+         * @return <tt>true</tt> if the stream has been read completely, <tt>false</tt> if the timeout elapsed
+         * @throws InterruptedException if the thread was interrupted while waiting
          */
-        static StreamEater eat(InputStream stream, StringBuilder logger, Semaphore completionSynchronizer)
-                throws InterruptedException {
-            StreamEater eater = new StreamEater(stream, logger, completionSynchronizer);
-            new Thread(eater).start();
+        boolean await(@Nullable Duration timeout) throws InterruptedException {
+            if (timeout == null) {
+                thread.join();
+                return true;
+            }
+
+            return thread.join(timeout);
+        }
+
+        /**
+         * Returns the retained lines as transcript.
+         * <p>
+         * If the stream hasn't been read completely (e.g. as the process has been killed), this waits up to
+         * {@link #KILL_GRACE_PERIOD} for the remaining output. If the output still isn't complete, the lines read so
+         * far are returned.
+         *
+         * @return the retained lines, each terminated by a line break
+         */
+        String getTranscript() {
+            if (transcript == null) {
+                awaitRemainingOutput();
+                synchronized (lines) {
+                    StringBuilder result = new StringBuilder();
+                    if (omittedLines > 0) {
+                        result.append(Strings.apply("[%s lines omitted]\n", omittedLines));
+                    }
+                    lines.forEach(line -> result.append(line).append("\n"));
+                    transcript = result.toString();
+                }
+            }
+
+            return transcript;
+        }
+
+        private void awaitRemainingOutput() {
+            try {
+                await(KILL_GRACE_PERIOD);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Creates a new stream eater for the given stream.
+         *
+         * @param stream           the stream to read
+         * @param maxRetainedLines the maximal number of lines to keep for the transcript
+         * @param lineConsumer     the consumer to supply with each line as it arrives, if present
+         * @return a new stream eater which is already running in a virtual thread
+         */
+        static StreamEater eat(InputStream stream, int maxRetainedLines, @Nullable Consumer<String> lineConsumer) {
+            StreamEater eater = new StreamEater(stream, maxRetainedLines, lineConsumer);
+            eater.thread.start();
             return eater;
         }
     }
@@ -138,7 +227,7 @@ public class Exec {
      * @throws ExecException in case the external program fails
      */
     public static String exec(String command, boolean ignoreExitCodes) throws ExecException {
-        return exec(command, ignoreExitCodes, Duration.ofMinutes(5));
+        return exec(command, ignoreExitCodes, DEFAULT_OPERATION_TIMEOUT);
     }
 
     /**
@@ -167,28 +256,191 @@ public class Exec {
      */
     public static String exec(String command, boolean ignoreExitCodes, Duration opTimeout, @Nullable File directory)
             throws ExecException {
-        StringBuilder logger = new StringBuilder();
-        try (Operation operation = new Operation(() -> command, opTimeout)) {
-            Process process = new ProcessBuilder().command(parseCommandToArray(command))
-                                                  .directory(directory)
-                                                  .redirectErrorStream(true)
-                                                  .start();
-            Semaphore completionSynchronizer = new Semaphore(1);
-            StreamEater outEater = StreamEater.eat(process.getInputStream(), logger, completionSynchronizer);
-            doExec(ignoreExitCodes, logger, process);
-
-            // Wait for the stream eaters to complete...
-            completionSynchronizer.acquire(1);
-
-            if (outEater.exHolder.get() != null) {
-                throw new ExecException(outEater.exHolder.get(), logger.toString());
+        Execution execution = command(command).withOperationTimeout(opTimeout).inDirectory(directory);
+        if (ignoreExitCodes) {
+            execution.ignoreExitCodes();
+        }
+        return execution.execute();
+    }
+
+    /**
+     * Prepares the execution of the given command.
+     * <p>
+     * In contrast to the <tt>exec</tt> methods, this permits to process the output as it arrives and to kill the
+     * process once a given timeout elapsed:
+     * {@code Exec.command("convert a.tif a.png").withTimeout(Duration.ofMinutes(1)).execute()}
+     *
+     * @param command the command to execute
+     * @return a new execution which can be further customized before it is {@link Execution#execute() executed}
+     */
+    public static Execution command(String command) {
+        return new Execution(command);
+    }
+
+    /**
+     * Describes the execution of an external program.
+     * <p>
+     * The output of the program (stdout and stderr) is read by a virtual thread. Only the last
+     * {@link #withMaxRetainedLines(int) lines} are kept as transcript, so that programs producing lots of output
+     * don't fill up the heap.
+     */
+    public static class Execution {
+
+        private final String command;
+        private boolean ignoreExitCodes;
+        private Duration opTimeout = DEFAULT_OPERATION_TIMEOUT;
+        private Duration timeout;
+        private File directory;
+        private Consumer<String> lineConsumer;
+        private int maxRetainedLines = DEFAULT_MAX_RETAINED_LINES;
+
+        private Execution(String command) {
+            this.command = command;
+        }
+
+        /**
+         * Accepts any exit code instead of throwing an exception for exit codes other than 0.
+         *
+         * @return the execution itself for fluent method calls
+         */
+        public Execution ignoreExitCodes() {
+            this.ignoreExitCodes = true;
+            return this;
+        }
+
+        /**
+         * Specifies the duration after which the execution is logged as hanging.
+         * <p>
+         * By default, this is five minutes. Note that this doesn't abort the process, use
+         * {@link #withTimeout(Duration)} for this.
+         *
+         * @param opTimeout the duration after which the execution should be logged as hanging
+         * @return the execution itself for fluent method calls
+         */
+        public Execution withOperationTimeout(Duration opTimeout) {
+            this.opTimeout = opTimeout;
+            return this;
+        }
+
+        /**
+         * Specifies the maximal duration of the process after which it is killed (along with all of its descendants).
+         * <p>
+         * In this case an {@link ExecException} is thrown.
+         *
+         * @param timeout the maximal duration of the process
+         * @return the execution itself for fluent method calls
+         */
+        public Execution withTimeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Specifies the working directory of the subprocess.
+         *
+         * @param directory the working directory of the subprocess, or <tt>null</tt> if the subprocess should inherit
+         *                  the working directory of the current process.
+         * @return the execution itself for fluent method calls
+         */
+        public Execution inDirectory(@Nullable File directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * Supplies each line of output to the given consumer as soon as it arrives.
+         * <p>
+         * Note that the consumer is invoked by the virtual thread which reads the output and must therefore be
+         * thread-safe.
+         *
+         * @param lineConsumer the consumer to supply with each line of stdout and stderr
+         * @return the execution itself for fluent method calls
+         */
+        public Execution withOutputConsumer(Consumer<String> lineConsumer) {
+            this.lineConsumer = lineConsumer;
+            return this;
+        }
+
+        /**
+         * Specifies the number of lines to keep for the transcript.
+         * <p>
+         * If the program produces more output, only the last lines are kept. By default, the last
+         * {@value Exec#DEFAULT_MAX_RETAINED_LINES} lines are kept.
+         *
+         * @param maxRetainedLines the maximal number of lines to keep
+         * @return the execution itself for fluent method calls
+         */
+        public Execution withMaxRetainedLines(int maxRetainedLines) {
+            if (maxRetainedLines < 1) {
+                throw new IllegalArgumentException("maxRetainedLines must be at least 1");
+            }
+            this.maxRetainedLines = maxRetainedLines;
+            return this;
+        }
+
+        /**
+         * Executes the command and returns the transcript of stderr and stdout.
+         *
+         * @return the transcript (the last retained lines) of stderr and stdout produced by the executed command
+         * @throws ExecException in case the external program fails, returns an exit code other than 0 (unless
+         *                       {@link #ignoreExitCodes()} was used) or was killed due to a timeout
+         */
+        public String execute() throws ExecException {
+            StreamEater outEater = null;
+            try (Operation operation = new Operation(() -> command, opTimeout)) {
+                Process process = new ProcessBuilder().command(parseCommandToArray(command))
+                                                      .directory(directory)
+                                                      .redirectErrorStream(true)
+                                                      .start();
+                outEater = StreamEater.eat(process.getInputStream(), maxRetainedLines, lineConsumer);
+                int exitCode = awaitProcess(process, outEater);
+
+                if (outEater.failure != null) {
+                    throw new ExecException(outEater.failure, outEater.getTranscript());
+                }
+                if (exitCode != 0 && !ignoreExitCodes) {
+                    Exception root = new Exception("Command returned with exit code " + exitCode);
+                    throw new ExecException(root, outEater.getTranscript());
+                }
+                return outEater.getTranscript();
+            } catch (ExecException exception) {
+                throw exception;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new ExecException(exception, outEater != null ? outEater.getTranscript() : "");
+            } catch (Exception exception) {
+                throw new ExecException(exception, outEater != null ? outEater.getTranscript() : "");
+            }
+        }
+
+        private int awaitProcess(Process process, StreamEater outEater) throws InterruptedException, ExecException {
+            if (timeout == null) {
+                int exitCode = process.waitFor();
+                outEater.await(null);
+                return exitCode;
+            }
+
+            long deadline = System.nanoTime() + timeout.toNanos();
+            if (!process.waitFor(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                || !outEater.await(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())))) {
+                kill(process);
+                // Once the process is gone, the output will be completed quickly (unless a detached descendant
+                // still holds it open), which is awaited by getTranscript...
+                throw new ExecException(new Exception(Strings.apply("Command was killed after %s",
+                                                                    NLS.convertDuration(timeout))),
+                                        outEater.getTranscript());
+            }
+
+            return process.exitValue();
+        }
+
+        private void kill(Process process) throws InterruptedException {
+            process.descendants().forEach(ProcessHandle::destroy);
+            process.destroy();
+            if (!process.waitFor(KILL_GRACE_PERIOD.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
             }
-            return logger.toString();
-        } catch (InterruptedException exception) {
-            Thread.currentThread().interrupt();
-            throw new ExecException(exception, logger.toString());
-        } catch (Exception exception) {
-            throw new ExecException(exception, logger.toString());
         }
     }
 
@@ -199,17 +451,4 @@ public class Exec {
         commandList.addAll(commandParser.getArgs());
         return commandList.toArray(EMPTY_ARRAY);
     }
-
-    private static void doExec(boolean ignoreExitCodes, StringBuilder logger, Process process) throws ExecException {
-        try {
-            int code = process.waitFor();
-            if (code != 0 && !ignoreExitCodes) {
-                Exception root = new Exception("Command returned with exit code " + code);
-                throw new ExecException(root, logger.toString());
-            }
-        } catch (InterruptedException exception) {
-            Exceptions.ignore(exception);
-            Thread.currentThread().interrupt();
-        }
-    }
 }
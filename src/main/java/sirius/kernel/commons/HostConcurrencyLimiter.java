@@ -0,0 +1,176 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import sirius.kernel.health.Exceptions;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Limits the number of concurrently running tasks per host without blocking any thread.
+ * <p>
+ * Tasks which cannot be started right away are queued and started as soon as another task for the same host
+ * {@link #release(String) releases} its slot. The number of queued tasks per host is limited as well, further tasks
+ * are rejected. Hosts without any active task are removed from the internal map, so that it only contains hosts which
+ * are currently being called.
+ */
+class HostConcurrencyLimiter {
+
+    private static class HostState {
+        private int activeTasks;
+        private final Queue<Runnable> pendingTasks = new ArrayDeque<>();
+    }
+
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Contains the tasks which have been handed over by a nested {@link #release(String)} call of the current thread.
+     * <p>
+     * This is only filled while the thread runs handed over tasks and is used to run them one after another instead of
+     * recursively (see {@link #runHandedOverTask(Runnable)}).
+     */
+    private final ThreadLocal<Queue<Runnable>> handedOverTasks = new ThreadLocal<>();
+    private final IntSupplier limitSupplier;
+    private final IntSupplier pendingLimitSupplier;
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param limitSupplier        supplies the maximal number of concurrent tasks per host. A value less than one
+     *                             disables the limit.
+     * @param pendingLimitSupplier supplies the maximal number of queued tasks per host. A value less than one
+     *                             disables the limit.
+     */
+    HostConcurrencyLimiter(IntSupplier limitSupplier, IntSupplier pendingLimitSupplier) {
+        this.limitSupplier = limitSupplier;
+        this.pendingLimitSupplier = pendingLimitSupplier;
+    }
+
+    /**
+     * Starts the given task for the given host once a slot is available.
+     * <p>
+     * The task is either run directly in the calling thread or later in the thread which releases a slot for the
+     * host. Therefore, it must not block. Once the task (and its asynchronous work) has completed,
+     * {@link #release(String)} has to be invoked.
+     *
+     * @param host the host the task will communicate with
+     * @param task the task to start
+     * @return <tt>true</tt> if the task has been started or queued, <tt>false</tt> if it has been rejected as too many
+     * tasks are already queued for the host. In this case, {@link #release(String)} must not be invoked.
+     */
+    boolean submit(String host, Runnable task) {
+        int limit = limitSupplier.getAsInt();
+        if (limit < 1) {
+            task.run();
+            return true;
+        }
+
+        int pendingLimit = pendingLimitSupplier.getAsInt();
+        ValueHolder<Boolean> startNow = ValueHolder.of(false);
+        ValueHolder<Boolean> rejected = ValueHolder.of(false);
+        hosts.compute(Strings.isFilled(host) ? host : "", (key, state) -> {
+            HostState result = state == null ? new HostState() : state;
+            if (result.activeTasks < limit) {
+                result.activeTasks++;
+                startNow.set(true);
+            } else if (pendingLimit < 1 || result.pendingTasks.size() < pendingLimit) {
+                result.pendingTasks.add(task);
+            } else {
+                rejected.set(true);
+            }
+            return result;
+        });
+
+        if (Boolean.TRUE.equals(rejected.get())) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(startNow.get())) {
+            task.run();
+        }
+        return true;
+    }
+
+    /**
+     * Releases the slot of a completed task and starts the next pending task for the host (if any).
+     * <p>
+     * The next task is run in the calling thread. If the task itself releases its slot right away (e.g. as it fails
+     * synchronously), it is started once the current task has returned instead of recursively. Therefore, releasing
+     * a long queue of immediately failing tasks doesn't overflow the stack.
+     *
+     * @param host the host which has been passed to {@link #submit(String, Runnable)}
+     */
+    void release(String host) {
+        ValueHolder<Runnable> nextTask = ValueHolder.of(null);
+        hosts.computeIfPresent(Strings.isFilled(host) ? host : "", (key, state) -> {
+            nextTask.set(state.pendingTasks.poll());
+            if (nextTask.get() == null) {
+                state.activeTasks--;
+            }
+            return state.activeTasks > 0 ? state : null;
+        });
+
+        // The slot is handed over to the next task...
+        if (nextTask.get() != null) {
+            runHandedOverTask(nextTask.get());
+        }
+    }
+
+    private void runHandedOverTask(Runnable task) {
+        Queue<Runnable> queue = handedOverTasks.get();
+        if (queue != null) {
+            // We're invoked by a task which is being run below, so we let the outermost call run this one...
+            queue.add(task);
+            return;
+        }
+
+        queue = new ArrayDeque<>();
+        queue.add(task);
+        handedOverTasks.set(queue);
+        try {
+            Runnable nextTask = queue.poll();
+            while (nextTask != null) {
+                try {
+                    nextTask.run();
+                } catch (Exception exception) {
+                    // A failing task must not keep the remaining tasks from being started...
+                    Exceptions.handle(exception);
+                }
+                nextTask = queue.poll();
+            }
+        } finally {
+            handedOverTasks.remove();
+        }
+    }
+
+    /**
+     * Returns the number of tasks which are currently active for the given host.
+     *
+     * @param host the host to check
+     * @return the number of active tasks
+     */
+    int getActiveTasks(String host) {
+        HostState state = hosts.get(Strings.isFilled(host) ? host : "");
+        return state == null ? 0 : state.activeTasks;
+    }
+
+    /**
+     * Returns the number of tasks which are currently queued for the given host.
+     *
+     * @param host the host to check
+     * @return the number of queued tasks
+     */
+    int getPendingTasks(String host) {
+        HostState state = hosts.get(Strings.isFilled(host) ? host : "");
+        return state == null ? 0 : state.pendingTasks.size();
+    }
+}
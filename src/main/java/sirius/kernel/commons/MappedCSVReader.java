@@ -0,0 +1,622 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import sirius.kernel.async.TaskContext;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Parses a local CSV file by memory-mapping it instead of reading it through a {@link java.io.Reader}.
+ * <p>
+ * This supports the same format and settings as {@link CSVReader} and yields the same rows. However, the mapped
+ * bytes are scanned directly for separators, quotations and line breaks, without decoding them into characters
+ * first. Each row merely records where its columns are located within the mapped data and a column is only decoded
+ * into a string once it is accessed (e.g. via {@link Value#asString()}). Only columns which contain escaped
+ * characters are copied, as their value isn't a contiguous range of the file.
+ * <p>
+ * Files larger than 2 GB are processed by mapping a {@link #withWindowSize(int) window} of the file at a time.
+ * A row never spans two windows, as the next window always starts at the beginning of the row currently being
+ * parsed. Note that the windows are unmapped by the garbage collector once no row referring to them is reachable.
+ * <p>
+ * As the file is scanned on byte level, the given charset has to be ASCII compatible (like UTF-8 or ISO-8859-1)
+ * and the separator, quotation and escape characters have to be ASCII characters. Just like the {@link BOMReader},
+ * a byte order mark at the beginning of the file is skipped.
+ * <p>
+ * Note that this class checks the {@link TaskContext} during execution. Therefore if the underlying task is canceled,
+ * the parser will stop after the current row has been processed.
+ */
+public class MappedCSVReader {
+
+    private static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+    private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE - 8;
+    private static final int INITIAL_NUMBER_OF_FIELDS = 32;
+    private static final int INITIAL_COPY_BUFFER_SIZE = 1024;
+    private static final int MAX_BYTES_PER_CHARACTER = 4;
+    private static final long LOWEST_BITS = 0x0101010101010101L;
+    private static final long HIGHEST_BITS = 0x8080808080808080L;
+    private static final long LINE_FEED_PATTERN = repeat('\n');
+    private static final long CARRIAGE_RETURN_PATTERN = repeat('\r');
+
+    private final FileChannel channel;
+    private char separator = ';';
+    private char quotation = '"';
+    private boolean ignoreWhitespaces = true;
+    private char escape = '\\';
+    private Limit limit = Limit.UNLIMITED;
+    private Charset charset = StandardCharsets.UTF_8;
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+    private Consumer<Values> consumer;
+
+    /**
+     * Contain the special characters repeated for each byte of a long, so that eight bytes can be checked at once.
+     */
+    private long separatorPattern;
+    private long quotationPattern;
+    private long escapePattern;
+
+    /**
+     * Contains the currently mapped window of the file which starts at {@link #windowOffset}.
+     */
+    private ByteBuffer window;
+    private long windowOffset;
+    private int windowLength;
+    private long fileSize;
+    private int position;
+    private int current;
+
+    /**
+     * Contains the position within the window where the current row starts.
+     */
+    private int rowStart;
+
+    /**
+     * Contains the ranges of all columns of the current row.
+     * <p>
+     * A non-negative start refers to a range within the {@link #window}. A negative start refers to a range
+     * within the {@link #copyBuffer}, which is used for columns containing escaped characters.
+     */
+    private int[] fieldStarts = new int[INITIAL_NUMBER_OF_FIELDS];
+    private int[] fieldEnds = new int[INITIAL_NUMBER_OF_FIELDS];
+    private int numberOfFields;
+    private byte[] copyBuffer = new byte[INITIAL_COPY_BUFFER_SIZE];
+    private int copyLength;
+
+    /**
+     * Describes the column currently being parsed.
+     */
+    private int contentStart;
+    private int contentEnd;
+    private boolean copying;
+    private int copyStart;
+
+    /**
+     * Creates a new reader which processes the given file.
+     *
+     * @param file the file to parse
+     * @throws IOException if the file cannot be opened
+     */
+    public MappedCSVReader(@Nonnull Path file) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    /**
+     * Creates a new reader which processes the contents of the given channel.
+     * <p>
+     * Note that the channel will be closed once {@link #execute(Consumer)} has completed.
+     *
+     * @param channel the channel to read the CSV data from
+     */
+    public MappedCSVReader(@Nonnull FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Specifies the separator character to use.
+     * <p>
+     * By default this is <tt>;</tt>.
+     *
+     * @param separator the separator to use
+     * @return the reader itself for fluent method calls
+     * @see CSVReader#withSeparator(char)
+     */
+    public MappedCSVReader withSeparator(char separator) {
+        this.separator = separator;
+        return this;
+    }
+
+    /**
+     * Specifies the quotation character to use.
+     * <p>
+     * By default this is <tt>"</tt>. Use <tt>\0</tt> to disable quotation entirely.
+     *
+     * @param quotation the quotation character to use
+     * @return the reader itself for fluent method calls
+     * @see CSVReader#withQuotation(char)
+     */
+    public MappedCSVReader withQuotation(char quotation) {
+        this.quotation = quotation;
+        return this;
+    }
+
+    /**
+     * Specifies the escape character to use.
+     * <p>
+     * By default this is <tt>\</tt>. Use <tt>\0</tt> to disable escaping entirely.
+     *
+     * @param escape the escape character to use
+     * @return the reader itself for fluent method calls
+     * @see CSVReader#withEscape(char)
+     */
+    public MappedCSVReader withEscape(char escape) {
+        this.escape = escape;
+        return this;
+    }
+
+    /**
+     * Disables the flexible whitespace behaviour.
+     *
+     * @return the reader itself for fluent method calls
+     * @see CSVReader#notIgnoringWhitespaces()
+     */
+    public MappedCSVReader notIgnoringWhitespaces() {
+        this.ignoreWhitespaces = false;
+        return this;
+    }
+
+    /**
+     * Can set a limit to read only a specific range of rows from the file.
+     * <p>
+     * By default all rows are read.
+     *
+     * @param limit the limit to use reading the rows from the file.
+     * @return the reader itself for fluent method calls
+     */
+    public MappedCSVReader withLimit(Limit limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Specifies the charset used to decode the file.
+     * <p>
+     * By default this is <tt>UTF-8</tt>. Note that only ASCII compatible charsets are supported.
+     *
+     * @param charset the charset of the file
+     * @return the reader itself for fluent method calls
+     */
+    public MappedCSVReader withCharset(@Nonnull Charset charset) {
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * Specifies the size of the windows in which the file is mapped into memory.
+     * <p>
+     * By default this is 256 MB. Note that a window is enlarged if a single row doesn't fit into it.
+     *
+     * @param windowSize the size of the mapped windows in bytes
+     * @return the reader itself for fluent method calls
+     */
+    public MappedCSVReader withWindowSize(int windowSize) {
+        this.windowSize = Math.max(1, Math.min(windowSize, MAX_WINDOW_SIZE));
+        return this;
+    }
+
+    /**
+     * Parses the file and calls the given consumer for each row.
+     * <p>
+     * Note that this method will close the underlying channel.
+     *
+     * @param consumer the consumer to call for each row
+     * @throws IOException if an IO error occurs while reading the file
+     */
+    public void execute(Consumer<Values> consumer) throws IOException {
+        try {
+            ParallelCSVReader.verifyByteLevelSettings(separator, quotation, escape, charset);
+            this.consumer = consumer;
+            this.separatorPattern = repeat(separator);
+            this.quotationPattern = repeat(quotation);
+            this.escapePattern = repeat(escape);
+            this.fileSize = channel.size();
+            if (fileSize == 0) {
+                return;
+            }
+
+            TaskContext tc = TaskContext.get();
+            mapWindow(0, (int) Math.min(windowSize, fileSize));
+            position = determineStartOfData() - 1;
+            read();
+            while (tc.isActive() && !isEOF() && limit.shouldContinue()) {
+                readRow();
+                consumeNewLine();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Skips a leading byte order mark (or any other formatting character) just like {@link BOMReader} does.
+     */
+    private int determineStartOfData() throws IOException {
+        ByteBuffer head = ByteBuffer.allocate((int) Math.min(MAX_BYTES_PER_CHARACTER, fileSize));
+        while (head.hasRemaining() && channel.read(head, head.position()) >= 0) {
+            // Keep on reading until the buffer is full or the file ends...
+        }
+        String decodedHead = new String(head.array(), 0, head.position(), charset);
+        if (decodedHead.isEmpty() || Character.getType(decodedHead.charAt(0)) != Character.FORMAT) {
+            return 0;
+        }
+
+        return String.valueOf(decodedHead.charAt(0)).getBytes(charset).length;
+    }
+
+    private void mapWindow(long offset, int length) throws IOException {
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        windowOffset = offset;
+        windowLength = length;
+    }
+
+    /**
+     * Consumes a windows or unix style line break.
+     */
+    private void consumeNewLine() throws IOException {
+        if (current == '\r') {
+            read();
+        }
+        if (current == '\n') {
+            read();
+        }
+    }
+
+    /**
+     * Fills the current value with the next byte of the window or maps the next window if necessary.
+     */
+    private void read() throws IOException {
+        if (++position < windowLength) {
+            current = window.get(position) & 0xFF;
+        } else if (windowOffset + position < fileSize) {
+            mapNextWindow();
+            current = window.get(position) & 0xFF;
+        } else {
+            position = windowLength;
+            current = -1;
+        }
+    }
+
+    /**
+     * Maps the next window, which starts at the beginning of the current row.
+     * <p>
+     * Therefore, all positions which refer to the current row have to be moved accordingly.
+     */
+    private void mapNextWindow() throws IOException {
+        int retainedLength = position - rowStart;
+        long size = Math.min(Math.max(windowSize, retainedLength * 2L), MAX_WINDOW_SIZE);
+        size = Math.min(size, fileSize - windowOffset - rowStart);
+        if (size <= retainedLength) {
+            throw new IOException(Strings.apply("The row starting at byte %s is too large to be processed.",
+                                                windowOffset + rowStart));
+        }
+
+        int shift = rowStart;
+        mapWindow(windowOffset + shift, (int) size);
+        position -= shift;
+        rowStart = 0;
+        contentStart -= shift;
+        contentEnd -= shift;
+        for (int i = 0; i < numberOfFields; i++) {
+            if (fieldStarts[i] >= 0) {
+                fieldStarts[i] -= shift;
+                fieldEnds[i] -= shift;
+            }
+        }
+    }
+
+    /**
+     * Reads a single row from the file. This might be multiple lines from the
+     * input as quoted columns may contain line breaks.
+     */
+    private void readRow() throws IOException {
+        rowStart = position;
+        numberOfFields = 0;
+        copyLength = 0;
+        while (!isEOF() && !isAtNewline()) {
+            readField();
+            if (current == separator) {
+                read();
+            }
+        }
+
+        if (limit.nextRow()) {
+            consumer.accept(Values.of(new Row(window,
+                                              charset,
+                                              Arrays.copyOf(fieldStarts, numberOfFields),
+                                              Arrays.copyOf(fieldEnds, numberOfFields),
+                                              copyLength == 0 ? null : Arrays.copyOf(copyBuffer, copyLength))));
+        }
+    }
+
+    /**
+     * Determines the range of a single column.
+     */
+    private void readField() throws IOException {
+        contentStart = position;
+        copying = false;
+        boolean inQuote = false;
+        if (ignoreWhitespaces) {
+            while (current == ' ' || current == '\t') {
+                read();
+            }
+        }
+
+        if (current == quotation) {
+            inQuote = true;
+            read();
+            contentStart = position;
+        }
+
+        readFieldValue(inQuote);
+        skipTrailingWhitespaces(inQuote);
+        completeField();
+    }
+
+    private void skipTrailingWhitespaces(boolean inQuote) throws IOException {
+        if (inQuote) {
+            while (current == ' ' || current == '\t') {
+                read();
+            }
+        }
+    }
+
+    private void readFieldValue(boolean inQuote) throws IOException {
+        while (shouldContinueField(inQuote)) {
+            if (current == escape) {
+                startCopying(position);
+                read();
+                if (!isEOF()) {
+                    appendCopy(current);
+                }
+            } else {
+                if (copying) {
+                    appendCopy(current);
+                }
+                skipPlainBytes(inQuote);
+            }
+            read();
+        }
+    }
+
+    /**
+     * Skips all subsequent bytes of the current window which cannot end the column or start an escape sequence.
+     * <p>
+     * If the column is being copied, these bytes are copied in bulk.
+     */
+    private void skipPlainBytes(boolean inQuote) {
+        int end = position + 1;
+        if (inQuote) {
+            while (end + Long.BYTES <= windowLength && !containsQuotedSpecialByte(window.getLong(end))) {
+                end += Long.BYTES;
+            }
+            while (end < windowLength && window.get(end) != quotation && window.get(end) != escape) {
+                end++;
+            }
+        } else {
+            while (end + Long.BYTES <= windowLength && !containsSpecialByte(window.getLong(end))) {
+                end += Long.BYTES;
+            }
+            while (end < windowLength && isPlainByte(window.get(end))) {
+                end++;
+            }
+        }
+
+        if (copying) {
+            appendCopy(position + 1, end);
+        }
+        position = end - 1;
+    }
+
+    /**
+     * Determines if any of the eight bytes of the given word could end an unquoted column.
+     */
+    private boolean containsSpecialByte(long word) {
+        return containsByte(word, separatorPattern)
+               || containsByte(word, LINE_FEED_PATTERN)
+               || containsByte(word, CARRIAGE_RETURN_PATTERN)
+               || containsByte(word, escapePattern);
+    }
+
+    /**
+     * Determines if any of the eight bytes of the given word could end a quoted column.
+     */
+    private boolean containsQuotedSpecialByte(long word) {
+        return containsByte(word, quotationPattern) || containsByte(word, escapePattern);
+    }
+
+    /**
+     * Determines if any byte of the given word equals the byte repeated in the given pattern.
+     * <p>
+     * This XORs both values, so that matching bytes become zero, and then uses the well known trick to detect
+     * a zero byte within a word without inspecting each byte individually.
+     */
+    private static boolean containsByte(long word, long pattern) {
+        long value = word ^ pattern;
+        return ((value - LOWEST_BITS) & ~value & HIGHEST_BITS) != 0;
+    }
+
+    private static long repeat(char value) {
+        return LOWEST_BITS * value;
+    }
+
+    private boolean isPlainByte(byte value) {
+        return value != separator && value != '\n' && value != '\r' && value != escape;
+    }
+
+    /**
+     * Switches the current column into copy mode, as its value is no longer a contiguous range of the window.
+     *
+     * @param end the end of the contiguous range which has been determined so far
+     */
+    private void startCopying(int end) {
+        if (!copying) {
+            copying = true;
+            copyStart = copyLength;
+            appendCopy(contentStart, end);
+        }
+    }
+
+    private void appendCopy(int value) {
+        ensureCopyCapacity(1);
+        copyBuffer[copyLength++] = (byte) value;
+    }
+
+    private void appendCopy(int start, int end) {
+        int length = end - start;
+        if (length > 0) {
+            ensureCopyCapacity(length);
+            window.get(start, copyBuffer, copyLength, length);
+            copyLength += length;
+        }
+    }
+
+    private void ensureCopyCapacity(int additionalBytes) {
+        if (copyLength + additionalBytes > copyBuffer.length) {
+            copyBuffer = Arrays.copyOf(copyBuffer, Math.max(copyBuffer.length * 2, copyLength + additionalBytes));
+        }
+    }
+
+    private void completeField() {
+        if (numberOfFields == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldStarts.length * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldEnds.length * 2);
+        }
+
+        if (copying) {
+            fieldStarts[numberOfFields] = -copyStart - 1;
+            fieldEnds[numberOfFields] = copyLength;
+        } else {
+            fieldStarts[numberOfFields] = contentStart;
+            fieldEnds[numberOfFields] = contentEnd;
+        }
+        numberOfFields++;
+    }
+
+    /**
+     * Determines if the current byte should be added to the column content.
+     * <p>
+     * If not, the end of the content within the window is recorded.
+     */
+    private boolean shouldContinueField(boolean inQuote) throws IOException {
+        if (isEOF()) {
+            contentEnd = position;
+            return false;
+        }
+
+        if (inQuote) {
+            if (current == quotation) {
+                read();
+                // Note that the quotation is always located right before the current position, even if the
+                // end of the file was reached or a new window has been mapped...
+                if (current == quotation) {
+                    startCopying(position - 1);
+                    return true;
+                }
+                contentEnd = position - 1;
+                return false;
+            }
+            return true;
+        } else {
+            contentEnd = position;
+            return current != separator && !isAtNewline();
+        }
+    }
+
+    /**
+     * Determines if the current byte indicates a line break.
+     */
+    private boolean isAtNewline() {
+        return current == '\r' || current == '\n';
+    }
+
+    /**
+     * Determines if we reached the end of the file.
+     */
+    private boolean isEOF() {
+        return current == -1;
+    }
+
+    /**
+     * Represents a parsed row which is handed to the consumer wrapped as {@link Values}.
+     * <p>
+     * The columns refer to the mapped window (or a copy of their bytes if escaping was used) and are decoded once
+     * they are accessed. Rows are read-only, as permitted by {@link Values#asList()}.
+     */
+    private static class Row extends AbstractList<String> implements RandomAccess {
+
+        private final ByteBuffer window;
+        private final Charset charset;
+        private final int[] fieldStarts;
+        private final int[] fieldEnds;
+        private final byte[] copiedData;
+        private final String[] fields;
+
+        Row(ByteBuffer window, Charset charset, int[] fieldStarts, int[] fieldEnds, @Nullable byte[] copiedData) {
+            this.window = window;
+            this.charset = charset;
+            this.fieldStarts = fieldStarts;
+            this.fieldEnds = fieldEnds;
+            this.copiedData = copiedData;
+            this.fields = new String[fieldStarts.length];
+        }
+
+        @Override
+        public String get(int index) {
+            Objects.checkIndex(index, fieldStarts.length);
+            String field = fields[index];
+            if (field == null) {
+                field = decode(fieldStarts[index], fieldEnds[index]);
+                fields[index] = field;
+            }
+
+            return field;
+        }
+
+        private String decode(int start, int end) {
+            if (start < 0) {
+                int copyStart = -start - 1;
+                return copyStart == end ? "" : new String(copiedData, copyStart, end - copyStart, charset);
+            }
+            if (start == end) {
+                return "";
+            }
+
+            byte[] data = new byte[end - start];
+            window.get(start, data);
+            return new String(data, charset);
+        }
+
+        @Override
+        public int size() {
+            return fieldStarts.length;
+        }
+    }
+}
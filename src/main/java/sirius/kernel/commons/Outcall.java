@@ -11,7 +11,10 @@ package sirius.kernel.commons;
 import com.google.common.net.HttpHeaders;
 import sirius.kernel.Sirius;
 import sirius.kernel.async.Operation;
+import sirius.kernel.async.Promise;
+import sirius.kernel.async.Tasks;
 import sirius.kernel.di.std.ConfigValue;
+import sirius.kernel.di.std.Part;
 import sirius.kernel.health.Average;
 import sirius.kernel.health.Exceptions;
 import sirius.kernel.health.Microtiming;
@@ -24,7 +27,9 @@ import javax.annotation.Nullable;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -43,6 +48,7 @@ import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
@@ -57,6 +63,8 @@ import java.util.Base64;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -70,6 +78,13 @@ import java.util.regex.Pattern;
  * <p>
  * By default, we will follow redirects via {@link  java.net.http.HttpClient.Redirect#NORMAL}. However, one can use
  * {@link #noFollowRedirects()} or {@link #alwaysFollowRedirects()} to customize this behaviour.
+ * <p>
+ * Next to the blocking {@link #getResponse()}, a call can also be executed asynchronously via
+ * {@link #getResponseAsync()}. This doesn't block any thread while waiting for the server and is therefore well suited
+ * to perform many calls concurrently.
+ * <p>
+ * Endpoints which are polled regularly can use {@link #withResponseCache()} to only transfer responses which have
+ * actually changed.
  */
 public class Outcall {
 
@@ -119,6 +134,17 @@ public class Outcall {
 
     private static final String DEFAULT_CLIENT_SELECTOR = "_default_";
 
+    /**
+     * Contains the name of the executor which runs the producers passed to {@link #postFromProducer(Callback, long)}.
+     */
+    public static final String EXECUTOR_OUTCALL_UPLOAD = "outcall-upload";
+
+    /**
+     * Contains the name of the executor which refreshes OAuth tokens for {@link #getResponseAsync() asynchronous}
+     * calls, as the token refresher given to {@link #withOAuth(Supplier, Runnable)} might block.
+     */
+    public static final String EXECUTOR_OUTCALL_OAUTH = "outcall-oauth";
+
     /**
      * Keeps track of hosts for which we ran into a connect-timeout.
      * <p>
@@ -146,6 +172,23 @@ public class Outcall {
     @ConfigValue("http.outcall.connectTimeoutBlacklistDuration")
     private static Duration connectTimeoutBlacklistDuration;
 
+    @ConfigValue("http.outcall.maxConcurrentAsyncCallsPerHost")
+    private static int maxConcurrentAsyncCallsPerHost;
+
+    @ConfigValue("http.outcall.maxPendingAsyncCallsPerHost")
+    private static int maxPendingAsyncCallsPerHost;
+
+    /**
+     * Limits the number of asynchronous calls which are executed concurrently (or queued) for a single host.
+     * <p>
+     * Synchronous calls are not limited, as they are already bound by the number of threads performing them.
+     */
+    private static final HostConcurrencyLimiter asyncCallLimiter =
+            new HostConcurrencyLimiter(() -> maxConcurrentAsyncCallsPerHost, () -> maxPendingAsyncCallsPerHost);
+
+    @Part
+    private static Tasks tasks;
+
     private static String defaultUserAgent;
 
     private static final X509TrustManager trustManagerForSelfSignedCerts = new TrustingSelfSignedTrustManager();
@@ -174,6 +217,10 @@ public class Outcall {
     // Provide an output stream for old apis
     private final ByteArrayOutputStream out = new ByteArrayOutputStream();
     private boolean postFromOutput = false;
+    private volatile UploadPipe uploadPipe;
+    private boolean useResponseCache;
+    private HttpRequest cacheableRequest;
+    private OutcallResponseCache.CachedResponse cachedResponse;
 
     /**
      * Builds the default user agent string as 'product.name/product.version (+product.baseUrl)', where version or
@@ -516,6 +563,9 @@ public class Outcall {
      * <p>
      * This will automatically mark the underlying request as a POST request,
      * with the contents written into this stream as body.
+     * <p>
+     * Note that the data is buffered in memory until the request is sent. Use
+     * {@link #postFromProducer(Callback)} or {@link #postFromFile(Path)} to upload large bodies.
      *
      * @return the stream of data sent to the call / url
      */
@@ -524,6 +574,88 @@ public class Outcall {
         return out;
     }
 
+    /**
+     * Marks the request as POST request and streams the body written by the given producer.
+     * <p>
+     * The body is sent using chunked transfer encoding. See {@link #postFromProducer(Callback, long)} for details.
+     *
+     * @param producer the producer which writes the body into the given stream
+     * @return the outcall itself for fluent method calls
+     */
+    public Outcall postFromProducer(Callback<OutputStream> producer) {
+        return postFromProducer(producer, -1);
+    }
+
+    /**
+     * Marks the request as POST request and streams the body written by the given producer.
+     * <p>
+     * In contrast to {@link #postFromOutput()}, the body is sent while it is being written, so that only a few
+     * kilobytes are buffered no matter how large the body is. Therefore, the producer is invoked in the
+     * {@link #EXECUTOR_OUTCALL_UPLOAD upload} executor once the request is sent and is throttled to the speed of the
+     * upload. If the producer throws an exception, the request is aborted and the exception is reported by
+     * {@link #getResponse()} (or the promise of {@link #getResponseAsync()}).
+     * <p>
+     * Note that the producer is invoked once per attempt, e.g. again after an OAuth token has been refreshed or a
+     * redirect has been followed. It must therefore be able to write the same body several times.
+     *
+     * @param producer      the producer which writes the body into the given stream
+     * @param contentLength the exact number of bytes which will be written by the producer. If a positive value is
+     *                      given, it is sent as <tt>Content-Length</tt>, otherwise chunked transfer encoding is used.
+     * @return the outcall itself for fluent method calls
+     */
+    public Outcall postFromProducer(Callback<OutputStream> producer, long contentLength) {
+        HttpRequest.BodyPublisher bodyPublisher = HttpRequest.BodyPublishers.ofInputStream(() -> startUpload(producer));
+        if (contentLength > 0) {
+            bodyPublisher = HttpRequest.BodyPublishers.fromPublisher(bodyPublisher, contentLength);
+        }
+
+        return markAsPostRequest(bodyPublisher);
+    }
+
+    /**
+     * Marks the request as POST request and uploads the given file as body.
+     * <p>
+     * The file is streamed from disk in small chunks and sent with its size as <tt>Content-Length</tt>, therefore this
+     * is suitable for files of any size.
+     *
+     * @param file the file to upload
+     * @return the outcall itself for fluent method calls
+     * @throws FileNotFoundException if the given file doesn't exist
+     */
+    public Outcall postFromFile(Path file) throws FileNotFoundException {
+        return markAsPostRequest(HttpRequest.BodyPublishers.ofFile(file));
+    }
+
+    private InputStream startUpload(Callback<OutputStream> producer) {
+        UploadPipe pipe = new UploadPipe();
+        closeUploadPipe();
+        uploadPipe = pipe;
+
+        tasks.executor(EXECUTOR_OUTCALL_UPLOAD)
+             .dropOnOverload(() -> pipe.fail(new IOException("Cannot start the upload as the system is overloaded.")))
+             .fork(() -> {
+                 try {
+                     producer.invoke(pipe.getOutput());
+                     pipe.getOutput().close();
+                 } catch (Exception exception) {
+                     pipe.fail(exception);
+                 }
+             });
+
+        return pipe.getInput();
+    }
+
+    /**
+     * Aborts the upload of the previous attempt (if any) so that its producer doesn't block forever.
+     */
+    private void closeUploadPipe() {
+        UploadPipe pipe = uploadPipe;
+        if (pipe != null) {
+            pipe.close();
+            uploadPipe = null;
+        }
+    }
+
     /**
      * Executes the outcall and returns the response.
      * <p>
@@ -539,11 +671,78 @@ public class Outcall {
         return response;
     }
 
+    /**
+     * Executes the outcall asynchronously.
+     * <p>
+     * In contrast to {@link #getResponse()}, this doesn't block the calling thread. Redirects, OAuth token refreshes
+     * and the connect timeout blacklist are handled just like for synchronous calls. At most
+     * <tt>http.outcall.maxConcurrentAsyncCallsPerHost</tt> asynchronous calls are executed concurrently for a single
+     * host, further calls are queued until a call to this host completes. If more than
+     * <tt>http.outcall.maxPendingAsyncCallsPerHost</tt> calls are queued for a host, further calls fail right away.
+     * <p>
+     * As the token refresher given to {@link #withOAuth(Supplier, Runnable)} might block, it is invoked in the
+     * {@link #EXECUTOR_OUTCALL_OAUTH} executor.
+     * <p>
+     * Note that the response body is completely received before the promise is fulfilled, so that it can be read
+     * without blocking. Therefore, this should not be used to download large files. Once the promise has been
+     * fulfilled, methods like {@link #getData()} or {@link #getHeaderField(String)} can be used as usual.
+     * <p>
+     * Also note that callbacks attached to the promise are invoked by the threads of the underlying
+     * {@link HttpClient}. These must therefore not perform any long-running or blocking work but rather fork it into
+     * an appropriate executor.
+     *
+     * @return a promise which is fulfilled with the response once it has been received completely or which fails
+     * with an {@link IOException} in case of any IO error or blacklisting
+     */
+    public Promise<HttpResponse<InputStream>> getResponseAsync() {
+        Promise<HttpResponse<InputStream>> result = new Promise<>();
+        if (response != null) {
+            return result.success(response);
+        }
+
+        try {
+            prepareRequest();
+        } catch (IOException exception) {
+            return result.fail(exception);
+        }
+        if (response != null) {
+            // The response has been served from the cache...
+            return result.success(response);
+        }
+
+        performRequestAsync(MAX_REDIRECTS, result);
+        return result;
+    }
+
     private void connect() throws IOException {
         if (response != null) {
             return;
         }
 
+        prepareRequest();
+        if (response != null) {
+            // The response has been served from the cache...
+            return;
+        }
+
+        try {
+            int attempts = MAX_REDIRECTS;
+            while (attempts-- > 0) {
+                performRequest();
+                Optional<URI> redirectedURI = checkForRedirectURI();
+                if (redirectedURI.isEmpty()) {
+                    break;
+                }
+                installRedirectRequest(redirectedURI.get());
+            }
+        } catch (IOException | RuntimeException exception) {
+            releaseCachedResponse();
+            throw exception;
+        }
+        applyResponseCache();
+    }
+
+    private void prepareRequest() throws IOException {
         checkTimeoutBlacklist();
 
         if (oAuthAccessToken != null) {
@@ -558,16 +757,49 @@ public class Outcall {
                 requestBuilder.POST(HttpRequest.BodyPublishers.ofByteArray(out.toByteArray()));
             }
             request = requestBuilder.build();
+            if (useResponseCache) {
+                lookupCachedResponse();
+            }
         }
+    }
 
-        int attempts = MAX_REDIRECTS;
-        while (attempts-- > 0) {
-            performRequest();
-            Optional<URI> redirectedURI = checkForRedirectURI();
-            if (redirectedURI.isEmpty()) {
-                return;
-            }
-            installRedirectRequest(redirectedURI.get());
+    /**
+     * Serves the request from the {@link OutcallResponseCache} if a fresh response is present or adds the validators
+     * of a stale response, so that it can be revalidated.
+     * <p>
+     * A stale response is kept in {@link #cachedResponse} until the server has responded and then handed to
+     * {@link #applyResponseCache()} or released via {@link #releaseCachedResponse()} if the request fails.
+     */
+    private void lookupCachedResponse() throws IOException {
+        cacheableRequest = request;
+        OutcallResponseCache.CachedResponse lookedUpResponse = OutcallResponseCache.lookup(clientSelector, request);
+        if (lookedUpResponse == null) {
+            return;
+        }
+
+        if (lookedUpResponse.isFresh()) {
+            response = OutcallResponseCache.serve(lookedUpResponse, request);
+        } else if (lookedUpResponse.addConditionalHeaders(requestBuilder)) {
+            cachedResponse = lookedUpResponse;
+            request = requestBuilder.build();
+        } else {
+            lookedUpResponse.release();
+        }
+    }
+
+    private void applyResponseCache() throws IOException {
+        if (cacheableRequest != null) {
+            OutcallResponseCache.CachedResponse revalidatedResponse = cachedResponse;
+            cachedResponse = null;
+            response =
+                    OutcallResponseCache.handleResponse(clientSelector, cacheableRequest, revalidatedResponse, response);
+        }
+    }
+
+    private void releaseCachedResponse() {
+        if (cachedResponse != null) {
+            cachedResponse.release();
+            cachedResponse = null;
         }
     }
 
@@ -611,6 +843,7 @@ public class Outcall {
             addToTimeoutBlacklist();
             throw exception;
         } finally {
+            closeUploadPipe();
             timeToFirstByte.addValue(watch.elapsedMillis());
             if (Microtiming.isEnabled()) {
                 watch.submitMicroTiming("OUTCALL", request.uri().getHost() + request.uri().getPath());
@@ -618,6 +851,143 @@ public class Outcall {
         }
     }
 
+    private void performRequestAsync(int remainingAttempts, Promise<HttpResponse<InputStream>> result) {
+        sendAsync().whenComplete((asyncResponse, throwable) -> {
+            try {
+                if (throwable != null) {
+                    releaseCachedResponse();
+                    result.fail(handleAsyncFailure(throwable));
+                    return;
+                }
+
+                response = asyncResponse;
+                if (oAuthTokenRefresher != null && isUnauthorized(response.statusCode())) {
+                    refreshTokenAndRetryAsync(remainingAttempts, result);
+                    return;
+                }
+
+                Optional<URI> redirectedURI = checkForRedirectURI();
+                if (redirectedURI.isPresent() && remainingAttempts > 1) {
+                    installRedirectRequest(redirectedURI.get());
+                    performRequestAsync(remainingAttempts - 1, result);
+                    return;
+                }
+
+                applyResponseCache();
+                result.success(response);
+            } catch (Exception exception) {
+                releaseCachedResponse();
+                result.fail(exception);
+            }
+        });
+    }
+
+    /**
+     * Refreshes the OAuth token in the {@link #EXECUTOR_OUTCALL_OAUTH} executor and retries the request once the new
+     * token is available.
+     * <p>
+     * This is invoked by the threads of the {@link HttpClient}, which must not be blocked by the token refresher.
+     */
+    private void refreshTokenAndRetryAsync(int remainingAttempts, Promise<HttpResponse<InputStream>> result) {
+        Runnable tokenRefresher = oAuthTokenRefresher;
+        oAuthTokenRefresher = null;
+
+        tasks.fork(EXECUTOR_OUTCALL_OAUTH, () -> {
+            tokenRefresher.run();
+            return oAuthAccessToken.get();
+        }).onSuccess(token -> {
+            requestBuilder.setHeader(HttpHeaders.AUTHORIZATION, token);
+            request = requestBuilder.build();
+            performRequestAsync(remainingAttempts, result);
+        }).onFailure(failure -> {
+            releaseCachedResponse();
+            result.fail(failure);
+        });
+    }
+
+    /**
+     * Sends the current request asynchronously once the {@link #asyncCallLimiter} permits it.
+     *
+     * @return a future which is completed with the (completely received) response
+     */
+    private CompletableFuture<HttpResponse<InputStream>> sendAsync() {
+        HttpRequest currentRequest = request;
+        String host = currentRequest.uri().getHost();
+        CompletableFuture<HttpResponse<InputStream>> result = new CompletableFuture<>();
+        boolean accepted = asyncCallLimiter.submit(host, () -> {
+            Watch watch = Watch.start();
+            Monoflop firstByte = Monoflop.create();
+            Operation operation = new Operation(() -> "Async outcall to " + host + currentRequest.uri().getPath(),
+                                                client.connectTimeout()
+                                                      .orElse(defaultConnectTimeout)
+                                                      .plus(currentRequest.timeout().orElse(defaultReadTimeout)));
+            try {
+                client.sendAsync(currentRequest, responseInfo -> {
+                    // This is invoked once the headers have been received...
+                    if (firstByte.firstCall()) {
+                        timeToFirstByte.addValue(watch.elapsedMillis());
+                    }
+                    return bufferedBody();
+                }).whenComplete((asyncResponse, throwable) -> {
+                    completeAsyncRequest(host, currentRequest, watch, firstByte, operation);
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else {
+                        result.complete(asyncResponse);
+                    }
+                });
+            } catch (Exception exception) {
+                completeAsyncRequest(host, currentRequest, watch, firstByte, operation);
+                result.completeExceptionally(exception);
+            }
+        });
+        if (!accepted) {
+            result.completeExceptionally(new IOException(Strings.apply("Too many asynchronous calls to %s are pending.",
+                                                                       host)));
+        }
+
+        return result;
+    }
+
+    private static HttpResponse.BodySubscriber<InputStream> bufferedBody() {
+        return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(),
+                                                    ByteArrayInputStream::new);
+    }
+
+    private void completeAsyncRequest(String host,
+                                      HttpRequest currentRequest,
+                                      Watch watch,
+                                      Monoflop firstByte,
+                                      Operation operation) {
+        operation.close();
+        closeUploadPipe();
+        if (firstByte.firstCall()) {
+            timeToFirstByte.addValue(watch.elapsedMillis());
+        }
+        if (Microtiming.isEnabled()) {
+            watch.submitMicroTiming("OUTCALL", host + currentRequest.uri().getPath());
+        }
+        asyncCallLimiter.release(host);
+    }
+
+    private IOException handleAsyncFailure(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof HttpTimeoutException
+            || cause instanceof ConnectException
+            || cause instanceof SocketTimeoutException) {
+            addToTimeoutBlacklist();
+        }
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+
+        return new IOException(cause.getMessage(), cause);
+    }
+
     private void checkTimeoutBlacklist() throws IOException {
         if (connectTimeoutBlacklistDuration.isZero()) {
             return;
@@ -822,6 +1192,24 @@ public class Outcall {
         return timeToFirstByte;
     }
 
+    /**
+     * Enables the {@link OutcallResponseCache} for this call.
+     * <p>
+     * If a fresh response has been cached for the same client selector and URI, it is returned without contacting
+     * the server. A stale response is revalidated using a conditional request, so that the body is only transferred
+     * if it has actually changed. Only <tt>GET</tt> requests without custom conditional headers (like
+     * {@link #setIfModifiedSince(LocalDateTime)}) are cached.
+     * <p>
+     * Note that other request headers (e.g. <tt>Authorization</tt>) are not part of the cache key. Therefore, calls
+     * which fetch user specific data must use a distinct client selector per user or must not use the cache at all.
+     *
+     * @return the current instance for fluent method calls
+     */
+    public Outcall withResponseCache() {
+        this.useResponseCache = true;
+        return this;
+    }
+
     /**
      * Enables OAuth token support for this outcall.
      * <p>
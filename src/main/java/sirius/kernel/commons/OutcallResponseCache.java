@@ -0,0 +1,790 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import com.google.common.net.HttpHeaders;
+import sirius.kernel.Startable;
+import sirius.kernel.cache.Cache;
+import sirius.kernel.cache.CacheManager;
+import sirius.kernel.di.std.ConfigValue;
+import sirius.kernel.di.std.Register;
+import sirius.kernel.health.Counter;
+import sirius.kernel.health.Exceptions;
+import sirius.kernel.health.metrics.Metric;
+import sirius.kernel.health.metrics.MetricProvider;
+import sirius.kernel.health.metrics.MetricsCollector;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.net.ssl.SSLSession;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Caches the responses of {@link Outcall outcalls} which have been marked via {@link Outcall#withResponseCache()}.
+ * <p>
+ * Responses are cached per client selector and URI and honor the <tt>Cache-Control</tt>, <tt>Expires</tt>,
+ * <tt>ETag</tt>, <tt>Last-Modified</tt> and <tt>Vary</tt> headers. A response which is still fresh is served without
+ * contacting the server at all. A stale response is revalidated using a conditional request (<tt>If-None-Match</tt> /
+ * <tt>If-Modified-Since</tt>) and served from the cache if the server responds with <tt>304 - Not Modified</tt>. A
+ * cached response is only used if the request headers listed in its <tt>Vary</tt> header match the current request.
+ * <p>
+ * Small bodies are kept in memory, larger ones are stored in temporary files on local disk (see
+ * <tt>http.outcall.cache</tt> in the system config). Both the size of a single body and the total size of all
+ * cached bodies are limited. Once this budget is used up, further responses aren't cached until entries have been
+ * evicted. Note that a response is only put into the cache once its body has been read completely. A file is
+ * deleted once its entry has been removed from the cache and all responses reading it have been closed. Files left
+ * behind by previous runs are deleted on startup.
+ */
+public class OutcallResponseCache {
+
+    /**
+     * Contains the name of the underlying cache, which is used to configure its size and time to live.
+     */
+    public static final String CACHE_NAME = "outcall-responses";
+
+    private static final String METHOD_GET = "GET";
+    private static final String DIRECTIVE_NO_STORE = "no-store";
+    private static final String DIRECTIVE_NO_CACHE = "no-cache";
+    private static final String DIRECTIVE_MAX_AGE = "max-age";
+    private static final String VARY_ANY = "*";
+
+    /**
+     * Contains the directory which contains one sub directory per JVM, which stores the bodies cached by it.
+     */
+    private static final Path CACHE_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"), "sirius-outcall-cache");
+
+    /**
+     * Contains the directory of this JVM within {@link #CACHE_DIRECTORY}, which is created on first use.
+     */
+    private static volatile Path bodyDirectory;
+
+    @ConfigValue("http.outcall.cache.maxInMemoryBodySize")
+    private static long maxInMemoryBodySize;
+
+    @ConfigValue("http.outcall.cache.maxBodySize")
+    private static long maxBodySize;
+
+    @ConfigValue("http.outcall.cache.maxTotalBodySize")
+    private static long maxTotalBodySize;
+
+    /**
+     * Contains the total size of all bodies which are currently cached (in memory or on disk).
+     */
+    private static final AtomicLong totalBodySize = new AtomicLong();
+
+    private static final Cache<String, CachedResponse> cache =
+            CacheManager.<String, CachedResponse>createLocalCache(CACHE_NAME).onRemove(removedEntry -> {
+                if (removedEntry.getSecond() != null) {
+                    removedEntry.getSecond().release();
+                }
+            });
+
+    private static final Counter hits = new Counter();
+    private static final Counter misses = new Counter();
+    private static final Counter revalidations = new Counter();
+
+    /**
+     * Represents a cached response along with its validators.
+     * <p>
+     * A response counts its references: one is held by the cache itself, one by each caller of
+     * {@link #lookup(String, HttpRequest)} until it {@link #release() releases} the response or creates a response
+     * from it, and one by each body which is being read. The file of the body is only deleted once all of these are
+     * gone, so that an entry which is replaced or evicted can still be read by the outcalls which already found it.
+     */
+    static class CachedResponse {
+        private volatile java.net.http.HttpHeaders headers;
+        private volatile long freshUntil;
+        private final byte[] data;
+        private final Path file;
+        private final long size;
+        private final HttpClient.Version version;
+        private final Map<String, List<String>> varyingRequestHeaders;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        CachedResponse(java.net.http.HttpHeaders headers,
+                       byte[] data,
+                       Path file,
+                       long size,
+                       HttpClient.Version version,
+                       Map<String, List<String>> varyingRequestHeaders) {
+            this.headers = headers;
+            this.data = data;
+            this.file = file;
+            this.size = size;
+            this.version = version;
+            this.varyingRequestHeaders = varyingRequestHeaders;
+            this.freshUntil = computeFreshUntil(headers);
+        }
+
+        boolean isFresh() {
+            return System.currentTimeMillis() < freshUntil;
+        }
+
+        /**
+         * Determines if this response has been received for a request with the same values for all headers listed in
+         * the <tt>Vary</tt> header of the response.
+         *
+         * @param request the request to check
+         * @return <tt>true</tt> if the response can be used for the given request, <tt>false</tt> otherwise
+         */
+        boolean matches(HttpRequest request) {
+            return varyingRequestHeaders.entrySet()
+                                        .stream()
+                                        .allMatch(header -> header.getValue()
+                                                                  .equals(request.headers()
+                                                                                 .allValues(header.getKey())));
+        }
+
+        /**
+         * Acquires a reference to this response, unless it has already been discarded.
+         *
+         * @return <tt>true</tt> if a reference has been acquired, <tt>false</tt> if the response has been discarded
+         */
+        private boolean retain() {
+            int count = references.get();
+            while (count > 0) {
+                if (references.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+                count = references.get();
+            }
+
+            return false;
+        }
+
+        /**
+         * Releases a reference to this response and deletes its file once the last reference is gone.
+         */
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                deleteFile();
+                totalBodySize.addAndGet(-size);
+            }
+        }
+
+        /**
+         * Adds the validators of this response to the given request, so that the server can respond with
+         * <tt>304 - Not Modified</tt> if the response is still valid.
+         *
+         * @param requestBuilder the request to enhance
+         * @return <tt>true</tt> if at least one validator was present, <tt>false</tt> otherwise
+         */
+        boolean addConditionalHeaders(HttpRequest.Builder requestBuilder) {
+            Optional<String> eTag = headers.firstValue(HttpHeaders.ETAG);
+            Optional<String> lastModified = headers.firstValue(HttpHeaders.LAST_MODIFIED);
+            eTag.ifPresent(value -> requestBuilder.setHeader(HttpHeaders.IF_NONE_MATCH, value));
+            lastModified.ifPresent(value -> requestBuilder.setHeader(HttpHeaders.IF_MODIFIED_SINCE, value));
+            return eTag.isPresent() || lastModified.isPresent();
+        }
+
+        /**
+         * Updates the headers and the freshness based on a <tt>304 - Not Modified</tt> response.
+         *
+         * @param notModifiedHeaders the headers of the <tt>304</tt> response
+         */
+        void revalidate(java.net.http.HttpHeaders notModifiedHeaders) {
+            Map<String, List<String>> mergedHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            mergedHeaders.putAll(headers.map());
+            notModifiedHeaders.map().forEach((name, values) -> {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                    mergedHeaders.put(name, values);
+                }
+            });
+            this.headers = java.net.http.HttpHeaders.of(mergedHeaders, (name, value) -> true);
+            this.freshUntil = computeFreshUntil(headers);
+        }
+
+        /**
+         * Creates a response for the given request.
+         * <p>
+         * This takes over the reference acquired by {@link #lookup(String, HttpRequest)}, which is released once the
+         * body is closed.
+         *
+         * @param request the request which is answered by this response
+         * @return the response which reads the cached body
+         * @throws IOException in case the body cannot be read from disk
+         */
+        HttpResponse<InputStream> createResponse(HttpRequest request) throws IOException {
+            if (file == null) {
+                release();
+                return new CachedHttpResponse(request, 200, headers, new ByteArrayInputStream(data), version);
+            }
+
+            try {
+                return new CachedHttpResponse(request, 200, headers, new ReleasingInputStream(this), version);
+            } catch (IOException | RuntimeException exception) {
+                release();
+                throw exception;
+            }
+        }
+
+        private void deleteFile() {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException exception) {
+                    Exceptions.ignore(exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the file of a cached response and releases the response once it is closed.
+     */
+    private static class ReleasingInputStream extends FilterInputStream {
+
+        private final CachedResponse cachedResponse;
+        private boolean released;
+
+        ReleasingInputStream(CachedResponse cachedResponse) throws IOException {
+            super(Files.newInputStream(cachedResponse.file));
+            this.cachedResponse = cachedResponse;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!released) {
+                    released = true;
+                    cachedResponse.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Provides a response which has either been served from the cache or whose body is recorded into the cache.
+     */
+    private record CachedHttpResponse(HttpRequest request,
+                                      int statusCode,
+                                      java.net.http.HttpHeaders headers,
+                                      InputStream body,
+                                      HttpClient.Version version) implements HttpResponse<InputStream> {
+
+        @Override
+        public Optional<HttpResponse<InputStream>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+    }
+
+    /**
+     * Copies the body into a new cache entry while it is being read and puts the entry into the cache once the body
+     * has been read completely.
+     */
+    private static class RecordingInputStream extends FilterInputStream {
+
+        private final String key;
+        private final java.net.http.HttpHeaders headers;
+        private final HttpClient.Version version;
+        private final Map<String, List<String>> varyingRequestHeaders;
+        private ByteArrayOutputStream memoryBuffer = new ByteArrayOutputStream();
+        private Path file;
+        private OutputStream fileOutput;
+        private long size;
+        private boolean done;
+
+        RecordingInputStream(String key,
+                             HttpResponse<InputStream> response,
+                             Map<String, List<String>> varyingRequestHeaders) {
+            super(response.body());
+            this.key = key;
+            this.headers = response.headers();
+            this.version = response.version();
+            this.varyingRequestHeaders = varyingRequestHeaders;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int data = super.read();
+            if (data < 0) {
+                complete();
+            } else {
+                record(new byte[]{(byte) data}, 0, 1);
+            }
+            return data;
+        }
+
+        @Override
+        public int read(@Nonnull byte[] buffer, int offset, int length) throws IOException {
+            int bytesRead = super.read(buffer, offset, length);
+            if (bytesRead < 0) {
+                complete();
+            } else {
+                record(buffer, offset, bytesRead);
+            }
+            return bytesRead;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped data cannot be recorded...
+            abandon();
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void record(byte[] buffer, int offset, int length) {
+            if (done) {
+                return;
+            }
+
+            size += length;
+            if (size > maxBodySize || totalBodySize.get() + size > maxTotalBodySize) {
+                abandon();
+                return;
+            }
+
+            try {
+                if (fileOutput == null && size > maxInMemoryBodySize) {
+                    file = Files.createTempFile(getBodyDirectory(), "body", ".tmp");
+                    fileOutput = Files.newOutputStream(file);
+                    memoryBuffer.writeTo(fileOutput);
+                    memoryBuffer = null;
+                }
+                if (fileOutput != null) {
+                    fileOutput.write(buffer, offset, length);
+                } else {
+                    memoryBuffer.write(buffer, offset, length);
+                }
+            } catch (IOException exception) {
+                Exceptions.ignore(exception);
+                abandon();
+            }
+        }
+
+        private void complete() {
+            if (done) {
+                return;
+            }
+
+            done = true;
+            try {
+                if (fileOutput != null) {
+                    fileOutput.close();
+                }
+                // Other bodies might have been recorded in the meantime, therefore we check the budget once more...
+                if (totalBodySize.addAndGet(size) > maxTotalBodySize) {
+                    totalBodySize.addAndGet(-size);
+                    deleteFile();
+                    return;
+                }
+                cache.put(key,
+                          new CachedResponse(headers,
+                                             fileOutput == null ? memoryBuffer.toByteArray() : null,
+                                             file,
+                                             size,
+                                             version,
+                                             varyingRequestHeaders));
+            } catch (IOException exception) {
+                Exceptions.ignore(exception);
+                deleteFile();
+            }
+        }
+
+        private void abandon() {
+            if (done) {
+                return;
+            }
+
+            done = true;
+            memoryBuffer = null;
+            if (fileOutput != null) {
+                try {
+                    fileOutput.close();
+                } catch (IOException exception) {
+                    Exceptions.ignore(exception);
+                }
+                deleteFile();
+            }
+        }
+
+        private void deleteFile() {
+            if (file == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException exception) {
+                Exceptions.ignore(exception);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            abandon();
+            super.close();
+        }
+    }
+
+    private OutcallResponseCache() {
+    }
+
+    /**
+     * Looks up the cached response for the given request.
+     * <p>
+     * The returned response is retained for the caller, so that its body remains available even if the entry is
+     * removed from the cache in the meantime. The caller therefore has to either pass it to
+     * {@link #serve(CachedResponse, HttpRequest)} or {@link #handleResponse(String, HttpRequest, CachedResponse,
+     * HttpResponse)} or invoke {@link CachedResponse#release()}.
+     *
+     * @param clientSelector the client selector used by the outcall
+     * @param request        the request to be sent
+     * @return the cached response or <tt>null</tt> if the request isn't cacheable or no matching response has been
+     * cached
+     */
+    @Nullable
+    static CachedResponse lookup(@Nullable String clientSelector, HttpRequest request) {
+        if (!isCacheable(request)) {
+            return null;
+        }
+
+        CachedResponse cachedResponse = cache.get(computeKey(clientSelector, request));
+        if (cachedResponse == null || !cachedResponse.matches(request) || !cachedResponse.retain()) {
+            return null;
+        }
+
+        return cachedResponse;
+    }
+
+    /**
+     * Serves the given fresh response from the cache.
+     *
+     * @param cachedResponse the response to serve
+     * @param request        the request which is answered by the cached response
+     * @return the cached response
+     * @throws IOException in case the body cannot be read from disk
+     */
+    static HttpResponse<InputStream> serve(CachedResponse cachedResponse, HttpRequest request) throws IOException {
+        hits.inc();
+        return cachedResponse.createResponse(request);
+    }
+
+    /**
+     * Processes the response received from the server.
+     * <p>
+     * A <tt>304 - Not Modified</tt> for a revalidated entry is replaced by the cached response. A cacheable
+     * <tt>200 - OK</tt> is recorded into the cache while its body is being read.
+     *
+     * @param clientSelector   the client selector used by the outcall
+     * @param cacheableRequest the request which has been passed to {@link #lookup(String, HttpRequest)}
+     * @param cachedResponse   the stale response which has been revalidated or <tt>null</tt> if there was none
+     * @param response         the response received from the server
+     * @return the response to hand out to the caller
+     * @throws IOException in case the cached body cannot be read from disk
+     */
+    static HttpResponse<InputStream> handleResponse(@Nullable String clientSelector,
+                                                    HttpRequest cacheableRequest,
+                                                    @Nullable CachedResponse cachedResponse,
+                                                    HttpResponse<InputStream> response) throws IOException {
+        if (!isCacheable(cacheableRequest)) {
+            return response;
+        }
+
+        String key = computeKey(clientSelector, cacheableRequest);
+        if (cachedResponse != null && response.statusCode() == 304) {
+            revalidations.inc();
+            cachedResponse.revalidate(response.headers());
+            return cachedResponse.createResponse(response.request());
+        }
+
+        if (cachedResponse != null) {
+            cachedResponse.release();
+        }
+        misses.inc();
+        if (response.statusCode() != 200 || !isCacheable(response.headers())) {
+            if (cachedResponse != null) {
+                cache.remove(key);
+            }
+            return response;
+        }
+
+        return new CachedHttpResponse(response.request(),
+                                      response.statusCode(),
+                                      response.headers(),
+                                      new RecordingInputStream(key,
+                                                               response,
+                                                               determineVaryingRequestHeaders(cacheableRequest,
+                                                                                              response.headers())),
+                                      response.version());
+    }
+
+    private static boolean isCacheable(HttpRequest request) {
+        return METHOD_GET.equals(request.method())
+               && request.headers().firstValue(HttpHeaders.IF_NONE_MATCH).isEmpty()
+               && request.headers().firstValue(HttpHeaders.IF_MODIFIED_SINCE).isEmpty();
+    }
+
+    private static boolean isCacheable(java.net.http.HttpHeaders headers) {
+        if (hasCacheControlDirective(headers, DIRECTIVE_NO_STORE)) {
+            return false;
+        }
+        if (streamVaryingHeaderNames(headers).anyMatch(VARY_ANY::equals)) {
+            // The response depends on more than the request headers, so we cannot tell when it can be re-used...
+            return false;
+        }
+
+        // Without a validator, we can only keep the response as long as it is fresh...
+        return headers.firstValue(HttpHeaders.ETAG).isPresent()
+               || headers.firstValue(HttpHeaders.LAST_MODIFIED).isPresent()
+               || computeFreshUntil(headers) > System.currentTimeMillis();
+    }
+
+    private static String computeKey(@Nullable String clientSelector, HttpRequest request) {
+        return Strings.apply("%s|%s", Strings.isFilled(clientSelector) ? clientSelector : "", request.uri());
+    }
+
+    private static Stream<String> streamVaryingHeaderNames(java.net.http.HttpHeaders headers) {
+        return headers.allValues(HttpHeaders.VARY)
+                      .stream()
+                      .flatMap(value -> Arrays.stream(value.split(",")))
+                      .map(String::trim)
+                      .filter(Strings::isFilled);
+    }
+
+    /**
+     * Records the values of all request headers which are listed in the <tt>Vary</tt> header of the response.
+     *
+     * @param request         the request which has been sent
+     * @param responseHeaders the headers of the response
+     * @return the values of the varying request headers, which have to match for the response to be re-used
+     */
+    private static Map<String, List<String>> determineVaryingRequestHeaders(HttpRequest request,
+                                                                            java.net.http.HttpHeaders responseHeaders) {
+        Map<String, List<String>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        streamVaryingHeaderNames(responseHeaders).forEach(name -> result.put(name, request.headers().allValues(name)));
+        return result;
+    }
+
+    /**
+     * Returns the directory in which the bodies cached by this JVM are stored.
+     * <p>
+     * Each JVM uses its own directory, so that {@link #deleteStaleBodies()} can tell which files have been left
+     * behind by previous runs.
+     *
+     * @return the directory for the cached bodies
+     * @throws IOException in case the directory cannot be created
+     */
+    static Path getBodyDirectory() throws IOException {
+        Path directory = bodyDirectory;
+        if (directory == null) {
+            synchronized (OutcallResponseCache.class) {
+                if (bodyDirectory == null) {
+                    Files.createDirectories(CACHE_DIRECTORY);
+                    bodyDirectory = Files.createTempDirectory(CACHE_DIRECTORY, ProcessHandle.current().pid() + "-");
+                }
+                directory = bodyDirectory;
+            }
+        }
+
+        return directory;
+    }
+
+    /**
+     * Deletes the bodies which have been cached by JVMs which are no longer running.
+     * <p>
+     * The directory of a JVM is named after its process id. As two running JVMs cannot share the same id, a
+     * directory which carries the id of this JVM but isn't its own, is left over from a previous run as well.
+     */
+    static void deleteStaleBodies() {
+        if (!Files.isDirectory(CACHE_DIRECTORY)) {
+            return;
+        }
+
+        try (Stream<Path> directories = Files.list(CACHE_DIRECTORY)) {
+            directories.filter(directory -> !directory.equals(bodyDirectory))
+                       .filter(directory -> !isOwnedByOtherRunningProcess(directory))
+                       .forEach(OutcallResponseCache::deleteDirectory);
+        } catch (IOException exception) {
+            Exceptions.ignore(exception);
+        }
+    }
+
+    private static boolean isOwnedByOtherRunningProcess(Path directory) {
+        long pid = Value.of(Strings.split(directory.getFileName().toString(), "-").getFirst()).asLong(-1);
+        return pid >= 0
+               && pid != ProcessHandle.current().pid()
+               && ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false);
+    }
+
+    private static void deleteDirectory(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException exception) {
+                    Exceptions.ignore(exception);
+                }
+            });
+        } catch (IOException exception) {
+            Exceptions.ignore(exception);
+        }
+    }
+
+    private static Stream<Tuple<String, String>> streamCacheControlDirectives(java.net.http.HttpHeaders headers) {
+        return headers.allValues(HttpHeaders.CACHE_CONTROL)
+                      .stream()
+                      .flatMap(value -> Arrays.stream(value.split(",")))
+                      .map(directive -> Strings.split(directive.trim(), "="));
+    }
+
+    private static boolean hasCacheControlDirective(java.net.http.HttpHeaders headers, String name) {
+        return streamCacheControlDirectives(headers).anyMatch(directive -> isDirective(directive, name));
+    }
+
+    private static boolean isDirective(Tuple<String, String> directive, String name) {
+        return name.equalsIgnoreCase(directive.getFirst());
+    }
+
+    /**
+     * Determines until when the response is fresh, based on <tt>Cache-Control: max-age</tt> or <tt>Expires</tt>.
+     *
+     * @param headers the headers of the response
+     * @return the timestamp (in epoch millis) until the response can be served without revalidating it
+     */
+    private static long computeFreshUntil(java.net.http.HttpHeaders headers) {
+        long now = System.currentTimeMillis();
+        if (hasCacheControlDirective(headers, DIRECTIVE_NO_CACHE)) {
+            return now;
+        }
+
+        Optional<Long> maxAge =
+                streamCacheControlDirectives(headers).filter(directive -> isDirective(directive, DIRECTIVE_MAX_AGE))
+                                                     .map(directive -> Value.of(directive.getSecond()).asLong(0))
+                                                     .findFirst();
+        if (maxAge.isPresent()) {
+            long age = headers.firstValueAsLong(HttpHeaders.AGE).orElse(0);
+            return now + 1000 * (maxAge.get() - age);
+        }
+
+        return headers.firstValue(HttpHeaders.EXPIRES)
+                      .flatMap(OutcallResponseCache::parseHttpDate)
+                      .map(expires -> now
+                                      + expires
+                                      - headers.firstValue(HttpHeaders.DATE)
+                                               .flatMap(OutcallResponseCache::parseHttpDate)
+                                               .orElse(now))
+                      .orElse(now);
+    }
+
+    private static Optional<Long> parseHttpDate(String value) {
+        try {
+            return Optional.of(ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)
+                                            .toInstant()
+                                            .toEpochMilli());
+        } catch (DateTimeParseException exception) {
+            Exceptions.ignore(exception);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the number of requests which have been served from the cache without contacting the server.
+     *
+     * @return the number of cache hits since the system was started
+     */
+    public static long getHits() {
+        return hits.getCount();
+    }
+
+    /**
+     * Returns the number of requests which had to be sent to the server as no valid response was cached.
+     *
+     * @return the number of cache misses since the system was started
+     */
+    public static long getMisses() {
+        return misses.getCount();
+    }
+
+    /**
+     * Returns the number of stale responses which have been confirmed by the server via <tt>304 - Not Modified</tt>.
+     *
+     * @return the number of successful revalidations since the system was started
+     */
+    public static long getRevalidations() {
+        return revalidations.getCount();
+    }
+
+    /**
+     * Deletes the bodies left behind by previous runs on startup.
+     */
+    @Register
+    public static class StaleBodyCleanup implements Startable {
+
+        @Override
+        public void started() {
+            deleteStaleBodies();
+        }
+    }
+
+    /**
+     * Provides the hit, miss and revalidation counts of the outcall response cache as metrics.
+     */
+    @Register
+    public static class OutcallResponseCacheMetrics implements MetricProvider {
+
+        @Override
+        public void gather(MetricsCollector collector) {
+            collector.differentialMetric("kernel_outcall_cache_hits",
+                                         "outcall-cache-hits",
+                                         "Outcall Cache Hits",
+                                         hits.getCount(),
+                                         Metric.UNIT_PER_MIN);
+            collector.differentialMetric("kernel_outcall_cache_misses",
+                                         "outcall-cache-misses",
+                                         "Outcall Cache Misses",
+                                         misses.getCount(),
+                                         Metric.UNIT_PER_MIN);
+            collector.differentialMetric("kernel_outcall_cache_revalidations",
+                                         "outcall-cache-revalidations",
+                                         "Outcall Cache Revalidations",
+                                         revalidations.getCount(),
+                                         Metric.UNIT_PER_MIN);
+        }
+    }
+}
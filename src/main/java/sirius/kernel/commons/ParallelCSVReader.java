@@ -0,0 +1,711 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import sirius.kernel.async.CallContext;
+import sirius.kernel.async.Promise;
+import sirius.kernel.async.TaskContext;
+import sirius.kernel.async.Tasks;
+import sirius.kernel.di.std.Part;
+import sirius.kernel.health.Exceptions;
+import sirius.kernel.nls.NLS;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Parses a local CSV file by splitting it into chunks which are processed in parallel.
+ * <p>
+ * This supports the same format and settings as {@link CSVReader}, which is also used to parse each chunk. However,
+ * the file is split into byte ranges of roughly {@link #withChunkSize(int) the chunk size}. To determine a safe
+ * boundary for each range, a lightweight scanner follows the quotation and escaping rules of the reader without
+ * materializing any data. Each range therefore ends exactly where a row ends and can be parsed independently on
+ * the {@link #EXECUTOR_CSV_IMPORT csv-import} executor.
+ * <p>
+ * The boundaries are determined by a separate thread, so that scanning, parsing and delivering rows happens
+ * concurrently.
+ * <p>
+ * By default, rows are delivered in the order of the file and the consumer is invoked by the calling thread. Using
+ * {@link #unordered()} the consumer is directly invoked by the parsing threads as soon as a row is available. In this
+ * case the consumer has to be thread-safe.
+ * <p>
+ * As the file is scanned on byte level, the given charset has to be ASCII compatible (like UTF-8 or ISO-8859-1)
+ * and the separator, quotation and escape characters have to be ASCII characters.
+ * <p>
+ * Just like the {@link CSVReader}, this checks the {@link TaskContext} and stops once the underlying task is
+ * canceled. Also, the throughput (rows per second) is reported as state of the task context.
+ */
+public class ParallelCSVReader {
+
+    /**
+     * Contains the name of the executor used to parse the chunks of a file.
+     */
+    public static final String EXECUTOR_CSV_IMPORT = "csv-import";
+
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    private static final int SCAN_BUFFER_SIZE = 1024 * 1024;
+    private static final Duration AWAIT_INTERVAL = Duration.ofSeconds(1);
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    /**
+     * Marks the end of the queue of chunks to process.
+     */
+    private static final Chunk END_OF_INPUT = new Chunk(0, 0, 0, 0);
+
+    private final FileChannel channel;
+    private char separator = ';';
+    private char quotation = '"';
+    private boolean ignoreWhitespaces = true;
+    private char escape = '\\';
+    private Limit limit = Limit.UNLIMITED;
+    private Charset charset = StandardCharsets.UTF_8;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private String executor = EXECUTOR_CSV_IMPORT;
+    private boolean ordered = true;
+
+    private final AtomicLong rowsDelivered = new AtomicLong();
+    private volatile boolean aborted;
+    private Watch watch;
+
+    @Part
+    private static Tasks tasks;
+
+    /**
+     * Creates a new reader which processes the given file.
+     *
+     * @param file the file to parse
+     * @throws IOException if the file cannot be opened
+     */
+    public ParallelCSVReader(@Nonnull Path file) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    /**
+     * Creates a new reader which processes the contents of the given channel.
+     * <p>
+     * Note that the channel is read using positional reads and will be closed once {@link #execute(Consumer)}
+     * has completed.
+     *
+     * @param channel the channel to read the CSV data from
+     */
+    public ParallelCSVReader(@Nonnull FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Specifies the separator character to use.
+     * <p>
+     * By default this is <tt>;</tt>.
+     *
+     * @param separator the separator to use
+     * @return the reader itself for fluent method calls
+     * @see CSVReader#withSeparator(char)
+     */
+    public ParallelCSVReader withSeparator(char separator) {
+        this.separator = separator;
+        return this;
+    }
+
+    /**
+     * Specifies the quotation character to use.
+     * <p>
+     * By default this is <tt>"</tt>. Use <tt>\0</tt> to disable quotation entirely.
+     *
+     * @param quotation the quotation character to use
+     * @return the reader itself for fluent method calls
+     * @see CSVReader#withQuotation(char)
+     */
+    public ParallelCSVReader withQuotation(char quotation) {
+        this.quotation = quotation;
+        return this;
+    }
+
+    /**
+     * Specifies the escape character to use.
+     * <p>
+     * By default this is <tt>\</tt>. Use <tt>\0</tt> to disable escaping entirely.
+     *
+     * @param escape the escape character to use
+     * @return the reader itself for fluent method calls
+     * @see CSVReader#withEscape(char)
+     */
+    public ParallelCSVReader withEscape(char escape) {
+        this.escape = escape;
+        return this;
+    }
+
+    /**
+     * Disables the flexible whitespace behaviour.
+     *
+     * @return the reader itself for fluent method calls
+     * @see CSVReader#notIgnoringWhitespaces()
+     */
+    public ParallelCSVReader notIgnoringWhitespaces() {
+        this.ignoreWhitespaces = false;
+        return this;
+    }
+
+    /**
+     * Can set a limit to read only a specific range of rows from the file.
+     * <p>
+     * By default all rows are read. Note that the limit is applied to the row numbers within the file, therefore
+     * this also works when using {@link #unordered()}. Chunks which are entirely outside the limit are not even
+     * parsed.
+     *
+     * @param limit the limit to use reading the rows from the file.
+     * @return the reader itself for fluent method calls
+     */
+    public ParallelCSVReader withLimit(Limit limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Specifies the charset used to decode the file.
+     * <p>
+     * By default this is <tt>UTF-8</tt>. Note that only ASCII compatible charsets are supported.
+     *
+     * @param charset the charset of the file
+     * @return the reader itself for fluent method calls
+     */
+    public ParallelCSVReader withCharset(@Nonnull Charset charset) {
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * Specifies the approximate size of the chunks which are parsed in parallel.
+     * <p>
+     * By default this is 1 MB. Note that a chunk always ends at a row boundary and might therefore be a bit
+     * larger. Also note that in ordered mode, all rows of a chunk are kept in memory until they are delivered.
+     *
+     * @param chunkSize the approximate chunk size in bytes
+     * @return the reader itself for fluent method calls
+     */
+    public ParallelCSVReader withChunkSize(int chunkSize) {
+        this.chunkSize = Math.max(1, chunkSize);
+        return this;
+    }
+
+    /**
+     * Specifies the maximal number of chunks being processed at once.
+     * <p>
+     * By default this is the number of available processors. Note that the effective parallelism is also
+     * limited by the pool size of the {@link #withExecutor(String) executor}.
+     *
+     * @param parallelism the maximal number of chunks to parse in parallel
+     * @return the reader itself for fluent method calls
+     */
+    public ParallelCSVReader withParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        return this;
+    }
+
+    /**
+     * Specifies the executor used to parse the chunks.
+     * <p>
+     * By default {@link #EXECUTOR_CSV_IMPORT} is used.
+     *
+     * @param executor the name of the executor to use
+     * @return the reader itself for fluent method calls
+     */
+    public ParallelCSVReader withExecutor(@Nonnull String executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Delivers rows as soon as they are parsed instead of in the order of the file.
+     * <p>
+     * Note that the consumer will be invoked by several threads in parallel and therefore has to be thread-safe.
+     *
+     * @return the reader itself for fluent method calls
+     */
+    public ParallelCSVReader unordered() {
+        this.ordered = false;
+        return this;
+    }
+
+    /**
+     * Parses the file and calls the given consumer for each row.
+     * <p>
+     * Note that this method will close the underlying channel.
+     *
+     * @param consumer the consumer to call for each row
+     * @throws IOException if an IO error occurs while reading the file
+     */
+    public void execute(Consumer<Values> consumer) throws IOException {
+        BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(parallelism);
+        Thread scannerThread = null;
+        try {
+            verifyByteLevelSettings(separator, quotation, escape, charset);
+            TaskContext taskContext = TaskContext.get();
+            watch = Watch.start();
+
+            CallContext scannerContext = CallContext.getCurrent().fork();
+            scannerThread = Thread.startVirtualThread(() -> {
+                CallContext.setCurrent(scannerContext);
+                try {
+                    scanChunks(chunks, consumer);
+                } finally {
+                    CallContext.detach();
+                }
+            });
+
+            Chunk chunk = nextChunk(chunks, taskContext);
+            while (chunk != null) {
+                completeChunk(chunk, consumer);
+                chunk = nextChunk(chunks, taskContext);
+            }
+        } finally {
+            aborted = true;
+            awaitPendingChunks(scannerThread, chunks);
+            channel.close();
+        }
+    }
+
+    /**
+     * Splits the file into chunks and forks a parser for each of them.
+     * <p>
+     * This runs in a separate thread, so that determining the chunk boundaries, parsing the chunks and delivering
+     * the rows happens in parallel. The chunks are put into the given queue in the order of the file. As the queue
+     * is bounded, this also limits the number of chunks being processed at once.
+     */
+    private void scanChunks(BlockingQueue<Chunk> chunks, Consumer<Values> consumer) {
+        try {
+            TaskContext taskContext = TaskContext.get();
+            long skip = limit.getItemsToSkip();
+            long windowEnd = limit.getMaxItems() > 0 ? skip + limit.getMaxItems() : Long.MAX_VALUE;
+
+            RowBoundaryScanner scanner = new RowBoundaryScanner(determineStartOfData());
+            long rowIndex = 0;
+            while (!aborted && taskContext.isActive() && !scanner.isEOF() && rowIndex < windowEnd) {
+                long start = scanner.offset();
+                int rows = scanner.skipRows(start + chunkSize, windowEnd - rowIndex);
+                Chunk chunk = new Chunk(start, scanner.offset(), rowIndex, rows);
+                rowIndex += rows;
+
+                Limit chunkLimit = chunk.computeLimit(skip, windowEnd);
+                if (chunkLimit != null && enqueue(chunks, chunk)) {
+                    fork(chunk, chunkLimit, consumer);
+                }
+            }
+        } catch (Exception exception) {
+            Chunk failedChunk = new Chunk(0, 0, 0, 0);
+            failedChunk.rows.fail(exception);
+            enqueue(chunks, failedChunk);
+        } finally {
+            enqueue(chunks, END_OF_INPUT);
+        }
+    }
+
+    private boolean enqueue(BlockingQueue<Chunk> chunks, Chunk chunk) {
+        try {
+            while (!aborted) {
+                if (chunks.offer(chunk, AWAIT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Exceptions.ignore(exception);
+            Thread.currentThread().interrupt();
+        }
+
+        return false;
+    }
+
+    @Nullable
+    private Chunk nextChunk(BlockingQueue<Chunk> chunks, TaskContext taskContext) {
+        try {
+            while (taskContext.isActive()) {
+                Chunk chunk = chunks.poll(AWAIT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (chunk != null) {
+                    return chunk == END_OF_INPUT ? null : chunk;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Exceptions.ignore(exception);
+            Thread.currentThread().interrupt();
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the number of rows which have been handed to the consumer so far.
+     *
+     * @return the number of rows delivered
+     */
+    public long getRowsDelivered() {
+        return rowsDelivered.get();
+    }
+
+    /**
+     * Ensures that the given settings permit to scan CSV data on byte level.
+     * <p>
+     * This is the case if all special characters are ASCII characters and the charset encodes these as
+     * single bytes, so that they can be detected without decoding the data.
+     *
+     * @param separator the separator character in use
+     * @param quotation the quotation character in use
+     * @param escape    the escape character in use
+     * @param charset   the charset of the data
+     * @throws IllegalArgumentException if the data cannot be scanned on byte level using the given settings
+     */
+    static void verifyByteLevelSettings(char separator, char quotation, char escape, Charset charset) {
+        if (separator > 127 || quotation > 127 || escape > 127) {
+            throw new IllegalArgumentException(
+                    "The separator, quotation and escape characters have to be ASCII characters.");
+        }
+        String specialCharacters = "\r\n\t " + separator + quotation + escape;
+        if (!specialCharacters.equals(new String(specialCharacters.getBytes(charset), StandardCharsets.ISO_8859_1))) {
+            throw new IllegalArgumentException(Strings.apply("The charset %s is not ASCII compatible.", charset));
+        }
+    }
+
+    private long determineStartOfData() throws IOException {
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            return 0;
+        }
+
+        ByteBuffer bom = ByteBuffer.allocate(UTF8_BOM.length);
+        while (bom.hasRemaining() && channel.read(bom, bom.position()) >= 0) {
+            // Keep on reading until the buffer is full or the file ends...
+        }
+        return bom.hasRemaining() || !Arrays.equals(bom.array(), UTF8_BOM) ? 0 : UTF8_BOM.length;
+    }
+
+    private void fork(Chunk chunk, Limit chunkLimit, Consumer<Values> consumer) {
+        if (aborted) {
+            // The chunk has already been put into the queue and therefore has to be completed in any case...
+            chunk.rows.success(Collections.emptyList());
+            return;
+        }
+
+        tasks.executor(executor).fork(() -> {
+            try {
+                chunk.rows.success(parseChunk(chunk, chunkLimit, consumer));
+            } catch (Exception exception) {
+                chunk.rows.fail(exception);
+            }
+        });
+    }
+
+    private List<Values> parseChunk(Chunk chunk, Limit chunkLimit, Consumer<Values> consumer) throws IOException {
+        List<Values> rows = ordered ? new ArrayList<>(chunk.numberOfRows) : Collections.emptyList();
+        createChunkReader(chunk).withLimit(chunkLimit).execute(row -> {
+            if (ordered) {
+                rows.add(row);
+            } else {
+                consumer.accept(row);
+                rowsDelivered.incrementAndGet();
+            }
+        });
+
+        return rows;
+    }
+
+    private CSVReader createChunkReader(Chunk chunk) throws IOException {
+        long length = chunk.end - chunk.start;
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IOException(Strings.apply("The rows between byte %s and %s are too large to be processed.",
+                                                chunk.start,
+                                                chunk.end));
+        }
+
+        ByteBuffer data = ByteBuffer.allocate((int) length);
+        while (data.hasRemaining() && channel.read(data, chunk.start + data.position()) >= 0) {
+            // Keep on reading until the chunk is complete...
+        }
+
+        CSVReader reader = new CSVReader(new InputStreamReader(new ByteArrayInputStream(data.array(),
+                                                                                        0,
+                                                                                        data.position()), charset));
+        reader.withSeparator(separator).withQuotation(quotation).withEscape(escape);
+        if (!ignoreWhitespaces) {
+            reader.notIgnoringWhitespaces();
+        }
+
+        return reader;
+    }
+
+    private void completeChunk(Chunk chunk, Consumer<Values> consumer) throws IOException {
+        List<Values> rows = awaitRows(chunk);
+        if (ordered) {
+            TaskContext taskContext = TaskContext.get();
+            for (Values row : rows) {
+                if (!taskContext.isActive()) {
+                    return;
+                }
+                consumer.accept(row);
+                rowsDelivered.incrementAndGet();
+            }
+        }
+
+        reportThroughput();
+    }
+
+    private List<Values> awaitRows(Chunk chunk) throws IOException {
+        while (!chunk.rows.await(AWAIT_INTERVAL)) {
+            // Keep on waiting, as the chunk will be completed in any case (even if the task is canceled)...
+        }
+
+        if (chunk.rows.isFailed()) {
+            if (chunk.rows.getFailure() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (chunk.rows.getFailure() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(chunk.rows.getFailure());
+        }
+
+        return chunk.rows.get();
+    }
+
+    /**
+     * Waits until the scanner and all parsers are done, so that we can safely close the channel.
+     */
+    private void awaitPendingChunks(@Nullable Thread scannerThread, BlockingQueue<Chunk> chunks) {
+        try {
+            if (scannerThread != null) {
+                scannerThread.join();
+            }
+        } catch (InterruptedException exception) {
+            Exceptions.ignore(exception);
+            Thread.currentThread().interrupt();
+        }
+
+        for (Chunk chunk : chunks) {
+            while (!chunk.rows.await(AWAIT_INTERVAL)) {
+                // Keep on waiting, as the chunk will be completed in any case...
+            }
+        }
+    }
+
+    private void reportThroughput() {
+        long rows = rowsDelivered.get();
+        long millis = Math.max(1, watch.elapsedMillis());
+        TaskContext.get()
+                   .tryUpdateState("Parsed %s rows (%s rows/s)",
+                                   NLS.toUserString(rows),
+                                   NLS.toUserString(rows * 1000 / millis));
+    }
+
+    /**
+     * Describes a range of the file which contains complete rows only.
+     */
+    private static class Chunk {
+        private final long start;
+        private final long end;
+        private final long firstRow;
+        private final int numberOfRows;
+        private final Promise<List<Values>> rows = new Promise<List<Values>>().doNotLogErrors();
+
+        Chunk(long start, long end, long firstRow, int numberOfRows) {
+            this.start = start;
+            this.end = end;
+            this.firstRow = firstRow;
+            this.numberOfRows = numberOfRows;
+        }
+
+        /**
+         * Translates the window of rows to deliver into a limit which is applicable to the rows of this chunk.
+         *
+         * @param skip      the number of rows to skip within the file
+         * @param windowEnd the index of the first row in the file which is no longer delivered
+         * @return the limit to apply to the rows of this chunk or <tt>null</tt> if no row of this chunk is delivered
+         */
+        private Limit computeLimit(long skip, long windowEnd) {
+            long firstAcceptedRow = Math.max(firstRow, skip);
+            long lastAcceptedRow = Math.min(firstRow + numberOfRows, windowEnd);
+            if (lastAcceptedRow <= firstAcceptedRow) {
+                return null;
+            }
+
+            return new Limit((int) (firstAcceptedRow - firstRow), (int) (lastAcceptedRow - firstAcceptedRow));
+        }
+    }
+
+    /**
+     * Follows the grammar of the {@link CSVReader} on byte level to determine where rows start and end.
+     * <p>
+     * The control flow mirrors the one of the reader exactly, as any deviation would lead to chunks which do not
+     * start at the beginning of a row. Just like the reader, runs of characters which cannot end a field are
+     * skipped in bulk.
+     */
+    private class RowBoundaryScanner {
+
+        private final byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+        private long bufferStart;
+        private int bufferLength;
+        private int position;
+        private int current;
+
+        RowBoundaryScanner(long start) throws IOException {
+            fillBuffer(start);
+        }
+
+        /**
+         * Returns the offset of the current byte within the file.
+         *
+         * @return the offset of the current byte, which is the start of a row between two calls of
+         * {@link #skipRows(long, long)}
+         */
+        long offset() {
+            return bufferStart + position;
+        }
+
+        /**
+         * Skips complete rows until the given offset is reached.
+         *
+         * @param targetOffset the offset after which the next row boundary is used as end of the chunk
+         * @param maxRows      the maximal number of rows to skip
+         * @return the number of rows which have been skipped
+         */
+        int skipRows(long targetOffset, long maxRows) throws IOException {
+            int rows = 0;
+            while (!isEOF() && offset() < targetOffset && rows < maxRows && rows < Integer.MAX_VALUE) {
+                skipRow();
+                rows++;
+            }
+
+            return rows;
+        }
+
+        private void skipRow() throws IOException {
+            while (!isEOF() && !isAtNewline()) {
+                skipField();
+                if (current == separator) {
+                    read();
+                }
+            }
+
+            if (current == '\r') {
+                read();
+            }
+            if (current == '\n') {
+                read();
+            }
+        }
+
+        private void skipField() throws IOException {
+            if (ignoreWhitespaces) {
+                while (current == ' ' || current == '\t') {
+                    read();
+                }
+            }
+
+            boolean inQuote = false;
+            if (current == quotation) {
+                inQuote = true;
+                read();
+            }
+
+            while (shouldContinueField(inQuote)) {
+                if (current == escape) {
+                    read();
+                } else {
+                    skipPlainBytes(inQuote);
+                }
+                read();
+            }
+
+            if (inQuote) {
+                while (current == ' ' || current == '\t') {
+                    read();
+                }
+            }
+        }
+
+        private void skipPlainBytes(boolean inQuote) {
+            int next = position + 1;
+            if (inQuote) {
+                while (next < bufferLength && buffer[next] != quotation && buffer[next] != escape) {
+                    next++;
+                }
+            } else {
+                while (next < bufferLength && isPlainByte(buffer[next])) {
+                    next++;
+                }
+            }
+            position = next - 1;
+        }
+
+        private boolean isPlainByte(byte value) {
+            return value != separator && value != '\n' && value != '\r' && value != escape;
+        }
+
+        private boolean shouldContinueField(boolean inQuote) throws IOException {
+            if (isEOF()) {
+                return false;
+            }
+
+            if (inQuote) {
+                if (current == quotation) {
+                    read();
+                    return current == quotation;
+                }
+                return true;
+            } else {
+                return current != separator && !isAtNewline();
+            }
+        }
+
+        private boolean isAtNewline() {
+            return current == '\r' || current == '\n';
+        }
+
+        private boolean isEOF() {
+            return current == -1;
+        }
+
+        private void read() throws IOException {
+            if (bufferLength == 0) {
+                return;
+            }
+            if (++position < bufferLength) {
+                current = buffer[position] & 0xFF;
+            } else {
+                fillBuffer(bufferStart + bufferLength);
+            }
+        }
+
+        private void fillBuffer(long start) throws IOException {
+            bufferStart = start;
+            position = 0;
+            ByteBuffer wrapper = ByteBuffer.wrap(buffer);
+            while (wrapper.hasRemaining() && channel.read(wrapper, bufferStart + wrapper.position()) >= 0) {
+                // Keep on reading until the buffer is full or the file ends...
+            }
+            bufferLength = wrapper.position();
+            current = bufferLength > 0 ? buffer[0] & 0xFF : -1;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import sirius.kernel.di.std.Register;
+import sirius.kernel.health.Counter;
+import sirius.kernel.health.metrics.Metric;
+import sirius.kernel.health.metrics.MetricProvider;
+import sirius.kernel.health.metrics.MetricsCollector;
+
+import javax.annotation.Nonnull;
+import java.util.regex.Pattern;
+
+/**
+ * Provides a bounded cache of compiled regular expressions.
+ * <p>
+ * Methods like {@link String#replaceAll(String, String)} compile the given regular expression on each call. When
+ * applying user-supplied expressions to a large number of values (e.g. while importing data), this quickly becomes
+ * the dominating cost. Therefore, {@link #compile(String)} keeps the most recently used patterns around so that each
+ * expression is only compiled once.
+ * <p>
+ * Note that code which uses a constant expression should still keep the compiled pattern in a
+ * <tt>static final</tt> field, as this is even faster than looking it up in the cache.
+ */
+public class Patterns {
+
+    /**
+     * Contains the maximal number of patterns to keep.
+     */
+    private static final int MAX_CACHED_PATTERNS = 1024;
+
+    private static final Cache<PatternKey, Pattern> cache =
+            Caffeine.newBuilder().maximumSize(MAX_CACHED_PATTERNS).build();
+    private static final Counter hits = new Counter();
+    private static final Counter misses = new Counter();
+
+    private record PatternKey(String regex, int flags) {
+    }
+
+    private Patterns() {
+    }
+
+    /**
+     * Returns the compiled pattern for the given regular expression.
+     *
+     * @param regex the regular expression to compile
+     * @return the compiled pattern, which is either fetched from the cache or compiled and then put into the cache
+     * @throws java.util.regex.PatternSyntaxException if the given expression is invalid
+     */
+    @Nonnull
+    public static Pattern compile(@Nonnull String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * Returns the compiled pattern for the given regular expression and flags.
+     *
+     * @param regex the regular expression to compile
+     * @param flags the flags to compile the pattern with as expected by {@link Pattern#compile(String, int)}
+     * @return the compiled pattern, which is either fetched from the cache or compiled and then put into the cache
+     * @throws java.util.regex.PatternSyntaxException if the given expression is invalid
+     */
+    @Nonnull
+    public static Pattern compile(@Nonnull String regex, int flags) {
+        PatternKey key = new PatternKey(regex, flags);
+        Pattern result = cache.getIfPresent(key);
+        if (result != null) {
+            hits.inc();
+            return result;
+        }
+
+        misses.inc();
+        return cache.get(key, ignored -> Pattern.compile(regex, flags));
+    }
+
+    /**
+     * Returns the number of lookups which were served by the cache.
+     *
+     * @return the number of cache hits since the system was started
+     */
+    public static long getHits() {
+        return hits.getCount();
+    }
+
+    /**
+     * Returns the number of lookups which required to compile a pattern.
+     *
+     * @return the number of cache misses since the system was started
+     */
+    public static long getMisses() {
+        return misses.getCount();
+    }
+
+    /**
+     * Returns the number of patterns currently in the cache.
+     *
+     * @return the (estimated) number of cached patterns
+     */
+    public static long getSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Provides the hit and miss counts of the pattern cache as metrics.
+     */
+    @Register
+    public static class PatternCacheMetrics implements MetricProvider {
+
+        @Override
+        public void gather(MetricsCollector collector) {
+            collector.differentialMetric("kernel_pattern_cache_hits",
+                                         "pattern-cache-hits",
+                                         "Regex Cache Hits",
+                                         hits.getCount(),
+                                         Metric.UNIT_PER_MIN);
+            collector.differentialMetric("kernel_pattern_cache_misses",
+                                         "pattern-cache-misses",
+                                         "Regex Cache Misses",
+                                         misses.getCount(),
+                                         Metric.UNIT_PER_MIN);
+        }
+    }
+}
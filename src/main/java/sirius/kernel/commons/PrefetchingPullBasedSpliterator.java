@@ -0,0 +1,304 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import sirius.kernel.async.TaskContext;
+import sirius.kernel.async.Tasks;
+import sirius.kernel.di.std.Part;
+import sirius.kernel.health.Exceptions;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Provides a {@link PullBasedSpliterator} which fetches the upcoming blocks in the background.
+ * <p>
+ * When processing data which is loaded page by page (e.g. via a database or API cursor), the consuming thread
+ * idles while waiting for the next page. This spliterator therefore invokes {@link #pullNextBlock()} on the
+ * {@link #EXECUTOR_PREFETCH prefetch} executor and keeps up to the given number of blocks ready while the current
+ * one is being processed. Note that {@link #pullNextBlock()} is still invoked by one thread at a time and in the
+ * order of the blocks, so that the underlying cursor doesn't need to be thread-safe.
+ * <p>
+ * As the blocks are materialized anyway, this also supports parallel streams: {@link #trySplit()} hands out the
+ * remaining elements of the current block or the next block which has been fetched. The part being split off is
+ * always a prefix of the remaining elements, so that this also works for spliterators which report
+ * {@link Spliterator#ORDERED}. Note however, that implementations must not report {@link Spliterator#SIZED}, as the
+ * total number of elements is unknown until the last block has been fetched.
+ * <p>
+ * Prefetching stops once the {@link TaskContext} of the thread which created the spliterator is no longer active.
+ * In this case, the stream ends after the current block.
+ *
+ * @param <T> the type of objects being processed
+ */
+public abstract class PrefetchingPullBasedSpliterator<T> extends PullBasedSpliterator<T> {
+
+    /**
+     * Contains the name of the executor used to fetch the blocks in the background.
+     */
+    public static final String EXECUTOR_PREFETCH = "prefetch";
+
+    private static final int DEFAULT_NUMBER_OF_PREFETCHED_BLOCKS = 2;
+    private static final Duration AWAIT_INTERVAL = Duration.ofSeconds(1);
+
+    @Part
+    private static Tasks tasks;
+
+    private final int numberOfPrefetchedBlocks;
+    private final String executor;
+    private final TaskContext taskContext;
+
+    private List<T> currentBlock = Collections.emptyList();
+    private int currentIndex;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition blockAvailable = lock.newCondition();
+    private final Deque<List<T>> fetchedBlocks = new ArrayDeque<>();
+    private long numberOfFetchedElements;
+    private boolean fetching;
+    private boolean exhausted;
+    private RuntimeException failure;
+
+    /**
+     * Creates a new spliterator which keeps two blocks ready and uses the {@link #EXECUTOR_PREFETCH prefetch}
+     * executor.
+     */
+    protected PrefetchingPullBasedSpliterator() {
+        this(DEFAULT_NUMBER_OF_PREFETCHED_BLOCKS, EXECUTOR_PREFETCH);
+    }
+
+    /**
+     * Creates a new spliterator which keeps the given number of blocks ready.
+     *
+     * @param numberOfPrefetchedBlocks the maximal number of blocks to fetch in advance
+     * @param executor                 the name of the executor used to fetch the blocks
+     */
+    protected PrefetchingPullBasedSpliterator(int numberOfPrefetchedBlocks, String executor) {
+        if (numberOfPrefetchedBlocks < 1) {
+            throw new IllegalArgumentException("numberOfPrefetchedBlocks must be at least 1");
+        }
+        this.numberOfPrefetchedBlocks = numberOfPrefetchedBlocks;
+        this.executor = executor;
+        this.taskContext = TaskContext.get();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (!endReached) {
+            if (currentIndex < currentBlock.size()) {
+                action.accept(currentBlock.get(currentIndex++));
+                return true;
+            }
+
+            List<T> block = awaitNextBlock();
+            if (block == null) {
+                endReached = true;
+            } else {
+                currentBlock = block;
+                currentIndex = 0;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (endReached) {
+            return null;
+        }
+
+        List<T> block;
+        if (currentIndex < currentBlock.size()) {
+            block = currentBlock.subList(currentIndex, currentBlock.size());
+        } else {
+            block = awaitNextBlock();
+            if (block == null) {
+                endReached = true;
+                return null;
+            }
+        }
+        currentBlock = Collections.emptyList();
+        currentIndex = 0;
+
+        return Spliterators.spliterator(block, characteristics() | Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    /**
+     * Estimates the number of remaining elements.
+     *
+     * @return the exact number of remaining elements once all blocks have been fetched or {@link Long#MAX_VALUE}
+     * as long as the size of the upcoming blocks is unknown
+     */
+    @Override
+    public long estimateSize() {
+        if (endReached) {
+            return 0;
+        }
+
+        lock.lock();
+        try {
+            if (!exhausted && failure == null) {
+                return Long.MAX_VALUE;
+            }
+
+            return numberOfFetchedElements + currentBlock.size() - currentIndex;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next fetched block, waiting for it to be fetched if necessary.
+     *
+     * @return the next block or <tt>null</tt> if the end has been reached or the task context is no longer active
+     */
+    @Nullable
+    private List<T> awaitNextBlock() {
+        fetchInBackground();
+
+        List<T> block = null;
+        lock.lock();
+        try {
+            while (fetchedBlocks.isEmpty() && failure == null && !exhausted && taskContext.isActive()) {
+                blockAvailable.await(AWAIT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (taskContext.isActive()) {
+                block = fetchedBlocks.poll();
+            }
+            if (block != null) {
+                numberOfFetchedElements -= block.size();
+            }
+        } catch (InterruptedException exception) {
+            Exceptions.ignore(exception);
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+
+        // As a block has been taken, there is room for another one...
+        if (block != null) {
+            fetchInBackground();
+        }
+
+        return block;
+    }
+
+    /**
+     * Starts to fetch blocks in the background unless this is already in progress or not necessary.
+     */
+    private void fetchInBackground() {
+        lock.lock();
+        try {
+            if (fetching || !shouldFetch()) {
+                return;
+            }
+            fetching = true;
+        } finally {
+            lock.unlock();
+        }
+
+        tasks.executor(executor).fork(this::fetchBlocks);
+    }
+
+    private boolean shouldFetch() {
+        return !exhausted
+               && failure == null
+               && fetchedBlocks.size() < numberOfPrefetchedBlocks
+               && taskContext.isActive();
+    }
+
+    /**
+     * Fetches blocks until enough blocks are available or the end has been reached.
+     * <p>
+     * If fetching a block fails, the error is recorded so that the consumer rethrows it. Checked exceptions and
+     * errors are wrapped into an {@link IllegalStateException}. In any case, the waiting consumer is woken up, as it
+     * would otherwise wait for a block which never arrives.
+     */
+    private void fetchBlocks() {
+        boolean completed = false;
+        RuntimeException error = null;
+        try {
+            while (shouldContinueFetching()) {
+                fetchBlock();
+            }
+            completed = true;
+        } catch (RuntimeException exception) {
+            error = exception;
+        } catch (Throwable throwable) {
+            error = new IllegalStateException("Failed to fetch the next block", throwable);
+        } finally {
+            // If fetching stopped regularly, shouldContinueFetching has already reset the flag (and another fetch
+            // might already be running). Otherwise, we have to reset it and wake up the consumer ourselves...
+            if (!completed) {
+                abortFetching(error);
+            }
+        }
+    }
+
+    private void fetchBlock() {
+        List<T> block = new ArrayList<>();
+        Iterator<T> blockIterator = pullNextBlock();
+        if (blockIterator != null) {
+            blockIterator.forEachRemaining(block::add);
+        }
+
+        lock.lock();
+        try {
+            if (block.isEmpty()) {
+                exhausted = true;
+            } else {
+                fetchedBlocks.add(block);
+                numberOfFetchedElements += block.size();
+            }
+            blockAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void abortFetching(@Nullable RuntimeException error) {
+        lock.lock();
+        try {
+            failure = error;
+            fetching = false;
+            blockAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean shouldContinueFetching() {
+        lock.lock();
+        try {
+            if (shouldFetch()) {
+                return true;
+            }
+
+            fetching = false;
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
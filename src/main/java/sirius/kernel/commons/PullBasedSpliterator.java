@@ -20,6 +20,9 @@ import java.util.function.Consumer;
  * {@link java.util.stream.Stream}.
  * <p>
  * Converting this into a stream is as simple as: {@code StreamSupport.stream(new MyPullBasedSpliterator(..), false)}.
+ * <p>
+ * Use {@link PrefetchingPullBasedSpliterator} to fetch the upcoming blocks in the background and to support
+ * parallel streams.
  *
  * @param <T> the type of objects being processed
  */
@@ -61,8 +64,13 @@ public abstract class PullBasedSpliterator<T> implements Spliterator<T> {
         return null;
     }
 
+    /**
+     * Estimates the number of remaining elements.
+     *
+     * @return {@link Long#MAX_VALUE} as the number of elements in the upcoming blocks is unknown
+     */
     @Override
     public long estimateSize() {
-        return 0;
+        return Long.MAX_VALUE;
     }
 }
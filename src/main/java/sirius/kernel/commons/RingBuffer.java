@@ -0,0 +1,169 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Provides a bounded FIFO queue which can be used by many producers and consumers concurrently without any locking.
+ * <p>
+ * Each slot of the underlying array carries a sequence number which tells producers and consumers whether the slot
+ * is ready to be written or read for a given position. Therefore, both sides only compete for their position using
+ * a single compare-and-set operation. As the capacity is always rounded up to a power of two, positions can be
+ * mapped to slots using a simple bit mask.
+ * <p>
+ * In contrast to a {@link java.util.concurrent.BlockingQueue}, {@link #offer(Object)} and {@link #poll()} never block
+ * but report a full or empty buffer respectively. It is up to the caller to decide how to handle these situations.
+ *
+ * @param <E> the type of elements stored in the buffer
+ */
+public class RingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Creates a new buffer which holds at least the given number of elements.
+     *
+     * @param minCapacity the minimal number of elements to store. This is rounded up to the next power of two.
+     */
+    public RingBuffer(int minCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, minCapacity) - 1) << 1;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(Strings.apply("Invalid capacity: %s", minCapacity));
+        }
+
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Tries to append the given element.
+     *
+     * @param element the element to append
+     * @return <tt>true</tt> if the element was added, <tt>false</tt> if the buffer is full
+     */
+    public boolean offer(@Nonnull E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the oldest element.
+     *
+     * @return the oldest element or <tt>null</tt> if the buffer is empty
+     */
+    @Nullable
+    public E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.getAndSet(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Removes up to the given number of elements and hands them to the given consumer.
+     *
+     * @param maxElements the maximal number of elements to remove
+     * @param consumer    the consumer to supply with the removed elements
+     * @return the number of elements which have been removed
+     */
+    public int drain(int maxElements, Consumer<? super E> consumer) {
+        int count = 0;
+        while (count < maxElements) {
+            E element = poll();
+            if (element == null) {
+                return count;
+            }
+            consumer.accept(element);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of elements which can be stored.
+     *
+     * @return the capacity of the buffer
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of elements currently in the buffer.
+     * <p>
+     * As other threads might be modifying the buffer concurrently, this is only an estimate.
+     *
+     * @return the approximate number of elements in the buffer
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * Determines if the buffer is currently empty.
+     *
+     * @return <tt>true</tt> if there are no elements in the buffer, <tt>false</tt> otherwise
+     */
+    public boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    /**
+     * Returns the total number of elements which have ever been added to the buffer.
+     *
+     * @return the number of elements offered successfully
+     */
+    public long getNumberOfElementsAdded() {
+        return tail.get();
+    }
+}
@@ -15,8 +15,6 @@ import javax.annotation.Nullable;
 import java.text.CharacterIterator;
 import java.text.StringCharacterIterator;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -183,7 +181,21 @@ public class StringCleanup {
                                                                       TAG_LI);
 
     private static final Pattern PATTERN_STRIP_XML = Pattern.compile("\\s*" + Strings.REGEX_DETECT_XML_TAGS + "\\s*");
-    private static final Map<Integer, String> unicodeMapping = new TreeMap<>();
+
+    private static final int LATIN_MAPPING_OFFSET = 0x00C0;
+    private static final int LIGATURE_MAPPING_OFFSET = 0xFB00;
+
+    /**
+     * Contains the replacements of {@link #reduceCharacters(String)} for the Latin-1 supplement and Latin Extended-A
+     * blocks, starting at {@link #LATIN_MAPPING_OFFSET}.
+     */
+    private static final String[] latinMapping = new String[0x0180 - LATIN_MAPPING_OFFSET];
+
+    /**
+     * Contains the replacements of {@link #reduceCharacters(String)} for the latin ligatures of the alphabetic
+     * presentation forms block, starting at {@link #LIGATURE_MAPPING_OFFSET}.
+     */
+    private static final String[] ligatureMapping = new String[0x10];
 
     static {
         translateRange(0x00C0, "A", "A", "A", "A", "AE", "A", "AE", "C", "E", "E", "E", "E", "I", "I", "I", "I");
@@ -215,14 +227,9 @@ public class StringCleanup {
     }
 
     private static void translateRange(int offset, String... replacements) {
-        int index = offset;
-        for (String replacement : replacements) {
-            if (replacement != null) {
-                unicodeMapping.put(index, replacement);
-            }
-
-            index++;
-        }
+        String[] mapping = offset >= LIGATURE_MAPPING_OFFSET ? ligatureMapping : latinMapping;
+        int mappingOffset = offset >= LIGATURE_MAPPING_OFFSET ? LIGATURE_MAPPING_OFFSET : LATIN_MAPPING_OFFSET;
+        System.arraycopy(replacements, 0, mapping, offset - mappingOffset, replacements.length);
     }
 
     /**
@@ -424,6 +431,33 @@ public class StringCleanup {
         return PATTERN_WHITESPACES.matcher(input).replaceAll(" ");
     }
 
+    /**
+     * Creates a replacement function which replaces all matches of the given regular expression.
+     * <p>
+     * The expression is compiled (or fetched from {@link Patterns}) once when creating the function, so that it can
+     * be applied to many inputs without any further overhead.
+     *
+     * @param regEx       the regular expression to replace
+     * @param replacement the replacement to use as expected by {@link java.util.regex.Matcher#replaceAll(String)}
+     * @return a function which replaces all matches of the expression by the replacement
+     */
+    @Nonnull
+    public static UnaryOperator<String> replaceRegExWith(@Nonnull String regEx, @Nonnull String replacement) {
+        return replaceRegExWith(Patterns.compile(regEx), replacement);
+    }
+
+    /**
+     * Creates a replacement function which replaces all matches of the given compiled regular expression.
+     *
+     * @param regEx       the compiled regular expression to replace
+     * @param replacement the replacement to use as expected by {@link java.util.regex.Matcher#replaceAll(String)}
+     * @return a function which replaces all matches of the expression by the replacement
+     */
+    @Nonnull
+    public static UnaryOperator<String> replaceRegExWith(@Nonnull Pattern regEx, @Nonnull String replacement) {
+        return input -> regEx.matcher(input).replaceAll(replacement);
+    }
+
     /**
      * Trims the given string.
      * <p>
@@ -587,6 +621,8 @@ public class StringCleanup {
 
     /**
      * Removes all umlauts and other decorated latin characters.
+     * <p>
+     * If the given term doesn't contain any character to replace, it is returned as is.
      *
      * @param term the term to reduce characters in
      * @return the term with all decorated latin characters replaced
@@ -596,23 +632,50 @@ public class StringCleanup {
             return term;
         }
 
-        StringBuilder result = null;
+        // Skip all characters which remain as they are (in most cases, this is the whole term)...
+        int length = term.length();
+        int index = 0;
+        while (index < length && reduceCharacter(term.charAt(index)) == null) {
+            index++;
+        }
+        if (index == length) {
+            return term;
+        }
 
-        for (int i = 0; i < term.length(); ++i) {
-            String replacement = unicodeMapping.get(term.codePointAt(i));
+        StringBuilder result = new StringBuilder(length + 8).append(term, 0, index);
+        while (index < length) {
+            int codePoint = term.codePointAt(index);
+            String replacement = reduceCharacter(codePoint);
             if (replacement == null) {
-                if (result != null) {
-                    result.append(term.charAt(i));
-                }
+                result.appendCodePoint(codePoint);
             } else {
-                if (result == null) {
-                    result = new StringBuilder().append(term, 0, i);
-                }
                 result.append(replacement);
             }
+            index += Character.charCount(codePoint);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Determines the replacement of the given code point as performed by {@link #reduceCharacters(String)}.
+     *
+     * @param codePoint the code point to reduce
+     * @return the replacement for the given code point or <tt>null</tt> if it is kept as is
+     */
+    @Nullable
+    static String reduceCharacter(int codePoint) {
+        if (codePoint < LATIN_MAPPING_OFFSET) {
+            return null;
+        }
+        if (codePoint < LATIN_MAPPING_OFFSET + latinMapping.length) {
+            return latinMapping[codePoint - LATIN_MAPPING_OFFSET];
+        }
+        if (codePoint >= LIGATURE_MAPPING_OFFSET && codePoint < LIGATURE_MAPPING_OFFSET + ligatureMapping.length) {
+            return ligatureMapping[codePoint - LIGATURE_MAPPING_OFFSET];
         }
 
-        return result == null ? term : result.toString();
+        return null;
     }
 
     /**
@@ -715,8 +715,10 @@ public class Strings {
      * <p>
      * To replace all occurrences of {@code #{X}} by {@code NLS.get("X")} one could use:
      * <code>
-     * Strings.replaceAll(Pattern.compile("#\\{([^\\}]+)\\}"}, someText, NLS::get)
+     * Strings.replaceAll("#\\{([^\\}]+)\\}", someText, NLS::get)
      * </code>
+     * <p>
+     * The compiled expression is cached via {@link Patterns#compile(String)}.
      *
      * @param regEx       the regular expression to replace in the given input
      * @param input       the input to scan
@@ -725,6 +727,27 @@ public class Strings {
      * @return the input string where are occurrences of the given regular expression have been replaced by the result
      * of the replacement function.
      */
+    public static String replaceAll(String regEx, String input, UnaryOperator<String> replacement) {
+        if (isEmpty(input)) {
+            return input;
+        }
+        return replaceAll(Patterns.compile(regEx), input, replacement);
+    }
+
+    /**
+     * Replaces all occurrences of the given compiled regular expression by the result of the given replacement
+     * function.
+     * <p>
+     * The regular expression is expected to have one explicit matching group which will be used as input for
+     * the replacement function.
+     *
+     * @param regEx       the compiled regular expression to replace in the given input
+     * @param input       the input to scan
+     * @param replacement the replacement function which transforms the first group of the match into the string used
+     *                    as replacement for the whole match.
+     * @return the input string where are occurrences of the given regular expression have been replaced by the result
+     * of the replacement function.
+     */
     public static String replaceAll(Pattern regEx, String input, UnaryOperator<String> replacement) {
         if (isEmpty(input)) {
             return input;
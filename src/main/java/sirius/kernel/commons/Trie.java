@@ -9,6 +9,7 @@
 package sirius.kernel.commons;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 /**
@@ -33,6 +34,11 @@ public class Trie<V> extends BaseTrie<V> {
         return string.chars();
     }
 
+    @Override
+    protected Function<CharSequence, IntStream> splitter() {
+        return CharSequence::chars;
+    }
+
     @Override
     protected String assembleString(List<Integer> keys) {
         StringBuilder builder = new StringBuilder();
@@ -0,0 +1,213 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import sirius.kernel.health.Exceptions;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connects a producer which writes a request body with the {@link java.net.http.HttpClient} which reads it.
+ * <p>
+ * In contrast to {@link java.io.PipedInputStream}, the data is handed over in chunks and at most
+ * {@link #MAX_BUFFERED_CHUNKS} are buffered, so that the producer is throttled to the speed of the upload. Also, a
+ * failing producer is reported to the reading side rather than just ending the stream, so that no truncated body is
+ * sent. Both sides abort once the pipe has been {@link #close() closed}.
+ */
+class UploadPipe {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_BUFFERED_CHUNKS = 4;
+    private static final byte[] END_OF_STREAM = new byte[0];
+    private static final long POLL_INTERVAL_MILLIS = 1000;
+
+    private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(MAX_BUFFERED_CHUNKS);
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    private final OutputStream output = new OutputStream() {
+        private byte[] buffer = new byte[CHUNK_SIZE];
+        private int length;
+        private boolean completed;
+
+        @Override
+        public void write(int data) throws IOException {
+            if (length == buffer.length) {
+                flushBuffer();
+            }
+            buffer[length++] = (byte) data;
+        }
+
+        @Override
+        public void write(@Nonnull byte[] data, int offset, int dataLength) throws IOException {
+            while (dataLength > 0) {
+                if (length == buffer.length) {
+                    flushBuffer();
+                }
+                int bytesToCopy = Math.min(dataLength, buffer.length - length);
+                System.arraycopy(data, offset, buffer, length, bytesToCopy);
+                length += bytesToCopy;
+                offset += bytesToCopy;
+                dataLength -= bytesToCopy;
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            if (completed) {
+                throw new IOException("The stream has already been closed.");
+            }
+            if (length > 0) {
+                put(length == buffer.length ? buffer : Arrays.copyOf(buffer, length));
+                buffer = new byte[CHUNK_SIZE];
+                length = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!completed) {
+                flushBuffer();
+                completed = true;
+                put(END_OF_STREAM);
+            }
+        }
+    };
+
+    private final InputStream input = new InputStream() {
+        private byte[] chunk = new byte[0];
+        private int position;
+
+        @Override
+        public int read() throws IOException {
+            if (!fetchChunk()) {
+                return -1;
+            }
+            return chunk[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(@Nonnull byte[] data, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fetchChunk()) {
+                return -1;
+            }
+            int bytesToCopy = Math.min(length, chunk.length - position);
+            System.arraycopy(chunk, position, data, offset, bytesToCopy);
+            position += bytesToCopy;
+            return bytesToCopy;
+        }
+
+        private boolean fetchChunk() throws IOException {
+            while (position == chunk.length) {
+                if (chunk == END_OF_STREAM) {
+                    return false;
+                }
+                chunk = take();
+                position = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public void close() {
+            UploadPipe.this.close();
+        }
+    };
+
+    /**
+     * Returns the stream into which the producer writes the body.
+     * <p>
+     * The stream must be closed once the body has been written completely.
+     *
+     * @return the writing side of the pipe
+     */
+    OutputStream getOutput() {
+        return output;
+    }
+
+    /**
+     * Returns the stream from which the body is read.
+     *
+     * @return the reading side of the pipe
+     */
+    InputStream getInput() {
+        return input;
+    }
+
+    /**
+     * Signals that the producer failed, so that the reading side aborts with the given exception.
+     * <p>
+     * Note that the output must not be closed in this case, as the reading side would otherwise consider the body
+     * as complete.
+     *
+     * @param exception the exception which occurred while producing the body
+     */
+    void fail(Exception exception) {
+        failure = exception instanceof IOException ioException ?
+                  ioException :
+                  new IOException("Failed to produce the request body: " + exception.getMessage(), exception);
+        try {
+            put(END_OF_STREAM);
+        } catch (IOException closedException) {
+            // The reading side is already gone...
+            Exceptions.ignore(closedException);
+        }
+    }
+
+    /**
+     * Aborts both sides of the pipe and discards all buffered data.
+     */
+    void close() {
+        closed = true;
+        chunks.clear();
+    }
+
+    private void put(byte[] chunk) throws IOException {
+        try {
+            while (!closed) {
+                if (chunks.offer(chunk, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the request body", exception);
+        }
+
+        throw new IOException("The request body is no longer being read.");
+    }
+
+    private byte[] take() throws IOException {
+        try {
+            while (!closed) {
+                byte[] chunk = chunks.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (chunk == END_OF_STREAM && failure != null) {
+                    throw failure;
+                }
+                if (chunk != null) {
+                    return chunk;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the request body", exception);
+        }
+
+        throw new IOException("The upload has been aborted.");
+    }
+}
@@ -52,6 +52,53 @@ public class Value {
 
     private static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?");
 
+    /**
+     * Classifies the types which can be converted into temporal values.
+     * <p>
+     * The kind of each class is determined once and then cached, so that the conversion methods don't have to
+     * perform a chain of {@code isAssignableFrom} checks for each call.
+     */
+    private enum TemporalKind {
+        INSTANT, LOCAL_DATE, LOCAL_DATE_TIME, LOCAL_TIME, ZONED_DATE_TIME, DATE, CALENDAR, LONG, OTHER;
+
+        private static final ClassValue<TemporalKind> KINDS = new ClassValue<>() {
+            @Override
+            protected TemporalKind computeValue(Class<?> type) {
+                if (Instant.class.equals(type)) {
+                    return INSTANT;
+                }
+                if (LocalDate.class.equals(type)) {
+                    return LOCAL_DATE;
+                }
+                if (LocalDateTime.class.equals(type)) {
+                    return LOCAL_DATE_TIME;
+                }
+                if (LocalTime.class.equals(type)) {
+                    return LOCAL_TIME;
+                }
+                if (ZonedDateTime.class.equals(type)) {
+                    return ZONED_DATE_TIME;
+                }
+                // Note that this also covers java.sql.Date and Timestamp...
+                if (Date.class.isAssignableFrom(type)) {
+                    return DATE;
+                }
+                if (Calendar.class.isAssignableFrom(type)) {
+                    return CALENDAR;
+                }
+                if (Long.class.equals(type)) {
+                    return LONG;
+                }
+
+                return OTHER;
+            }
+        };
+
+        static TemporalKind of(Object data) {
+            return KINDS.get(data.getClass());
+        }
+    }
+
     private Object data;
 
     /**
@@ -533,8 +580,14 @@ public class Value {
             if (data instanceof Boolean) {
                 return (T) data;
             }
-            String stringValue = String.valueOf(data).trim();
-            return (T) parseWithoutNLS(stringValue).orElseGet(() -> NLS.parseMachineString(Boolean.class, stringValue));
+            CharSequence text = asCharSequence();
+            int start = ValueParsers.trimmedStart(text);
+            int end = ValueParsers.trimmedEnd(text, start);
+            Boolean result = parseWithoutNLS(text, start, end);
+            if (result != null) {
+                return (T) result;
+            }
+            return (T) NLS.parseMachineString(Boolean.class, text.subSequence(start, end).toString());
         }
         if (data == null) {
             return defaultValue;
@@ -834,26 +887,60 @@ public class Value {
             return booleanValue;
         }
 
-        String stringValue = String.valueOf(data).trim();
-        return parseWithoutNLS(stringValue).orElseGet(() -> {
-            return Objects.requireNonNullElse(NLS.parseUserString(Boolean.class, stringValue), defaultValue);
-        });
+        CharSequence text = asCharSequence();
+        int start = ValueParsers.trimmedStart(text);
+        int end = ValueParsers.trimmedEnd(text, start);
+        Boolean result = parseWithoutNLS(text, start, end);
+        if (result != null) {
+            return result;
+        }
+
+        String stringValue = text.subSequence(start, end).toString();
+        return Objects.requireNonNullElse(NLS.parseUserString(Boolean.class, stringValue), defaultValue);
     }
 
     /**
      * Fast-track for common boolean cases without the need to involve NLS framework
+     * <p>
+     * The given range is inspected in place so that no trimmed copy of the value is required.
      *
-     * @param value the value to parse
-     * @return an optional boolean value
+     * @param text  the text to parse
+     * @param start the start of the range to parse
+     * @param end   the end (exclusive) of the range to parse
+     * @return the parsed boolean or <tt>null</tt> if the range contains none of the common representations
      */
-    private Optional<Boolean> parseWithoutNLS(String value) {
-        if ("true".equalsIgnoreCase(value) || "1".equals(value)) {
-            return Optional.of(true);
+    @Nullable
+    private Boolean parseWithoutNLS(CharSequence text, int start, int end) {
+        if (ValueParsers.equalsIgnoreCase(text, start, end, "true") || ValueParsers.equalsIgnoreCase(text,
+                                                                                                      start,
+                                                                                                      end,
+                                                                                                      "1")) {
+            return Boolean.TRUE;
         }
-        if ("false".equalsIgnoreCase(value) || "0".equals(value)) {
-            return Optional.of(false);
+        if (ValueParsers.equalsIgnoreCase(text, start, end, "false") || ValueParsers.equalsIgnoreCase(text,
+                                                                                                       start,
+                                                                                                       end,
+                                                                                                       "0")) {
+            return Boolean.FALSE;
         }
-        return Optional.empty();
+
+        return null;
+    }
+
+    /**
+     * Returns the wrapped value as character sequence to be parsed.
+     * <p>
+     * In contrast to {@link #asString()}, this uses the plain {@code toString} representation of non-string objects,
+     * just like {@link String#valueOf(Object)} would.
+     *
+     * @return the wrapped character sequence or the string representation of the wrapped value
+     */
+    private CharSequence asCharSequence() {
+        if (data instanceof CharSequence charSequence) {
+            return charSequence;
+        }
+
+        return String.valueOf(data);
     }
 
     /**
@@ -885,18 +972,21 @@ public class Value {
      * if no conversion is possible.
      */
     public int asInt(int defaultValue) {
-        try {
-            if (isNull()) {
-                return defaultValue;
-            }
-            if (data instanceof Number number) {
-                return number.intValue();
-            }
-            return Integer.parseInt(String.valueOf(data).trim());
-        } catch (RuntimeException ignoredException) {
-            Exceptions.ignore(ignoredException);
+        if (isNull()) {
             return defaultValue;
         }
+        if (data instanceof Number number) {
+            return number.intValue();
+        }
+
+        CharSequence text = asCharSequence();
+        int start = ValueParsers.trimmedStart(text);
+        int end = ValueParsers.trimmedEnd(text, start);
+        if (!ValueParsers.isInteger(text, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+            return defaultValue;
+        }
+
+        return Integer.parseInt(text, start, end, 10);
     }
 
     /**
@@ -917,18 +1007,21 @@ public class Value {
      */
     @Nullable
     public Integer getInteger() {
-        try {
-            if (isNull()) {
-                return null;
-            }
-            if (data instanceof Number number) {
-                return number.intValue();
-            }
-            return Integer.parseInt(String.valueOf(data).trim());
-        } catch (RuntimeException ignoredException) {
-            Exceptions.ignore(ignoredException);
+        if (isNull()) {
             return null;
         }
+        if (data instanceof Number number) {
+            return number.intValue();
+        }
+
+        CharSequence text = asCharSequence();
+        int start = ValueParsers.trimmedStart(text);
+        int end = ValueParsers.trimmedEnd(text, start);
+        if (!ValueParsers.isInteger(text, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+            return null;
+        }
+
+        return Integer.parseInt(text, start, end, 10);
     }
 
     /**
@@ -949,18 +1042,21 @@ public class Value {
      * if no conversion is possible.
      */
     public long asLong(long defaultValue) {
-        try {
-            if (isNull()) {
-                return defaultValue;
-            }
-            if (data instanceof Number number) {
-                return number.longValue();
-            }
-            return Long.parseLong(String.valueOf(data).trim());
-        } catch (RuntimeException ignoredException) {
-            Exceptions.ignore(ignoredException);
+        if (isNull()) {
+            return defaultValue;
+        }
+        if (data instanceof Number number) {
+            return number.longValue();
+        }
+
+        CharSequence text = asCharSequence();
+        int start = ValueParsers.trimmedStart(text);
+        int end = ValueParsers.trimmedEnd(text, start);
+        if (!ValueParsers.isInteger(text, start, end, Long.MIN_VALUE, Long.MAX_VALUE)) {
             return defaultValue;
         }
+
+        return Long.parseLong(text, start, end, 10);
     }
 
     /**
@@ -981,18 +1077,21 @@ public class Value {
      */
     @Nullable
     public Long getLong() {
-        try {
-            if (isNull()) {
-                return null;
-            }
-            if (data instanceof Number number) {
-                return number.longValue();
-            }
-            return Long.parseLong(String.valueOf(data).trim());
-        } catch (RuntimeException ignoredException) {
-            Exceptions.ignore(ignoredException);
+        if (isNull()) {
             return null;
         }
+        if (data instanceof Number number) {
+            return number.longValue();
+        }
+
+        CharSequence text = asCharSequence();
+        int start = ValueParsers.trimmedStart(text);
+        int end = ValueParsers.trimmedEnd(text, start);
+        if (!ValueParsers.isInteger(text, start, end, Long.MIN_VALUE, Long.MAX_VALUE)) {
+            return null;
+        }
+
+        return Long.parseLong(text, start, end, 10);
     }
 
     /**
@@ -1013,18 +1112,21 @@ public class Value {
      * if no conversion is possible.
      */
     public double asDouble(double defaultValue) {
-        try {
-            if (isNull()) {
-                return defaultValue;
-            }
-            if (data instanceof Number number) {
-                return number.doubleValue();
-            }
-            return Double.parseDouble(String.valueOf(data).trim());
-        } catch (RuntimeException ignoredException) {
-            Exceptions.ignore(ignoredException);
+        if (isNull()) {
             return defaultValue;
         }
+        if (data instanceof Number number) {
+            return number.doubleValue();
+        }
+
+        CharSequence text = asCharSequence();
+        int start = ValueParsers.trimmedStart(text);
+        int end = ValueParsers.trimmedEnd(text, start);
+        if (!ValueParsers.isDouble(text, start, end)) {
+            return defaultValue;
+        }
+
+        return Double.parseDouble(text.subSequence(start, end).toString());
     }
 
     /**
@@ -1043,39 +1145,19 @@ public class Value {
         if (data == null) {
             return defaultValue;
         }
-        if (is(Instant.class)) {
-            return LocalDate.from((Instant) data);
-        }
-        if (is(LocalDate.class)) {
-            return (LocalDate) data;
-        }
-        if (is(LocalDateTime.class)) {
-            return ((LocalDateTime) data).toLocalDate();
-        }
-        if (is(ZonedDateTime.class)) {
-            return ((ZonedDateTime) data).withZoneSameInstant(ZoneId.systemDefault()).toLocalDate();
-        }
-        if (is(Date.class)) {
-            return Instant.ofEpochMilli(((Date) data).getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
-        }
-        if (is(Calendar.class)) {
-            return Instant.ofEpochMilli(((Calendar) data).getTimeInMillis())
-                          .atZone(ZoneId.systemDefault())
-                          .toLocalDate();
-        }
-        if (is(java.sql.Date.class)) {
-            return Instant.ofEpochMilli(((java.sql.Date) data).getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
-        }
-        if (is(Timestamp.class)) {
-            return Instant.ofEpochMilli(((java.sql.Timestamp) data).getTime())
-                          .atZone(ZoneId.systemDefault())
-                          .toLocalDate();
-        }
-        if (is(long.class) || is(Long.class)) {
-            return Instant.ofEpochMilli((long) data).atZone(ZoneId.systemDefault()).toLocalDate();
-        }
 
-        return defaultValue;
+        return switch (TemporalKind.of(data)) {
+            case INSTANT -> LocalDate.from((Instant) data);
+            case LOCAL_DATE -> (LocalDate) data;
+            case LOCAL_DATE_TIME -> ((LocalDateTime) data).toLocalDate();
+            case ZONED_DATE_TIME -> ((ZonedDateTime) data).withZoneSameInstant(ZoneId.systemDefault()).toLocalDate();
+            case DATE -> Instant.ofEpochMilli(((Date) data).getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+            case CALENDAR -> Instant.ofEpochMilli(((Calendar) data).getTimeInMillis())
+                                    .atZone(ZoneId.systemDefault())
+                                    .toLocalDate();
+            case LONG -> Instant.ofEpochMilli((long) data).atZone(ZoneId.systemDefault()).toLocalDate();
+            default -> defaultValue;
+        };
     }
 
     /**
@@ -1094,38 +1176,18 @@ public class Value {
         if (data == null) {
             return defaultValue;
         }
-        if (is(Instant.class)) {
-            return LocalDateTime.from((Instant) data);
-        }
-        if (is(LocalDateTime.class)) {
-            return (LocalDateTime) data;
-        }
-        if (is(LocalTime.class)) {
-            return ((LocalTime) data).atDate(LocalDate.now());
-        }
-        if (is(ZonedDateTime.class)) {
-            return ((ZonedDateTime) data).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
-        }
-        if (is(Date.class)) {
-            return LocalDateTime.ofInstant(Instant.ofEpochMilli(((Date) data).getTime()), ZoneId.systemDefault());
-        }
-        if (is(Calendar.class)) {
-            return LocalDateTime.ofInstant(Instant.ofEpochMilli(((Calendar) data).getTimeInMillis()),
-                                           ZoneId.systemDefault());
-        }
-        if (is(java.sql.Date.class)) {
-            return LocalDateTime.ofInstant(Instant.ofEpochMilli(((java.sql.Date) data).getTime()),
-                                           ZoneId.systemDefault());
-        }
-        if (is(Timestamp.class)) {
-            return LocalDateTime.ofInstant(Instant.ofEpochMilli(((java.sql.Timestamp) data).getTime()),
-                                           ZoneId.systemDefault());
-        }
-        if (is(long.class) || is(Long.class)) {
-            return LocalDateTime.ofInstant(Instant.ofEpochMilli((long) data), ZoneId.systemDefault());
-        }
 
-        return defaultValue;
+        return switch (TemporalKind.of(data)) {
+            case INSTANT -> LocalDateTime.from((Instant) data);
+            case LOCAL_DATE_TIME -> (LocalDateTime) data;
+            case LOCAL_TIME -> ((LocalTime) data).atDate(LocalDate.now());
+            case ZONED_DATE_TIME -> ((ZonedDateTime) data).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            case DATE -> LocalDateTime.ofInstant(Instant.ofEpochMilli(((Date) data).getTime()), ZoneId.systemDefault());
+            case CALENDAR -> LocalDateTime.ofInstant(Instant.ofEpochMilli(((Calendar) data).getTimeInMillis()),
+                                                     ZoneId.systemDefault());
+            case LONG -> LocalDateTime.ofInstant(Instant.ofEpochMilli((long) data), ZoneId.systemDefault());
+            default -> defaultValue;
+        };
     }
 
     /**
@@ -1144,35 +1206,17 @@ public class Value {
         if (data == null) {
             return defaultValue;
         }
-        if (is(Instant.class)) {
-            return LocalTime.from((Instant) data);
-        }
-        if (is(LocalDateTime.class)) {
-            return ((LocalDateTime) data).toLocalTime();
-        }
-        if (is(LocalTime.class)) {
-            return (LocalTime) data;
-        }
-        if (is(ZonedDateTime.class)) {
-            return ((ZonedDateTime) data).withZoneSameInstant(ZoneId.systemDefault()).toLocalTime();
-        }
-        if (is(Date.class)) {
-            return LocalDateTime.from(Instant.ofEpochMilli(((Date) data).getTime())).toLocalTime();
-        }
-        if (is(Calendar.class)) {
-            return LocalDateTime.from(Instant.ofEpochMilli(((Calendar) data).getTimeInMillis())).toLocalTime();
-        }
-        if (is(java.sql.Date.class)) {
-            return LocalDateTime.from(Instant.ofEpochMilli(((java.sql.Date) data).getTime())).toLocalTime();
-        }
-        if (is(Timestamp.class)) {
-            return LocalDateTime.from(Instant.ofEpochMilli(((java.sql.Timestamp) data).getTime())).toLocalTime();
-        }
-        if (is(long.class) || is(Long.class)) {
-            return LocalDateTime.from(Instant.ofEpochMilli((long) data)).toLocalTime();
-        }
 
-        return defaultValue;
+        return switch (TemporalKind.of(data)) {
+            case INSTANT -> LocalTime.from((Instant) data);
+            case LOCAL_DATE_TIME -> ((LocalDateTime) data).toLocalTime();
+            case LOCAL_TIME -> (LocalTime) data;
+            case ZONED_DATE_TIME -> ((ZonedDateTime) data).withZoneSameInstant(ZoneId.systemDefault()).toLocalTime();
+            case DATE -> LocalDateTime.from(Instant.ofEpochMilli(((Date) data).getTime())).toLocalTime();
+            case CALENDAR -> LocalDateTime.from(Instant.ofEpochMilli(((Calendar) data).getTimeInMillis())).toLocalTime();
+            case LONG -> LocalDateTime.from(Instant.ofEpochMilli((long) data)).toLocalTime();
+            default -> defaultValue;
+        };
     }
 
     /**
@@ -1191,34 +1235,17 @@ public class Value {
         if (data == null) {
             return defaultValue;
         }
-        if (is(Instant.class)) {
-            return ZonedDateTime.from((Instant) data);
-        }
-        if (is(LocalDate.class)) {
-            return ((LocalDate) data).atStartOfDay(ZoneId.systemDefault());
-        }
-        if (is(LocalDateTime.class)) {
-            return ((LocalDateTime) data).atZone(ZoneId.systemDefault());
-        }
-        if (is(LocalTime.class)) {
-            return ((LocalTime) data).atDate(LocalDate.now()).atZone(ZoneId.systemDefault());
-        }
-        if (is(ZonedDateTime.class)) {
-            return (ZonedDateTime) data;
-        }
-        if (is(Date.class)) {
-            return ZonedDateTime.from(Instant.ofEpochMilli(((Date) data).getTime()));
-        }
-        if (is(Calendar.class)) {
-            return ZonedDateTime.from(Instant.ofEpochMilli(((Calendar) data).getTimeInMillis()));
-        }
-        if (is(java.sql.Date.class)) {
-            return ZonedDateTime.from(Instant.ofEpochMilli(((java.sql.Date) data).getTime()));
-        }
-        if (is(Timestamp.class)) {
-            return ZonedDateTime.from(Instant.ofEpochMilli(((java.sql.Timestamp) data).getTime()));
-        }
-        return defaultValue;
+
+        return switch (TemporalKind.of(data)) {
+            case INSTANT -> ZonedDateTime.from((Instant) data);
+            case LOCAL_DATE -> ((LocalDate) data).atStartOfDay(ZoneId.systemDefault());
+            case LOCAL_DATE_TIME -> ((LocalDateTime) data).atZone(ZoneId.systemDefault());
+            case LOCAL_TIME -> ((LocalTime) data).atDate(LocalDate.now()).atZone(ZoneId.systemDefault());
+            case ZONED_DATE_TIME -> (ZonedDateTime) data;
+            case DATE -> ZonedDateTime.from(Instant.ofEpochMilli(((Date) data).getTime()));
+            case CALENDAR -> ZonedDateTime.from(Instant.ofEpochMilli(((Calendar) data).getTimeInMillis()));
+            default -> defaultValue;
+        };
     }
 
     /**
@@ -1237,34 +1264,17 @@ public class Value {
         if (data == null) {
             return defaultValue;
         }
-        if (is(Instant.class)) {
-            return (Instant) data;
-        }
-        if (is(LocalDate.class)) {
-            return ((LocalDate) data).atStartOfDay(ZoneId.systemDefault()).toInstant();
-        }
-        if (is(LocalDateTime.class)) {
-            return ((LocalDateTime) data).atZone(ZoneId.systemDefault()).toInstant();
-        }
-        if (is(LocalTime.class)) {
-            return ((LocalTime) data).atDate(LocalDate.now()).atZone(ZoneId.systemDefault()).toInstant();
-        }
-        if (is(ZonedDateTime.class)) {
-            return ((ZonedDateTime) data).toInstant();
-        }
-        if (is(Date.class)) {
-            return Instant.ofEpochMilli(((Date) data).getTime());
-        }
-        if (is(Calendar.class)) {
-            return Instant.ofEpochMilli(((Calendar) data).getTimeInMillis());
-        }
-        if (is(java.sql.Date.class)) {
-            return Instant.ofEpochMilli(((java.sql.Date) data).getTime());
-        }
-        if (is(Timestamp.class)) {
-            return Instant.ofEpochMilli(((java.sql.Timestamp) data).getTime());
-        }
-        return defaultValue;
+
+        return switch (TemporalKind.of(data)) {
+            case INSTANT -> (Instant) data;
+            case LOCAL_DATE -> ((LocalDate) data).atStartOfDay(ZoneId.systemDefault()).toInstant();
+            case LOCAL_DATE_TIME -> ((LocalDateTime) data).atZone(ZoneId.systemDefault()).toInstant();
+            case LOCAL_TIME -> ((LocalTime) data).atDate(LocalDate.now()).atZone(ZoneId.systemDefault()).toInstant();
+            case ZONED_DATE_TIME -> ((ZonedDateTime) data).toInstant();
+            case DATE -> Instant.ofEpochMilli(((Date) data).getTime());
+            case CALENDAR -> Instant.ofEpochMilli(((Calendar) data).getTimeInMillis());
+            default -> defaultValue;
+        };
     }
 
     /**
@@ -1426,7 +1436,21 @@ public class Value {
             if (data instanceof Integer integer) {
                 return BigDecimal.valueOf(integer);
             }
-            return new BigDecimal(asString().replace(',', '.').trim(), MathContext.UNLIMITED);
+            String text = asString();
+            int start = ValueParsers.trimmedStart(text);
+            int end = ValueParsers.trimmedEnd(text, start);
+            if (!ValueParsers.isDecimal(text, start, end)) {
+                return null;
+            }
+
+            char[] digits = new char[end - start];
+            text.getChars(start, end, digits, 0);
+            for (int i = 0; i < digits.length; i++) {
+                if (digits[i] == ',') {
+                    digits[i] = '.';
+                }
+            }
+            return new BigDecimal(digits, 0, digits.length, MathContext.UNLIMITED);
         } catch (NumberFormatException exception) {
             Exceptions.ignore(exception);
             return null;
@@ -1855,6 +1879,9 @@ public class Value {
     /**
      * Replaces the given regular expression <tt>pattern</tt> with the given replacement in the string representation
      * of the wrapped object
+     * <p>
+     * The compiled expression is cached via {@link Patterns#compile(String)}. Hot loops can also use
+     * {@link #regExReplace(Pattern, String)} with a pattern which has been compiled up front.
      *
      * @param pattern     the regular expression to replace
      * @param replacement the replacement to be used for <tt>pattern</tt>
@@ -1865,7 +1892,25 @@ public class Value {
     @Nonnull
     public Value regExReplace(String pattern, String replacement) {
         if (data != null) {
-            data = data.toString().replaceAll(pattern, replacement);
+            return regExReplace(Patterns.compile(pattern), replacement);
+        }
+        return this;
+    }
+
+    /**
+     * Replaces the given compiled <tt>pattern</tt> with the given replacement in the string representation
+     * of the wrapped object
+     *
+     * @param pattern     the compiled regular expression to replace
+     * @param replacement the replacement to be used for <tt>pattern</tt>
+     * @return a <tt>Value</tt> where all occurrences of pattern in the string <tt>representation</tt> of the
+     * wrapped value are replaced by <tt>replacement</tt>. If the wrapped value is null, <tt>this</tt>
+     * is returned.
+     */
+    @Nonnull
+    public Value regExReplace(Pattern pattern, String replacement) {
+        if (data != null) {
+            data = pattern.matcher(data.toString()).replaceAll(replacement);
         }
         return this;
     }
@@ -0,0 +1,306 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons;
+
+import sirius.kernel.health.Exceptions;
+
+import java.math.BigDecimal;
+
+/**
+ * Validates textual representations of numbers and booleans without throwing exceptions.
+ * <p>
+ * {@link Value} uses these checks before handing a string to the parse methods of the JDK, so that invalid inputs
+ * (which are quite common when reading dirty CSV or JSON data) don't cause the costly creation of an exception and
+ * its stack trace. All checks operate on a range of the given {@link CharSequence} so that no trimmed copy is
+ * required.
+ * <p>
+ * The checks accept exactly the inputs which are accepted by the respective JDK methods. Rare inputs which cannot be
+ * decided by a simple scan (e.g. non-ASCII digits or hexadecimal floating point numbers) are checked by actually
+ * invoking the JDK method.
+ */
+final class ValueParsers {
+
+    /**
+     * Contains the maximal length of an exponent (like "e-123456789") which surely fits into an <tt>int</tt>.
+     */
+    private static final int MAX_SAFE_EXPONENT_LENGTH = 11;
+
+    private ValueParsers() {
+    }
+
+    /**
+     * Determines the start of the given text, skipping leading whitespace like {@link String#trim()}.
+     *
+     * @param text the text to scan
+     * @return the index of the first non-whitespace character or the length of the text if there is none
+     */
+    static int trimmedStart(CharSequence text) {
+        int start = 0;
+        int length = text.length();
+        while (start < length && text.charAt(start) <= ' ') {
+            start++;
+        }
+
+        return start;
+    }
+
+    /**
+     * Determines the end of the given text, skipping trailing whitespace like {@link String#trim()}.
+     *
+     * @param text  the text to scan
+     * @param start the start as determined by {@link #trimmedStart(CharSequence)}
+     * @return the index after the last non-whitespace character
+     */
+    static int trimmedEnd(CharSequence text, int start) {
+        int end = text.length();
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        return end;
+    }
+
+    /**
+     * Determines if the given range can be parsed by {@link Long#parseLong(CharSequence, int, int, int)} and if the
+     * result is within the given bounds.
+     *
+     * @param text  the text to check
+     * @param start the start of the range to check
+     * @param end   the end (exclusive) of the range to check
+     * @param min   the minimal permitted value
+     * @param max   the maximal permitted value
+     * @return <tt>true</tt> if the range contains a valid integer within the given bounds, <tt>false</tt> otherwise
+     */
+    static boolean isInteger(CharSequence text, int start, int end, long min, long max) {
+        if (start >= end) {
+            return false;
+        }
+
+        int index = start;
+        char first = text.charAt(index);
+        boolean negative = first == '-';
+        if (negative || first == '+') {
+            index++;
+            if (index == end) {
+                return false;
+            }
+        }
+
+        // We accumulate negatively (like Long.parseLong), as the negative range is larger than the positive one...
+        long limit = negative ? min : -max;
+        long result = 0;
+        while (index < end) {
+            char current = text.charAt(index++);
+            if (current > 127) {
+                return isIntegerAccordingToJDK(text, start, end, min, max);
+            }
+            if (current < '0' || current > '9') {
+                return false;
+            }
+
+            int digit = current - '0';
+            if (result < limit / 10) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+
+        return true;
+    }
+
+    private static boolean isIntegerAccordingToJDK(CharSequence text, int start, int end, long min, long max) {
+        try {
+            long result = Long.parseLong(text, start, end, 10);
+            return result >= min && result <= max;
+        } catch (NumberFormatException exception) {
+            Exceptions.ignore(exception);
+            return false;
+        }
+    }
+
+    /**
+     * Determines if the given range can be parsed by {@link Double#parseDouble(String)}.
+     *
+     * @param text  the text to check
+     * @param start the start of the range to check
+     * @param end   the end (exclusive) of the range to check
+     * @return <tt>true</tt> if the range contains a valid floating point number, <tt>false</tt> otherwise
+     */
+    static boolean isDouble(CharSequence text, int start, int end) {
+        int index = skipSign(text, start, end);
+        int digitsEnd = skipDigits(text, index, end);
+        int numberOfDigits = digitsEnd - index;
+        index = digitsEnd;
+        if (index < end && text.charAt(index) == '.') {
+            digitsEnd = skipDigits(text, index + 1, end);
+            numberOfDigits += digitsEnd - index - 1;
+            index = digitsEnd;
+        }
+        if (numberOfDigits > 0) {
+            index = skipExponent(text, index, end);
+            if (index >= 0 && index < end && "fFdD".indexOf(text.charAt(index)) >= 0) {
+                index++;
+            }
+            if (index == end) {
+                return true;
+            }
+        }
+
+        // Only "NaN", "Infinity" and hexadecimal numbers like "0x1p3" remain as valid inputs...
+        if (containsAny(text, start, end, "NIxX")) {
+            return isDoubleAccordingToJDK(text, start, end);
+        }
+
+        return false;
+    }
+
+    private static boolean isDoubleAccordingToJDK(CharSequence text, int start, int end) {
+        try {
+            Double.parseDouble(text.subSequence(start, end).toString());
+            return true;
+        } catch (NumberFormatException exception) {
+            Exceptions.ignore(exception);
+            return false;
+        }
+    }
+
+    /**
+     * Determines if the given range can be parsed by {@link BigDecimal#BigDecimal(char[], int, int)}
+     * if all commas are replaced by dots.
+     *
+     * @param text  the text to check
+     * @param start the start of the range to check
+     * @param end   the end (exclusive) of the range to check
+     * @return <tt>true</tt> if the range contains a valid decimal number, <tt>false</tt> otherwise
+     */
+    static boolean isDecimal(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) > 127) {
+                // BigDecimal also accepts non-ASCII digits, which are rare enough to be checked by simply parsing...
+                return isDecimalAccordingToJDK(text, start, end);
+            }
+        }
+
+        int index = skipSign(text, start, end);
+        int digitsEnd = skipDigits(text, index, end);
+        int numberOfDigits = digitsEnd - index;
+        index = digitsEnd;
+        if (index < end && isDecimalSeparator(text.charAt(index))) {
+            digitsEnd = skipDigits(text, index + 1, end);
+            numberOfDigits += digitsEnd - index - 1;
+            index = digitsEnd;
+        }
+        if (numberOfDigits == 0) {
+            return false;
+        }
+
+        if (skipExponent(text, index, end) != end) {
+            return false;
+        }
+
+        // BigDecimal rejects exponents which don't fit into an int, so we let it decide for very long exponents...
+        if (end - index > MAX_SAFE_EXPONENT_LENGTH) {
+            return isDecimalAccordingToJDK(text, start, end);
+        }
+
+        return true;
+    }
+
+    private static boolean isDecimalAccordingToJDK(CharSequence text, int start, int end) {
+        try {
+            new BigDecimal(text.subSequence(start, end).toString().replace(',', '.'));
+            return true;
+        } catch (NumberFormatException exception) {
+            Exceptions.ignore(exception);
+            return false;
+        }
+    }
+
+    /**
+     * Determines if the given range matches the given keyword, ignoring case.
+     *
+     * @param text    the text to check
+     * @param start   the start of the range to check
+     * @param end     the end (exclusive) of the range to check
+     * @param keyword the keyword to compare against
+     * @return <tt>true</tt> if the range equals the keyword (ignoring case), <tt>false</tt> otherwise
+     */
+    static boolean equalsIgnoreCase(CharSequence text, int start, int end, String keyword) {
+        if (end - start != keyword.length()) {
+            return false;
+        }
+        if (text instanceof String string) {
+            return string.regionMatches(true, start, keyword, 0, keyword.length());
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            char current = text.charAt(start + i);
+            char expected = keyword.charAt(i);
+            if (current != expected && Character.toLowerCase(current) != Character.toLowerCase(expected)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isDecimalSeparator(char character) {
+        return character == '.' || character == ',';
+    }
+
+    private static int skipSign(CharSequence text, int index, int end) {
+        if (index < end && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+            return index + 1;
+        }
+
+        return index;
+    }
+
+    private static int skipDigits(CharSequence text, int index, int end) {
+        int result = index;
+        while (result < end && text.charAt(result) >= '0' && text.charAt(result) <= '9') {
+            result++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Skips an exponent like "e-5" if present.
+     *
+     * @return the index after the exponent, the given index if no exponent is present or <tt>-1</tt> if the exponent
+     * is malformed
+     */
+    private static int skipExponent(CharSequence text, int index, int end) {
+        if (index == end || (text.charAt(index) != 'e' && text.charAt(index) != 'E')) {
+            return index;
+        }
+
+        int digitsStart = skipSign(text, index + 1, end);
+        int digitsEnd = skipDigits(text, digitsStart, end);
+        if (digitsEnd == digitsStart) {
+            return -1;
+        }
+
+        return digitsEnd;
+    }
+
+    private static boolean containsAny(CharSequence text, int start, int end, String characters) {
+        for (int i = start; i < end; i++) {
+            if (characters.indexOf(text.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Writes the component index which permits the {@link Injector} to skip scanning the classpath.
+ * <p>
+ * Without an index, the injector has to enumerate and load each class of a component root, even if most of them
+ * are never touched by a {@link ClassLoadAction} or {@link FieldAnnotationProcessor}. This processor is therefore
+ * invoked by the compiler and lists all classes which might be relevant for the dependency injection in
+ * {@link #COMPONENT_INDEX}. These are classes which wear a runtime annotation (like
+ * {@link sirius.kernel.di.std.Register} or {@link sirius.kernel.di.transformers.AutoTransform}), classes which
+ * declare a static field wearing a runtime annotation (like {@link sirius.kernel.di.std.Part} or
+ * {@link sirius.kernel.settings.ConfigValue}) and implementations of {@link ClassLoadAction}.
+ * <p>
+ * The processor is registered as a service and is therefore automatically picked up when compiling a module which
+ * depends on the kernel (newer JDKs require annotation processing to be enabled explicitly via <tt>-proc:full</tt>
+ * or by listing this processor). An index is only written for component roots (which contain a
+ * <tt>component.marker</tt>). Also, the processor only sees the Java sources being compiled. Therefore, no index
+ * is written (and an outdated one is removed) if the output directory contains classes from other sources - e.g. if
+ * Kotlin classes are compiled into the same directory or if only some classes are re-compiled by an incremental
+ * build. In this case, the injector falls back to scanning the component root.
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Contains the path of the index relative to the component root.
+     */
+    public static final String COMPONENT_INDEX = "META-INF/sirius/component-index";
+
+    private static final String COMPONENT_MARKER = "component.marker";
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private final Set<String> compiledClasses = new HashSet<>();
+    private final Set<String> indexedClasses = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement type) {
+                compiledClasses.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+                collectRelevantClasses(type);
+            }
+        }
+
+        return false;
+    }
+
+    private void collectRelevantClasses(TypeElement type) {
+        if (isRelevant(type)) {
+            indexedClasses.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+
+        for (Element child : type.getEnclosedElements()) {
+            if (child instanceof TypeElement nestedType) {
+                collectRelevantClasses(nestedType);
+            }
+        }
+    }
+
+    private boolean isRelevant(TypeElement type) {
+        if (type.getKind() == ElementKind.ANNOTATION_TYPE) {
+            return false;
+        }
+        if (hasRuntimeAnnotation(type) || hasInheritedRuntimeAnnotation(type) || isClassLoadAction(type)) {
+            return true;
+        }
+
+        return type.getEnclosedElements()
+                   .stream()
+                   .filter(element -> element.getKind() == ElementKind.FIELD)
+                   .filter(field -> field.getModifiers().contains(Modifier.STATIC))
+                   .anyMatch(this::hasRuntimeAnnotation);
+    }
+
+    private boolean hasRuntimeAnnotation(Element element) {
+        return element.getAnnotationMirrors().stream().anyMatch(this::isRuntimeAnnotation);
+    }
+
+    private boolean isRuntimeAnnotation(AnnotationMirror annotation) {
+        Retention retention = annotation.getAnnotationType().asElement().getAnnotation(Retention.class);
+        return retention != null && retention.value() == RetentionPolicy.RUNTIME;
+    }
+
+    /**
+     * As {@link Class#isAnnotationPresent(Class)} also reports inherited annotations, we also have to index classes
+     * which inherit a runtime annotation from one of their super classes.
+     */
+    private boolean hasInheritedRuntimeAnnotation(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        while (superclass.getKind() == TypeKind.DECLARED) {
+            Element superType = ((DeclaredType) superclass).asElement();
+            boolean inheritsAnnotation = superType.getAnnotationMirrors()
+                                                  .stream()
+                                                  .filter(this::isRuntimeAnnotation)
+                                                  .anyMatch(annotation -> annotation.getAnnotationType()
+                                                                                    .asElement()
+                                                                                    .getAnnotation(Inherited.class)
+                                                                          != null);
+            if (inheritsAnnotation) {
+                return true;
+            }
+            superclass = ((TypeElement) superType).getSuperclass();
+        }
+
+        return false;
+    }
+
+    private boolean isClassLoadAction(TypeElement type) {
+        TypeElement classLoadAction = processingEnv.getElementUtils().getTypeElement(ClassLoadAction.class.getName());
+        return classLoadAction != null
+               && type.getKind() != ElementKind.INTERFACE
+               && processingEnv.getTypeUtils()
+                               .isAssignable(processingEnv.getTypeUtils().erasure(type.asType()),
+                                             processingEnv.getTypeUtils().erasure(classLoadAction.asType()));
+    }
+
+    private void writeIndex() {
+        Path outputDirectory = determineComponentRoot();
+        if (outputDirectory == null) {
+            return;
+        }
+
+        try {
+            if (containsForeignClasses(outputDirectory)) {
+                Files.deleteIfExists(outputDirectory.resolve(COMPONENT_INDEX));
+                return;
+            }
+
+            FileObject index =
+                    processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", COMPONENT_INDEX);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# Generated by " + getClass().getName() + " - do not edit\n");
+                for (String className : indexedClasses) {
+                    writer.write(className);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager()
+                         .printMessage(Diagnostic.Kind.WARNING,
+                                       "Failed to write the component index: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Determines the output directory if it is a component root.
+     *
+     * @return the output directory or <tt>null</tt> if it isn't a component root or not a local directory
+     */
+    private Path determineComponentRoot() {
+        try {
+            FileObject marker =
+                    processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", COMPONENT_MARKER);
+            if (!"file".equals(marker.toUri().getScheme())) {
+                return null;
+            }
+
+            Path markerPath = Path.of(marker.toUri());
+            return Files.exists(markerPath) ? markerPath.getParent() : null;
+        } catch (IOException | IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Determines if the output directory contains classes which are not compiled by this compiler run.
+     * <p>
+     * The classes of the current run might not have been written yet, but files of a previous run with the same
+     * name are fine, as they will be replaced.
+     */
+    private boolean containsForeignClasses(Path outputDirectory) throws IOException {
+        try (Stream<Path> files = Files.walk(outputDirectory)) {
+            return files.map(outputDirectory::relativize)
+                        .map(path -> path.toString().replace(path.getFileSystem().getSeparator(), "/"))
+                        .filter(path -> path.endsWith(CLASS_FILE_SUFFIX))
+                        .filter(path -> !path.endsWith("package-info.class") && !path.endsWith("module-info.class"))
+                        .filter(path -> !path.startsWith("META-INF/"))
+                        .map(this::determineTopLevelClass)
+                        .anyMatch(className -> !compiledClasses.contains(className));
+        }
+    }
+
+    private String determineTopLevelClass(String path) {
+        String className = path.substring(0, path.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.');
+        int nestedClassSeparator = className.indexOf('$', className.lastIndexOf('.') + 1);
+        return nestedClassSeparator < 0 ? className : className.substring(0, nestedClassSeparator);
+    }
+}
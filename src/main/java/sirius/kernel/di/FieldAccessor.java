@@ -0,0 +1,108 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Provides fast read and write access to a field, which is used by {@link FieldInjector injectors}.
+ * <p>
+ * The access is performed via a {@link VarHandle} which is created once, so that no access checks or other
+ * reflective work are performed when actually reading or writing the field. Static and instance fields are
+ * accessed alike, the given object is simply ignored for static fields.
+ * <p>
+ * Note that in contrast to {@link Field#set(Object, Object)} no widening conversions are performed. Therefore,
+ * the value has to match the type of the field (or its wrapper type for primitive fields).
+ */
+public class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates an accessor for the given field.
+     *
+     * @param field the field to access
+     * @return an accessor which reads and writes the given field
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    public static FieldAccessor of(@Nonnull Field field) throws IllegalAccessException {
+        VarHandle handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                                        .unreflectVarHandle(field);
+        MethodHandle getter = handle.toMethodHandle(VarHandle.AccessMode.GET);
+        MethodHandle setter = handle.toMethodHandle(VarHandle.AccessMode.SET);
+
+        // Unify static and instance fields, so that both can be invoked with the same (erased) signature...
+        if (Modifier.isStatic(field.getModifiers())) {
+            getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            setter = MethodHandles.dropArguments(setter, 0, Object.class);
+        }
+
+        return new FieldAccessor(field, getter.asType(GETTER_TYPE), setter.asType(SETTER_TYPE));
+    }
+
+    /**
+     * Reads the value of the field.
+     *
+     * @param object the object to read the field from. Can be null for static fields.
+     * @return the current value of the field
+     */
+    @Nullable
+    public Object get(@Nullable Object object) {
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Writes the value of the field.
+     *
+     * @param object the object to write the field of. Can be null for static fields.
+     * @param value  the value to write
+     */
+    public void set(@Nullable Object object, @Nullable Object value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Returns the underlying field.
+     *
+     * @return the field being accessed
+     */
+    public Field getField() {
+        return field;
+    }
+}
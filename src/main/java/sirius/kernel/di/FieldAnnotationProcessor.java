@@ -39,4 +39,21 @@ public interface FieldAnnotationProcessor {
      * @throws Exception if a part cannot be resolved or the field cannot be filled
      */
     void handle(@Nonnull MutableGlobalContext ctx, @Nullable Object object, @Nonnull Field field) throws Exception;
+
+    /**
+     * Prepares the processing of the given field.
+     * <p>
+     * This is invoked once per field which contains the trigger-annotation. The returned injector is then invoked
+     * for each object being wired. Therefore, implementations should perform all reflective work (like reading the
+     * annotation or creating a {@link FieldAccessor}) here. By default, the injector simply delegates to
+     * {@link #handle(MutableGlobalContext, Object, Field)}.
+     *
+     * @param field the field to be processed
+     * @return the injector used to fill the field
+     * @throws Exception if the field cannot be processed at all
+     */
+    @Nonnull
+    default FieldInjector prepare(@Nonnull Field field) throws Exception {
+        return (ctx, object) -> handle(ctx, object, field);
+    }
 }
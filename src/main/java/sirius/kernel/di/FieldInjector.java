@@ -0,0 +1,31 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Fills a single field, as prepared by {@link FieldAnnotationProcessor#prepare(java.lang.reflect.Field)}.
+ * <p>
+ * An injector is created once per field and then invoked for each object being wired. Therefore, all reflective
+ * work should be performed while creating it.
+ */
+@FunctionalInterface
+public interface FieldInjector {
+
+    /**
+     * Fills the field of the given object.
+     *
+     * @param ctx    the context which can be used to fetch parts from
+     * @param object the object which should be filled. Is null when processing static fields.
+     * @throws Exception if a part cannot be resolved or the field cannot be filled
+     */
+    void inject(@Nonnull MutableGlobalContext ctx, @Nullable Object object) throws Exception;
+}
@@ -141,6 +141,8 @@ public interface GlobalContext {
 
     /**
      * Processes all annotations of the given objects class (or super classes).
+     * <p>
+     * The fields to fill are determined once per class, so that this can also be used for many short-lived objects.
      *
      * @param object the object which annotations should be processed to fill the respective fields
      * @param <T>    the type of the object to permit a qualified return type
@@ -10,16 +10,35 @@ package sirius.kernel.di;
 
 import sirius.kernel.Classpath;
 import sirius.kernel.Sirius;
+import sirius.kernel.commons.Strings;
+import sirius.kernel.commons.Watch;
 import sirius.kernel.di.std.RegisterLoadAction;
 import sirius.kernel.health.Exceptions;
 import sirius.kernel.health.Log;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Central class for collecting and injecting dependencies (which are called <b>parts</b>).
@@ -45,6 +64,10 @@ import java.util.regex.Pattern;
  * <p>
  * Also, all annotations on static fields are processed on system startup. This is a simple trick to pass a
  * part to objects which are frequently created and destroyed.
+ * <p>
+ * To discover the classes to process, each component root is scanned for .class files. If a component root ships
+ * a component index (which is written by the {@link ComponentIndexProcessor} at compile time), only the classes
+ * listed there are loaded, which speeds up the system startup considerably.
  */
 public class Injector {
 
@@ -54,11 +77,10 @@ public class Injector {
      */
     public static final Log LOG = Log.get("di");
 
+    private static final Pattern CLASS_FILE = Pattern.compile(".*?\\.class");
+
     private static PartRegistry ctx = new PartRegistry();
     private static List<Class<?>> loadedClasses;
-    private static List<String> packageFilter;
-    private static Classpath cp;
-    private static List<ClassLoadAction> actions;
 
     private Injector() {
     }
@@ -67,106 +89,34 @@ public class Injector {
      * Initializes the framework. Must be only called once on system startup.
      * <p>
      * This is automatically invoked by {@link sirius.kernel.Sirius#start(sirius.kernel.Setup)}.
+     * <p>
+     * The initialization runs in phases. Discovering, loading and inspecting the classes as well as wiring static
+     * fields is performed in parallel on a dedicated pool (see <tt>di.parallelism</tt>). The classes are however
+     * only initialized once a {@link ClassLoadAction} or static field requires it. This happens sequentially and in
+     * the order in which the classes were discovered, so that the parts are always registered in the same order
+     * (which also keeps the handling of {@link sirius.kernel.di.std.Replace} deterministic) and so that class
+     * initializers which depend on each other cannot deadlock.
      *
      * @param classpath the classpath used to enumerate all classes to be scanned
      */
     public static void init(@Nonnull final Classpath classpath) {
-        ctx = new PartRegistry();
-        // Make the context itself visible for GlobalContext...
-        ctx.registerPart(ctx, GlobalContext.class);
-        cp = classpath;
-        loadedClasses = new ArrayList<>();
-        actions = new ArrayList<>();
-        packageFilter = Sirius.getSettings().getStringList("di.packageFilter");
+        Initialization initialization = new Initialization(classpath, determineParallelism());
+        // Make the context visible (for parts which access it during their construction)...
+        ctx = initialization.registry;
+        loadedClasses = initialization.loadedClasses;
 
         LOG.INFO("Initializing the MicroKernel....");
-        LOG.INFO("~ Scanning .class files...");
-        classpath.find(Pattern.compile(".*?\\.class")).forEach(Injector::loadClass);
-
-        LOG.INFO("~ Applying %d class load actions on %d classes...", actions.size(), loadedClasses.size());
-        loadedClasses.parallelStream().forEach(Injector::applyClassLoadActions);
-
-        LOG.INFO("~ Initializing static parts-references...");
-        loadedClasses.parallelStream().forEach(ctx::wireClass);
+        initialization.run(true);
 
         LOG.INFO("~ Initializing parts...");
+        Watch watch = Watch.start();
         ctx.processAnnotations();
+        LOG.INFO("~ Initialized parts in %s", watch.duration());
     }
 
-    private static void loadClass(Matcher matcher) {
-        String relativePath = matcher.group();
-        String className = relativePath.substring(0, relativePath.length() - 6).replace("/", ".");
-        if (!shouldLoadClass(className)) {
-            return;
-        }
-        try {
-            if (LOG.isFINE()) {
-                LOG.FINE("Found class: " + className);
-            }
-            Class<?> clazz = Class.forName(className, true, cp.getLoader());
-            if (ClassLoadAction.class.isAssignableFrom(clazz) && !clazz.isInterface()) {
-                createAndCollectClassLoadAction(className, clazz);
-            }
-            loadedClasses.add(clazz);
-        } catch (NoClassDefFoundError error) {
-            Exceptions.handle()
-                      .error(error)
-                      .to(LOG)
-                      .withSystemErrorMessage("Failed to load dependent class: %s", className)
-                      .handle();
-        } catch (Exception exception) {
-            Exceptions.handle()
-                      .error(exception)
-                      .to(LOG)
-                      .withSystemErrorMessage("Failed to load class %s: %s (%s)", className)
-                      .handle();
-        }
-    }
-
-    private static void createAndCollectClassLoadAction(String className, Class<?> clazz) {
-        try {
-            actions.add((ClassLoadAction) clazz.getDeclaredConstructor().newInstance());
-        } catch (Exception exception) {
-            Exceptions.handle()
-                      .error(exception)
-                      .to(LOG)
-                      .withSystemErrorMessage("Failed to instantiate ClassLoadAction: %s - %s (%s)", className)
-                      .handle();
-        }
-    }
-
-    private static void applyClassLoadActions(Class<?> clazz) {
-        for (ClassLoadAction action : actions) {
-            if (action.getTrigger() == null || clazz.isAnnotationPresent(action.getTrigger())) {
-                if (LOG.isFINE()) {
-                    LOG.FINE("Auto-installing class: %s based on %s", clazz.getName(), action.getClass().getName());
-                }
-                try {
-                    action.handle(ctx, clazz);
-                } catch (Exception exception) {
-                    Exceptions.handle()
-                              .error(exception)
-                              .to(LOG)
-                              .withSystemErrorMessage("Failed to auto-load: %s with ClassLoadAction: %s: %s (%s)",
-                                                      clazz.getName(),
-                                                      action.getClass().getSimpleName())
-                              .handle();
-                }
-            }
-        }
-    }
-
-    private static boolean shouldLoadClass(String className) {
-        if (packageFilter.isEmpty()) {
-            return true;
-        }
-        for (String filter : packageFilter) {
-            if (className.startsWith(filter)) {
-                return true;
-            }
-        }
-
-        return false;
+    private static int determineParallelism() {
+        int parallelism = Sirius.getSettings().getInt("di.parallelism");
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
     }
 
     /**
@@ -183,10 +133,353 @@ public class Injector {
 
     /**
      * Returns a list of all loaded classes.
+     * <p>
+     * Note that for component roots which ship a component index, only the classes listed in the index are loaded.
      *
      * @return a list of all classes detected at system startup
      */
     public static List<Class<?>> getAllLoadedClasses() {
         return Collections.unmodifiableList(loadedClasses);
     }
+
+    /**
+     * Performs the discovery, loading and registration of all classes for a new {@link PartRegistry}.
+     * <p>
+     * This is package-private so that tests can verify that the result doesn't depend on the parallelism.
+     */
+    static final class Initialization {
+
+        private final Classpath classpath;
+        private final List<String> packageFilter;
+        private final int parallelism;
+        private final PartRegistry registry = new PartRegistry();
+        private final List<Class<?>> loadedClasses = new ArrayList<>();
+        private final List<ClassLoadAction> actions = new ArrayList<>();
+
+        Initialization(Classpath classpath, int parallelism) {
+            this.classpath = classpath;
+            this.packageFilter = Sirius.getSettings().getStringList("di.packageFilter");
+            this.parallelism = parallelism;
+            // Make the context itself visible for GlobalContext...
+            registry.registerPart(registry, GlobalContext.class);
+        }
+
+        /**
+         * Loads all classes and applies the class load actions.
+         *
+         * @param wireClasses determines if the annotated static fields of the loaded classes are filled as well
+         * @return the registry which contains all registered parts (which haven't been wired yet)
+         */
+        PartRegistry run(boolean wireClasses) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                loadClasses(pool);
+                applyClassLoadActions(pool);
+                if (wireClasses) {
+                    wireClasses(pool);
+                }
+            } finally {
+                pool.shutdown();
+            }
+
+            return registry;
+        }
+
+        List<Class<?>> getLoadedClasses() {
+            return Collections.unmodifiableList(loadedClasses);
+        }
+
+        private void loadClasses(ForkJoinPool pool) {
+            Watch watch = Watch.start();
+            List<URL> indexedRoots = new ArrayList<>();
+            List<String> classNames = discoverClasses(pool, indexedRoots);
+            LOG.INFO("~ Discovered %d classes (%d of %d component roots are indexed) in %s",
+                     classNames.size(),
+                     indexedRoots.size(),
+                     classpath.getComponentRoots().size(),
+                     watch.duration());
+
+            watch.reset();
+            loadClasses(pool, classNames);
+
+            // A ClassLoadAction without a trigger has to see each class, therefore the index cannot be used...
+            if (!indexedRoots.isEmpty() && actions.stream().anyMatch(action -> action.getTrigger() == null)) {
+                LOG.INFO("~ Scanning all classes, as there is a ClassLoadAction without a trigger...");
+                Set<String> knownClassNames = new HashSet<>(classNames);
+                loadClasses(pool,
+                            indexedRoots.stream()
+                                        .flatMap(this::scanClasses)
+                                        .filter(knownClassNames::add)
+                                        .toList());
+            }
+
+            LOG.INFO("~ Loaded %d classes in %s", loadedClasses.size(), watch.duration());
+        }
+
+        /**
+         * Determines the names of all classes to load.
+         * <p>
+         * The component roots are processed in parallel, but the resulting list is always in the order of the roots.
+         *
+         * @param pool         the pool used to process the component roots
+         * @param indexedRoots will be filled with all component roots which provided a component index
+         * @return the names of all classes to load
+         */
+        private List<String> discoverClasses(ForkJoinPool pool, List<URL> indexedRoots) {
+            List<URL> componentRoots = classpath.getComponentRoots();
+            List<List<String>> indices = pool.submit(() -> componentRoots.parallelStream()
+                                                                          .map(Initialization::readComponentIndex)
+                                                                          .toList()).join();
+            for (int i = 0; i < componentRoots.size(); i++) {
+                if (indices.get(i) != null) {
+                    indexedRoots.add(componentRoots.get(i));
+                }
+            }
+
+            return pool.submit(() -> IntStream.range(0, componentRoots.size())
+                                              .parallel()
+                                              .mapToObj(i -> discoverClasses(componentRoots.get(i), indices.get(i)))
+                                              .flatMap(List::stream)
+                                              .filter(this::shouldLoadClass)
+                                              .distinct()
+                                              .toList()).join();
+        }
+
+        private List<String> discoverClasses(URL componentRoot, @Nullable List<String> index) {
+            if (index == null) {
+                return scanClasses(componentRoot).toList();
+            }
+
+            return index.stream()
+                        .filter(className -> classpath.isVisible(className.replace(".", "/") + ".class"))
+                        .toList();
+        }
+
+        /**
+         * Reads the component index of the given component root.
+         *
+         * @param componentRoot the component root to read the index for
+         * @return the names of all classes listed in the index or <tt>null</tt> if the component root has no index
+         */
+        @Nullable
+        private static List<String> readComponentIndex(URL componentRoot) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(openComponentIndex(componentRoot),
+                                                                                  StandardCharsets.UTF_8))) {
+                return reader.lines().filter(line -> Strings.isFilled(line) && !line.startsWith("#")).toList();
+            } catch (FileNotFoundException _) {
+                return null;
+            } catch (IOException | IllegalArgumentException exception) {
+                LOG.WARN("Cannot read the component index of %s, scanning all classes instead: %s",
+                         componentRoot,
+                         exception.getMessage());
+                return null;
+            }
+        }
+
+        private static InputStream openComponentIndex(URL componentRoot) throws IOException {
+            // The component root points to the component.marker, so the index is resolved as its sibling...
+            String rootPath = componentRoot.toString().substring(0, componentRoot.toString().lastIndexOf('/') + 1);
+            return URI.create(rootPath + ComponentIndexProcessor.COMPONENT_INDEX).toURL().openStream();
+        }
+
+        private Stream<String> scanClasses(URL componentRoot) {
+            return classpath.find(componentRoot, CLASS_FILE)
+                            .map(Matcher::group)
+                            .map(relativePath -> relativePath.substring(0, relativePath.length() - 6)
+                                                             .replace("/", "."));
+        }
+
+        /**
+         * Loads the given classes in parallel without initializing them.
+         * <p>
+         * The loaded classes are appended to {@link #loadedClasses} in the given order and all {@link ClassLoadAction
+         * class load actions} among them are instantiated.
+         *
+         * @param pool       the pool used to load the classes
+         * @param classNames the classes to load
+         */
+        private void loadClasses(ForkJoinPool pool, List<String> classNames) {
+            List<Class<?>> classes = pool.submit(() -> classNames.parallelStream()
+                                                                 .map(this::loadClass)
+                                                                 .filter(Objects::nonNull)
+                                                                 .toList()).join();
+
+            for (Class<?> clazz : classes) {
+                if (ClassLoadAction.class.isAssignableFrom(clazz) && !clazz.isInterface()) {
+                    createAndCollectClassLoadAction(clazz.getName(), clazz);
+                }
+            }
+            loadedClasses.addAll(classes);
+        }
+
+        @Nullable
+        private Class<?> loadClass(String className) {
+            try {
+                if (LOG.isFINE()) {
+                    LOG.FINE("Found class: " + className);
+                }
+                return Class.forName(className, false, classpath.getLoader());
+            } catch (NoClassDefFoundError error) {
+                Exceptions.handle()
+                          .error(error)
+                          .to(LOG)
+                          .withSystemErrorMessage("Failed to load dependent class: %s", className)
+                          .handle();
+            } catch (Exception exception) {
+                Exceptions.handle()
+                          .error(exception)
+                          .to(LOG)
+                          .withSystemErrorMessage("Failed to load class %s: %s (%s)", className)
+                          .handle();
+            }
+
+            return null;
+        }
+
+        private void createAndCollectClassLoadAction(String className, Class<?> clazz) {
+            try {
+                actions.add((ClassLoadAction) clazz.getDeclaredConstructor().newInstance());
+            } catch (Exception exception) {
+                Exceptions.handle()
+                          .error(exception)
+                          .to(LOG)
+                          .withSystemErrorMessage("Failed to instantiate ClassLoadAction: %s - %s (%s)", className)
+                          .handle();
+            }
+        }
+
+        /**
+         * Applies the class load actions.
+         * <p>
+         * Determining which actions apply to which class is done in parallel. The actions themselves are applied
+         * sequentially, so that the parts are registered in a deterministic order.
+         *
+         * @param pool the pool used to inspect the classes
+         */
+        private void applyClassLoadActions(ForkJoinPool pool) {
+            Watch watch = Watch.start();
+            List<List<ClassLoadAction>> matchingActions =
+                    pool.submit(() -> loadedClasses.parallelStream().map(this::findMatchingActions).toList()).join();
+
+            int numberOfApplications = 0;
+            for (int i = 0; i < loadedClasses.size(); i++) {
+                for (ClassLoadAction action : matchingActions.get(i)) {
+                    applyClassLoadAction(loadedClasses.get(i), action);
+                    numberOfApplications++;
+                }
+            }
+
+            LOG.INFO("~ Applied %d class load actions %d times on %d classes in %s",
+                     actions.size(),
+                     numberOfApplications,
+                     loadedClasses.size(),
+                     watch.duration());
+        }
+
+        private List<ClassLoadAction> findMatchingActions(Class<?> clazz) {
+            try {
+                return actions.stream()
+                              .filter(action -> action.getTrigger() == null
+                                                || clazz.isAnnotationPresent(action.getTrigger()))
+                              .toList();
+            } catch (LinkageError error) {
+                Exceptions.handle()
+                          .error(error)
+                          .to(LOG)
+                          .withSystemErrorMessage("Failed to inspect class %s: %s (%s)", clazz.getName())
+                          .handle();
+                return Collections.emptyList();
+            }
+        }
+
+        private void applyClassLoadAction(Class<?> clazz, ClassLoadAction action) {
+            if (LOG.isFINE()) {
+                LOG.FINE("Auto-installing class: %s based on %s", clazz.getName(), action.getClass().getName());
+            }
+            try {
+                action.handle(registry, clazz);
+            } catch (Exception | LinkageError exception) {
+                Exceptions.handle()
+                          .error(exception)
+                          .to(LOG)
+                          .withSystemErrorMessage("Failed to auto-load: %s with ClassLoadAction: %s: %s (%s)",
+                                                  clazz.getName(),
+                                                  action.getClass().getSimpleName())
+                          .handle();
+            }
+        }
+
+        /**
+         * Fills the annotated static fields of all loaded classes.
+         * <p>
+         * The classes which declare such fields are determined in parallel and then initialized sequentially (if this
+         * hasn't already happened), before their fields are wired in parallel.
+         *
+         * @param pool the pool used to inspect and wire the classes
+         */
+        private void wireClasses(ForkJoinPool pool) {
+            Watch watch = Watch.start();
+            List<Class<?>> classesToWire = pool.submit(() -> loadedClasses.parallelStream()
+                                                                          .filter(Initialization::hasWiredStaticFields)
+                                                                          .toList())
+                                               .join()
+                                               .stream()
+                                               .filter(Initialization::initializeClass)
+                                               .toList();
+
+            pool.submit(() -> classesToWire.parallelStream().forEach(registry::wireClass)).join();
+            LOG.INFO("~ Initialized static parts-references of %d classes in %s",
+                     classesToWire.size(),
+                     watch.duration());
+        }
+
+        private static boolean hasWiredStaticFields(Class<?> clazz) {
+            try {
+                Class<?> current = clazz;
+                while (current != null) {
+                    for (Field field : current.getDeclaredFields()) {
+                        if (Modifier.isStatic(field.getModifiers())
+                            && !Modifier.isFinal(field.getModifiers())
+                            && field.getAnnotations().length > 0) {
+                            return true;
+                        }
+                    }
+                    current = current.getSuperclass();
+                }
+            } catch (NoClassDefFoundError error) {
+                // This is handled (and logged) when wiring the class...
+                Exceptions.ignore(error);
+                return true;
+            }
+
+            return false;
+        }
+
+        private static boolean initializeClass(Class<?> clazz) {
+            try {
+                Class.forName(clazz.getName(), true, clazz.getClassLoader());
+                return true;
+            } catch (ClassNotFoundException | LinkageError exception) {
+                Exceptions.handle()
+                          .error(exception)
+                          .to(LOG)
+                          .withSystemErrorMessage("Failed to initialize class %s: %s (%s)", clazz.getName())
+                          .handle();
+                return false;
+            }
+        }
+
+        private boolean shouldLoadClass(String className) {
+            if (packageFilter.isEmpty()) {
+                return true;
+            }
+            for (String filter : packageFilter) {
+                if (className.startsWith(filter)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
 }
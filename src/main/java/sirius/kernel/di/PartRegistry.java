@@ -21,6 +21,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -33,6 +34,7 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * An instance of PartRegistry is kept by {@link sirius.kernel.di.Injector} to track all registered
@@ -60,6 +62,33 @@ class PartRegistry implements MutableGlobalContext {
      */
     private final Map<Class<?>, Map<String, Object>> namedParts = new ConcurrentHashMap<>();
 
+    /*
+     * Contains the fields to fill per class (including the fields of its superclasses) along with the prepared
+     * injectors. This way, wiring an object doesn't require any reflection. Using a ClassValue (instead of a map)
+     * ensures that the plans don't keep classes (and their class loaders) alive.
+     *
+     * As the plans depend on the known FieldAnnotationProcessors, the generation is incremented once another one
+     * is registered. Plans of an older generation are then re-created on their next lookup.
+     */
+    private final ClassValue<InjectionPlan> injectionPlans = new ClassValue<>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type) {
+            return createInjectionPlan(type);
+        }
+    };
+
+    private final AtomicInteger injectionPlanGeneration = new AtomicInteger();
+
+    private record InjectionPlan(int generation, List<PreparedInjection> injections) {
+    }
+
+    private record PreparedInjection(Field field, FieldAnnotationProcessor processor, FieldInjector injector) {
+
+        boolean isStatic() {
+            return Modifier.isStatic(field.getModifiers());
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <P> P getPart(Class<P> clazz) {
@@ -124,11 +153,8 @@ class PartRegistry implements MutableGlobalContext {
 
     @Override
     public <T> T wire(T object) {
-        // Wire....
-        Class<?> clazz = object.getClass();
-        while (clazz != null) {
-            wireClass(clazz, object);
-            clazz = clazz.getSuperclass();
+        for (PreparedInjection injection : getInjectionPlan(object.getClass())) {
+            inject(injection, object);
         }
 
         return object;
@@ -138,59 +164,86 @@ class PartRegistry implements MutableGlobalContext {
      * Called to initialize all static fields with annotations
      */
     void wireClass(Class<?> clazz) {
-        while (clazz != null) {
-            wireClass(clazz, null);
-            clazz = clazz.getSuperclass();
+        for (PreparedInjection injection : getInjectionPlan(clazz)) {
+            if (injection.isStatic()) {
+                inject(injection, null);
+            }
         }
     }
 
     /*
-     * Called to initialize all field of the given class in the given object
+     * Returns the cached injection plan for the given class or re-creates it if it is outdated
      */
-    private void wireClass(Class<?> clazz, Object object) {
+    private List<PreparedInjection> getInjectionPlan(Class<?> clazz) {
+        InjectionPlan plan = injectionPlans.get(clazz);
+        while (plan.generation() != injectionPlanGeneration.get()) {
+            injectionPlans.remove(clazz);
+            plan = injectionPlans.get(clazz);
+        }
+
+        return plan.injections();
+    }
+
+    private InjectionPlan createInjectionPlan(Class<?> clazz) {
+        // The generation has to be read first, so that a concurrently registered processor marks the plan as outdated
+        int generation = injectionPlanGeneration.get();
+        Collection<FieldAnnotationProcessor> processors = getParts(FieldAnnotationProcessor.class);
+        List<PreparedInjection> injections = new ArrayList<>();
+        Class<?> current = clazz;
+        while (current != null) {
+            collectInjections(current, processors, injections);
+            current = current.getSuperclass();
+        }
+
+        return new InjectionPlan(generation, List.copyOf(injections));
+    }
+
+    private void collectInjections(Class<?> clazz,
+                                   Collection<FieldAnnotationProcessor> processors,
+                                   List<PreparedInjection> injections) {
         try {
             for (Field field : clazz.getDeclaredFields()) {
-                if (!Modifier.isFinal(field.getModifiers()) && (object != null
-                                                                || Modifier.isStatic(field.getModifiers()))) {
-                    wireField(object, field);
+                if (!Modifier.isFinal(field.getModifiers())) {
+                    processors.stream()
+                              .filter(processor -> field.isAnnotationPresent(processor.getTrigger()))
+                              .forEach(processor -> prepareInjection(field, processor, injections));
                 }
             }
         } catch (NoClassDefFoundError error) {
-            if (object == null) {
-                // This is a static initialization as most probably ok (as all classes are loaded at this stage, even
-                // if they remain unused..)
-                Injector.LOG.INFO("Skipping static initialization of %s, as referenced class %s is missing...",
-                                  clazz.getName(),
-                                  error.getMessage());
-            } else {
-                // This seems odd, as a part has been loaded and registered - no classes should be missing here...
-                Injector.LOG.WARN(
-                        "Skipping initialization of part %s (%s) for class %s, as referenced class %s is missing...",
-                        object,
-                        object.getClass().getName(),
-                        clazz.getName(),
-                        error.getMessage());
-            }
+            // This is most probably ok for static fields (as all classes are loaded at startup, even if they remain
+            // unused). Parts on the other hand have been loaded and registered - so no classes should be missing...
+            Injector.LOG.INFO("Skipping the fields of %s, as referenced class %s is missing...",
+                              clazz.getName(),
+                              error.getMessage());
         }
     }
 
-    private void wireField(Object object, Field field) {
-        getParts(FieldAnnotationProcessor.class).stream()
-                                                .filter(p -> field.isAnnotationPresent(p.getTrigger()))
-                                                .forEach(p -> {
-                                                    try {
-                                                        field.setAccessible(true);
-                                                        p.handle(this, object, field);
-                                                    } catch (Exception exception) {
-                                                        Injector.LOG.WARN("Cannot process annotation %s on %s.%s: %s "
-                                                                          + "(%s)",
-                                                                          p.getTrigger().getName(),
-                                                                          field.getDeclaringClass().getName(),
-                                                                          field.getName(),
-                                                                          exception.getMessage(),
-                                                                          exception.getClass().getName());
-                                                    }
-                                                });
+    private void prepareInjection(Field field,
+                                  FieldAnnotationProcessor processor,
+                                  List<PreparedInjection> injections) {
+        try {
+            field.setAccessible(true);
+            injections.add(new PreparedInjection(field, processor, processor.prepare(field)));
+        } catch (Exception exception) {
+            logFailedInjection(field, processor, exception);
+        }
+    }
+
+    private void inject(PreparedInjection injection, Object object) {
+        try {
+            injection.injector().inject(this, object);
+        } catch (Exception exception) {
+            logFailedInjection(injection.field(), injection.processor(), exception);
+        }
+    }
+
+    private void logFailedInjection(Field field, FieldAnnotationProcessor processor, Exception exception) {
+        Injector.LOG.WARN("Cannot process annotation %s on %s.%s: %s (%s)",
+                          processor.getTrigger().getName(),
+                          field.getDeclaringClass().getName(),
+                          field.getName(),
+                          exception.getMessage(),
+                          exception.getClass().getName());
     }
 
     @Override
@@ -202,6 +255,9 @@ class PartRegistry implements MutableGlobalContext {
         Class<?> predecessor = determinePredecessor(part);
 
         registerPart(part, implementedInterfaces, predecessor, successor);
+        if (part instanceof FieldAnnotationProcessor) {
+            injectionPlanGeneration.incrementAndGet();
+        }
     }
 
     private void registerPart(Object part, Class<?>[] implementedInterfaces, Class<?> predecessor, Object successor) {
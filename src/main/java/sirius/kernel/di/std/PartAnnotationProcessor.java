@@ -10,7 +10,9 @@ package sirius.kernel.di.std;
 
 import sirius.kernel.Sirius;
 import sirius.kernel.commons.Strings;
+import sirius.kernel.di.FieldAccessor;
 import sirius.kernel.di.FieldAnnotationProcessor;
+import sirius.kernel.di.FieldInjector;
 import sirius.kernel.di.Injector;
 import sirius.kernel.di.MutableGlobalContext;
 
@@ -34,18 +36,28 @@ public class PartAnnotationProcessor implements FieldAnnotationProcessor {
 
     @Override
     public void handle(MutableGlobalContext ctx, Object object, Field field) throws Exception {
+        prepare(field).inject(ctx, object);
+    }
+
+    @Override
+    public FieldInjector prepare(Field field) throws Exception {
         Part annotation = field.getAnnotation(Part.class);
+        FieldAccessor accessor = FieldAccessor.of(field);
         if (Strings.isFilled(annotation.configPath())) {
-            String value = Sirius.getSettings().getString(annotation.configPath());
-            if (Strings.isFilled(value)) {
-                Object part = ctx.findPart(value, field.getType());
-                field.set(object, part);
-            }
-        } else {
+            return (ctx, object) -> {
+                String value = Sirius.getSettings().getString(annotation.configPath());
+                if (Strings.isFilled(value)) {
+                    accessor.set(object, ctx.findPart(value, field.getType()));
+                }
+            };
+        }
+
+        boolean nullable = field.isAnnotationPresent(Nullable.class);
+        return (ctx, object) -> {
             Object part = ctx.getPart(field.getType());
             if (part != null) {
-                field.set(object, part);
-            } else if (field.get(object) == null && !field.isAnnotationPresent(Nullable.class)) {
+                accessor.set(object, part);
+            } else if (!nullable && accessor.get(object) == null) {
                 Injector.LOG.WARN(
                         "Cannot fill %s of %s with %s!"
                         + " Add a Nullable annotation if this is expected, in order to suppress this warning.",
@@ -53,6 +65,6 @@ public class PartAnnotationProcessor implements FieldAnnotationProcessor {
                         field.getDeclaringClass().getName(),
                         field.getType());
             }
-        }
+        };
     }
 }
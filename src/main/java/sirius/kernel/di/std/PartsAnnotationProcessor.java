@@ -8,7 +8,9 @@
 
 package sirius.kernel.di.std;
 
+import sirius.kernel.di.FieldAccessor;
 import sirius.kernel.di.FieldAnnotationProcessor;
+import sirius.kernel.di.FieldInjector;
 import sirius.kernel.di.MutableGlobalContext;
 import sirius.kernel.di.PartCollection;
 
@@ -31,11 +33,17 @@ public class PartsAnnotationProcessor implements FieldAnnotationProcessor {
 
     @Override
     public void handle(MutableGlobalContext ctx, Object object, Field field) throws Exception {
+        prepare(field).inject(ctx, object);
+    }
+
+    @Override
+    public FieldInjector prepare(Field field) throws Exception {
         Parts parts = field.getAnnotation(Parts.class);
+        FieldAccessor accessor = FieldAccessor.of(field);
         if (Collection.class.isAssignableFrom(field.getType())) {
-            field.set(object, ctx.getParts(parts.value()));
+            return (ctx, object) -> accessor.set(object, ctx.getParts(parts.value()));
         } else if (PartCollection.class.isAssignableFrom(field.getType())) {
-            field.set(object, ctx.getPartCollection(parts.value()));
+            return (ctx, object) -> accessor.set(object, ctx.getPartCollection(parts.value()));
         } else {
             throw new IllegalArgumentException(
                     "Only fields of type Collection or PartCollection are allowed whe using @Parts.");
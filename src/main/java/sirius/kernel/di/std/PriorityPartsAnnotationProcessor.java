@@ -8,7 +8,9 @@
 
 package sirius.kernel.di.std;
 
+import sirius.kernel.di.FieldAccessor;
 import sirius.kernel.di.FieldAnnotationProcessor;
+import sirius.kernel.di.FieldInjector;
 import sirius.kernel.di.MutableGlobalContext;
 
 import java.lang.annotation.Annotation;
@@ -30,13 +32,19 @@ public class PriorityPartsAnnotationProcessor implements FieldAnnotationProcesso
 
     @Override
     public void handle(MutableGlobalContext ctx, Object object, Field field) throws Exception {
+        prepare(field).inject(ctx, object);
+    }
+
+    @Override
+    public FieldInjector prepare(Field field) throws Exception {
         PriorityParts parts = field.getAnnotation(PriorityParts.class);
         if (Collection.class.isAssignableFrom(field.getType())) {
             if (!Priorized.class.isAssignableFrom(parts.value())) {
                 throw new IllegalArgumentException(
                         "PriorityParts annotations may only be used with classes implementing 'Priorized'");
             }
-            field.set(object, ctx.getPriorizedParts(parts.value()));
+            FieldAccessor accessor = FieldAccessor.of(field);
+            return (ctx, object) -> accessor.set(object, ctx.getPriorizedParts(parts.value()));
         } else {
             throw new IllegalArgumentException(
                     "Only fields of type Collection or List are allowed whe using @PriorityParts.");
@@ -12,8 +12,8 @@ import sirius.kernel.Sirius;
 import sirius.kernel.commons.Explain;
 import sirius.kernel.commons.Strings;
 import sirius.kernel.di.PartCollection;
+import sirius.kernel.di.std.Part;
 import sirius.kernel.di.std.Parts;
-import sirius.kernel.nls.NLS;
 
 import java.util.Collections;
 import java.util.List;
@@ -57,6 +57,21 @@ public class Log {
      */
     private static final Map<String, Logger> loggerHardReferences = new ConcurrentHashMap<>();
 
+    /**
+     * Contains the number of frames between {@link #determineCaller()} and the caller of the logging method.
+     * <p>
+     * These are <tt>determineCaller</tt>, <tt>log</tt> and the public logging method (e.g. <tt>INFO</tt>).
+     */
+    private static final int CALLER_FRAMES_TO_SKIP = 3;
+
+    private static final StackWalker STACK_WALKER =
+            StackWalker.getInstance(StackWalker.Option.SHOW_REFLECT_FRAMES);
+
+    /**
+     * Caches the resolved caller per call site, as resolving line numbers and file names is comparatively expensive.
+     */
+    private static final Map<CallSiteKey, CallSite> callSites = new ConcurrentHashMap<>();
+
     /**
      * Provides a generic logger for application log messages.
      * <p>
@@ -90,6 +105,9 @@ public class Log {
     @Parts(LogTap.class)
     private static PartCollection<LogTap> taps;
 
+    @Part
+    private static LogDispatcher dispatcher;
+
     /*
      * Use get(String) to create a new instance
      */
@@ -174,7 +192,7 @@ public class Log {
     }
 
     private void log(Level level, Object message) {
-        StackTraceElement caller = new Throwable().getStackTrace()[2];
+        CallSite caller = determineCaller();
 
         LogRecord logRecord = createLogRecord(level, message, caller);
         if (message instanceof Throwable throwable) {
@@ -182,13 +200,34 @@ public class Log {
         }
 
         logger.log(logRecord);
-        tap(message, caller, level);
+        tap(message, caller.element(), level);
+    }
+
+    /**
+     * Determines the caller of the public logging method which eventually invoked {@link #log(Level, Object)}.
+     * <p>
+     * This is the frame two levels above <tt>log</tt> itself (the same one which used to be determined via
+     * <tt>new Throwable().getStackTrace()[2]</tt>). The stack walker only inspects the required frames and as
+     * the same location logs over and over again, the resolved stack trace element is cached per call site.
+     */
+    private CallSite determineCaller() {
+        StackWalker.StackFrame frame =
+                STACK_WALKER.walk(frames -> frames.skip(CALLER_FRAMES_TO_SKIP).findFirst()).orElse(null);
+        if (frame == null) {
+            return CallSite.UNKNOWN;
+        }
+
+        return callSites.computeIfAbsent(new CallSiteKey(frame.getClassName(),
+                                                         frame.getMethodName(),
+                                                         frame.getDescriptor(),
+                                                         frame.getByteCodeIndex()),
+                                         ignored -> CallSite.of(frame.toStackTraceElement()));
     }
 
-    private LogRecord createLogRecord(Level level, Object message, StackTraceElement caller) {
+    private LogRecord createLogRecord(Level level, Object message, CallSite caller) {
         LogRecord logRecord = new LogRecord(level, message.toString());
         logRecord.setLoggerName(logger.getName());
-        logRecord.setSourceClassName(caller.getFileName() + ":" + caller.getLineNumber());
+        logRecord.setSourceClassName(caller.source());
         return logRecord;
     }
 
@@ -200,15 +239,50 @@ public class Log {
             return;
         }
 
+        if (dispatcher != null) {
+            LogMessage logMessage = new LogMessage(message, level, this, caller, Thread.currentThread().getName());
+            if (!dispatcher.dispatch(logMessage)) {
+                deliverToTaps(List.of(logMessage));
+            }
+            return;
+        }
+
+        try {
+            frozen.set(Boolean.TRUE);
+            LogMessage logMessage = null;
+            for (LogTap tap : taps) {
+                try {
+                    if (logMessage == null) {
+                        logMessage = new LogMessage(message, level, this, caller, Thread.currentThread().getName());
+                    }
+                    tap.handleLogMessage(logMessage);
+                } catch (Exception exception) {
+                    // Ignored - if we can't log s.th. let's just give up...
+                }
+            }
+        } finally {
+            frozen.remove();
+        }
+    }
+
+    /**
+     * Hands the given batch of messages to all taps.
+     * <p>
+     * This is invoked by the {@link LogDispatcher} and suppresses tapping any messages which are logged by the taps
+     * themselves.
+     *
+     * @param messages the messages to deliver
+     */
+    static void deliverToTaps(List<LogMessage> messages) {
+        if (taps == null) {
+            return;
+        }
+
         try {
             frozen.set(Boolean.TRUE);
             for (LogTap tap : taps) {
                 try {
-                    tap.handleLogMessage(new LogMessage(NLS.toUserString(message),
-                                                        level,
-                                                        this,
-                                                        caller,
-                                                        Thread.currentThread().getName()));
+                    tap.handleLogMessages(messages);
                 } catch (Exception exception) {
                     // Ignored - if we can't log s.th. let's just give up...
                 }
@@ -218,6 +292,25 @@ public class Log {
         }
     }
 
+    /**
+     * Identifies a location in the code which invokes a logger.
+     */
+    private record CallSiteKey(String className, String methodName, String descriptor, int byteCodeIndex) {
+    }
+
+    /**
+     * Contains the resolved stack trace element of a call site along with its representation used in log records.
+     */
+    private record CallSite(StackTraceElement element, String source) {
+
+        private static final CallSite UNKNOWN =
+                of(new StackTraceElement("unknown", "unknown", "unknown", -1));
+
+        private static CallSite of(StackTraceElement element) {
+            return new CallSite(element, element.getFileName() + ":" + element.getLineNumber());
+        }
+    }
+
     /**
      * Logs the given message at INFO level
      * <p>
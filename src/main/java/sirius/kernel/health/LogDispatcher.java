@@ -0,0 +1,311 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.health;
+
+import sirius.kernel.Killable;
+import sirius.kernel.Startable;
+import sirius.kernel.Stoppable;
+import sirius.kernel.commons.RingBuffer;
+import sirius.kernel.commons.Value;
+import sirius.kernel.di.std.ConfigValue;
+import sirius.kernel.di.std.Register;
+import sirius.kernel.health.metrics.Metric;
+import sirius.kernel.health.metrics.MetricProvider;
+import sirius.kernel.health.metrics.MetricsCollector;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands log messages to the {@link LogTap taps} in a background thread.
+ * <p>
+ * {@link Log} puts each message into a bounded, lock-free {@link RingBuffer} and returns immediately. A single
+ * background thread drains the buffer in batches and supplies each tap with a whole batch via
+ * {@link LogTap#handleLogMessages(List)}. Therefore, logging threads never wait for a (possibly slow or
+ * synchronized) tap. Note that this also implies that taps are no longer invoked within the logging thread (and its
+ * {@link sirius.kernel.async.CallContext}).
+ * <p>
+ * If the buffer is full, the configured {@link OverflowPolicy} determines what happens. The number of delivered and
+ * dropped messages is reported as metrics.
+ * <p>
+ * As long as the dispatcher isn't running (during startup or shutdown or if it has been disabled via
+ * <tt>health.log-dispatch.enabled</tt>), messages are handed to the taps synchronously.
+ */
+@Register(classes = {LogDispatcher.class, Startable.class, Stoppable.class, Killable.class, MetricProvider.class})
+public class LogDispatcher implements Startable, Stoppable, Killable, MetricProvider {
+
+    /**
+     * Determines what happens to a log message if the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Removes the oldest message in the buffer to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Discards the new message.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Blocks the logging thread until there is room in the buffer.
+         */
+        BLOCK
+    }
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(10);
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long OVERFLOW_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    @ConfigValue("health.log-dispatch.enabled")
+    private boolean enabled;
+
+    @ConfigValue("health.log-dispatch.queue-length")
+    private int queueLength;
+
+    @ConfigValue("health.log-dispatch.batch-size")
+    private int batchSize;
+
+    @ConfigValue("health.log-dispatch.overflow-policy")
+    private String overflowPolicyName;
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+    private RingBuffer<LogMessage> buffer;
+    private volatile boolean running;
+    private Thread dispatcherThread;
+    private final AtomicBoolean dispatcherIdle = new AtomicBoolean();
+
+    /**
+     * Contains the number of messages which have been removed from the buffer (either delivered or dropped).
+     */
+    private final AtomicLong messagesProcessed = new AtomicLong();
+    private final Counter messagesDelivered = new Counter();
+    private final Counter messagesDropped = new Counter();
+
+    @Override
+    public void started() {
+        if (!enabled) {
+            return;
+        }
+
+        start(queueLength,
+              batchSize,
+              Value.of(overflowPolicyName.toUpperCase().replace('-', '_'))
+                   .getEnum(OverflowPolicy.class)
+                   .orElse(OverflowPolicy.DROP_OLDEST));
+    }
+
+    /**
+     * Starts the dispatcher thread using the given settings.
+     *
+     * @param queueLength    the max number of messages waiting to be dispatched
+     * @param batchSize      the max number of messages handed to the taps at once
+     * @param overflowPolicy determines what happens if the buffer is full
+     */
+    void start(int queueLength, int batchSize, OverflowPolicy overflowPolicy) {
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new RingBuffer<>(queueLength);
+        this.running = true;
+        dispatcherThread = Thread.ofPlatform().name("log-dispatcher").daemon().start(this::dispatchLoop);
+    }
+
+    /**
+     * Enqueues the given message to be delivered to all taps.
+     *
+     * @param message the message to deliver
+     * @return <tt>true</tt> if the message has been accepted (which includes dropping it due to the overflow policy),
+     * <tt>false</tt> if the dispatcher isn't running and the message has to be delivered synchronously
+     */
+    boolean dispatch(LogMessage message) {
+        if (!running) {
+            return false;
+        }
+
+        // We resolve non-string messages in the calling thread, as their representation might depend on the
+        // language of the current call context...
+        message.resolveMessage();
+        if (!buffer.offer(message)) {
+            handleOverflow(message);
+        }
+        wakeDispatcher();
+
+        return true;
+    }
+
+    private void handleOverflow(LogMessage message) {
+        switch (overflowPolicy) {
+            case DROP_NEWEST -> messagesDropped.inc();
+            case DROP_OLDEST -> {
+                while (!buffer.offer(message)) {
+                    if (buffer.poll() != null) {
+                        messagesDropped.inc();
+                        messagesProcessed.incrementAndGet();
+                    }
+                }
+            }
+            case BLOCK -> {
+                while (!buffer.offer(message)) {
+                    if (!running) {
+                        Log.deliverToTaps(List.of(message));
+                        return;
+                    }
+                    wakeDispatcher();
+                    LockSupport.parkNanos(OVERFLOW_WAIT_NANOS);
+                }
+            }
+        }
+    }
+
+    private void wakeDispatcher() {
+        if (dispatcherIdle.get() && dispatcherIdle.compareAndSet(true, false)) {
+            LockSupport.unpark(dispatcherThread);
+        }
+    }
+
+    private void dispatchLoop() {
+        List<LogMessage> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            buffer.drain(batchSize, batch::add);
+            if (batch.isEmpty()) {
+                awaitMessages();
+            } else {
+                deliver(batch);
+            }
+        }
+    }
+
+    /**
+     * Parks the dispatcher thread until new messages arrive.
+     * <p>
+     * The buffer is checked again after announcing that we're idle, so that a message which has been added in the
+     * meantime isn't left behind. The timeout is only a safety net.
+     */
+    private void awaitMessages() {
+        dispatcherIdle.set(true);
+        if (buffer.isEmpty() && running) {
+            LockSupport.parkNanos(IDLE_WAIT_NANOS);
+        }
+        dispatcherIdle.set(false);
+    }
+
+    private void deliver(List<LogMessage> batch) {
+        try {
+            Log.deliverToTaps(batch);
+        } finally {
+            messagesDelivered.add(batch.size());
+            messagesProcessed.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+
+    /**
+     * Waits until all messages which have been logged so far have been handed to the taps.
+     * <p>
+     * This is mostly useful for tests which need to inspect the messages received by a tap.
+     */
+    public void flush() {
+        if (!running) {
+            return;
+        }
+
+        long target = buffer.getNumberOfElementsAdded();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT.toNanos();
+        while (running && messagesProcessed.get() < target && System.nanoTime() < deadline) {
+            wakeDispatcher();
+            LockSupport.parkNanos(OVERFLOW_WAIT_NANOS);
+        }
+    }
+
+    @Override
+    public void stopped() {
+        running = false;
+        if (dispatcherThread != null) {
+            LockSupport.unpark(dispatcherThread);
+        }
+    }
+
+    @Override
+    public void awaitTermination() {
+        if (dispatcherThread == null) {
+            return;
+        }
+
+        try {
+            if (!dispatcherThread.join(SHUTDOWN_TIMEOUT)) {
+                Log.SYSTEM.WARN("The log dispatcher didn't terminate within %s", SHUTDOWN_TIMEOUT);
+                return;
+            }
+        } catch (InterruptedException exception) {
+            Exceptions.ignore(exception);
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        // Deliver messages which have been enqueued by threads which raced with the shutdown...
+        List<LogMessage> remainingMessages = new ArrayList<>();
+        buffer.drain(Integer.MAX_VALUE, remainingMessages::add);
+        if (!remainingMessages.isEmpty()) {
+            Log.deliverToTaps(remainingMessages);
+        }
+    }
+
+    /**
+     * Returns the number of messages which have been handed to the taps by the dispatcher.
+     *
+     * @return the number of delivered messages
+     */
+    public long getNumDeliveredMessages() {
+        return messagesDelivered.getCount();
+    }
+
+    /**
+     * Returns the number of messages which have been dropped as the buffer was full.
+     *
+     * @return the number of dropped messages
+     */
+    public long getNumDroppedMessages() {
+        return messagesDropped.getCount();
+    }
+
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public void gather(MetricsCollector collector) {
+        if (buffer == null) {
+            return;
+        }
+
+        collector.differentialMetric("kernel_log_dispatch_delivered",
+                                     "log-dispatch-delivered",
+                                     "Log Messages Delivered",
+                                     messagesDelivered.getCount(),
+                                     Metric.UNIT_PER_MIN);
+        collector.differentialMetric("kernel_log_dispatch_dropped",
+                                     "log-dispatch-dropped",
+                                     "Log Messages Dropped",
+                                     messagesDropped.getCount(),
+                                     Metric.UNIT_PER_MIN);
+        collector.metric("kernel_log_dispatch_length",
+                         "log-dispatch-length",
+                         "Log Dispatch Queue Length",
+                         buffer.size(),
+                         null);
+    }
+}
@@ -17,7 +17,8 @@ import java.util.logging.Level;
  * Contains a log message passed from {@link Log} to {@link LogTap}.
  */
 public class LogMessage {
-    private final String message;
+    private final Object rawMessage;
+    private String message;
     private final long timestamp;
     private final Level logLevel;
     private final Log receiver;
@@ -34,10 +35,27 @@ public class LogMessage {
      * @param thread   the thread in which the message was logged
      */
     public LogMessage(String message, Level logLevel, Log receiver, StackTraceElement caller, String thread) {
+        this((Object) message, logLevel, receiver, caller, thread);
+        this.message = message;
+    }
+
+    /**
+     * Creates a new log message for the given object, which is only converted into a string once it is requested.
+     * <p>
+     * This is used by {@link Log}, as many taps filter messages by their level or receiver and therefore never
+     * access the message itself.
+     *
+     * @param message  the object which has been logged
+     * @param logLevel the level of the message
+     * @param receiver the original receiver
+     * @param caller   the stack frame where the log message was issued
+     * @param thread   the thread in which the message was logged
+     */
+    LogMessage(Object message, Level logLevel, Log receiver, StackTraceElement caller, String thread) {
         this.caller = caller;
         this.thread = thread;
         this.timestamp = System.currentTimeMillis();
-        this.message = message;
+        this.rawMessage = message;
         this.logLevel = logLevel;
         this.receiver = receiver;
     }
@@ -48,9 +66,24 @@ public class LogMessage {
      * @return the message sent to the logger
      */
     public String getMessage() {
+        if (message == null && rawMessage != null) {
+            message = NLS.toUserString(rawMessage);
+        }
         return message;
     }
 
+    /**
+     * Converts the logged object into its string representation right away, unless it already is a string.
+     * <p>
+     * This is invoked before the message is handed to another thread, as the representation of some objects depends
+     * on the language of the current {@link sirius.kernel.async.CallContext}.
+     */
+    void resolveMessage() {
+        if (!(rawMessage instanceof String)) {
+            getMessage();
+        }
+    }
+
     /**
      * Contains the log level used for this message.
      *
@@ -8,6 +8,8 @@
 
 package sirius.kernel.health;
 
+import java.util.List;
+
 /**
  * Can be used to "tap" the logging system.
  * <p>
@@ -16,8 +18,26 @@ package sirius.kernel.health;
 public interface LogTap {
     /**
      * Invoked once a log message is received.
+     * <p>
+     * Note that this is usually invoked by the {@link LogDispatcher} and not within the thread which logged the
+     * message.
      *
      * @param message the message to log
      */
     void handleLogMessage(LogMessage message);
+
+    /**
+     * Invoked by the {@link LogDispatcher} with a batch of received log messages.
+     * <p>
+     * By default, each message is handed to {@link #handleLogMessage(LogMessage)}. Taps which need to synchronize
+     * or perform IO can override this to do so once per batch. Note that the given list is re-used by the
+     * dispatcher and must not be retained after this method returns.
+     *
+     * @param messages the messages to log in the order in which they have been logged
+     */
+    default void handleLogMessages(List<LogMessage> messages) {
+        for (LogMessage message : messages) {
+            handleLogMessage(message);
+        }
+    }
 }
@@ -8,25 +8,38 @@
 
 package sirius.kernel.health;
 
-import sirius.kernel.commons.Strings;
 import sirius.kernel.di.std.ConfigValue;
 import sirius.kernel.di.std.Register;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.SequencedMap;
 
 /**
  * Provides a in-memory store for logs and exceptions.
  * <p>
  * This will be inherently limited in size but should always contain the most recent logs and errors.
+ * <p>
+ * Log messages are kept in a fixed-size ring which can be written concurrently without locking. Incidents are
+ * indexed by their location, so that a recurring incident replaces its predecessor in constant time.
  */
 @Register(classes = {MemoryBasedHealthMonitor.class, LogTap.class, ExceptionHandler.class})
 public class MemoryBasedHealthMonitor implements ExceptionHandler, LogTap {
 
-    protected final List<Incident> incidents = Collections.synchronizedList(new ArrayList<Incident>());
-    protected final List<LogMessage> messages = Collections.synchronizedList(new ArrayList<LogMessage>());
+    /**
+     * Contains the most recent incident per location in the order of their occurrence (oldest first).
+     * <p>
+     * Note that all accesses have to be synchronized on the map itself.
+     */
+    protected final SequencedMap<String, Incident> incidents = new LinkedHashMap<>();
+
+    /**
+     * Contains the most recent log messages.
+     * <p>
+     * Use {@link #getMessages()} to read and {@link #clearMessages()} to reset them.
+     */
+    private volatile RecentEntries<LogMessage> messages;
 
     @ConfigValue("health.memory.max-errors")
     private int maxErrors;
@@ -41,52 +54,80 @@ public class MemoryBasedHealthMonitor implements ExceptionHandler, LogTap {
     @Override
     public void handle(Incident incident) throws Exception {
         synchronized (incidents) {
-            boolean unique = true;
-            Iterator<Incident> iter = incidents.iterator();
-            while (iter.hasNext()) {
-                if (Strings.areEqual(iter.next().getLocation(), incident.getLocation())) {
-                    iter.remove();
-                    unique = false;
-                }
-            }
-            incidents.addFirst(incident);
+            // Removing the previous incident first ensures, that the new one is appended as most recent entry...
+            boolean unique = incidents.remove(incident.getLocation()) == null;
+            incidents.put(incident.getLocation(), incident);
             numIncidents.inc();
             if (unique) {
                 numUniqueIncidents.inc();
             }
             while (incidents.size() > maxErrors) {
-                incidents.removeLast();
+                incidents.pollFirstEntry();
             }
         }
     }
 
     @Override
     public void handleLogMessage(LogMessage msg) {
-        synchronized (messages) {
-            messages.addFirst(msg);
-            numLogMessages.inc();
-            while (messages.size() > maxMsg) {
-                messages.removeLast();
+        getMessageBuffer().add(msg);
+        numLogMessages.inc();
+    }
+
+    @Override
+    public void handleLogMessages(List<LogMessage> batch) {
+        RecentEntries<LogMessage> buffer = getMessageBuffer();
+        for (LogMessage msg : batch) {
+            buffer.add(msg);
+        }
+        numLogMessages.add(batch.size());
+    }
+
+    /**
+     * Returns the ring used to store log messages.
+     * <p>
+     * The ring is created lazily, as its size is only known once the config has been injected.
+     *
+     * @return the ring which stores the most recent log messages
+     */
+    private RecentEntries<LogMessage> getMessageBuffer() {
+        RecentEntries<LogMessage> buffer = messages;
+        if (buffer == null) {
+            synchronized (this) {
+                if (messages == null) {
+                    messages = new RecentEntries<>(maxMsg);
+                }
+                buffer = messages;
             }
         }
+
+        return buffer;
+    }
+
+    /**
+     * Discards all recorded log messages.
+     */
+    public void clearMessages() {
+        getMessageBuffer().clear();
     }
 
     /**
      * Contains all recorded incidents.
      *
-     * @return all recorded incidents
+     * @return all recorded incidents, the most recent one first
      */
     public List<Incident> getIncidents() {
-        return Collections.unmodifiableList(incidents);
+        synchronized (incidents) {
+            return List.copyOf(incidents.sequencedValues().reversed());
+        }
     }
 
     /**
      * Contains all recorded log messages.
      *
-     * @return all recorded messages
+     * @return all recorded messages, the most recent one first
      */
     public List<LogMessage> getMessages() {
-        return Collections.unmodifiableList(messages);
+        return Collections.unmodifiableList(getMessageBuffer().snapshot());
     }
 
     /**
@@ -0,0 +1,82 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.health;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the most recent entries in a fixed-size ring which can be written by many threads without any locking.
+ * <p>
+ * Each writer claims a sequence number and stores its entry in the slot determined by it, thereby overwriting the
+ * oldest entry. As the slot remembers the sequence number of its entry, readers can detect and skip slots which
+ * have been overwritten (or not yet written) while taking a snapshot.
+ *
+ * @param <E> the type of entries to keep
+ */
+class RecentEntries<E> {
+
+    private record Slot<E>(long sequence, E entry) {
+    }
+
+    private final int capacity;
+    private final AtomicReferenceArray<Slot<E>> slots;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private volatile long clearedBefore;
+
+    RecentEntries(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    /**
+     * Adds the given entry and thereby evicts the oldest one if the ring is full.
+     *
+     * @param entry the entry to add
+     */
+    void add(E entry) {
+        long sequence = nextSequence.getAndIncrement();
+        Slot<E> slot = new Slot<>(sequence, entry);
+        int index = (int) (sequence % capacity);
+
+        // A writer which was delayed must not replace the entry of a writer which already lapped it...
+        Slot<E> current = slots.get(index);
+        while ((current == null || current.sequence < sequence) && !slots.compareAndSet(index, current, slot)) {
+            current = slots.get(index);
+        }
+    }
+
+    /**
+     * Discards all entries which have been added so far.
+     */
+    void clear() {
+        clearedBefore = nextSequence.get();
+    }
+
+    /**
+     * Returns a snapshot of the current entries.
+     *
+     * @return all entries currently present, the most recent one first
+     */
+    List<E> snapshot() {
+        long end = nextSequence.get();
+        long start = Math.max(clearedBefore, end - capacity);
+        List<E> result = new ArrayList<>((int) Math.max(0, end - start));
+        for (long sequence = end - 1; sequence >= start; sequence--) {
+            Slot<E> slot = slots.get((int) (sequence % capacity));
+            if (slot != null && slot.sequence == sequence) {
+                result.add(slot.entry);
+            }
+        }
+
+        return result;
+    }
+}
@@ -10,6 +10,7 @@ package sirius.kernel.settings;
 
 import sirius.kernel.Sirius;
 import sirius.kernel.di.FieldAnnotationProcessor;
+import sirius.kernel.di.FieldInjector;
 import sirius.kernel.di.Injector;
 import sirius.kernel.di.MutableGlobalContext;
 import sirius.kernel.di.std.ConfigValue;
@@ -35,16 +36,24 @@ public class ConfigValueAnnotationProcessor implements FieldAnnotationProcessor
 
     @Override
     public void handle(MutableGlobalContext ctx, Object object, Field field) throws Exception {
-        ConfigValue val = field.getAnnotation(ConfigValue.class);
-        String key = val.value();
-
-        if (!Sirius.getSettings().injectValueFromConfig(object, field, key)
-            && !field.isAnnotationPresent(Nullable.class)) {
-            Injector.LOG.WARN("Cannot fill %s of %s with the config value '%s'."
-                              + " Add a Nullable annotation if this is expected, in order to suppress this warning.",
-                              key,
-                              field.getDeclaringClass().getName(),
-                              field.getName());
-        }
+        prepare(field).inject(ctx, object);
+    }
+
+    @Override
+    public FieldInjector prepare(Field field) throws Exception {
+        String key = field.getAnnotation(ConfigValue.class).value();
+        boolean nullable = field.isAnnotationPresent(Nullable.class);
+
+        // As config values are converted depending on the type of the field, we rely on the settings to fill it...
+        return (ctx, object) -> {
+            if (!Sirius.getSettings().injectValueFromConfig(object, field, key) && !nullable) {
+                Injector.LOG.WARN("Cannot fill %s of %s with the config value '%s'."
+                                  + " Add a Nullable annotation if this is expected, in order to suppress this "
+                                  + "warning.",
+                                  key,
+                                  field.getDeclaringClass().getName(),
+                                  field.getName());
+            }
+        };
     }
 }
@@ -0,0 +1,15 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di;
+
+/**
+ * Implemented by a few parts which are used to verify the order of registration and the handling of {@link Replace}.
+ */
+public interface OrderedTestPart {
+}
@@ -0,0 +1,15 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di;
+
+import sirius.kernel.di.std.Register;
+
+@Register
+public class ThirdOrderedTestPart implements OrderedTestPart {
+}
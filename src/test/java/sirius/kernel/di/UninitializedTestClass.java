@@ -0,0 +1,32 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Is neither registered nor wired, therefore the {@link Injector} must load but not initialize this class.
+ */
+public class UninitializedTestClass {
+
+    static {
+        Tracker.INITIALIZED.set(true);
+    }
+
+    /**
+     * Records if the outer class has been initialized, without initializing it when being accessed.
+     */
+    public static class Tracker {
+
+        public static final AtomicBoolean INITIALIZED = new AtomicBoolean();
+
+        private Tracker() {
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di;
+
+/**
+ * Provides an instance field and a static field to be filled by the {@link WiredTestValueProcessor}.
+ */
+public class WiredTestBean {
+
+    @WiredTestValue
+    public static String staticValue;
+
+    @WiredTestValue
+    public String inheritedValue;
+}
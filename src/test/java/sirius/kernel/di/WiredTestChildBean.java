@@ -0,0 +1,18 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di;
+
+/**
+ * Inherits the fields of {@link WiredTestBean} and adds one of its own.
+ */
+public class WiredTestChildBean extends WiredTestBean {
+
+    @WiredTestValue
+    public String ownValue;
+}
@@ -0,0 +1,36 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+/**
+ * Fills all fields wearing {@link WiredTestValue} with a fixed value.
+ * <p>
+ * This is not registered, so that tests can decide when it becomes visible to a {@link PartRegistry}.
+ */
+public class WiredTestValueProcessor implements FieldAnnotationProcessor {
+
+    public static final String VALUE = "wired";
+
+    @Nonnull
+    @Override
+    public Class<? extends Annotation> getTrigger() {
+        return WiredTestValue.class;
+    }
+
+    @Override
+    public void handle(@Nonnull MutableGlobalContext ctx, @Nullable Object object, @Nonnull Field field)
+            throws Exception {
+        field.set(object, VALUE);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.health;
+
+import sirius.kernel.di.std.Register;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records all messages sent to {@link #LOG} along with the thread which delivered them.
+ * <p>
+ * Delivering the message {@link #BLOCK} blocks the delivering thread until {@link #release()} is invoked. This permits
+ * to fill up the buffer of a {@link LogDispatcher}.
+ */
+@Register
+public class TestLogTap implements LogTap {
+
+    public static final Log LOG = Log.get("log-dispatcher-test");
+    public static final String BLOCK = "block";
+
+    private static final List<String> messages = new ArrayList<>();
+    private static final List<String> threads = new ArrayList<>();
+    private static volatile CountDownLatch blocked = new CountDownLatch(1);
+    private static volatile CountDownLatch released = new CountDownLatch(1);
+
+    @Override
+    public void handleLogMessage(LogMessage message) {
+        if (message.getReceiver() != LOG) {
+            return;
+        }
+
+        synchronized (messages) {
+            messages.add(message.getMessage());
+            threads.add(Thread.currentThread().getName());
+        }
+
+        if (BLOCK.equals(message.getMessage())) {
+            blocked.countDown();
+            try {
+                released.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Clears all recorded messages and re-arms the blocking mechanism.
+     */
+    public static void reset() {
+        synchronized (messages) {
+            messages.clear();
+            threads.clear();
+        }
+        blocked = new CountDownLatch(1);
+        released = new CountDownLatch(1);
+    }
+
+    /**
+     * Waits until a thread is blocked by delivering {@link #BLOCK}.
+     *
+     * @return <tt>true</tt> if a thread is blocked, <tt>false</tt> if the timeout elapsed
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public static boolean awaitBlocked() throws InterruptedException {
+        return blocked.await(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Releases the thread which is blocked by delivering {@link #BLOCK}.
+     */
+    public static void release() {
+        released.countDown();
+    }
+
+    public static List<String> getMessages() {
+        synchronized (messages) {
+            return new ArrayList<>(messages);
+        }
+    }
+
+    public static List<String> getThreads() {
+        synchronized (messages) {
+            return new ArrayList<>(threads);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.async
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.SiriusExtension
+import sirius.kernel.di.std.Part
+import java.time.Duration
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [DelayLine] class.
+ */
+@ExtendWith(SiriusExtension::class)
+class DelayLineTest {
+
+    @Test
+    fun `tasks with mixed delays are executed in the order of their due time`() {
+        val executed = Collections.synchronizedList(mutableListOf<Int>())
+        val latch = CountDownLatch(3)
+
+        delayLine.callDelayed(Tasks.DEFAULT, Duration.ofMillis(600)) {
+            executed.add(3)
+            latch.countDown()
+        }
+        delayLine.callDelayed(Tasks.DEFAULT, Duration.ofMillis(50)) {
+            executed.add(1)
+            latch.countDown()
+        }
+        delayLine.callDelayed(Tasks.DEFAULT, Duration.ofMillis(200)) {
+            executed.add(2)
+            latch.countDown()
+        }
+
+        assertTrue { latch.await(10, TimeUnit.SECONDS) }
+        assertEquals(listOf(1, 2, 3), executed)
+    }
+
+    @Test
+    fun `a task is executed with sub-second precision`() {
+        val latch = CountDownLatch(1)
+        val start = System.nanoTime()
+
+        delayLine.callDelayed(Tasks.DEFAULT, Duration.ofMillis(100)) { latch.countDown() }
+
+        assertTrue { latch.await(10, TimeUnit.SECONDS) }
+        assertTrue { TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100 }
+    }
+
+    @Test
+    fun `a cancelled task is not executed`() {
+        val executed = AtomicBoolean()
+        val latch = CountDownLatch(1)
+
+        val task = delayLine.callDelayed(Tasks.DEFAULT, Duration.ofMillis(100)) { executed.set(true) }
+        delayLine.callDelayed(Tasks.DEFAULT, Duration.ofMillis(300)) { latch.countDown() }
+
+        assertTrue { task.cancel() }
+        assertFalse { task.isPending }
+        assertFalse { task.cancel() }
+        assertTrue { latch.await(10, TimeUnit.SECONDS) }
+        assertFalse { executed.get() }
+    }
+
+    @Test
+    fun `forkDelayed preserves the call context`() {
+        val latch = CountDownLatch(1)
+        val context = CallContext.getCurrent()
+        var contextInTask: CallContext? = null
+
+        delayLine.forkDelayed(Tasks.DEFAULT, Duration.ofMillis(10)) {
+            contextInTask = CallContext.getCurrent()
+            latch.countDown()
+        }
+
+        assertTrue { latch.await(10, TimeUnit.SECONDS) }
+        assertEquals(context, contextInTask)
+    }
+
+    companion object {
+        @Part
+        @JvmStatic
+        private lateinit var delayLine: DelayLine
+    }
+}
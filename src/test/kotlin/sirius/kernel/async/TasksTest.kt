@@ -14,6 +14,8 @@ import sirius.kernel.SiriusExtension
 import sirius.kernel.commons.ValueHolder
 import sirius.kernel.di.std.Part
 import java.time.Duration
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
 import kotlin.test.assertEquals
 import kotlin.test.assertNotEquals
 import kotlin.test.assertTrue
@@ -127,6 +129,34 @@ class TasksTest {
         assertNotEquals(Thread.currentThread().threadId(), task1Thread.get())
     }
 
+    @Test
+    fun `tasks with a min interval are deferred and duplicates are dropped`() {
+        val synchronizer = Any()
+        val executions = AtomicInteger()
+        val dropped = AtomicBoolean()
+        val secondExecuted = Future()
+
+        tasks.executor(Tasks.DEFAULT).minInterval(synchronizer, Duration.ofMillis(200)).start {
+            executions.incrementAndGet()
+        }.await(DEFAULT_TIMEOUT)
+        val start = System.currentTimeMillis()
+        tasks.executor(Tasks.DEFAULT).minInterval(synchronizer, Duration.ofMillis(200)).start {
+            executions.incrementAndGet()
+            secondExecuted.success()
+        }
+        tasks.executor(Tasks.DEFAULT)
+                .minInterval(synchronizer, Duration.ofMillis(200))
+                .dropOnOverload { dropped.set(true) }
+                .start { executions.incrementAndGet() }
+
+        assertTrue { dropped.get() }
+        assertEquals(1, tasks.scheduledTasks.size)
+        secondExecuted.await(DEFAULT_TIMEOUT)
+        assertTrue { System.currentTimeMillis() - start >= 100 }
+        assertEquals(2, executions.get())
+        assertEquals(0, tasks.numScheduledTasks)
+    }
+
     companion object {
         val DEFAULT_TIMEOUT: Duration = Duration.ofSeconds(10)
 
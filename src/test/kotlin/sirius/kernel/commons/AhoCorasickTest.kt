@@ -0,0 +1,99 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.Test
+import java.io.StringReader
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [AhoCorasick] class.
+ */
+class AhoCorasickTest {
+
+    @Test
+    fun `findAll reports overlapping matches`() {
+        val trie = Trie.create<String>()
+        trie.put("he", "he")
+        trie.put("she", "she")
+        trie.put("his", "his")
+        trie.put("hers", "hers")
+        val matcher = AhoCorasick.of(trie)
+
+        assertEquals(
+                listOf(AhoCorasick.Match(1, 4, "she"),
+                       AhoCorasick.Match(2, 4, "he"),
+                       AhoCorasick.Match(2, 6, "hers")),
+                matcher.findAll("ushers")
+        )
+        assertEquals(listOf(AhoCorasick.Match(1, 4, "his")), matcher.findAll("shis"))
+        assertEquals(emptyList(), matcher.findAll("nothing"))
+    }
+
+    @Test
+    fun `findLeftmostLongest reports non overlapping matches`() {
+        val trie = Trie.create<Int>()
+        trie.put("ab", 1)
+        trie.put("cd", 2)
+        trie.put("abcde", 3)
+        trie.put("bc", 4)
+        val matcher = AhoCorasick.of(trie)
+
+        // "abcde" is a failed partial match, but "ab" and "cd" must still be found...
+        assertEquals(listOf(AhoCorasick.Match(0, 2, 1), AhoCorasick.Match(2, 4, 2)),
+                     matcher.findLeftmostLongest("abcdx"))
+        assertEquals(listOf(AhoCorasick.Match(0, 5, 3)), matcher.findLeftmostLongest("abcde"))
+        assertEquals(listOf(AhoCorasick.Match(1, 3, 4)), matcher.findLeftmostLongest("xbcd"))
+    }
+
+    @Test
+    fun `matches are found within failed partial matches`() {
+        val trie = Trie.create<Boolean>()
+        trie.put("abcd", true)
+        trie.put("bce", true)
+        val matcher = AhoCorasick.of(trie)
+
+        assertTrue { matcher.containsMatch("abce") }
+        assertFalse { matcher.containsMatch("abc") }
+        assertEquals(listOf(AhoCorasick.Match(1, 4, true)), matcher.findLeftmostLongest("abce"))
+    }
+
+    @Test
+    fun `positions of code point based matches are given in characters`() {
+        val trie = CodePointTrie.create<String>()
+        trie.put("👩🏾‍🚀", "astronaut")
+        trie.put("🚀", "rocket")
+        val matcher = AhoCorasick.of(trie)
+
+        val text = "Hi 👩🏾‍🚀!"
+        assertEquals(listOf(AhoCorasick.Match(3, 10, "astronaut")), matcher.findLeftmostLongest(text))
+        assertEquals("👩🏾‍🚀", text.substring(3, 10))
+        assertEquals(listOf(AhoCorasick.Match(3, 10, "astronaut"), AhoCorasick.Match(8, 10, "rocket")),
+                     matcher.findAll(text))
+        // An unpaired surrogate is treated as a character on its own...
+        assertEquals(listOf(AhoCorasick.Match(1, 3, "rocket")), matcher.findAll("\uD83D🚀"))
+    }
+
+    @Test
+    fun `readers are scanned in chunks`() {
+        val trie = CodePointTrie.create<Boolean>()
+        trie.put("🚀", true)
+        val matcher = AhoCorasick.of(trie)
+
+        // Place the emoji so that its surrogate pair is split across two chunks of the reader...
+        val text = "x".repeat(8191) + "🚀" + "x".repeat(100) + "🚀"
+        val matches = mutableListOf<AhoCorasick.Match<Boolean>>()
+        matcher.findLeftmostLongest(StringReader(text)) { match -> matches.add(match) }
+
+        assertEquals(listOf(AhoCorasick.Match(8191, 8193, true), AhoCorasick.Match(8293, 8295, true)), matches)
+        assertEquals(matches, matcher.findLeftmostLongest(text))
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.NightlyTest
+import sirius.kernel.SiriusExtension
+import sirius.kernel.testutil.Benchmarks
+import java.math.BigDecimal
+
+/**
+ * Measures the throughput of the most common [Amount] operations.
+ */
+@ExtendWith(SiriusExtension::class)
+class AmountBenchmarkTest {
+
+    @NightlyTest
+    fun `arithmetics, comparisons and formatting`() {
+        Benchmarks.measure("Amount.add", OPERATIONS) { Amount.of(it).add(PRICE) }
+        Benchmarks.measure("Amount.times", OPERATIONS) { PRICE.times(Amount.of(it)) }
+        Benchmarks.measure("Amount.divideBy", OPERATIONS) { PRICE.divideBy(Amount.of(it + 1)) }
+        Benchmarks.measure("Amount.compare", OPERATIONS) { Amount.of(it) > PRICE }
+        Benchmarks.measure("Amount.toMachineString", OPERATIONS) { Amount.of(it).times(PRICE).toMachineString() }
+        Benchmarks.measure("Amount.toString", OPERATIONS) { Amount.of(it).times(PRICE).toString() }
+    }
+
+    companion object {
+        private const val OPERATIONS = 2_000_000
+        private val PRICE = Amount.of(BigDecimal("19.99"))
+    }
+}
@@ -398,4 +398,50 @@ class AmountTest {
         val b = Amount.ofRounded(BigDecimal(1))
         assertEquals(b.hashCode(), a.hashCode())
     }
+
+    @Test
+    fun `computations yield the same results as BigDecimal even near the range of a long`() {
+        val large = Amount.of(BigDecimal("92233720368547.75807"))
+        assertEquals(BigDecimal("184467440737095.51614"), large.add(large).amount)
+        assertEquals(BigDecimal("-184467440737095.51614"), large.negate().subtract(large).amount)
+        assertEquals(BigDecimal("8507059173023461584739690778.42325"), large.times(large).amount)
+        assertEquals(BigDecimal("0.00001"), Amount.of(BigDecimal("0.00001")).divideBy(Amount.ONE).amount)
+        assertEquals(0, large.times(large).compareTo(large.times(large)))
+        assertTrue { large.times(large) > large }
+    }
+
+    @Test
+    fun `multiplication and division round half up to the internal scale`() {
+        assertEquals(BigDecimal("0.00001"), Amount.of(BigDecimal("0.00005")).times(Amount.of(BigDecimal("0.1"))).amount)
+        assertEquals(BigDecimal("-0.00001"),
+                     Amount.of(BigDecimal("-0.00005")).times(Amount.of(BigDecimal("0.1"))).amount)
+        assertEquals(BigDecimal("0.33333"), Amount.ONE.divideBy(Amount.of(3)).amount)
+        assertEquals(BigDecimal("0.66667"), Amount.of(2).divideBy(Amount.of(3)).amount)
+        assertEquals(BigDecimal("-0.66667"), Amount.of(-2).divideBy(Amount.of(3)).amount)
+        assertEquals("0.67", Amount.of(2).divideBy(Amount.of(3)).toMachineString())
+        assertEquals("-0.01", Amount.of(BigDecimal("-0.005")).toMachineString())
+        assertEquals("0.00", Amount.of(BigDecimal("-0.004")).toMachineString())
+    }
+
+    @Test
+    fun `compact and rounded amounts are compared correctly`() {
+        assertEquals(Amount.of(2), Amount.ofRounded(BigDecimal("2.0")))
+        assertEquals(0, Amount.ofRounded(BigDecimal("2.0")).compareTo(Amount.of(2)))
+        assertEquals(Amount.of(2).hashCode(), Amount.ofRounded(BigDecimal("2.0")).hashCode())
+        assertTrue { Amount.of(Long.MAX_VALUE) > Amount.of(Long.MAX_VALUE / 100_000) }
+        assertEquals(BigDecimal(Long.MAX_VALUE).setScale(Amount.SCALE), Amount.of(Long.MAX_VALUE).amount)
+    }
+
+    @Test
+    fun `the bounds of a long are converted like BigDecimal`() {
+        assertEquals(Amount.of(BigDecimal(Long.MIN_VALUE)), Amount.of(Long.MIN_VALUE))
+        assertEquals(Amount.of(BigDecimal(Long.MAX_VALUE)), Amount.of(Long.MAX_VALUE))
+        assertEquals(BigDecimal(Long.MIN_VALUE).setScale(Amount.SCALE), Amount.of(Long.MIN_VALUE).amount)
+        assertEquals(BigDecimal(Long.MAX_VALUE).setScale(Amount.SCALE), Amount.of(Long.MAX_VALUE).amount)
+        assertTrue { Amount.of(Long.MIN_VALUE).isNegative }
+        assertEquals(
+            Amount.of(BigDecimal(Long.MIN_VALUE)).divideBy(Amount.of(3)),
+            Amount.of(Long.MIN_VALUE).divideBy(Amount.of(3))
+        )
+    }
 }
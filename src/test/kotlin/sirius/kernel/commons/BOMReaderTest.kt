@@ -59,6 +59,21 @@ class BOMReaderTest {
         assertEquals('H', buffer[0])
     }
 
+    @Test
+    fun `reading a single character after the BOM into a larger array works`() {
+        val reader = BOMReader(InputStreamReader(ByteArrayInputStream(WITH_UTF8_BOM.copyOf(4))))
+        val buffer = CharArray(16)
+        assertEquals(1, reader.read(buffer))
+        assertEquals('H', buffer[0])
+        assertEquals(-1, reader.read(buffer))
+    }
+
+    @Test
+    fun `reading an empty input signals the end of the input`() {
+        val reader = BOMReader(InputStreamReader(ByteArrayInputStream(ByteArray(0))))
+        assertEquals(-1, reader.read(CharArray(16)))
+    }
+
     companion object {
         private val WITH_UTF8_BOM = byteArrayOf(
                 239.toByte(),
@@ -0,0 +1,52 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.NightlyTest
+import sirius.kernel.SiriusExtension
+import sirius.kernel.testutil.Benchmarks
+import java.io.StringReader
+import kotlin.test.assertEquals
+
+/**
+ * Measures the throughput of the [CSVReader] for a large import-like workload.
+ */
+@ExtendWith(SiriusExtension::class)
+class CSVReaderBenchmarkTest {
+
+    @NightlyTest
+    fun `parsing a large file only materializes the accessed columns`() {
+        val data = buildString {
+            for (i in 0 until ROWS) {
+                append(i).append(";\"Product name, with separator ").append(i).append("\";ABC-").append(i)
+                append(";19.99;EUR;\"multi\nline\";x\r\n")
+            }
+        }
+
+        val rows = Benchmarks.measureBatch("CSVReader (${data.length} chars)", ROWS.toLong(), WARM_UPS) { parse(data) }
+
+        assertEquals(ROWS, rows)
+    }
+
+    private fun parse(data: String): Int {
+        var rows = 0
+        CSVReader(StringReader(data)).execute {
+            if (it.at(2).rawString?.startsWith("ABC-") == true) {
+                rows++
+            }
+        }
+        return rows
+    }
+
+    companion object {
+        private const val ROWS = 500_000
+        private const val WARM_UPS = 3
+    }
+}
@@ -229,4 +229,32 @@ class CSVReaderTest {
 
         assertEquals(50, output.size)
     }
+
+    @Test
+    fun `values spanning multiple input blocks are parsed correctly`() {
+        val longValue = "x".repeat(100_000) + "\"\"" + "y".repeat(100_000)
+        val data = "a;\"$longValue\";${"z".repeat(150_000)}\nb;c"
+        val output = mutableListOf<Values>()
+        CSVReader(StringReader(data)).execute { output.add(it) }
+
+        assertEquals(2, output.size)
+        assertEquals("a", output[0].at("A").rawString)
+        assertEquals(longValue.replace("\"\"", "\""), output[0].at("B").rawString)
+        assertEquals("z".repeat(150_000), output[0].at("C").rawString)
+        assertEquals("b", output[1].at("A").rawString)
+        assertEquals("c", output[1].at("B").rawString)
+    }
+
+    @Test
+    fun `rows remain valid after further rows have been parsed`() {
+        val data = (0..9999).joinToString("\n") { "$it;value $it;" }
+        val output = mutableListOf<Values>()
+        CSVReader(StringReader(data)).execute { output.add(it) }
+
+        assertEquals(10000, output.size)
+        assertEquals(2, output[42].length())
+        assertEquals("42", output[42].at(0).rawString)
+        assertEquals("value 9999", output[9999].at(1).rawString)
+        assertEquals("", output[9999].at(2).rawString)
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.NightlyTest
+import sirius.kernel.SiriusExtension
+import sirius.kernel.testutil.Benchmarks
+import java.io.BufferedOutputStream
+import java.io.BufferedWriter
+import java.io.OutputStream
+import java.io.OutputStreamWriter
+import java.nio.charset.StandardCharsets
+import kotlin.test.assertEquals
+
+/**
+ * Measures the throughput of the [CSVWriter] for a large export-like workload.
+ */
+@ExtendWith(SiriusExtension::class)
+class CSVWriterBenchmarkTest {
+
+    @NightlyTest
+    fun `writing a large file into a writer and into a stream`() {
+        assertEquals(ROWS, Benchmarks.measureBatch("CSVWriter (writer)", ROWS.toLong(), WARM_UPS) { writeIntoWriter() })
+        assertEquals(ROWS, Benchmarks.measureBatch("CSVWriter (stream)", ROWS.toLong(), WARM_UPS) { writeIntoStream() })
+    }
+
+    private fun writeIntoWriter(): Int {
+        CSVWriter(BufferedWriter(OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8))).use {
+            return writeRows(it)
+        }
+    }
+
+    private fun writeIntoStream(): Int {
+        CSVWriter(BufferedOutputStream(OutputStream.nullOutputStream()), StandardCharsets.UTF_8).use {
+            return writeRows(it)
+        }
+    }
+
+    private fun writeRows(writer: CSVWriter): Int {
+        val price = Amount.of(19.99)
+        for (i in 0 until ROWS) {
+            writer.writeArray(i, "Product name, with separator", "ABC-$i", price, 42L, "EUR", "multi\nline")
+        }
+        return ROWS
+    }
+
+    companion object {
+        private const val ROWS = 1_000_000
+        private const val WARM_UPS = 3
+    }
+}
@@ -12,8 +12,11 @@ import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.extension.ExtendWith
 import sirius.kernel.SiriusExtension
+import java.io.ByteArrayOutputStream
 import java.io.StringReader
 import java.io.StringWriter
+import java.math.BigDecimal
+import java.nio.charset.StandardCharsets
 import kotlin.test.assertEquals
 
 /**
@@ -71,6 +74,40 @@ class CSVWriterTest {
         }
     }
 
+    @Test
+    fun `numbers and amounts are output in their machine representation`() {
+        StringWriter().use { output ->
+            val writer = CSVWriter(output)
+
+            writer.writeArray(-42, Long.MIN_VALUE, Amount.of(1.5), Amount.of(-0.005), Amount.NOTHING)
+            writer.writeArray(BigDecimal("0.000001"), BigDecimal("12.3400"), Amount.of(BigDecimal("1E+3")))
+
+            assertEquals("-42;-9223372036854775808;1.50;-0.01;\n0.000001;12.3400;1000.00", output.toString())
+        }
+    }
+
+    @Test
+    fun `numbers are quoted if they contain the separator`() {
+        StringWriter().use { output ->
+            val writer = CSVWriter(output).withSeparator('.')
+
+            writer.writeArray(1, Amount.of(2.5), "x")
+            writer.withForceQuotation(true).writeArray(1, Amount.of(2.5))
+
+            assertEquals("1.\"2.50\".x\n\"1\".\"2.50\"", output.toString())
+        }
+    }
+
+    @Test
+    fun `data can be written into a stream using a given charset`() {
+        val output = ByteArrayOutputStream()
+        CSVWriter(output, StandardCharsets.ISO_8859_1).use { writer ->
+            writer.writeArray("ä", "ö;ü")
+        }
+
+        assertEquals("ä;\"ö;ü\"", output.toString(StandardCharsets.ISO_8859_1))
+    }
+
     @Test
     fun `quotation works for separator and new line`() {
         StringWriter().use { output ->
@@ -0,0 +1,56 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.NightlyTest
+import sirius.kernel.SiriusExtension
+import sirius.kernel.testutil.Benchmarks
+
+/**
+ * Compares the throughput of a [CleanupPipeline] with the equivalent chain of [StringCleanup] operations.
+ */
+@ExtendWith(SiriusExtension::class)
+class CleanupPipelineBenchmarkTest {
+
+    @NightlyTest
+    fun `normalizing search terms`() {
+        val pipeline = CleanupPipeline.builder()
+                .removeControlCharacters()
+                .reduceWhitespace()
+                .removePunctuation()
+                .lowercase()
+                .reduceCharacters()
+                .trim()
+                .build()
+
+        measure("sequential") { input ->
+            Strings.cleanup(input,
+                            { value: String? -> StringCleanup.removeControlCharacters(value!!) },
+                            { value: String? -> StringCleanup.reduceWhitespace(value!!) },
+                            { value: String? -> StringCleanup.removePunctuation(value!!) },
+                            { value: String? -> StringCleanup.lowercase(value!!) },
+                            { value: String? -> StringCleanup.reduceCharacters(value) },
+                            { value: String? -> StringCleanup.trim(value!!) })
+        }
+        measure("pipeline") { input -> pipeline.apply(input) }
+    }
+
+    private fun measure(name: String, cleanup: (String) -> String) {
+        Benchmarks.measure("Cleanup ($name)", OPERATIONS) { cleanup(INPUTS[it % INPUTS.size]) }
+    }
+
+    companion object {
+        private const val OPERATIONS = 1_000_000
+        private val INPUTS = listOf("  Bosch GSR 12V-15 Akku-Bohrschrauber, 12 V (ohne Akku)\t",
+                                    "Stück   PREIS: 12,99 €;  Größe XL",
+                                    "Ærø Straße 5 – Café & Bar",
+                                    "Schraube DIN 933 M8x40 verzinkt\r\n(100 Stück)")
+    }
+}
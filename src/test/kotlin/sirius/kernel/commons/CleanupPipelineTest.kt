@@ -0,0 +1,95 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.Test
+import kotlin.random.Random
+import kotlin.test.assertEquals
+
+/**
+ * Tests the [CleanupPipeline] class.
+ */
+class CleanupPipelineTest {
+
+    @Test
+    fun `a pipeline yields the same result as the sequential chain`() {
+        val pipeline = CleanupPipeline.builder()
+                .removeControlCharacters()
+                .reduceWhitespace()
+                .removePunctuation()
+                .lowercase()
+                .reduceCharacters()
+                .trim()
+                .build()
+
+        listOf("  Hällö   Wörld!\t",
+               "Straße 5 – Café & Bar\u0001",
+               "ÆRØ 　ﬁle",
+               "ΟΔΟΣ Σ",
+               "İstanbul",
+               "😀 emoji \uD83D.\uDE00",
+               "").forEach { input ->
+            assertEquals(Strings.cleanup(input,
+                                         { value: String? -> StringCleanup.removeControlCharacters(value!!) },
+                                         { value: String? -> StringCleanup.reduceWhitespace(value!!) },
+                                         { value: String? -> StringCleanup.removePunctuation(value!!) },
+                                         { value: String? -> StringCleanup.lowercase(value!!) },
+                                         { value: String? -> StringCleanup.reduceCharacters(value) },
+                                         { value: String? -> StringCleanup.trim(value!!) }), pipeline.apply(input))
+        }
+    }
+
+    @Test
+    fun `custom operations are applied in between`() {
+        val pipeline = CleanupPipeline.builder()
+                .then { input: String? -> StringCleanup.removeXml(input!!) }
+                .reduceWhitespace()
+                .then { input: String? -> StringCleanup.uppercase(input!!) }
+                .trim()
+                .build()
+
+        assertEquals("HELLO WORLD", pipeline.apply(" <b>Hello</b>   world "))
+        assertEquals("", pipeline.apply(null))
+    }
+
+    @Test
+    fun `random chains yield the same result as the sequential chain`() {
+        val random = Random(4711)
+        val characters = " \t\n\r\u0001\u007f 　aZ09.,;!_-ÄäÖßéÆĲﬁΣİ😀<>&"
+        repeat(10_000) {
+            val steps = (0..random.nextInt(6)).map { STEPS[random.nextInt(STEPS.size)] }
+            val input = (0..random.nextInt(16)).map { characters[random.nextInt(characters.length)] }
+                    .joinToString("")
+
+            val builder = CleanupPipeline.builder()
+            steps.forEach { it.first(builder) }
+            assertEquals(steps.fold(input) { value, step -> step.second(value) }, builder.build().apply(input))
+        }
+    }
+
+    companion object {
+        private val STEPS = listOf<Pair<(CleanupPipeline.Builder) -> Unit, (String) -> String>>(
+                Pair({ it.removeControlCharacters() }, StringCleanup::removeControlCharacters),
+                Pair({ it.replaceControlCharacters() }, StringCleanup::replaceControlCharacters),
+                Pair({ it.removePunctuation() }, StringCleanup::removePunctuation),
+                Pair({ it.replacePunctuation() }, StringCleanup::replacePunctuation),
+                Pair({ it.removeNonAlphaNumeric() }, StringCleanup::removeNonAlphaNumeric),
+                Pair({ it.replaceNonAlphaNumeric() }, StringCleanup::replaceNonAlphaNumeric),
+                Pair({ it.removeNonLetter() }, StringCleanup::removeNonLetter),
+                Pair({ it.replaceNonLetter() }, StringCleanup::replaceNonLetter),
+                Pair({ it.removeNonDigit() }, StringCleanup::removeNonDigit),
+                Pair({ it.replaceNonDigit() }, StringCleanup::replaceNonDigit),
+                Pair({ it.removeWhitespace() }, StringCleanup::removeWhitespace),
+                Pair({ it.reduceWhitespace() }, StringCleanup::reduceWhitespace),
+                Pair({ it.trim() }, StringCleanup::trim),
+                Pair({ it.lowercase() }, StringCleanup::lowercase),
+                Pair({ it.reduceCharacters() }, StringCleanup::reduceCharacters),
+                Pair({ it.then { input: String? -> StringCleanup.uppercase(input!!) } }, StringCleanup::uppercase))
+    }
+}
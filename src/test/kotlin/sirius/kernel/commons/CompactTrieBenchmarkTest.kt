@@ -0,0 +1,64 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.NightlyTest
+import sirius.kernel.SiriusExtension
+import sirius.kernel.testutil.Benchmarks
+
+/**
+ * Compares the throughput of a [CodePointTrie] with its [CompactTrie] when scanning texts for emojis.
+ */
+@ExtendWith(SiriusExtension::class)
+class CompactTrieBenchmarkTest {
+
+    @NightlyTest
+    fun `scanning texts for emojis`() {
+        val codePointTrie = CodePointTrie.create<Boolean>()
+        Emojis::class.java.getResourceAsStream("emojis.txt")!!.bufferedReader().useLines { emojis ->
+            emojis.filter { emoji -> emoji.isNotEmpty() }.forEach { emoji -> codePointTrie.put(emoji, true) }
+        }
+        val compactTrie = codePointTrie.freeze()
+
+        measure("CodePointTrie") { codePointTrie.iterator() }
+        measure("CompactTrie") { compactTrie.iterator() }
+    }
+
+    private fun measure(name: String, iteratorFactory: () -> BaseTrie.ContainmentIterator<Boolean>) {
+        Benchmarks.measure("Emoji scan ($name)", OPERATIONS) {
+            countEmojis(INPUTS[it % INPUTS.size], iteratorFactory())
+        }
+    }
+
+    private fun countEmojis(input: String, iterator: BaseTrie.ContainmentIterator<Boolean>): Int {
+        var count = 0
+        for (codePoint in input.codePoints()) {
+            if (!iterator.doContinue(codePoint)) {
+                if (iterator.isCompleted()) {
+                    count++
+                }
+                iterator.resetWith(codePoint)
+            }
+        }
+        if (iterator.isCompleted()) {
+            count++
+        }
+
+        return count
+    }
+
+    companion object {
+        private const val OPERATIONS = 1_000_000
+        private val INPUTS = listOf("Bosch GSR 12V-15 Akku-Bohrschrauber, 12 V (ohne Akku)",
+                                    "Super Service 👍👍 gerne wieder!",
+                                    "Lieferung nach 🇫🇷 dauerte 3 Tage 😀",
+                                    "Spaceflight! 👩🏾‍🚀🪐🚀")
+    }
+}
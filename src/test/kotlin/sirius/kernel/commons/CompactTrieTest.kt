@@ -0,0 +1,140 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [CompactTrie] class.
+ */
+class CompactTrieTest {
+    @Test
+    fun isFilled() {
+        val check = "I'd like to have three beer please 👩🏾‍🚀"
+        val iter = trie.iterator()
+        var found = 0
+        for (codePoint in check.codePoints()) {
+            if (!iter.doContinue(codePoint)) {
+                if (iter.isCompleted()) {
+                    found = iter.getValue()
+                }
+                iter.resetWith(codePoint)
+            }
+        }
+        if (iter.isCompleted()) {
+            found = iter.getValue()
+        }
+        assertEquals(8, found)
+        assertEquals(2, trie["on"] as Int)
+        assertNull(trie["onx"])
+        assertTrue { trie.containsKey("thrae") }
+        assertFalse { trie.containsKey("thre") }
+        assertTrue { trie.containsKey("👩🏾‍🚀") }
+        assertFalse { trie.containsKey("👩🏻‍🚀") }
+        assertFalse { trie.containsKey("👩") }
+    }
+
+    @Test
+    fun keySet() {
+        assertEquals(8, trie.size())
+        assertEquals(setOf("one", "on", "one1", "two", "three", "thrae", "th", "👩🏾‍🚀"), trie.keySet())
+        assertEquals(setOf("one", "on", "one1"), trie.getAllKeysBeginningWith("on"))
+        assertEquals(setOf("three"), trie.getAllKeysBeginningWith("three"))
+        assertEquals(0, trie.getAllKeysBeginningWith("threee").size)
+    }
+
+    @Test
+    fun backtracking() {
+        val iter = trie.iterator()
+        assertFalse { iter.canGoBack() }
+        assertEquals(setOf('o'.code, 't'.code, "👩".codePointAt(0)), iter.getPossibilities())
+        assertTrue { iter.doContinue('t'.code) }
+        assertTrue { iter.doContinue('h'.code) }
+        assertTrue { iter.isCompleted() }
+        assertEquals(setOf('r'.code), iter.getPossibilities())
+        assertTrue { iter.canContinue('r'.code) }
+        assertFalse { iter.canContinue('x'.code) }
+
+        iter.goBack()
+        assertFalse { iter.isCompleted() }
+        assertTrue { iter.doContinue('w'.code) }
+        iter.goBack()
+        iter.goBack()
+        assertFalse { iter.canGoBack() }
+    }
+
+    @Test
+    fun isReadOnly() {
+        val iter = trie.iterator()
+        iter.doContinue('o'.code)
+        assertThrows<UnsupportedOperationException> { iter.setValue(42) }
+    }
+
+    @Test
+    fun characterBasedTrie() {
+        val characterTrie = Trie.create<Int>()
+        characterTrie.put("one", 1)
+        characterTrie.put("𝔸b", 2)
+        val compactTrie = characterTrie.freeze()
+
+        // A character based trie splits the surrogate pair into two transitions...
+        val iter = compactTrie.iterator()
+        assertTrue { iter.doContinue('\uD835'.code) }
+        assertTrue { iter.doContinue('\uDD38'.code) }
+        assertEquals(2, compactTrie["𝔸b"])
+        assertEquals(setOf("one", "𝔸b"), compactTrie.keySet())
+
+        // Changes after freezing are not visible in the compact trie...
+        characterTrie.put("two", 3)
+        assertNull(compactTrie["two"])
+    }
+
+    @Test
+    fun `ofKeys creates the same trie as freeze`() {
+        val keys = listOf("one", "on", "one1", "two", "three", "thrae", "th", "👩🏾‍🚀", "on")
+        val compactTrie = CompactTrie.ofKeys(keys.map { key -> key.codePoints().toArray() },
+                                             true,
+                                             { key: CharSequence -> key.toString().codePoints() })
+
+        assertEquals(trie.keySet(), compactTrie.keySet())
+        assertEquals(8, compactTrie.size())
+        assertTrue { compactTrie.containsKey("👩🏾‍🚀") }
+        assertFalse { compactTrie.containsKey("👩") }
+
+        val iter = compactTrie.iterator()
+        assertEquals(setOf('o'.code, 't'.code, "👩".codePointAt(0)), iter.getPossibilities())
+        assertTrue { iter.doContinue('t'.code) }
+        assertEquals(setOf('h'.code, 'w'.code), iter.getPossibilities())
+    }
+
+    companion object {
+        private lateinit var trie: CompactTrie<Int>
+
+        @JvmStatic
+        @BeforeAll
+        fun createTrie() {
+            val codePointTrie = CodePointTrie.create<Int>()
+            codePointTrie.put("one", 1)
+            codePointTrie.put("on", 2)
+            codePointTrie.put("one1", 3)
+            codePointTrie.put("two", 4)
+            codePointTrie.put("three", 5)
+            codePointTrie.put("thrae", 6)
+            codePointTrie.put("th", 7)
+            codePointTrie.put("👩🏾‍🚀", 8)
+            trie = codePointTrie.freeze()
+        }
+    }
+}
@@ -11,6 +11,7 @@ package sirius.kernel.commons
 import org.junit.jupiter.api.Test
 import kotlin.test.assertEquals
 import kotlin.test.assertFalse
+import kotlin.test.assertSame
 import kotlin.test.assertTrue
 
 /**
@@ -91,6 +92,7 @@ class EmojiTest {
         assertEquals(2, Emojis.countEmojis("Hallo 🙂👋"))
         assertEquals(2, Emojis.countEmojis("😅🤦‍♂️"))
         assertEquals(3, Emojis.countEmojis("👩🏾‍🚀🪐🚀"))
+        assertEquals(1, Emojis.countEmojis("Room #1️⃣2"))
     }
 
     @Test
@@ -99,11 +101,14 @@ class EmojiTest {
         assertEquals("", Emojis.removeEmojis("😅🤦‍♂️"))
         assertEquals("", Emojis.removeEmojis("👩🏾‍🚀🪐🚀"))
         assertEquals("Hallo", Emojis.removeEmojis("Hallo"))
+        assertSame("Größe: 12 cm", Emojis.removeEmojis("Größe: 12 cm"))
         assertEquals("Hallo ", Emojis.removeEmojis("Hallo 🙂"))
         assertEquals("Hallo ", Emojis.removeEmojis("Hallo 🙂👋"))
         assertEquals(" Yay!", Emojis.removeEmojis("🍾 Yay!"))
         assertEquals(" Yay!", Emojis.removeEmojis("🍾🥂 Yay!"))
         assertEquals("Hallo  Wie geht's?", Emojis.removeEmojis("Hallo 🙂 Wie geht's?"))
         assertEquals("Hallo  Wie geht's?", Emojis.removeEmojis("Hallo 🙂👋 Wie geht's?"))
+        // digits and '#' start keycap emojis like "1️⃣" but must not be removed on their own
+        assertEquals("Tel. 0711 123, #5 ", Emojis.removeEmojis("Tel. 0711 123, #5 1️⃣"))
     }
 }
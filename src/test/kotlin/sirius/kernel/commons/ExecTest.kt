@@ -0,0 +1,87 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.condition.EnabledOnOs
+import org.junit.jupiter.api.condition.OS
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [Exec] class.
+ */
+@EnabledOnOs(OS.LINUX, OS.MAC)
+class ExecTest {
+
+    @Test
+    fun `exec returns the transcript of the program`() {
+        assertEquals("hello\n", Exec.exec("echo hello"))
+    }
+
+    @Test
+    fun `exec reports non-zero exit codes along with the transcript`() {
+        val exception = assertThrows<Exec.ExecException> { Exec.exec("sh -c \"echo failing; exit 3\"") }
+
+        assertEquals("failing\n", exception.log)
+        assertEquals("failing\n", Exec.exec("sh -c \"echo failing; exit 3\"", true))
+    }
+
+    @Test
+    fun `only the last lines are retained`() {
+        assertEquals(
+            "[97 lines omitted]\n98\n99\n100\n",
+            Exec.command("seq 1 100").withMaxRetainedLines(3).execute()
+        )
+    }
+
+    @Test
+    fun `the default transcript grows as needed and retains the last lines`() {
+        val transcript = Exec.exec("seq 1 20000")
+
+        assertTrue(transcript.startsWith("[10000 lines omitted]\n10001\n"))
+        assertTrue(transcript.endsWith("\n20000\n"))
+    }
+
+    @Test
+    fun `output lines are supplied as they arrive`() {
+        val lines = CopyOnWriteArrayList<String>()
+
+        Exec.command("sh -c \"echo a; echo b 1>&2; echo c\"").withOutputConsumer { lines.add(it) }.execute()
+
+        assertEquals(listOf("a", "b", "c"), lines)
+    }
+
+    @Test
+    fun `processes are killed once the timeout elapsed`() {
+        val watch = Watch.start()
+
+        val exception = assertThrows<Exec.ExecException> {
+            Exec.command("sh -c \"echo started; sleep 30\"").withTimeout(Duration.ofMillis(500)).execute()
+        }
+
+        assertEquals("started\n", exception.log)
+        assertTrue(watch.elapsedMillis() < 10_000)
+    }
+
+    @Test
+    fun `the transcript of a killed process is returned even if a detached process keeps the output open`() {
+        val watch = Watch.start()
+
+        val exception = assertThrows<Exec.ExecException> {
+            Exec.command("sh -c \"echo started; (sleep 20 &); sleep 30\"").withTimeout(Duration.ofMillis(500)).execute()
+        }
+
+        assertEquals("started\n", exception.log)
+        assertTrue(watch.elapsedMillis() < 15_000)
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [HostConcurrencyLimiter].
+ */
+class HostConcurrencyLimiterTest {
+
+    @Test
+    fun `tasks are queued once the limit is reached and rejected once the queue is full`() {
+        val limiter = HostConcurrencyLimiter({ 2 }, { 3 })
+        val started = mutableListOf<Int>()
+
+        val accepted = (1..6).map { task -> limiter.submit("host", { started.add(task) }) }
+
+        assertEquals(listOf(true, true, true, true, true, false), accepted)
+        assertEquals(listOf(1, 2), started)
+        assertEquals(2, limiter.getActiveTasks("host"))
+        assertEquals(3, limiter.getPendingTasks("host"))
+        assertTrue(limiter.submit("other-host") { started.add(7) })
+
+        limiter.release("host")
+        assertEquals(listOf(1, 2, 7, 3), started)
+        assertEquals(2, limiter.getActiveTasks("host"))
+        assertEquals(2, limiter.getPendingTasks("host"))
+        assertTrue(limiter.submit("host") { started.add(8) })
+        assertFalse(limiter.submit("host") { started.add(9) })
+    }
+
+    @Test
+    fun `hosts are removed once all tasks are released`() {
+        val limiter = HostConcurrencyLimiter({ 1 }, { 0 })
+
+        repeat(100) { assertTrue(limiter.submit("host") {}) }
+        repeat(100) { limiter.release("host") }
+
+        assertEquals(0, limiter.getActiveTasks("host"))
+        assertEquals(0, limiter.getPendingTasks("host"))
+    }
+
+    @Test
+    fun `queued tasks which release their slot right away don't overflow the stack`() {
+        val limiter = HostConcurrencyLimiter({ 1 }, { 0 })
+        var started = 0
+
+        assertTrue(limiter.submit("host") {})
+        repeat(100_000) {
+            assertTrue(limiter.submit("host") {
+                started++
+                // Simulates a task which fails synchronously and therefore releases its slot immediately...
+                limiter.release("host")
+            })
+        }
+        limiter.release("host")
+
+        assertEquals(100_000, started)
+        assertEquals(0, limiter.getActiveTasks("host"))
+        assertEquals(0, limiter.getPendingTasks("host"))
+    }
+}
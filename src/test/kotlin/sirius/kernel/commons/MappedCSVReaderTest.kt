@@ -0,0 +1,116 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.SiriusExtension
+import java.io.StringReader
+import java.nio.charset.Charset
+import java.nio.charset.StandardCharsets
+import java.nio.file.Path
+import kotlin.io.path.createTempFile
+import kotlin.io.path.deleteIfExists
+import kotlin.io.path.writeBytes
+import kotlin.test.assertEquals
+
+/**
+ * Tests the [MappedCSVReader] class.
+ */
+@ExtendWith(SiriusExtension::class)
+class MappedCSVReaderTest {
+
+    @Test
+    fun `rows are parsed just like by the CSVReader`() {
+        withFile(DATA) { file ->
+            val output = mutableListOf<List<String>>()
+            MappedCSVReader(file).execute { output.add(toList(it)) }
+
+            assertEquals(parseSequentially(DATA), output)
+        }
+    }
+
+    @Test
+    fun `rows are parsed correctly if the file is mapped in many small windows`() {
+        withFile(DATA) { file ->
+            val output = mutableListOf<List<String>>()
+            MappedCSVReader(file).withWindowSize(7).execute { output.add(toList(it)) }
+
+            assertEquals(parseSequentially(DATA), output)
+        }
+    }
+
+    @Test
+    fun `quotations and escaped characters are handled correctly`() {
+        val data = "\"a\nb;c\";\"d\r\ne\"\nf;\"g\"\"\n\"\n\\\nh; \"i\" ;j\\;k"
+        withFile(data) { file ->
+            val output = mutableListOf<List<String>>()
+            MappedCSVReader(file).withWindowSize(3).execute { output.add(toList(it)) }
+
+            assertEquals(3, output.size)
+            assertEquals(listOf("a\nb;c", "d\r\ne"), output[0])
+            assertEquals(listOf("f", "g\"\n"), output[1])
+            assertEquals(listOf("\nh", "i", "j;k"), output[2])
+        }
+    }
+
+    @Test
+    fun `ISO-8859-1 encoded files can be parsed`() {
+        withFile("äöü;ß\n\"Straße\";\\é", StandardCharsets.ISO_8859_1) { file ->
+            val output = mutableListOf<List<String>>()
+            MappedCSVReader(file).withCharset(StandardCharsets.ISO_8859_1).execute { output.add(toList(it)) }
+
+            assertEquals(listOf(listOf("äöü", "ß"), listOf("Straße", "é")), output)
+        }
+    }
+
+    @Test
+    fun `a byte order mark is skipped`() {
+        withFile("\uFEFFä;b\nc;d") { file ->
+            val output = mutableListOf<List<String>>()
+            MappedCSVReader(file).withWindowSize(1).execute { output.add(toList(it)) }
+
+            assertEquals(listOf(listOf("ä", "b"), listOf("c", "d")), output)
+        }
+    }
+
+    @Test
+    fun `limit is applied to the rows of the file`() {
+        withFile(DATA) { file ->
+            val output = mutableListOf<List<String>>()
+            MappedCSVReader(file).withLimit(Limit(250, 100)).execute { output.add(toList(it)) }
+
+            assertEquals(parseSequentially(DATA).subList(250, 350), output)
+        }
+    }
+
+    private fun withFile(data: String, charset: Charset = StandardCharsets.UTF_8, test: (Path) -> Unit) {
+        val file = createTempFile("mapped-csv", ".csv")
+        try {
+            file.writeBytes(data.toByteArray(charset))
+            test(file)
+        } finally {
+            file.deleteIfExists()
+        }
+    }
+
+    private fun parseSequentially(data: String): List<List<String>> {
+        val output = mutableListOf<List<String>>()
+        CSVReader(StringReader(data)).execute { output.add(toList(it)) }
+        return output
+    }
+
+    private fun toList(values: Values): List<String> {
+        return values.stream().map { it.rawString ?: "" }.toList()
+    }
+
+    companion object {
+        private val DATA = (0..999).joinToString("\n") { "$it;\"Quoted; \"\"value\"\"\n$it\";äöü \\; $it" }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import org.junit.jupiter.api.AfterAll
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.Sirius
+import sirius.kernel.SiriusExtension
+import sirius.kernel.cache.CacheManager
+import java.io.IOException
+import java.io.OutputStream
+import java.net.InetSocketAddress
+import java.net.URI
+import java.nio.file.Files
+import java.time.Duration
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * Tests the asynchronous execution, the streaming uploads and the response cache of [Outcall] against a local HTTP
+ * server.
+ */
+@ExtendWith(SiriusExtension::class)
+class OutcallTest {
+
+    @Test
+    fun `getResponseAsync fetches the response without blocking`() {
+        val outcall = Outcall(uri("/hello"))
+        val promise = outcall.getResponseAsync()
+
+        assertTrue(promise.await(Duration.ofSeconds(10)))
+        assertEquals(200, promise.get().statusCode())
+        assertEquals("Hello", outcall.data)
+    }
+
+    @Test
+    fun `getResponseAsync follows redirects`() {
+        val outcall = Outcall(uri("/redirect"))
+
+        assertTrue(outcall.getResponseAsync().await(Duration.ofSeconds(10)))
+        assertEquals("Hello", outcall.data)
+        assertEquals("/hello", outcall.request.uri().path)
+    }
+
+    @Test
+    fun `getResponseAsync refreshes the OAuth token once`() {
+        var token = "Bearer expired"
+        val refreshes = AtomicInteger()
+        var refreshingThread = ""
+        val outcall = Outcall(uri("/oauth")).withOAuth({ token }, {
+            refreshes.incrementAndGet()
+            refreshingThread = Thread.currentThread().name
+            token = "Bearer valid"
+        })
+
+        assertTrue(outcall.getResponseAsync().await(Duration.ofSeconds(10)))
+        assertEquals("granted", outcall.data)
+        assertEquals(1, refreshes.get())
+        // The refresher might block and must therefore not be invoked by the threads of the HttpClient...
+        assertFalse(refreshingThread.startsWith("HttpClient"))
+    }
+
+    @Test
+    fun `getResponseAsync limits the number of concurrent calls per host`() {
+        maxConcurrentSlowCalls.set(0)
+
+        val promises = (1..40).map { Outcall(uri("/slow")).getResponseAsync() }
+
+        promises.forEach { promise ->
+            assertTrue(promise.await(Duration.ofSeconds(30)))
+            assertTrue(promise.isSuccessful)
+        }
+        assertEquals(Sirius.getSettings().getInt("http.outcall.maxConcurrentAsyncCallsPerHost"),
+                     maxConcurrentSlowCalls.get())
+    }
+
+    @Test
+    fun `getResponseAsync fails for unreachable hosts`() {
+        val promise = Outcall(URI.create("http://127.0.0.1:1/")).getResponseAsync()
+
+        assertTrue(promise.await(Duration.ofSeconds(30)))
+        assertTrue(promise.isFailed)
+    }
+
+    @Test
+    fun `postFromProducer streams the body using chunked transfer encoding`() {
+        val outcall = Outcall(uri("/upload")).postFromProducer { output ->
+            repeat(1000) { output.write(ByteArray(10_000) { 1 }) }
+        }
+
+        assertEquals("10000000 bytes, chunked", outcall.data)
+    }
+
+    @Test
+    fun `postFromProducer sends the given content length`() {
+        val outcall = Outcall(uri("/upload")).postFromProducer({ output ->
+                                                                   repeat(1000) { output.write(ByteArray(10_000)) }
+                                                               }, 10_000_000)
+
+        assertEquals("10000000 bytes, length 10000000", outcall.data)
+    }
+
+    @Test
+    fun `postFromProducer reports a failing producer`() {
+        val outcall = Outcall(uri("/upload")).postFromProducer { output ->
+            output.write(ByteArray(500_000))
+            throw IllegalStateException("Producer failed")
+        }
+
+        assertThrows<IOException> { outcall.response }
+    }
+
+    @Test
+    fun `postFromFile uploads the given file`() {
+        val file = Files.createTempFile("outcall", ".bin")
+        try {
+            Files.write(file, ByteArray(1_000_000))
+
+            assertEquals("1000000 bytes, length 1000000", Outcall(uri("/upload")).postFromFile(file).data)
+        } finally {
+            Files.delete(file)
+        }
+    }
+
+    @Test
+    fun `withResponseCache revalidates stale responses via their ETag`() {
+        val revalidations = OutcallResponseCache.getRevalidations()
+
+        assertEquals("tagged", Outcall(uri("/tagged")).withResponseCache().data)
+        assertEquals("tagged", Outcall(uri("/tagged")).withResponseCache().data)
+
+        assertEquals(2, taggedCalls.get())
+        assertEquals(1, notModifiedResponses.get())
+        assertEquals(revalidations + 1, OutcallResponseCache.getRevalidations())
+    }
+
+    @Test
+    fun `withResponseCache serves fresh responses without contacting the server`() {
+        val hits = OutcallResponseCache.getHits()
+
+        assertEquals("fresh", Outcall(uri("/fresh")).withResponseCache().data)
+        assertEquals("fresh", Outcall(uri("/fresh")).withResponseCache().data)
+        assertEquals("fresh", Outcall(uri("/fresh")).withResponseCache().data)
+
+        assertEquals(1, freshCalls.get())
+        assertEquals(hits + 2, OutcallResponseCache.getHits())
+    }
+
+    @Test
+    fun `withResponseCache only re-uses responses for matching Vary headers`() {
+        fun fetch(accept: String) = Outcall(uri("/vary")).withResponseCache().apply {
+            setRequestProperty("Accept", accept)
+        }.data
+
+        assertEquals("text/plain", fetch("text/plain"))
+        assertEquals("text/html", fetch("text/html"))
+        assertEquals("text/html", fetch("text/html"))
+        assertEquals("text/plain", fetch("text/plain"))
+
+        assertEquals(3, varyCalls.get())
+    }
+
+    @Test
+    fun `withResponseCache keeps the body file until a served response is closed`() {
+        val body = "x".repeat(100_000)
+        assertEquals(body, Outcall(uri("/large")).withResponseCache().data)
+
+        val outcall = Outcall(uri("/large")).withResponseCache()
+        val response = outcall.response
+        CacheManager.getCaches().first { it.name == OutcallResponseCache.CACHE_NAME }.clear()
+
+        response.body().use { input -> assertEquals(body, String(input.readAllBytes())) }
+        assertEquals(1, largeCalls.get())
+        awaitEmptyBodyDirectory()
+    }
+
+    @Test
+    fun `bodies left behind by previous runs are deleted`() {
+        val bodyDirectory = OutcallResponseCache.getBodyDirectory()
+        val staleDirectory = Files.createDirectories(bodyDirectory.resolveSibling("${ProcessHandle.current().pid()}-0"))
+        Files.writeString(staleDirectory.resolve("body.tmp"), "stale")
+
+        OutcallResponseCache.deleteStaleBodies()
+
+        assertFalse(Files.exists(staleDirectory))
+        assertTrue(Files.exists(bodyDirectory))
+    }
+
+    private fun awaitEmptyBodyDirectory() {
+        val deadline = System.currentTimeMillis() + 10_000
+        while (Files.list(OutcallResponseCache.getBodyDirectory()).use { it.findAny().isPresent }) {
+            assertTrue(System.currentTimeMillis() < deadline, "The cached body has not been deleted")
+            Thread.sleep(10)
+        }
+    }
+
+    companion object {
+        private lateinit var server: HttpServer
+        private val taggedCalls = AtomicInteger()
+        private val notModifiedResponses = AtomicInteger()
+        private val freshCalls = AtomicInteger()
+        private val varyCalls = AtomicInteger()
+        private val largeCalls = AtomicInteger()
+        private val concurrentSlowCalls = AtomicInteger()
+        private val maxConcurrentSlowCalls = AtomicInteger()
+
+        private fun uri(path: String) = URI.create("http://localhost:${server.address.port}$path")
+
+        private fun respond(exchange: HttpExchange, status: Int, body: String) {
+            val bytes = body.toByteArray()
+            exchange.sendResponseHeaders(status, bytes.size.toLong())
+            exchange.responseBody.use { it.write(bytes) }
+        }
+
+        @JvmStatic
+        @BeforeAll
+        fun startServer() {
+            server = HttpServer.create(InetSocketAddress("localhost", 0), 0)
+            server.executor = Executors.newFixedThreadPool(32)
+            server.createContext("/hello") { exchange -> respond(exchange, 200, "Hello") }
+            server.createContext("/redirect") { exchange ->
+                exchange.responseHeaders.add("Location", "/hello")
+                exchange.sendResponseHeaders(302, -1)
+                exchange.close()
+            }
+            server.createContext("/oauth") { exchange ->
+                if (exchange.requestHeaders.getFirst("Authorization") == "Bearer valid") {
+                    respond(exchange, 200, "granted")
+                } else {
+                    respond(exchange, 401, "denied")
+                }
+            }
+            server.createContext("/upload") { exchange ->
+                val bytes = exchange.requestBody.use { it.transferTo(OutputStream.nullOutputStream()) }
+                val transfer = exchange.requestHeaders.getFirst("Content-Length")?.let { "length $it" } ?: "chunked"
+                respond(exchange, 200, "$bytes bytes, $transfer")
+            }
+            server.createContext("/tagged") { exchange ->
+                taggedCalls.incrementAndGet()
+                exchange.responseHeaders.add("ETag", "\"v1\"")
+                if (exchange.requestHeaders.getFirst("If-None-Match") == "\"v1\"") {
+                    notModifiedResponses.incrementAndGet()
+                    exchange.sendResponseHeaders(304, -1)
+                    exchange.close()
+                } else {
+                    respond(exchange, 200, "tagged")
+                }
+            }
+            server.createContext("/fresh") { exchange ->
+                freshCalls.incrementAndGet()
+                exchange.responseHeaders.add("Cache-Control", "max-age=3600")
+                respond(exchange, 200, "fresh")
+            }
+            server.createContext("/vary") { exchange ->
+                varyCalls.incrementAndGet()
+                exchange.responseHeaders.add("Cache-Control", "max-age=3600")
+                exchange.responseHeaders.add("Vary", "Accept")
+                respond(exchange, 200, exchange.requestHeaders.getFirst("Accept"))
+            }
+            server.createContext("/large") { exchange ->
+                largeCalls.incrementAndGet()
+                exchange.responseHeaders.add("Cache-Control", "max-age=3600")
+                respond(exchange, 200, "x".repeat(100_000))
+            }
+            server.createContext("/slow") { exchange ->
+                maxConcurrentSlowCalls.accumulateAndGet(concurrentSlowCalls.incrementAndGet()) { a, b -> maxOf(a, b) }
+                Thread.sleep(200)
+                concurrentSlowCalls.decrementAndGet()
+                respond(exchange, 200, "slow")
+            }
+            server.start()
+        }
+
+        @JvmStatic
+        @AfterAll
+        fun stopServer() {
+            server.stop(0)
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.SiriusExtension
+import java.io.StringReader
+import java.nio.charset.StandardCharsets
+import java.nio.file.Path
+import java.util.Collections
+import kotlin.io.path.createTempFile
+import kotlin.io.path.deleteIfExists
+import kotlin.io.path.writeBytes
+import kotlin.io.path.writeText
+import kotlin.test.assertEquals
+
+/**
+ * Tests the [ParallelCSVReader] class.
+ */
+@ExtendWith(SiriusExtension::class)
+class ParallelCSVReaderTest {
+
+    @Test
+    fun `rows are delivered in order even if they are split into many chunks`() {
+        withFile(DATA) { file ->
+            val output = mutableListOf<List<String>>()
+            ParallelCSVReader(file).withChunkSize(16).withParallelism(4).execute { output.add(toList(it)) }
+
+            assertEquals(parseSequentially(DATA), output)
+        }
+    }
+
+    @Test
+    fun `rows can be delivered unordered`() {
+        withFile(DATA) { file ->
+            val output = Collections.synchronizedList(mutableListOf<List<String>>())
+            ParallelCSVReader(file).withChunkSize(16).withParallelism(4).unordered()
+                .execute { output.add(toList(it)) }
+
+            assertEquals(parseSequentially(DATA).sortedBy { it.toString() }, output.sortedBy { it.toString() })
+        }
+    }
+
+    @Test
+    fun `quoted line breaks and separators do not split rows`() {
+        val data = "\"a\nb;c\";\"d\r\ne\"\nf;\"g\"\"\n\"\n\\\nh;i"
+        withFile(data) { file ->
+            val output = mutableListOf<List<String>>()
+            ParallelCSVReader(file).withChunkSize(1).execute { output.add(toList(it)) }
+
+            assertEquals(3, output.size)
+            assertEquals(listOf("a\nb;c", "d\r\ne"), output[0])
+            assertEquals(listOf("f", "g\"\n"), output[1])
+            assertEquals(listOf("\nh", "i"), output[2])
+        }
+    }
+
+    @Test
+    fun `limit is applied to the rows of the file`() {
+        withFile(DATA) { file ->
+            val output = Collections.synchronizedList(mutableListOf<List<String>>())
+            ParallelCSVReader(file).withChunkSize(16).withLimit(Limit(250, 100)).unordered()
+                .execute { output.add(toList(it)) }
+
+            assertEquals(100, output.size)
+            assertEquals(parseSequentially(DATA).subList(250, 350).sortedBy { it.toString() },
+                         output.sortedBy { it.toString() })
+        }
+    }
+
+    @Test
+    fun `a byte order mark is skipped`() {
+        val file = createTempFile("parallel-csv", ".csv")
+        try {
+            file.writeBytes(byteArrayOf(0xEF.toByte(), 0xBB.toByte(), 0xBF.toByte()) + "ä;b\nc;d".toByteArray())
+            val output = mutableListOf<List<String>>()
+            ParallelCSVReader(file).withCharset(StandardCharsets.UTF_8).execute { output.add(toList(it)) }
+
+            assertEquals(listOf(listOf("ä", "b"), listOf("c", "d")), output)
+        } finally {
+            file.deleteIfExists()
+        }
+    }
+
+    private fun withFile(data: String, test: (Path) -> Unit) {
+        val file = createTempFile("parallel-csv", ".csv")
+        try {
+            file.writeText(data)
+            test(file)
+        } finally {
+            file.deleteIfExists()
+        }
+    }
+
+    private fun parseSequentially(data: String): List<List<String>> {
+        val output = mutableListOf<List<String>>()
+        CSVReader(StringReader(data)).execute { output.add(toList(it)) }
+        return output
+    }
+
+    private fun toList(values: Values): List<String> {
+        return values.stream().map { it.rawString ?: "" }.toList()
+    }
+
+    companion object {
+        private val DATA = (0..999).joinToString("\n") { "$it;\"Quoted; value\n$it\";äöü $it" }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.Test
+import java.util.regex.Pattern
+import java.util.regex.PatternSyntaxException
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertNotSame
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [Patterns] class.
+ */
+class PatternsTest {
+
+    @Test
+    fun `compiled patterns are cached per expression and flags`() {
+        val hits = Patterns.getHits()
+        val pattern = Patterns.compile("patterns-test-[a-z]+")
+
+        assertSame(pattern, Patterns.compile("patterns-test-[a-z]+"))
+        assertTrue { Patterns.getHits() > hits }
+        assertNotSame(pattern, Patterns.compile("patterns-test-[a-z]+", Pattern.CASE_INSENSITIVE))
+        assertEquals(Pattern.CASE_INSENSITIVE,
+                     Patterns.compile("patterns-test-[a-z]+", Pattern.CASE_INSENSITIVE).flags())
+    }
+
+    @Test
+    fun `invalid expressions are reported`() {
+        assertFailsWith<PatternSyntaxException> { Patterns.compile("patterns-test-[") }
+    }
+}
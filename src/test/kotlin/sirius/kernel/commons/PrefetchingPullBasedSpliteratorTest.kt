@@ -0,0 +1,152 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.SiriusExtension
+import sirius.kernel.async.CallContext
+import sirius.kernel.async.TaskContext
+import java.util.Spliterator
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.stream.Collectors
+import java.util.stream.StreamSupport
+import kotlin.test.assertEquals
+import kotlin.test.assertIs
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [PrefetchingPullBasedSpliterator] class.
+ */
+@ExtendWith(SiriusExtension::class)
+class PrefetchingPullBasedSpliteratorTest {
+
+    private class TestSpliterator(private val numberOfBlocks: Int) : PrefetchingPullBasedSpliterator<Int>() {
+        private var index = 0
+        val concurrentPulls = AtomicInteger()
+        val maxConcurrentPulls = AtomicInteger()
+        val pulledBlocks = AtomicInteger()
+
+        override fun pullNextBlock(): Iterator<Int>? {
+            maxConcurrentPulls.accumulateAndGet(concurrentPulls.incrementAndGet()) { a, b -> maxOf(a, b) }
+            try {
+                Thread.sleep(2)
+                if (pulledBlocks.get() == numberOfBlocks) {
+                    return null
+                }
+                pulledBlocks.incrementAndGet()
+                val result = (index until index + BLOCK_SIZE).toList()
+                index += BLOCK_SIZE
+                return result.iterator()
+            } finally {
+                concurrentPulls.decrementAndGet()
+            }
+        }
+
+        override fun characteristics(): Int {
+            return Spliterator.ORDERED or Spliterator.NONNULL
+        }
+    }
+
+    @Test
+    fun `sequential streams deliver all elements in order`() {
+        assertEquals((0 until 100).toList(),
+                     StreamSupport.stream(TestSpliterator(10), false).collect(Collectors.toList()))
+        assertEquals(0, StreamSupport.stream(TestSpliterator(0), false).count())
+    }
+
+    @Test
+    fun `parallel streams deliver all elements in order`() {
+        val spliterator = TestSpliterator(50)
+        assertEquals((0 until 500).toList(), StreamSupport.stream(spliterator, true).collect(Collectors.toList()))
+        assertEquals(1, spliterator.maxConcurrentPulls.get())
+        assertEquals((0 until 500).sum(), StreamSupport.stream(TestSpliterator(50), true).mapToInt { it }.sum())
+    }
+
+    @Test
+    fun `trySplit hands out fetched blocks as prefix`() {
+        val spliterator = TestSpliterator(3)
+        assertEquals(Long.MAX_VALUE, spliterator.estimateSize())
+
+        spliterator.tryAdvance { assertEquals(0, it) }
+        val remainder = spliterator.trySplit()!!
+        assertEquals(9, remainder.exactSizeIfKnown)
+        assertTrue { remainder.hasCharacteristics(Spliterator.ORDERED) }
+        remainder.tryAdvance { assertEquals(1, it) }
+
+        val secondBlock = spliterator.trySplit()!!
+        secondBlock.tryAdvance { assertEquals(10, it) }
+
+        spliterator.tryAdvance { assertEquals(20, it) }
+        // The last block has been taken and the end has been detected, so that the size is known...
+        while (spliterator.pulledBlocks.get() < 3 || spliterator.estimateSize() == Long.MAX_VALUE) {
+            Thread.sleep(5)
+        }
+        assertEquals(9, spliterator.estimateSize())
+        assertEquals(9, spliterator.trySplit()!!.exactSizeIfKnown)
+        assertNull(spliterator.trySplit())
+        assertEquals(0, spliterator.estimateSize())
+    }
+
+    @Test
+    fun `failures are passed to the consumer`() {
+        val spliterator = object : PrefetchingPullBasedSpliterator<Int>() {
+            override fun pullNextBlock(): Iterator<Int>? {
+                throw IllegalStateException("Cursor failed")
+            }
+
+            override fun characteristics(): Int {
+                return 0
+            }
+        }
+
+        assertThrows<IllegalStateException> { StreamSupport.stream(spliterator, false).count() }
+    }
+
+    @Test
+    fun `errors are passed to the consumer instead of blocking it`() {
+        val spliterator = object : PrefetchingPullBasedSpliterator<Int>() {
+            override fun pullNextBlock(): Iterator<Int>? {
+                throw AssertionError("Cursor failed")
+            }
+
+            override fun characteristics(): Int {
+                return 0
+            }
+        }
+
+        val exception = assertThrows<IllegalStateException> { StreamSupport.stream(spliterator, false).count() }
+        assertIs<AssertionError>(exception.cause)
+    }
+
+    @Test
+    fun `prefetching stops once the task context is cancelled`() {
+        CallContext.initialize()
+        try {
+            val spliterator = TestSpliterator(1000)
+            val consumed = StreamSupport.stream(spliterator, false).peek {
+                if (it == 25) {
+                    TaskContext.get().cancel()
+                }
+            }.count()
+
+            // The current block is completed, but no further block is delivered...
+            assertEquals(30, consumed)
+            assertTrue { spliterator.pulledBlocks.get() < 10 }
+        } finally {
+            CallContext.detach()
+        }
+    }
+
+    companion object {
+        private const val BLOCK_SIZE = 10
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.Test
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.concurrent.thread
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [RingBuffer] class.
+ */
+class RingBufferTest {
+
+    @Test
+    fun `capacity is rounded up to the next power of two`() {
+        assertEquals(2, RingBuffer<String>(1).capacity())
+        assertEquals(8, RingBuffer<String>(8).capacity())
+        assertEquals(16, RingBuffer<String>(9).capacity())
+    }
+
+    @Test
+    fun `elements are returned in FIFO order and a full buffer rejects elements`() {
+        val buffer = RingBuffer<Int>(4)
+        assertTrue { buffer.isEmpty }
+        assertNull(buffer.poll())
+
+        for (i in 1..4) {
+            assertTrue { buffer.offer(i) }
+        }
+        assertFalse { buffer.offer(5) }
+        assertEquals(4, buffer.size())
+
+        assertEquals(1, buffer.poll())
+        assertTrue { buffer.offer(5) }
+
+        val drained = mutableListOf<Int>()
+        assertEquals(3, buffer.drain(3, drained::add))
+        assertEquals(listOf(2, 3, 4), drained)
+        assertEquals(5, buffer.poll())
+        assertTrue { buffer.isEmpty }
+        assertEquals(5L, buffer.numberOfElementsAdded)
+    }
+
+    @Test
+    fun `concurrent producers and consumers neither lose nor duplicate elements`() {
+        val buffer = RingBuffer<Int>(64)
+        val received = ConcurrentHashMap.newKeySet<Int>()
+        val duplicates = AtomicInteger()
+        val producersDone = CountDownLatch(PRODUCERS)
+
+        val producers = (0 until PRODUCERS).map { producer ->
+            thread {
+                for (i in 0 until ELEMENTS_PER_PRODUCER) {
+                    val element = producer * ELEMENTS_PER_PRODUCER + i
+                    while (!buffer.offer(element)) {
+                        Thread.onSpinWait()
+                    }
+                }
+                producersDone.countDown()
+            }
+        }
+        val consumers = (0 until CONSUMERS).map {
+            thread {
+                while (producersDone.count > 0 || !buffer.isEmpty) {
+                    val element = buffer.poll()
+                    if (element != null && !received.add(element)) {
+                        duplicates.incrementAndGet()
+                    }
+                }
+            }
+        }
+
+        producers.forEach { it.join() }
+        consumers.forEach { it.join() }
+
+        assertEquals(0, duplicates.get())
+        assertEquals(PRODUCERS * ELEMENTS_PER_PRODUCER, received.size)
+    }
+
+    companion object {
+        private const val PRODUCERS = 4
+        private const val CONSUMERS = 3
+        private const val ELEMENTS_PER_PRODUCER = 50_000
+    }
+}
@@ -188,6 +188,12 @@ class StringsTest {
             ) { s: String -> (if (s.endsWith(";") && !s.startsWith(";")) "&" else "&amp;") + s })
     }
 
+    @Test
+    fun `replaceAll with a cached regular expression`() {
+        assertEquals("<A> and <B>", Strings.replaceAll("#\\{([^}]+)}", "#{A} and #{B}") { s -> "<$s>" })
+        assertEquals("", Strings.replaceAll("#\\{([^}]+)}", "") { s -> "<$s>" })
+    }
+
     @Test
     fun leftPad() {
         assertEquals("   A", Strings.leftPad("A", " ", 4))
@@ -211,6 +217,10 @@ class StringsTest {
         assertEquals("Hello", StringCleanup.reduceCharacters("Héllo"))
         assertEquals("AOEO", StringCleanup.reduceCharacters("AÖO"))
         assertEquals("AEAAE", StringCleanup.reduceCharacters("ÄAÄ"))
+        assertEquals("IJssel Lodz", StringCleanup.reduceCharacters("Ĳssel Ĺodz"))
+        assertEquals("office", StringCleanup.reduceCharacters("oﬃce"))
+        assertEquals("😀 ss 😀", StringCleanup.reduceCharacters("😀 ß 😀"))
+        assertSame("µ€ 😀", StringCleanup.reduceCharacters("µ€ 😀"))
     }
 
     @Test
@@ -0,0 +1,50 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.commons
+
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.NightlyTest
+import sirius.kernel.SiriusExtension
+import sirius.kernel.testutil.Benchmarks
+import java.time.LocalDateTime
+
+/**
+ * Measures the throughput of parsing numbers and dates via [Value] for valid, invalid and mixed inputs.
+ */
+@ExtendWith(SiriusExtension::class)
+class ValueBenchmarkTest {
+
+    @NightlyTest
+    fun `parsing valid, invalid and mixed inputs`() {
+        measure("asInt (valid)", VALID) { Value.of(it).asInt(0).toLong() }
+        measure("asInt (invalid)", INVALID) { Value.of(it).asInt(0).toLong() }
+        measure("asInt (mixed)", MIXED) { Value.of(it).asInt(0).toLong() }
+        measure("asLong (mixed)", MIXED) { Value.of(it).asLong(0) }
+        measure("asDouble (mixed)", MIXED) { Value.of(it).asDouble(0.0).toLong() }
+        measure("getBigDecimal (mixed)", MIXED) { Value.of(it).getBigDecimal()?.toLong() ?: 0 }
+        measure("asBoolean (mixed)", MIXED) { if (Value.of(it).asBoolean(false)) 1 else 0 }
+        measure("asLocalDate", DATES) { Value.of(it).asLocalDate(null)?.toEpochDay() ?: 0 }
+    }
+
+    private fun measure(name: String, inputs: List<Any>, operation: (Any) -> Long) {
+        Benchmarks.measure("Value.$name", OPERATIONS) { operation(inputs[it % inputs.size]) }
+    }
+
+    companion object {
+        private const val OPERATIONS = 2_000_000
+        private val VALID = listOf<Any>("42", " 4711 ", "-17", "+2048", "0", "123456789")
+        private val INVALID = listOf<Any>("", "n/a", "12a", "-", " ", "4 2", "1.2.3", "9999999999999999999")
+        private val MIXED = VALID + INVALID + listOf<Any>("1.5", "1,5", "true", "1e3")
+        private val DATES = listOf<Any>(LocalDateTime.now(),
+                                        java.util.Date(),
+                                        java.sql.Timestamp(System.currentTimeMillis()),
+                                        System.currentTimeMillis(),
+                                        "not a date")
+    }
+}
@@ -11,9 +11,15 @@ package sirius.kernel.commons
 import org.junit.jupiter.api.Test
 import sirius.kernel.nls.NLS
 import java.math.BigDecimal
+import java.sql.Timestamp
 import java.time.LocalDate
 import java.time.LocalDateTime
+import java.time.LocalTime
+import java.time.ZoneId
+import java.util.Calendar
+import java.util.Date
 import java.util.Optional
+import java.util.regex.Pattern
 import kotlin.test.assertEquals
 import kotlin.test.assertTrue
 
@@ -226,6 +232,66 @@ class ValueTest {
         assertEquals(null, Value.of(null).getLong())
     }
 
+    @Test
+    fun `Parsing numbers handles whitespace, bounds and invalid input without exceptions`() {
+        assertEquals(42, Value.of("  42\t").asInt(0))
+        assertEquals(-42, Value.of("-42").asInt(0))
+        assertEquals(42, Value.of("+42").asInt(0))
+        assertEquals(Int.MAX_VALUE, Value.of("2147483647").asInt(0))
+        assertEquals(Int.MIN_VALUE, Value.of("-2147483648").asInt(0))
+        assertEquals(0, Value.of("2147483648").asInt(0))
+        assertEquals(null, Value.of("-2147483649").getInteger())
+        assertEquals(null, Value.of("-").getInteger())
+        assertEquals(null, Value.of("4 2").getInteger())
+        assertEquals(Long.MAX_VALUE, Value.of("9223372036854775807").asLong(0))
+        assertEquals(null, Value.of("9223372036854775808").getLong())
+        assertEquals(42L, Value.of(StringBuilder(" 42 ")).getLong())
+        assertEquals(1.5, Value.of(" 1.5e0 ").asDouble(0.0))
+        assertEquals(1.5, Value.of("1.5d").asDouble(0.0))
+        assertEquals(0.5, Value.of(".5").asDouble(0.0))
+        assertTrue { Value.of("NaN").asDouble(0.0).isNaN() }
+        assertEquals(8.0, Value.of("0x1p3").asDouble(0.0))
+        assertEquals(-1.0, Value.of("1e").asDouble(-1.0))
+        assertEquals(-1.0, Value.of("1,5").asDouble(-1.0))
+        assertEquals(BigDecimal("-1.5E+3"), Value.of(" -1,5e3 ").getBigDecimal())
+        assertEquals(null, Value.of("1.5.3").getBigDecimal())
+        assertEquals(null, Value.of("1e99999999999").getBigDecimal())
+    }
+
+    @Test
+    fun `Parsing booleans does not require trimmed input`() {
+        assertEquals(true, Value.of(" TRUE ").asBoolean(false))
+        assertEquals(false, Value.of(" 0").asBoolean(true))
+        assertEquals(true, Value.of(" True ").coerce(Boolean::class.java, false))
+    }
+
+    @Test
+    fun `Temporal conversions support all date types`() {
+        val instant = LocalDateTime.of(1994, 5, 8, 10, 30).atZone(ZoneId.systemDefault()).toInstant()
+        val millis = instant.toEpochMilli()
+        val calendar = Calendar.getInstance()
+        calendar.timeInMillis = millis
+
+        assertEquals(LocalDate.of(1994, 5, 8), Value.of(Date(millis)).asLocalDate(null))
+        assertEquals(LocalDate.of(1994, 5, 8), Value.of(java.sql.Date(millis)).asLocalDate(null))
+        assertEquals(LocalDate.of(1994, 5, 8), Value.of(calendar).asLocalDate(null))
+        assertEquals(LocalDateTime.of(1994, 5, 8, 10, 30), Value.of(Timestamp(millis)).asLocalDateTime(null))
+        assertEquals(LocalDateTime.of(1994, 5, 8, 10, 30), Value.of(millis).asLocalDateTime(null))
+        assertEquals(instant, Value.of(calendar).asInstant(null))
+        assertEquals(instant, Value.of(LocalDateTime.of(1994, 5, 8, 10, 30)).asInstant(null))
+        assertEquals(null, Value.of(millis).asInstant(null))
+        assertEquals(null, Value.of("1994-05-08").asLocalDate(null))
+        assertEquals(LocalTime.of(10, 30), Value.of(LocalDateTime.of(1994, 5, 8, 10, 30)).asLocalTime(null))
+        assertEquals(null, Value.of(LocalDate.of(1994, 5, 8)).asLocalTime(null))
+    }
+
+    @Test
+    fun `regExReplace works with expressions and compiled patterns`() {
+        assertEquals("a-b-c", Value.of("a1b22c").regExReplace("\\d+", "-").asString())
+        assertEquals("a-b-c", Value.of("a1b22c").regExReplace(Pattern.compile("\\d+"), "-").asString())
+        assertTrue { Value.EMPTY.regExReplace("\\d+", "-").isNull }
+    }
+
     @Test
     fun `map() does not call the mapper on an empty Value`() {
         var count = 0
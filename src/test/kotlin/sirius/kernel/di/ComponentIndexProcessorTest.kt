@@ -0,0 +1,141 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di
+
+import org.junit.jupiter.api.Test
+import java.io.File
+import java.nio.file.Files
+import java.nio.file.Path
+import javax.tools.ToolProvider
+import kotlin.io.path.createDirectories
+import kotlin.io.path.exists
+import kotlin.io.path.readLines
+import kotlin.io.path.writeText
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [ComponentIndexProcessor] by compiling some sources into a temporary component root.
+ */
+class ComponentIndexProcessorTest {
+
+    @Test
+    fun `relevant classes are indexed`() {
+        withComponentRoot { sources, output ->
+            compile(sources, output)
+
+            assertEquals(
+                listOf(
+                    "test.Action",
+                    "test.Example\$Base",
+                    "test.Example\$Registered",
+                    "test.Example\$Sub",
+                    "test.Example\$WithPart"
+                ),
+                output.resolve(ComponentIndexProcessor.COMPONENT_INDEX).readLines().filter { !it.startsWith("#") }
+            )
+        }
+    }
+
+    @Test
+    fun `no index is written if other classes are present`() {
+        withComponentRoot { sources, output ->
+            compile(sources, output)
+            assertTrue(output.resolve(ComponentIndexProcessor.COMPONENT_INDEX).exists())
+
+            // Simulate a class compiled by kotlinc into the same directory...
+            output.resolve("test/KotlinClass.class").writeText("")
+            compile(sources, output)
+
+            assertFalse(output.resolve(ComponentIndexProcessor.COMPONENT_INDEX).exists())
+        }
+    }
+
+    @Test
+    fun `no index is written for other modules`() {
+        withComponentRoot { sources, output ->
+            Files.delete(output.resolve("component.marker"))
+            compile(sources, output)
+
+            assertFalse(output.resolve(ComponentIndexProcessor.COMPONENT_INDEX).exists())
+        }
+    }
+
+    private fun withComponentRoot(test: (Path, Path) -> Unit) {
+        val directory = Files.createTempDirectory("component-index")
+        try {
+            val sources = directory.resolve("src/test").createDirectories()
+            val output = directory.resolve("classes").createDirectories()
+            output.resolve("component.marker").writeText("")
+            sources.resolve("Example.java").writeText(
+                """
+                package test;
+
+                public class Example {
+                    @sirius.kernel.di.std.Register
+                    public static class Registered {}
+
+                    @Inheritable
+                    public static class Base {}
+
+                    public static class Sub extends Base {}
+
+                    public static class WithPart {
+                        @sirius.kernel.di.std.Part
+                        private static sirius.kernel.di.GlobalContext context;
+                    }
+
+                    public static class Plain {
+                        @javax.annotation.Nonnull
+                        private String field = "";
+                    }
+                }
+                """.trimIndent()
+            )
+            sources.resolve("Inheritable.java").writeText(
+                """
+                package test;
+
+                @java.lang.annotation.Inherited
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface Inheritable {}
+                """.trimIndent()
+            )
+            sources.resolve("Action.java").writeText(
+                """
+                package test;
+
+                public abstract class Action implements sirius.kernel.di.ClassLoadAction {}
+                """.trimIndent()
+            )
+
+            test(sources, output)
+        } finally {
+            directory.toFile().deleteRecursively()
+        }
+    }
+
+    private fun compile(sources: Path, output: Path) {
+        val compiler = ToolProvider.getSystemJavaCompiler()
+        compiler.getStandardFileManager(null, null, null).use { fileManager ->
+            val task = compiler.getTask(
+                null,
+                fileManager,
+                null,
+                listOf("-d", output.toString(), "-classpath", System.getProperty("java.class.path")),
+                null,
+                fileManager.getJavaFileObjects(*sources.toFile().listFiles() ?: arrayOf<File>())
+            )
+            task.setProcessors(listOf(ComponentIndexProcessor()))
+
+            assertTrue(task.call())
+        }
+    }
+}
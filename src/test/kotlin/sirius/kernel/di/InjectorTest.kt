@@ -0,0 +1,82 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.Sirius
+import sirius.kernel.SiriusExtension
+import sirius.kernel.Startable
+import sirius.kernel.Stoppable
+import sirius.kernel.health.LogTap
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [Injector].
+ */
+@ExtendWith(SiriusExtension::class)
+class InjectorTest {
+
+    @Test
+    fun `parts are registered in the same order regardless of the parallelism`() {
+        val sequential = Injector.Initialization(Sirius.getClasspath(), 1)
+        val parallel = Injector.Initialization(Sirius.getClasspath(), PARALLELISM)
+
+        val sequentialRegistry = sequential.run(false)
+        val parallelRegistry = parallel.run(false)
+
+        assertEquals(sequential.loadedClasses, parallel.loadedClasses)
+        PART_TYPES.forEach { type ->
+            assertEquals(partClasses(sequentialRegistry, type), partClasses(parallelRegistry, type))
+        }
+        assertEquals(
+            partClasses(sequentialRegistry, OrderedTestPart::class.java),
+            partClasses(Injector.context(), OrderedTestPart::class.java)
+        )
+    }
+
+    @Test
+    fun `replaced parts are removed regardless of the parallelism`() {
+        listOf(1, PARALLELISM).forEach { parallelism ->
+            val registry = Injector.Initialization(Sirius.getClasspath(), parallelism).run(false)
+
+            assertEquals(
+                setOf(
+                    FirstOrderedTestPart::class.java,
+                    ReplacingOrderedTestPart::class.java,
+                    ThirdOrderedTestPart::class.java
+                ),
+                partClasses(registry, OrderedTestPart::class.java).toSet()
+            )
+        }
+    }
+
+    @Test
+    fun `classes are only initialized if a part or a static field requires it`() {
+        assertTrue(Injector.getAllLoadedClasses().contains(UninitializedTestClass::class.java))
+        assertFalse(UninitializedTestClass.Tracker.INITIALIZED.get())
+    }
+
+    private fun partClasses(context: GlobalContext, type: Class<out Any>) =
+        context.getParts<Any>(type).map { it.javaClass }
+
+    companion object {
+        private const val PARALLELISM = 8
+
+        private val PART_TYPES = listOf(
+            OrderedTestPart::class.java,
+            FieldAnnotationProcessor::class.java,
+            Startable::class.java,
+            Stoppable::class.java,
+            LogTap::class.java
+        )
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di
+
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.SiriusExtension
+import kotlin.test.assertEquals
+import kotlin.test.assertNull
+
+/**
+ * Tests the cached injection plans of the [PartRegistry].
+ */
+@ExtendWith(SiriusExtension::class)
+class PartRegistryTest {
+
+    @BeforeEach
+    fun resetStaticValue() {
+        WiredTestBean.staticValue = null
+    }
+
+    @Test
+    fun `wire fills the fields of the class and its superclasses`() {
+        val registry = createRegistry()
+
+        val bean = registry.wire(WiredTestChildBean())
+
+        assertEquals(WiredTestValueProcessor.VALUE, bean.ownValue)
+        assertEquals(WiredTestValueProcessor.VALUE, bean.inheritedValue)
+    }
+
+    @Test
+    fun `wireClass only fills static fields`() {
+        val registry = createRegistry()
+        val bean = WiredTestChildBean()
+
+        registry.wireClass(WiredTestChildBean::class.java)
+
+        assertEquals(WiredTestValueProcessor.VALUE, WiredTestBean.staticValue)
+        assertNull(bean.ownValue)
+        assertNull(bean.inheritedValue)
+    }
+
+    @Test
+    fun `registering a field annotation processor discards the cached plans`() {
+        val registry = PartRegistry()
+        val bean = registry.wire(WiredTestChildBean())
+        assertNull(bean.ownValue)
+
+        registry.registerPart(WiredTestValueProcessor(), FieldAnnotationProcessor::class.java)
+
+        assertEquals(WiredTestValueProcessor.VALUE, registry.wire(bean).ownValue)
+        assertEquals(WiredTestValueProcessor.VALUE, bean.inheritedValue)
+    }
+
+    private fun createRegistry(): PartRegistry {
+        val registry = PartRegistry()
+        registry.registerPart(WiredTestValueProcessor(), FieldAnnotationProcessor::class.java)
+        return registry
+    }
+}
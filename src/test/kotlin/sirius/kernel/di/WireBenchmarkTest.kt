@@ -0,0 +1,57 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.di
+
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.NightlyTest
+import sirius.kernel.SiriusExtension
+import sirius.kernel.di.std.Part
+import sirius.kernel.di.std.Parts
+import sirius.kernel.testutil.Benchmarks
+import kotlin.test.assertEquals
+import kotlin.test.assertNotNull
+
+/**
+ * Measures the throughput of [GlobalContext.wire] for short-lived objects.
+ */
+@ExtendWith(SiriusExtension::class)
+class WireBenchmarkTest {
+
+    open class BaseBean {
+        @Part
+        var context: GlobalContext? = null
+
+        var unrelated: String? = null
+    }
+
+    class WiredBean : BaseBean() {
+        @Parts(FieldAnnotationProcessor::class)
+        var processors: Collection<FieldAnnotationProcessor>? = null
+
+        @Parts(FieldAnnotationProcessor::class)
+        var processorCollection: PartCollection<FieldAnnotationProcessor>? = null
+
+        var name: String? = null
+        var counter = 0
+    }
+
+    @NightlyTest
+    fun `wiring short-lived objects`() {
+        val bean = Injector.context().wire(WiredBean())
+        assertNotNull(bean.context)
+        assertEquals(Injector.context().getParts(FieldAnnotationProcessor::class.java).size, bean.processors?.size)
+        assertNotNull(bean.processorCollection)
+
+        Benchmarks.measure("GlobalContext.wire", OPERATIONS) { Injector.context().wire(WiredBean()) }
+    }
+
+    companion object {
+        private const val OPERATIONS = 1_000_000
+    }
+}
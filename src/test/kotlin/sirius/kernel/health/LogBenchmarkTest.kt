@@ -0,0 +1,59 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.health
+
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.NightlyTest
+import sirius.kernel.SiriusExtension
+import sirius.kernel.di.PartCollection
+import sirius.kernel.testutil.Benchmarks
+import java.util.logging.Level
+import java.util.logging.Logger
+
+/**
+ * Measures the throughput of [Log] with and without [LogTap]s being present.
+ */
+@ExtendWith(SiriusExtension::class)
+class LogBenchmarkTest {
+
+    @NightlyTest
+    fun `logging throughput with and without taps`() {
+        // Keep the console quiet, as we're only interested in the overhead of the logging facade...
+        Log.setLevel(LOGGER_NAME, Level.INFO)
+        Logger.getLogger(LOGGER_NAME).useParentHandlers = false
+
+        Benchmarks.measure("Log (with taps)", MESSAGES) { log.INFO("Processing request %s", it) }
+        withTapsDisabled {
+            Benchmarks.measure("Log (without taps)", MESSAGES) { log.INFO("Processing request %s", it) }
+        }
+        LogHelper.clearMessages()
+    }
+
+    private fun <T> withTapsDisabled(action: () -> T): T {
+        val field = Log::class.java.getDeclaredField("taps")
+        field.isAccessible = true
+        val taps = field.get(null)
+        try {
+            field.set(null, object : PartCollection<LogTap> {
+                override fun getInterface() = LogTap::class.java
+                override fun getParts() = emptyList<LogTap>()
+                override fun iterator() = emptyList<LogTap>().iterator()
+            })
+            return action()
+        } finally {
+            field.set(null, taps)
+        }
+    }
+
+    companion object {
+        private const val LOGGER_NAME = "log-benchmark"
+        private const val MESSAGES = 200_000
+        private val log = Log.get(LOGGER_NAME)
+    }
+}
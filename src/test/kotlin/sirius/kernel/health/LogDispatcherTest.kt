@@ -0,0 +1,123 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.health
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.SiriusExtension
+import sirius.kernel.di.std.Part
+import java.util.logging.Level
+import kotlin.concurrent.thread
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * Tests the [LogDispatcher].
+ */
+@ExtendWith(SiriusExtension::class)
+class LogDispatcherTest {
+
+    @Test
+    fun `taps see every message after flush`() {
+        TestLogTap.reset()
+
+        repeat(MESSAGES) { TestLogTap.LOG.INFO("message $it") }
+        logDispatcher.flush()
+
+        assertEquals((0 until MESSAGES).map { "message $it" }, TestLogTap.getMessages())
+        assertTrue(TestLogTap.getThreads().all { it == "log-dispatcher" })
+    }
+
+    @Test
+    fun `drop-newest discards new messages if the buffer is full`() {
+        val dispatcher = createBlockedDispatcher(LogDispatcher.OverflowPolicy.DROP_NEWEST)
+        try {
+            assertTrue(dispatcher.dispatch(message("5")))
+            assertTrue(dispatcher.dispatch(message("6")))
+            TestLogTap.release()
+            dispatcher.flush()
+
+            assertEquals(listOf(TestLogTap.BLOCK, "1", "2", "3", "4"), TestLogTap.getMessages())
+            assertEquals(2, dispatcher.numDroppedMessages)
+        } finally {
+            stop(dispatcher)
+        }
+    }
+
+    @Test
+    fun `drop-oldest discards buffered messages if the buffer is full`() {
+        val dispatcher = createBlockedDispatcher(LogDispatcher.OverflowPolicy.DROP_OLDEST)
+        try {
+            assertTrue(dispatcher.dispatch(message("5")))
+            assertTrue(dispatcher.dispatch(message("6")))
+            TestLogTap.release()
+            dispatcher.flush()
+
+            assertEquals(listOf(TestLogTap.BLOCK, "3", "4", "5", "6"), TestLogTap.getMessages())
+            assertEquals(2, dispatcher.numDroppedMessages)
+        } finally {
+            stop(dispatcher)
+        }
+    }
+
+    @Test
+    fun `block waits until there is room in the buffer`() {
+        val dispatcher = createBlockedDispatcher(LogDispatcher.OverflowPolicy.BLOCK)
+        try {
+            val loggingThread = thread { dispatcher.dispatch(message("5")) }
+            loggingThread.join(200)
+            assertTrue(loggingThread.isAlive)
+
+            TestLogTap.release()
+            loggingThread.join(10_000)
+            assertFalse(loggingThread.isAlive)
+            dispatcher.flush()
+
+            assertEquals(listOf(TestLogTap.BLOCK, "1", "2", "3", "4", "5"), TestLogTap.getMessages())
+            assertEquals(0, dispatcher.numDroppedMessages)
+        } finally {
+            stop(dispatcher)
+        }
+    }
+
+    /**
+     * Creates a dispatcher whose thread is blocked by the [TestLogTap] and whose buffer is completely filled.
+     */
+    private fun createBlockedDispatcher(overflowPolicy: LogDispatcher.OverflowPolicy): LogDispatcher {
+        TestLogTap.reset()
+        val dispatcher = LogDispatcher()
+        dispatcher.start(QUEUE_LENGTH, QUEUE_LENGTH, overflowPolicy)
+
+        dispatcher.dispatch(message(TestLogTap.BLOCK))
+        assertTrue(TestLogTap.awaitBlocked())
+        (1..QUEUE_LENGTH).forEach { assertTrue(dispatcher.dispatch(message(it.toString()))) }
+
+        return dispatcher
+    }
+
+    private fun message(text: String): LogMessage {
+        return LogMessage(text, Level.INFO, TestLogTap.LOG, null, Thread.currentThread().name)
+    }
+
+    private fun stop(dispatcher: LogDispatcher) {
+        TestLogTap.release()
+        dispatcher.stopped()
+        dispatcher.awaitTermination()
+    }
+
+    companion object {
+        private const val MESSAGES = 100
+        private const val QUEUE_LENGTH = 4
+
+        @Part
+        @JvmStatic
+        private lateinit var logDispatcher: LogDispatcher
+    }
+}
@@ -21,6 +21,9 @@ object LogHelper {
     @Part
     private lateinit var monitor: MemoryBasedHealthMonitor
 
+    @Part
+    private lateinit var dispatcher: LogDispatcher
+
     /**
      * Clears all log messages.
      *
@@ -28,7 +31,8 @@ object LogHelper {
      * It is probably a good idea to clear all previously logged messages prior to a test.
      */
     fun clearMessages() {
-        monitor.messages.clear()
+        dispatcher.flush()
+        monitor.clearMessages()
     }
 
     /**
@@ -42,6 +46,7 @@ object LogHelper {
      */
     private fun hasMessage(level: Level, logger: String, pattern: String): Boolean {
         val regEx = Pattern.compile(pattern)
+        dispatcher.flush()
 
         return monitor.messages.stream().filter { logger == it.receiver.name }
                 .filter { level === it.logLevel }
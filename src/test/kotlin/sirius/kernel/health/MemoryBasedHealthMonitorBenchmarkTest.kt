@@ -0,0 +1,67 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.health
+
+import org.junit.jupiter.api.extension.ExtendWith
+import sirius.kernel.NightlyTest
+import sirius.kernel.SiriusExtension
+import sirius.kernel.di.std.Part
+import sirius.kernel.testutil.Benchmarks
+import java.util.concurrent.CountDownLatch
+import java.util.logging.Level
+import kotlin.concurrent.thread
+import kotlin.test.assertTrue
+
+/**
+ * Measures the throughput of the [MemoryBasedHealthMonitor] if many threads record messages and incidents at once.
+ */
+@ExtendWith(SiriusExtension::class)
+class MemoryBasedHealthMonitorBenchmarkTest {
+
+    @NightlyTest
+    fun `recording messages and incidents under contention`() {
+        Benchmarks.measureBatch("MemoryBasedHealthMonitor ($THREADS threads)", THREADS * OPERATIONS.toLong()) {
+            record()
+        }
+
+        assertTrue { monitor.messages.isNotEmpty() }
+        assertTrue { monitor.incidents.size <= LOCATIONS }
+        monitor.clearMessages()
+    }
+
+    private fun record() {
+        val log = Log.get("monitor-benchmark")
+        val start = CountDownLatch(1)
+        val threads = (0 until THREADS).map { thread ->
+            thread {
+                start.await()
+                for (i in 0 until OPERATIONS) {
+                    monitor.handleLogMessage(LogMessage("Message $i", Level.INFO, log, null, "thread-$thread"))
+                    if (i % INCIDENT_RATIO == 0) {
+                        monitor.handle(Incident("monitor-benchmark", "location-${i % LOCATIONS}", emptyList(), null))
+                    }
+                }
+            }
+        }
+
+        start.countDown()
+        threads.forEach { it.join() }
+    }
+
+    companion object {
+        private const val THREADS = 8
+        private const val OPERATIONS = 250_000
+        private const val INCIDENT_RATIO = 10
+        private const val LOCATIONS = 500
+
+        @Part
+        @JvmStatic
+        private lateinit var monitor: MemoryBasedHealthMonitor
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Made with all the love in the world
+ * by scireum in Remshalden, Germany
+ *
+ * Copyright by scireum GmbH
+ * http://www.scireum.de - info@scireum.de
+ */
+
+package sirius.kernel.testutil
+
+import sirius.kernel.commons.Watch
+import sirius.kernel.health.Log
+
+/**
+ * Provides helpers to measure and log the throughput of code in benchmark tests.
+ */
+class Benchmarks {
+    companion object {
+        /**
+         * Invokes the given operation the given number of times to warm up and then again while measuring.
+         *
+         * @param name the name of the benchmark to log
+         * @param operations the number of times to invoke the operation
+         * @param operation the operation to measure which receives the index of the current invocation. The result of
+         * the last invocation is logged, so that the work cannot be optimized away.
+         */
+        fun <T> measure(name: String, operations: Int, operation: (Int) -> T) {
+            var result: T? = null
+            repeat(operations) { result = operation(it) }
+
+            val watch = Watch.start()
+            repeat(operations) { result = operation(it) }
+            log(name, operations.toLong(), watch, result)
+        }
+
+        /**
+         * Invokes the given batch the given number of times to warm up and then once while measuring.
+         *
+         * @param name the name of the benchmark to log
+         * @param operations the number of operations performed by a single invocation of the batch
+         * @param warmUps the number of invocations to warm up
+         * @param batch the batch of operations to measure
+         * @return the result of the measured invocation
+         */
+        fun <T> measureBatch(name: String, operations: Long, warmUps: Int = 1, batch: () -> T): T {
+            repeat(warmUps) { batch() }
+
+            val watch = Watch.start()
+            val result = batch()
+            log(name, operations, watch, result)
+
+            return result
+        }
+
+        private fun log(name: String, operations: Long, watch: Watch, result: Any?) {
+            Log.SYSTEM.INFO("%s: %s operations in %s (%s ops/s) - %s",
+                            name,
+                            operations,
+                            watch.duration(),
+                            operations * 1000L / Math.max(1, watch.elapsedMillis()),
+                            result)
+        }
+    }
+}